@@ -0,0 +1,118 @@
+package com.sps.player.benchmark;
+
+import com.sps.player.dto.CursorPageDTO;
+import com.sps.player.dto.PlayerResponseDTO;
+import com.sps.player.entity.Player;
+import com.sps.player.repository.PlayerRepository;
+import com.sps.player.service.BirthdayWindow;
+import com.sps.player.service.PlayerService;
+import jakarta.persistence.EntityManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * First page of an age-range query on a large table, three ways:
+ * the former YEAR(CURRENT_DATE) - YEAR(birthday) predicate, which cannot use
+ * an index and must scan and sort every row; the exact birthday range seeking
+ * on idx_birthday; and the service call, which uses PlayerBirthdayIndex when
+ * birthdayIndex is true. Each call shifts the age band by a year so
+ * pages are not simply repeated from the player cache.
+ *
+ * @author SPS Cricket Club
+ * @version 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class AgeRangeQueryBenchmark {
+
+    private static final int PAGE_SIZE = 50;
+    private static final int MIN_AGE = 18;
+    private static final int AGE_BANDS = 35;
+    private static final int BAND_WIDTH = 5;
+
+    private static final String YEAR_FUNCTION_QUERY = "SELECT p FROM Player p WHERE "
+            + "FUNCTION('YEAR', CURRENT_DATE) - FUNCTION('YEAR', p.birthday) BETWEEN :minAge AND :maxAge "
+            + "ORDER BY p.birthday ASC, p.id ASC";
+
+    @Param("1000000")
+    private int rows;
+
+    @Param({"false", "true"})
+    private boolean birthdayIndex;
+
+    private ConfigurableApplicationContext context;
+    private PlayerService playerService;
+    private PlayerRepository playerRepository;
+    private EntityManager entityManager;
+    private TransactionTemplate readOnlyTransaction;
+    private int band;
+
+    @Setup
+    public void setUp() {
+        context = PlayerFixtures.startService("age_range", rows,
+                Map.of("player.birthday-index.enabled", birthdayIndex));
+        playerService = context.getBean(PlayerService.class);
+        playerRepository = context.getBean(PlayerRepository.class);
+        entityManager = context.getBean(EntityManager.class);
+        readOnlyTransaction = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        readOnlyTransaction.setReadOnly(true);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<Player> yearFunctionQuery() {
+        int minAge = nextMinAge();
+        return readOnlyTransaction.execute(status -> entityManager
+                .createQuery(YEAR_FUNCTION_QUERY, Player.class)
+                .setParameter("minAge", minAge)
+                .setParameter("maxAge", minAge + BAND_WIDTH)
+                .setMaxResults(PAGE_SIZE)
+                .getResultList());
+    }
+
+    @Benchmark
+    public List<PlayerResponseDTO> birthdayRangeQuery() {
+        int minAge = nextMinAge();
+        BirthdayWindow window = BirthdayWindow.forAgeRange(minAge, minAge + BAND_WIDTH, LocalDate.now());
+        return readOnlyTransaction.execute(status -> playerRepository.findPageByBirthdayBetween(
+                window.getFrom(), window.getTo(), window.getFrom(), 0L, PageRequest.ofSize(PAGE_SIZE)));
+    }
+
+    @Benchmark
+    public CursorPageDTO<PlayerResponseDTO> getPlayersByAgeRange() {
+        int minAge = nextMinAge();
+        return playerService.getPlayersByAgeRange(minAge, minAge + BAND_WIDTH, null, PAGE_SIZE, null);
+    }
+
+    private int nextMinAge() {
+        band = (band + 1) % AGE_BANDS;
+        return MIN_AGE + band;
+    }
+}
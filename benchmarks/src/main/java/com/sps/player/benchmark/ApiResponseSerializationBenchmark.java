@@ -0,0 +1,72 @@
+package com.sps.player.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.sps.player.dto.ApiResponse;
+import com.sps.player.dto.PlayerField;
+import com.sps.player.dto.PlayerResponseDTO;
+import com.sps.player.mapper.PlayerMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Jackson serialization of the ApiResponse envelope around a list of players
+ * The ObjectMapper is configured the way Spring Boot configures the one
+ * used by the controllers, and output is discarded so only encoding is measured.
+ * fields selects a sparse fieldset as the fields request parameter does.
+ *
+ * @author SPS Cricket Club
+ * @version 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class ApiResponseSerializationBenchmark {
+
+    @Param({"100", "10000", "1000000"})
+    private int size;
+
+    @Param({"", "id,name"})
+    private String fields;
+
+    private ObjectWriter writer;
+    private ApiResponse<List<PlayerResponseDTO>> response;
+
+    @Setup
+    public void setUp() {
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .filters(PlayerField.filters(null))
+                .build();
+        writer = objectMapper.writer(PlayerField.filters(PlayerField.fromParameter(fields)));
+        PlayerMapper playerMapper = new PlayerMapper();
+        List<PlayerResponseDTO> players = PlayerFixtures.players(size).stream()
+                .map(playerMapper::toResponseDTO)
+                .toList();
+        response = ApiResponse.success("Players retrieved successfully", players);
+    }
+
+    @Benchmark
+    public void writeValue() throws IOException {
+        writer.writeValue(OutputStream.nullOutputStream(), response);
+    }
+}
@@ -0,0 +1,106 @@
+package com.sps.player.benchmark;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.ApplicationContextInitializer;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Adds a fixed delay to every statement executed through the application's
+ * DataSource, standing in for the network and server time of a real MySQL
+ * round trip that an in-memory H2 database does not have. The delay is a
+ * plain sleep while the pooled connection is held, so it costs a platform
+ * thread but not a virtual thread's carrier.
+ *
+ * @author SPS Cricket Club
+ * @version 1.0.0
+ */
+public class DatabaseLatency implements ApplicationContextInitializer<ConfigurableApplicationContext> {
+
+    private static final Set<String> EXECUTE_METHODS = Set.of("execute", "executeQuery", "executeUpdate");
+
+    private final long delayMillis;
+
+    public DatabaseLatency(long delayMillis) {
+        this.delayMillis = delayMillis;
+    }
+
+    @Override
+    public void initialize(ConfigurableApplicationContext context) {
+        if (delayMillis <= 0) {
+            return;
+        }
+        context.getBeanFactory().addBeanPostProcessor(new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                return bean instanceof DataSource dataSource ? new SlowDataSource(dataSource) : bean;
+            }
+        });
+    }
+
+    private final class SlowDataSource extends DelegatingDataSource {
+
+        private SlowDataSource(DataSource target) {
+            super(target);
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            return proxy(Connection.class, super.getConnection());
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) throws SQLException {
+            return proxy(Connection.class, super.getConnection(username, password));
+        }
+    }
+
+    /**
+     * Wrap a connection so the statements it creates are wrapped, and a statement so it sleeps before executing
+     */
+    private <T> T proxy(Class<T> type, T target) {
+        InvocationHandler handler = (proxy, method, args) -> {
+            if (type != Connection.class && EXECUTE_METHODS.contains(method.getName())) {
+                TimeUnit.MILLISECONDS.sleep(delayMillis);
+            }
+            Object result = invoke(method, target, args);
+            if (type == Connection.class && result instanceof Statement statement) {
+                return proxy(statementInterface(statement), statement);
+            }
+            return result;
+        };
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, handler));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <S extends Statement> Class<S> statementInterface(S statement) {
+        if (statement instanceof CallableStatement) {
+            return (Class<S>) CallableStatement.class;
+        }
+        if (statement instanceof PreparedStatement) {
+            return (Class<S>) PreparedStatement.class;
+        }
+        return (Class<S>) Statement.class;
+    }
+
+    private static Object invoke(Method method, Object target, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException ex) {
+            throw ex.getCause();
+        }
+    }
+}
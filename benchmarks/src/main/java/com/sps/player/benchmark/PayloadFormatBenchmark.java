@@ -0,0 +1,110 @@
+package com.sps.player.benchmark;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.sps.player.dto.ApiResponse;
+import com.sps.player.dto.PlayerField;
+import com.sps.player.dto.PlayerResponseDTO;
+import com.sps.player.mapper.PlayerMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Encoding and decoding cost of a player list response per negotiated format
+ * Each format uses an ObjectMapper configured like the controller's JSON one
+ * with the format's factory, as JacksonConfig builds them. The encoded size
+ * and its gzip size are printed once per trial.
+ *
+ * @author SPS Cricket Club
+ * @version 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class PayloadFormatBenchmark {
+
+    private static final TypeReference<ApiResponse<List<PlayerResponseDTO>>> RESPONSE_TYPE = new TypeReference<>() {
+    };
+
+    @Param({"10000"})
+    private int size;
+
+    @Param({"json", "cbor", "smile"})
+    private String format;
+
+    private ObjectWriter writer;
+    private ObjectReader reader;
+    private ApiResponse<List<PlayerResponseDTO>> response;
+    private byte[] encoded;
+
+    @Setup
+    public void setUp() throws IOException {
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json()
+                .factory(factory(format))
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .filters(PlayerField.filters(null))
+                .build();
+        writer = objectMapper.writer();
+        reader = objectMapper.readerFor(RESPONSE_TYPE);
+        PlayerMapper playerMapper = new PlayerMapper();
+        List<PlayerResponseDTO> players = PlayerFixtures.players(size).stream()
+                .map(playerMapper::toResponseDTO)
+                .toList();
+        response = ApiResponse.success("Players retrieved successfully", players);
+        encoded = writer.writeValueAsBytes(response);
+        System.out.printf("%n%s: %,d players encode to %,d bytes (%,d gzipped)%n",
+                format, size, encoded.length, gzippedSize(encoded));
+    }
+
+    @Benchmark
+    public byte[] encode() throws IOException {
+        return writer.writeValueAsBytes(response);
+    }
+
+    @Benchmark
+    public ApiResponse<List<PlayerResponseDTO>> decode() throws IOException {
+        return reader.readValue(encoded);
+    }
+
+    private static int gzippedSize(byte[] bytes) throws IOException {
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+            gzip.write(bytes);
+        }
+        return compressed.size();
+    }
+
+    private static JsonFactory factory(String format) {
+        return switch (format) {
+            case "json" -> new JsonFactory();
+            case "cbor" -> new CBORFactory();
+            case "smile" -> new SmileFactory();
+            default -> throw new IllegalArgumentException("Unknown format " + format);
+        };
+    }
+}
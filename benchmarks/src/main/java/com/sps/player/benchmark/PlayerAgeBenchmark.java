@@ -0,0 +1,67 @@
+package com.sps.player.benchmark;
+
+import com.sps.player.entity.Player;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.time.Period;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of Player.getAge(), split into its clock read and its Period calculation
+ *
+ * @author SPS Cricket Club
+ * @version 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PlayerAgeBenchmark {
+
+    private Player player;
+    private LocalDate birthday;
+    private LocalDate today;
+
+    @Setup
+    public void setUp() {
+        player = PlayerFixtures.players(1).get(0);
+        birthday = player.getBirthday();
+        today = LocalDate.now();
+    }
+
+    /**
+     * The age as computed today, clock read included
+     */
+    @Benchmark
+    public int getAge() {
+        return player.getAge();
+    }
+
+    /**
+     * The clock read alone
+     */
+    @Benchmark
+    public LocalDate localDateNow() {
+        return LocalDate.now();
+    }
+
+    /**
+     * The calculation alone, with the date read once for the whole benchmark
+     */
+    @Benchmark
+    public int periodBetweenFixedToday() {
+        return Period.between(birthday, today).getYears();
+    }
+}
@@ -0,0 +1,165 @@
+package com.sps.player.benchmark;
+
+import com.sps.player.PlayerServiceApplication;
+import com.sps.player.entity.Player;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.context.event.ApplicationStartedEvent;
+import org.springframework.context.ApplicationContextInitializer;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Deterministic test data and an embedded-H2 service for the benchmarks
+ *
+ * @author SPS Cricket Club
+ * @version 1.0.0
+ */
+public final class PlayerFixtures {
+
+    private static final String[] FIRST_NAMES = {
+            "Kumar", "Mahela", "Angelo", "Dinesh", "Kusal", "Lasith", "Rangana", "Tillakaratne",
+            "Upul", "Chaminda", "Thisara", "Wanindu", "Dushmantha", "Charith", "Pathum", "Dhananjaya"
+    };
+
+    private static final String[] LAST_NAMES = {
+            "Sangakkara", "Jayawardene", "Mathews", "Chandimal", "Perera", "Malinga", "Herath",
+            "Dilshan", "Tharanga", "Vaas", "Hasaranga", "Chameera", "Asalanka", "Nissanka", "Silva"
+    };
+
+    private static final int SEED_BATCH_SIZE = 1000;
+
+    private PlayerFixtures() {
+    }
+
+    /**
+     * Unique, repeatable player name for a row number
+     */
+    public static String name(long n) {
+        return FIRST_NAMES[(int) (n % FIRST_NAMES.length)] + " "
+                + LAST_NAMES[(int) (n / FIRST_NAMES.length % LAST_NAMES.length)] + " " + n;
+    }
+
+    /**
+     * Repeatable birthday for a row number, spread over ages 18 to 57
+     */
+    public static LocalDate birthday(long n) {
+        return LocalDate.now().minusYears(18).minusDays(n * 7919 % (40 * 365));
+    }
+
+    /**
+     * Repeatable status for a row number, one in five inactive
+     */
+    public static String status(long n) {
+        return n % 5 == 0 ? "INACTIVE" : "ACTIVE";
+    }
+
+    /**
+     * Detached player entities with ids 1..count
+     */
+    public static List<Player> players(int count) {
+        LocalDateTime now = LocalDateTime.now();
+        List<Player> players = new ArrayList<>(count);
+        for (long n = 1; n <= count; n++) {
+            Player player = new Player();
+            player.setId(n);
+            player.setName(name(n));
+            player.setBirthday(birthday(n));
+            player.setImageName("player-" + n + ".png");
+            player.setStatus(status(n));
+            player.setCreatedAt(now);
+            player.setUpdatedAt(now);
+            players.add(player);
+        }
+        return players;
+    }
+
+    /**
+     * Start the service without a web server against a private in-memory H2
+     * database holding the given number of players. The rows are inserted
+     * before the application is ready, so the in-memory indexes and counters
+     * load them exactly as they would load an existing database.
+     */
+    public static ConfigurableApplicationContext startService(String database, int rows,
+                                                              Map<String, Object> properties) {
+        return start(database, rows, properties, WebApplicationType.NONE);
+    }
+
+    /**
+     * Start the service like startService, but with Tomcat listening on a random port
+     * @see #port(ConfigurableApplicationContext)
+     */
+    public static ConfigurableApplicationContext startServer(String database, int rows,
+                                                             Map<String, Object> properties,
+                                                             ApplicationContextInitializer<?>... initializers) {
+        Map<String, Object> settings = new LinkedHashMap<>(properties);
+        settings.putIfAbsent("server.port", 0);
+        return start(database, rows, settings, WebApplicationType.SERVLET, initializers);
+    }
+
+    /**
+     * Port of a server started with startServer
+     */
+    public static int port(ConfigurableApplicationContext context) {
+        return context.getEnvironment().getRequiredProperty("local.server.port", Integer.class);
+    }
+
+    private static ConfigurableApplicationContext start(String database, int rows, Map<String, Object> properties,
+                                                        WebApplicationType webApplicationType,
+                                                        ApplicationContextInitializer<?>... initializers) {
+        Map<String, Object> settings = new LinkedHashMap<>();
+        settings.put("spring.datasource.url", "jdbc:h2:mem:" + database + ";MODE=MySQL;DATABASE_TO_LOWER=TRUE");
+        settings.put("spring.datasource.username", "sa");
+        settings.put("spring.datasource.password", "");
+        settings.put("spring.datasource.driver-class-name", "org.h2.Driver");
+        settings.put("spring.jpa.properties.hibernate.dialect", "org.hibernate.dialect.H2Dialect");
+        settings.put("spring.jpa.hibernate.ddl-auto", "create");
+        settings.put("spring.flyway.enabled", "false");
+        settings.put("spring.jpa.show-sql", "false");
+        settings.put("spring.jpa.properties.hibernate.format_sql", "false");
+        settings.put("spring.main.banner-mode", "off");
+        settings.put("logging.level.root", "WARN");
+        settings.putAll(properties);
+
+        // Passed as arguments so they take precedence over application.properties
+        String[] args = settings.entrySet().stream()
+                .map(setting -> "--" + setting.getKey() + "=" + setting.getValue())
+                .toArray(String[]::new);
+        return new SpringApplicationBuilder(PlayerServiceApplication.class)
+                .web(webApplicationType)
+                .initializers(initializers)
+                .listeners(event -> {
+                    if (event instanceof ApplicationStartedEvent started) {
+                        seed(started.getApplicationContext().getBean(JdbcTemplate.class), rows);
+                    }
+                })
+                .run(args);
+    }
+
+    private static void seed(JdbcTemplate jdbcTemplate, int rows) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> batch = new ArrayList<>(SEED_BATCH_SIZE);
+        for (long n = 1; n <= rows; n++) {
+            String name = name(n);
+            batch.add(new Object[]{n, name, Player.normalizeName(name), Date.valueOf(birthday(n)),
+                    "player-" + n + ".png", status(n), now, now});
+            if (batch.size() == SEED_BATCH_SIZE || n == rows) {
+                jdbcTemplate.batchUpdate("INSERT INTO players "
+                        + "(id, name, name_key, birthday, image_name, status, version, created_at, updated_at) "
+                        + "VALUES (?, ?, ?, ?, ?, ?, 0, ?, ?)", batch);
+                batch.clear();
+            }
+        }
+        // Leave room for a full pooled-optimizer block above the seeded ids
+        jdbcTemplate.execute("ALTER SEQUENCE player_seq RESTART WITH " + (rows + 101));
+    }
+}
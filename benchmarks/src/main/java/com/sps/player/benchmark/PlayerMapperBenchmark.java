@@ -0,0 +1,61 @@
+package com.sps.player.benchmark;
+
+import com.sps.player.dto.PlayerResponseDTO;
+import com.sps.player.entity.Player;
+import com.sps.player.mapper.PlayerMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of PlayerMapper.toResponseDTO, per player, alone and across a default-size page
+ *
+ * @author SPS Cricket Club
+ * @version 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PlayerMapperBenchmark {
+
+    private static final int PAGE_SIZE = 50;
+
+    private final PlayerMapper playerMapper = new PlayerMapper();
+
+    private Player player;
+    private List<Player> page;
+
+    @Setup
+    public void setUp() {
+        page = PlayerFixtures.players(PAGE_SIZE);
+        player = page.get(0);
+    }
+
+    @Benchmark
+    public PlayerResponseDTO toResponseDTO() {
+        return playerMapper.toResponseDTO(player);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(PAGE_SIZE)
+    public void toResponseDTOPage(Blackhole blackhole) {
+        for (Player p : page) {
+            blackhole.consume(playerMapper.toResponseDTO(p));
+        }
+    }
+}
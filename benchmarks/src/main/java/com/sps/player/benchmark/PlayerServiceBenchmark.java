@@ -0,0 +1,132 @@
+package com.sps.player.benchmark;
+
+import com.sps.player.cache.PlayerCache;
+import com.sps.player.dto.CursorPageDTO;
+import com.sps.player.dto.PlayerCountsDTO;
+import com.sps.player.dto.PlayerField;
+import com.sps.player.dto.PlayerRequestDTO;
+import com.sps.player.dto.PlayerResponseDTO;
+import com.sps.player.service.PlayerService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * End-to-end PlayerService calls against an embedded H2 database
+ * Everything below the controller is real: transactions, Hibernate, the
+ * player cache, the name index and the status counters.
+ *
+ * @author SPS Cricket Club
+ * @version 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 10, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx1g")
+public class PlayerServiceBenchmark {
+
+    private static final int PAGE_SIZE = 50;
+    private static final Set<PlayerField> ID_AND_NAME = PlayerField.fromParameter("id,name");
+
+    @Param("10000")
+    private int rows;
+
+    private ConfigurableApplicationContext context;
+    private PlayerService playerService;
+    private PlayerCache playerCache;
+    private long created;
+
+    @Setup
+    public void setUp() {
+        context = PlayerFixtures.startService("service", rows, Map.of());
+        playerService = context.getBean(PlayerService.class);
+        playerCache = context.getBean(PlayerCache.class);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    /**
+     * Repeat read of a player, served from the player cache after warm-up
+     */
+    @Benchmark
+    public PlayerResponseDTO getPlayerByIdCached() {
+        return playerService.getPlayerById(randomId());
+    }
+
+    /**
+     * Read of a player that is not cached, so it is loaded from the database
+     */
+    @Benchmark
+    public PlayerResponseDTO getPlayerByIdUncached() {
+        long id = randomId();
+        playerCache.evict(id);
+        return playerService.getPlayerById(id);
+    }
+
+    @Benchmark
+    public CursorPageDTO<PlayerResponseDTO> getAllPlayersById() {
+        return playerService.getAllPlayers(null, PAGE_SIZE, "id", null);
+    }
+
+    @Benchmark
+    public CursorPageDTO<PlayerResponseDTO> getAllPlayersByName() {
+        return playerService.getAllPlayers(null, PAGE_SIZE, "name", null);
+    }
+
+    /**
+     * Roster page with only the id and name columns selected
+     */
+    @Benchmark
+    public CursorPageDTO<PlayerResponseDTO> getAllPlayersIdAndName() {
+        return playerService.getAllPlayers(null, PAGE_SIZE, "name", ID_AND_NAME);
+    }
+
+    @Benchmark
+    public List<PlayerResponseDTO> searchPlayersByName() {
+        return playerService.searchPlayersByName("sanga", 20);
+    }
+
+    @Benchmark
+    public CursorPageDTO<PlayerResponseDTO> getPlayersByAgeRange() {
+        return playerService.getPlayersByAgeRange(25, 30, null, PAGE_SIZE, null);
+    }
+
+    @Benchmark
+    public PlayerCountsDTO getPlayerCounts() {
+        return playerService.getPlayerCounts();
+    }
+
+    @Benchmark
+    public PlayerResponseDTO createPlayer() {
+        PlayerRequestDTO request = new PlayerRequestDTO();
+        request.setName("Benchmark Player " + (++created));
+        request.setBirthday(PlayerFixtures.birthday(created));
+        request.setStatus("ACTIVE");
+        return playerService.createPlayer(request);
+    }
+
+    private long randomId() {
+        return ThreadLocalRandom.current().nextLong(1, rows + 1);
+    }
+}
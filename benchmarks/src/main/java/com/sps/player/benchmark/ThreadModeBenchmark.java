@@ -0,0 +1,118 @@
+package com.sps.player.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Platform-thread and virtual-thread request handling under high concurrency
+ * Runs the service with Tomcat on a random port, adds a fixed delay to every
+ * statement to stand in for a slow MySQL, and drives it over HTTP with two
+ * groups of clients at once: many requests that need the database, and a few
+ * that are answered from the player cache. With platform threads the
+ * database requests occupy every Tomcat worker while they wait for the
+ * connection pool, so cached requests queue behind them; with virtual
+ * threads only the pool limits the database requests and cached requests
+ * are answered immediately. Latency percentiles are reported per group.
+ *
+ * The virtual-thread mode needs a Java 21 build:
+ * mvn -Pjava21,jmh -pl benchmarks -am verify -Djmh.include=ThreadMode
+ *
+ * @author SPS Cricket Club
+ * @version 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 10)
+@Measurement(iterations = 5, time = 10)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx2g", "-Djdk.tracePinnedThreads=short"})
+public class ThreadModeBenchmark {
+
+    private static final int CACHED_PLAYERS = 100;
+
+    @Param({"false", "true"})
+    private boolean virtualThreads;
+
+    @Param("20")
+    private long dbLatencyMillis;
+
+    @Param("10000")
+    private int rows;
+
+    private ConfigurableApplicationContext context;
+    private HttpClient client;
+    private String baseUrl;
+
+    @Setup
+    public void setUp() throws IOException, InterruptedException {
+        if (virtualThreads && Runtime.version().feature() < 21) {
+            throw new IllegalStateException("Virtual threads need Java 21; build and run with -Pjava21");
+        }
+        context = PlayerFixtures.startServer("thread_mode", rows,
+                Map.of("spring.threads.virtual.enabled", virtualThreads),
+                new DatabaseLatency(dbLatencyMillis));
+        baseUrl = "http://localhost:" + PlayerFixtures.port(context) + "/api/players";
+        client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .build();
+        for (long id = 1; id <= CACHED_PLAYERS; id++) {
+            get("/" + id);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    /**
+     * A roster page, which always queries the database
+     */
+    @Benchmark
+    @Group("mixed")
+    @GroupThreads(256)
+    public int databaseRead() throws IOException, InterruptedException {
+        return get("?sort=name&size=50");
+    }
+
+    /**
+     * A single player that is already in the player cache
+     */
+    @Benchmark
+    @Group("mixed")
+    @GroupThreads(32)
+    public int cachedRead() throws IOException, InterruptedException {
+        return get("/" + ThreadLocalRandom.current().nextLong(1, CACHED_PLAYERS + 1));
+    }
+
+    private int get(String path) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + path)).GET().build();
+        HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("GET " + path + " returned " + response.statusCode());
+        }
+        return response.statusCode();
+    }
+}
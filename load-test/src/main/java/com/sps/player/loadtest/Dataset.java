@@ -0,0 +1,48 @@
+package com.sps.player.loadtest;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.stream.Collectors;
+
+/**
+ * Sizes of the synthetic player dataset
+ *
+ * @author SPS Cricket Club
+ * @version 1.0.0
+ */
+public enum Dataset {
+
+    SMALL("10k", 10_000),
+    MEDIUM("1m", 1_000_000),
+    LARGE("10m", 10_000_000);
+
+    private final String label;
+    private final int rows;
+
+    Dataset(String label, int rows) {
+        this.label = label;
+        this.rows = rows;
+    }
+
+    public String getLabel() {
+        return label;
+    }
+
+    public int getRows() {
+        return rows;
+    }
+
+    /**
+     * Dataset for a label such as 1m
+     */
+    public static Dataset fromLabel(String label) {
+        String normalized = label.trim().toLowerCase(Locale.ROOT);
+        for (Dataset dataset : values()) {
+            if (dataset.label.equals(normalized)) {
+                return dataset;
+            }
+        }
+        throw new IllegalArgumentException("Unknown dataset '" + label + "', expected one of "
+                + Arrays.stream(values()).map(Dataset::getLabel).collect(Collectors.joining(", ")));
+    }
+}
@@ -0,0 +1,193 @@
+package com.sps.player.loadtest;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Open-loop load driver: sends requests at a fixed arrival rate
+ * Request i is due at start + i / rate whatever happened to the earlier
+ * ones, and its latency is measured from that due time rather than from
+ * when it was actually sent. A stalled server therefore shows up as queueing
+ * in the percentiles instead of silently lowering the request rate
+ * (coordinated omission). The request sequence is drawn from the seed, so
+ * two runs with the same settings send the same requests.
+ *
+ * @author SPS Cricket Club
+ * @version 1.0.0
+ */
+public class LoadDriver {
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+    private static final Duration DRAIN_TIMEOUT = Duration.ofSeconds(60);
+    private static final int PAGE_SIZE = 50;
+    private static final int AGE_BAND = 5;
+
+    private final LoadTestSettings settings;
+    private final PlayerDataGenerator generator;
+    private final ObjectMapper objectMapper;
+    private final String baseUrl;
+    private final HttpClient client;
+    private final SplittableRandom random;
+    private final String runId;
+    private final Map<Operation, Recorder> recorders = new EnumMap<>(Operation.class);
+    private final Map<Operation, LongAdder> sent = new EnumMap<>(Operation.class);
+    private final Map<Operation, LongAdder> errors = new EnumMap<>(Operation.class);
+    private final Map<Operation, LongAdder> dropped = new EnumMap<>(Operation.class);
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private long createdPlayers;
+
+    public LoadDriver(LoadTestSettings settings, PlayerDataGenerator generator, ObjectMapper objectMapper,
+                      String baseUrl) {
+        this.settings = settings;
+        this.generator = generator;
+        this.objectMapper = objectMapper;
+        this.baseUrl = baseUrl;
+        this.client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        this.random = new SplittableRandom(settings.getSeed());
+        this.runId = Long.toString(System.currentTimeMillis(), 36);
+        for (Operation operation : Operation.values()) {
+            recorders.put(operation, new Recorder(3));
+            sent.put(operation, new LongAdder());
+            errors.put(operation, new LongAdder());
+            dropped.put(operation, new LongAdder());
+        }
+    }
+
+    /**
+     * Send requests at the configured rate for the given time, then wait for the stragglers
+     * @return Latencies and counts of this run only
+     */
+    public PhaseResult run(Duration length) {
+        reset();
+        long periodNanos = Math.max(1, Math.round(TimeUnit.SECONDS.toNanos(1) / settings.getRate()));
+        long lengthNanos = length.toNanos();
+        long start = System.nanoTime();
+        for (long i = 0; ; i++) {
+            long due = start + i * periodNanos;
+            if (due - start >= lengthNanos) {
+                break;
+            }
+            long wait = due - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            Operation operation = settings.getMix().next(random);
+            HttpRequest request = request(operation);
+            if (inFlight.get() >= settings.getMaxInFlight()) {
+                dropped.get(operation).increment();
+                continue;
+            }
+            send(operation, request, due);
+        }
+        long drainDeadline = System.nanoTime() + DRAIN_TIMEOUT.toNanos();
+        while (inFlight.get() > 0 && System.nanoTime() < drainDeadline) {
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(10));
+        }
+        long elapsedNanos = System.nanoTime() - start;
+
+        Map<Operation, PhaseResult.OperationResult> results = new LinkedHashMap<>();
+        for (Operation operation : settings.getMix().getWeights().keySet()) {
+            Histogram latencies = recorders.get(operation).getIntervalHistogram();
+            results.put(operation, new PhaseResult.OperationResult(sent.get(operation).sum(),
+                    errors.get(operation).sum(), dropped.get(operation).sum(), latencies));
+        }
+        return new PhaseResult(elapsedNanos, inFlight.get(), results);
+    }
+
+    private void send(Operation operation, HttpRequest request, long due) {
+        inFlight.incrementAndGet();
+        sent.get(operation).increment();
+        client.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                .whenComplete((response, failure) -> {
+                    try {
+                        if (failure != null || response.statusCode() >= 400) {
+                            errors.get(operation).increment();
+                        } else {
+                            long latencyMicros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - due);
+                            recorders.get(operation).recordValue(Math.max(1, latencyMicros));
+                        }
+                    } finally {
+                        inFlight.decrementAndGet();
+                    }
+                });
+    }
+
+    private void reset() {
+        for (Operation operation : Operation.values()) {
+            recorders.get(operation).reset();
+            sent.get(operation).reset();
+            errors.get(operation).reset();
+            dropped.get(operation).reset();
+        }
+    }
+
+    private HttpRequest request(Operation operation) {
+        int rows = settings.getDataset().getRows();
+        return switch (operation) {
+            case LIST -> get("/api/players?size=" + PAGE_SIZE + "&sort=" + (random.nextBoolean() ? "id" : "name"));
+            case SEARCH -> get("/api/players/search?name="
+                    + URLEncoder.encode(generator.searchTerm(random), StandardCharsets.UTF_8));
+            case AGE_RANGE -> {
+                int minAge = random.nextInt(16, 41);
+                yield get("/api/players/age-range?minAge=" + minAge + "&maxAge=" + (minAge + AGE_BAND)
+                        + "&size=" + PAGE_SIZE);
+            }
+            case COUNTS -> get("/api/players/counts");
+            case CREATE -> {
+                long n = ++createdPlayers;
+                yield json("POST", "/api/players", Map.of(
+                        "name", "Load Test " + runId + " " + n,
+                        "birthday", generator.birthday(rows + n).toString(),
+                        "status", "ACTIVE"));
+            }
+            case UPDATE -> {
+                long id = random.nextLong(1, rows + 1L);
+                yield json("PUT", "/api/players/" + id, Map.of(
+                        "name", generator.name(id),
+                        "birthday", generator.birthday(id).toString(),
+                        "status", random.nextInt(100) < 85 ? "ACTIVE" : "INACTIVE"));
+            }
+        };
+    }
+
+    private HttpRequest get(String path) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(REQUEST_TIMEOUT)
+                .GET()
+                .build();
+    }
+
+    private HttpRequest json(String method, String path, Map<String, Object> body) {
+        try {
+            return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                    .timeout(REQUEST_TIMEOUT)
+                    .header("Content-Type", "application/json")
+                    .method(method, HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(body)))
+                    .build();
+        } catch (JsonProcessingException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+}
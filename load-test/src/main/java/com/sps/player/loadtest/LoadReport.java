@@ -0,0 +1,120 @@
+package com.sps.player.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Throughput and latency percentiles of a measured run, per request type and overall
+ * Printed as a table and written as JSON; the gates decide whether the run passes.
+ *
+ * @author SPS Cricket Club
+ * @version 1.0.0
+ */
+public class LoadReport {
+
+    private static final double[] PERCENTILES = {50, 90, 95, 99, 99.9};
+    private static final String TOTAL = "total";
+
+    private final LoadTestSettings settings;
+    private final PhaseResult result;
+    private final Map<String, Map<String, Object>> rows = new LinkedHashMap<>();
+
+    public LoadReport(LoadTestSettings settings, PhaseResult result) {
+        this.settings = settings;
+        this.result = result;
+        Histogram total = new Histogram(3);
+        long sent = 0;
+        long errors = 0;
+        long dropped = 0;
+        for (Map.Entry<Operation, PhaseResult.OperationResult> entry : result.getOperations().entrySet()) {
+            PhaseResult.OperationResult operation = entry.getValue();
+            rows.put(entry.getKey().getLabel(), row(operation.getSent(), operation.getErrors(), operation.getDropped(),
+                    operation.getLatencies()));
+            total.add(operation.getLatencies());
+            sent += operation.getSent();
+            errors += operation.getErrors();
+            dropped += operation.getDropped();
+        }
+        rows.put(TOTAL, row(sent, errors, dropped, total));
+    }
+
+    public void print(PrintStream out) {
+        out.printf("%nDataset %s, %.0f req/s for %d s, mix %s%n", settings.getDataset().getLabel(),
+                settings.getRate(), settings.getDuration().toSeconds(), settings.getMix());
+        out.printf("%-10s %9s %7s %8s %9s %9s %9s %9s %9s %9s %9s%n", "operation", "requests", "errors",
+                "dropped", "req/s", "p50 ms", "p90 ms", "p95 ms", "p99 ms", "p99.9 ms", "max ms");
+        rows.forEach((label, row) -> out.printf("%-10s %9d %7d %8d %9.1f %9.2f %9.2f %9.2f %9.2f %9.2f %9.2f%n",
+                label, row.get("requests"), row.get("errors"), row.get("dropped"), row.get("throughput"),
+                row.get("p50"), row.get("p90"), row.get("p95"), row.get("p99"), row.get("p99.9"), row.get("max")));
+        if (result.getUnfinished() > 0) {
+            out.printf("%d requests were still outstanding at the end of the run%n", result.getUnfinished());
+        }
+    }
+
+    public void write(Path file, ObjectMapper objectMapper) throws IOException {
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("dataset", settings.getDataset().getLabel());
+        report.put("rate", settings.getRate());
+        report.put("durationSeconds", settings.getDuration().toSeconds());
+        report.put("mix", settings.getMix().toString());
+        report.put("seed", settings.getSeed());
+        report.put("unfinished", result.getUnfinished());
+        report.put("operations", rows);
+        report.put("gateViolations", gateViolations());
+        Files.createDirectories(file.toAbsolutePath().getParent());
+        objectMapper.writer().with(SerializationFeature.INDENT_OUTPUT).writeValue(file.toFile(), report);
+    }
+
+    /**
+     * Reasons the run fails its gates; empty if it passes
+     */
+    public List<String> gateViolations() {
+        List<String> violations = new ArrayList<>();
+        Map<String, Object> total = rows.get(TOTAL);
+        long requests = (long) total.get("requests");
+        long failed = (long) total.get("errors") + (long) total.get("dropped") + result.getUnfinished();
+        double errorRate = requests == 0 ? 1.0 : (double) failed / requests;
+        if (errorRate > settings.getMaxErrorRate()) {
+            violations.add(String.format("error rate %.4f exceeds %.4f", errorRate, settings.getMaxErrorRate()));
+        }
+        if (settings.getMaxP99Millis() > 0) {
+            rows.forEach((label, row) -> {
+                double p99 = (double) row.get("p99");
+                if (p99 > settings.getMaxP99Millis()) {
+                    violations.add(String.format("%s p99 %.2f ms exceeds %d ms", label, p99,
+                            settings.getMaxP99Millis()));
+                }
+            });
+        }
+        return violations;
+    }
+
+    private Map<String, Object> row(long sent, long errors, long dropped, Histogram latencies) {
+        Map<String, Object> row = new LinkedHashMap<>();
+        double seconds = result.getElapsedNanos() / 1e9;
+        row.put("requests", sent + dropped);
+        row.put("errors", errors);
+        row.put("dropped", dropped);
+        row.put("throughput", latencies.getTotalCount() / seconds);
+        for (double percentile : PERCENTILES) {
+            row.put("p" + (percentile == Math.rint(percentile) ? Integer.toString((int) percentile)
+                    : Double.toString(percentile)), millis(latencies.getValueAtPercentile(percentile)));
+        }
+        row.put("max", millis(latencies.getMaxValue()));
+        return row;
+    }
+
+    private static double millis(long micros) {
+        return micros / 1000.0;
+    }
+}
@@ -0,0 +1,112 @@
+package com.sps.player.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sps.player.PlayerServiceApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.context.event.ApplicationStartedEvent;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.util.FileSystemUtils;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Load test entry point
+ * Generates the synthetic dataset into a fresh embedded H2 database (MySQL
+ * mode), starts the service on it, warms it up, then measures a run at the
+ * configured arrival rate and writes target/load-test/report.json. Exits
+ * with status 1 if a gate is exceeded, so a build can fail on a regression.
+ * Everything runs in this JVM without network access.
+ *
+ * @author SPS Cricket Club
+ * @version 1.0.0
+ */
+public final class LoadTest {
+
+    private LoadTest() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        LoadTestSettings settings = LoadTestSettings.fromSystemProperties();
+        PlayerDataGenerator generator = new PlayerDataGenerator(settings.getSeed(), settings.getReferenceDate());
+        ObjectMapper objectMapper = new ObjectMapper();
+
+        ConfigurableApplicationContext context = null;
+        String baseUrl = settings.getTargetUrl();
+        if (baseUrl.isEmpty()) {
+            context = startService(settings, generator);
+            baseUrl = "http://localhost:" + context.getEnvironment().getRequiredProperty("local.server.port");
+        }
+        List<String> violations;
+        try {
+            LoadDriver driver = new LoadDriver(settings, generator, objectMapper, baseUrl);
+            if (!settings.getWarmup().isZero()) {
+                System.out.printf("Warming up for %d s%n", settings.getWarmup().toSeconds());
+                driver.run(settings.getWarmup());
+            }
+            System.out.printf("Measuring for %d s%n", settings.getDuration().toSeconds());
+            LoadReport report = new LoadReport(settings, driver.run(settings.getDuration()));
+            report.print(System.out);
+            Path reportFile = settings.getWorkDir().resolve("report.json");
+            report.write(reportFile, objectMapper);
+            System.out.println("Report written to " + reportFile.toAbsolutePath());
+            violations = report.gateViolations();
+        } finally {
+            if (context != null) {
+                context.close();
+            }
+        }
+        if (!violations.isEmpty()) {
+            violations.forEach(violation -> System.out.println("FAILED: " + violation));
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Start the service on a random port against a new file-backed H2
+     * database, generating the players before the in-memory indexes load.
+     * A file database keeps the 10m dataset off the heap.
+     */
+    private static ConfigurableApplicationContext startService(LoadTestSettings settings,
+                                                               PlayerDataGenerator generator) throws IOException {
+        Path database = settings.getWorkDir().resolve("db-" + settings.getDataset().getLabel());
+        FileSystemUtils.deleteRecursively(database);
+
+        Map<String, Object> properties = new LinkedHashMap<>();
+        properties.put("server.port", 0);
+        properties.put("spring.datasource.url", "jdbc:h2:file:" + database.toAbsolutePath().resolve("players")
+                + ";MODE=MySQL;DATABASE_TO_LOWER=TRUE");
+        properties.put("spring.datasource.username", "sa");
+        properties.put("spring.datasource.password", "");
+        properties.put("spring.datasource.driver-class-name", "org.h2.Driver");
+        properties.put("spring.jpa.properties.hibernate.dialect", "org.hibernate.dialect.H2Dialect");
+        properties.put("spring.jpa.hibernate.ddl-auto", "create");
+        properties.put("spring.flyway.enabled", "false");
+        properties.put("spring.jpa.show-sql", "false");
+        properties.put("spring.jpa.properties.hibernate.format_sql", "false");
+        properties.put("spring.main.banner-mode", "off");
+        properties.put("logging.level.root", "WARN");
+        properties.put("player.images.directory", settings.getWorkDir().resolve("images").toAbsolutePath());
+        properties.putAll(settings.getServiceProperties());
+
+        System.out.printf("Generating %,d players%n", settings.getDataset().getRows());
+        // Passed as arguments so they take precedence over application.properties
+        String[] args = properties.entrySet().stream()
+                .map(property -> "--" + property.getKey() + "=" + property.getValue())
+                .toArray(String[]::new);
+        return new SpringApplicationBuilder(PlayerServiceApplication.class)
+                .web(WebApplicationType.SERVLET)
+                .listeners(event -> {
+                    if (event instanceof ApplicationStartedEvent started) {
+                        generator.populate(started.getApplicationContext().getBean(JdbcTemplate.class),
+                                settings.getDataset().getRows());
+                    }
+                })
+                .run(args);
+    }
+}
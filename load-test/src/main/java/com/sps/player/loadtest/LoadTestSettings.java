@@ -0,0 +1,131 @@
+package com.sps.player.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Load test settings, read from loadtest.* system properties
+ * System properties starting with service. are passed to the embedded
+ * service without the prefix, e.g. -Dservice.player.birthday-index.enabled=true.
+ *
+ * @author SPS Cricket Club
+ * @version 1.0.0
+ */
+public class LoadTestSettings {
+
+    private static final String SERVICE_PREFIX = "service.";
+
+    private final Dataset dataset;
+    private final double rate;
+    private final Duration warmup;
+    private final Duration duration;
+    private final OperationMix mix;
+    private final long seed;
+    private final LocalDate referenceDate;
+    private final int maxInFlight;
+    private final String targetUrl;
+    private final Path workDir;
+    private final long maxP99Millis;
+    private final double maxErrorRate;
+    private final Map<String, String> serviceProperties;
+
+    private LoadTestSettings() {
+        this.dataset = Dataset.fromLabel(property("dataset", "10k"));
+        this.rate = Double.parseDouble(property("rate", "200"));
+        this.warmup = Duration.ofSeconds(Long.parseLong(property("warmup-seconds", "30")));
+        this.duration = Duration.ofSeconds(Long.parseLong(property("duration-seconds", "120")));
+        this.mix = OperationMix.parse(property("mix", "list:35,search:25,age-range:15,counts:15,create:5,update:5"));
+        this.seed = Long.parseLong(property("seed", "42"));
+        this.referenceDate = LocalDate.parse(property("reference-date", "2025-01-01"));
+        this.maxInFlight = Integer.parseInt(property("max-in-flight", "1000"));
+        this.targetUrl = property("target-url", "");
+        this.workDir = Path.of(property("work-dir", "target/load-test"));
+        this.maxP99Millis = Long.parseLong(property("max-p99-millis", "0"));
+        this.maxErrorRate = Double.parseDouble(property("max-error-rate", "0.01"));
+        this.serviceProperties = new LinkedHashMap<>();
+        System.getProperties().stringPropertyNames().stream()
+                .filter(name -> name.startsWith(SERVICE_PREFIX))
+                .sorted()
+                .forEach(name -> serviceProperties.put(name.substring(SERVICE_PREFIX.length()),
+                        System.getProperty(name)));
+        if (rate <= 0) {
+            throw new IllegalArgumentException("loadtest.rate must be positive");
+        }
+        if (duration.isZero() || duration.isNegative()) {
+            throw new IllegalArgumentException("loadtest.duration-seconds must be positive");
+        }
+    }
+
+    public static LoadTestSettings fromSystemProperties() {
+        return new LoadTestSettings();
+    }
+
+    private static String property(String name, String defaultValue) {
+        String value = System.getProperty("loadtest." + name);
+        return value == null || value.isBlank() ? defaultValue : value.trim();
+    }
+
+    public Dataset getDataset() {
+        return dataset;
+    }
+
+    /**
+     * Requests per second
+     */
+    public double getRate() {
+        return rate;
+    }
+
+    public Duration getWarmup() {
+        return warmup;
+    }
+
+    public Duration getDuration() {
+        return duration;
+    }
+
+    public OperationMix getMix() {
+        return mix;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public LocalDate getReferenceDate() {
+        return referenceDate;
+    }
+
+    /**
+     * Requests allowed in flight before new ones are dropped (and counted as errors)
+     */
+    public int getMaxInFlight() {
+        return maxInFlight;
+    }
+
+    /**
+     * Base URL of an already running service, or empty to start an embedded one
+     */
+    public String getTargetUrl() {
+        return targetUrl;
+    }
+
+    public Path getWorkDir() {
+        return workDir;
+    }
+
+    public long getMaxP99Millis() {
+        return maxP99Millis;
+    }
+
+    public double getMaxErrorRate() {
+        return maxErrorRate;
+    }
+
+    public Map<String, String> getServiceProperties() {
+        return serviceProperties;
+    }
+}
@@ -0,0 +1,62 @@
+package com.sps.player.loadtest;
+
+import java.util.Locale;
+
+/**
+ * Request types replayed by the load driver, one per PlayerController endpoint under test
+ *
+ * @author SPS Cricket Club
+ * @version 1.0.0
+ */
+public enum Operation {
+
+    /**
+     * First roster page, by id or by name
+     */
+    LIST("list"),
+
+    /**
+     * Name search with a typed prefix
+     */
+    SEARCH("search"),
+
+    /**
+     * Five-year age band
+     */
+    AGE_RANGE("age-range"),
+
+    /**
+     * Player counts per status
+     */
+    COUNTS("counts"),
+
+    /**
+     * New player with a unique name
+     */
+    CREATE("create"),
+
+    /**
+     * Status change of a generated player
+     */
+    UPDATE("update");
+
+    private final String label;
+
+    Operation(String label) {
+        this.label = label;
+    }
+
+    public String getLabel() {
+        return label;
+    }
+
+    public static Operation fromLabel(String label) {
+        String normalized = label.trim().toLowerCase(Locale.ROOT);
+        for (Operation operation : values()) {
+            if (operation.label.equals(normalized)) {
+                return operation;
+            }
+        }
+        throw new IllegalArgumentException("Unknown operation '" + label + "'");
+    }
+}
@@ -0,0 +1,76 @@
+package com.sps.player.loadtest;
+
+import org.HdrHistogram.Histogram;
+
+import java.util.Map;
+
+/**
+ * Outcome of one load driver run
+ *
+ * @author SPS Cricket Club
+ * @version 1.0.0
+ */
+public class PhaseResult {
+
+    private final long elapsedNanos;
+    private final int unfinished;
+    private final Map<Operation, OperationResult> operations;
+
+    public PhaseResult(long elapsedNanos, int unfinished, Map<Operation, OperationResult> operations) {
+        this.elapsedNanos = elapsedNanos;
+        this.unfinished = unfinished;
+        this.operations = operations;
+    }
+
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    /**
+     * Requests still outstanding when the run stopped waiting for them
+     */
+    public int getUnfinished() {
+        return unfinished;
+    }
+
+    public Map<Operation, OperationResult> getOperations() {
+        return operations;
+    }
+
+    /**
+     * Counts and successful-response latencies (microseconds) of one request type
+     */
+    public static class OperationResult {
+
+        private final long sent;
+        private final long errors;
+        private final long dropped;
+        private final Histogram latencies;
+
+        public OperationResult(long sent, long errors, long dropped, Histogram latencies) {
+            this.sent = sent;
+            this.errors = errors;
+            this.dropped = dropped;
+            this.latencies = latencies;
+        }
+
+        public long getSent() {
+            return sent;
+        }
+
+        public long getErrors() {
+            return errors;
+        }
+
+        /**
+         * Requests not sent because too many were already in flight
+         */
+        public long getDropped() {
+            return dropped;
+        }
+
+        public Histogram getLatencies() {
+            return latencies;
+        }
+    }
+}
@@ -0,0 +1,153 @@
+package com.sps.player.loadtest;
+
+import com.sps.player.entity.Player;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Deterministic synthetic players
+ * Every attribute of row n is drawn from a random generator seeded with the
+ * dataset seed and n, so a row is the same however many rows are generated
+ * and in whatever order. Names are drawn from first and last name lists
+ * with Zipf-like weights, so common names are common and prefix searches
+ * hit skewed result sizes as they do on a real roster; the row number keeps
+ * them unique. Ages follow a playing population: mostly 18 to 35, with
+ * juniors and veterans in the tails.
+ *
+ * @author SPS Cricket Club
+ * @version 1.0.0
+ */
+public class PlayerDataGenerator {
+
+    private static final String[] FIRST_NAMES = {
+            "Kusal", "Dinesh", "Angelo", "Dhananjaya", "Pathum", "Charith", "Wanindu", "Dushmantha",
+            "Lasith", "Kumar", "Mahela", "Upul", "Thisara", "Chaminda", "Rangana", "Niroshan",
+            "Lahiru", "Kasun", "Dasun", "Bhanuka", "Avishka", "Maheesh", "Dilshan", "Suranga",
+            "Nuwan", "Isuru", "Praveen", "Akila", "Shehan", "Ramesh", "Sadeera", "Asitha",
+            "Chamika", "Minod", "Jeffrey", "Lakshan", "Oshada", "Kamindu", "Nishan", "Prabath"
+    };
+
+    private static final String[] LAST_NAMES = {
+            "Perera", "Silva", "Fernando", "Mendis", "Jayasuriya", "Bandara", "Kumara", "Dias",
+            "Rajapaksa", "Wickramasinghe", "Gunathilaka", "Jayawardene", "Sangakkara", "Mathews",
+            "Chandimal", "Malinga", "Herath", "Tharanga", "Hasaranga", "Chameera", "Asalanka",
+            "Nissanka", "Karunaratne", "Samarawickrama", "Madushanka", "Theekshana", "Rajitha",
+            "Lakmal", "Pradeep", "Vandersay", "Embuldeniya", "Dickwella", "Shanaka", "Rathnayake",
+            "Liyanage", "Weerasinghe", "Senanayake", "Ekanayake", "Dissanayake", "Ranatunga"
+    };
+
+    private static final double[] FIRST_NAME_WEIGHTS = zipfCumulative(FIRST_NAMES.length);
+    private static final double[] LAST_NAME_WEIGHTS = zipfCumulative(LAST_NAMES.length);
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+    private static final int BATCH_SIZE = 10_000;
+
+    private final long seed;
+    private final LocalDate referenceDate;
+
+    /**
+     * @param seed Dataset seed
+     * @param referenceDate Date the ages are measured at, fixed so the rows do not change from day to day
+     */
+    public PlayerDataGenerator(long seed, LocalDate referenceDate) {
+        this.seed = seed;
+        this.referenceDate = referenceDate;
+    }
+
+    public String name(long n) {
+        SplittableRandom random = random(n, 1);
+        return FIRST_NAMES[pick(FIRST_NAME_WEIGHTS, random)] + " " + LAST_NAMES[pick(LAST_NAME_WEIGHTS, random)]
+                + " " + n;
+    }
+
+    public LocalDate birthday(long n) {
+        SplittableRandom random = random(n, 2);
+        double kind = random.nextDouble();
+        int age;
+        if (kind < 0.08) {
+            age = random.nextInt(10, 18);
+        } else if (kind < 0.95) {
+            age = (int) Math.round(Math.max(18, Math.min(40, 25 + random.nextGaussian() * 5)));
+        } else {
+            age = random.nextInt(40, 66);
+        }
+        return referenceDate.minusYears(age).minusDays(random.nextInt(365));
+    }
+
+    public String status(long n) {
+        return random(n, 3).nextDouble() < 0.85 ? "ACTIVE" : "INACTIVE";
+    }
+
+    public LocalDateTime createdAt(long n) {
+        return referenceDate.atStartOfDay().minusMinutes(random(n, 4).nextLong(5L * 365 * 24 * 60));
+    }
+
+    /**
+     * A search term as a user would type it: the start of a first or last name, weighted like the names
+     */
+    public String searchTerm(SplittableRandom random) {
+        String name = random.nextBoolean()
+                ? FIRST_NAMES[pick(FIRST_NAME_WEIGHTS, random)]
+                : LAST_NAMES[pick(LAST_NAME_WEIGHTS, random)];
+        return name.substring(0, Math.min(name.length(), random.nextInt(3, 7)));
+    }
+
+    /**
+     * Insert rows 1..rows into the players table with JDBC batches, ids included
+     */
+    public void populate(JdbcTemplate jdbcTemplate, int rows) {
+        long started = System.nanoTime();
+        List<Object[]> batch = new ArrayList<>(BATCH_SIZE);
+        for (long n = 1; n <= rows; n++) {
+            String name = name(n);
+            Timestamp createdAt = Timestamp.valueOf(createdAt(n));
+            batch.add(new Object[]{n, name, Player.normalizeName(name), Date.valueOf(birthday(n)), null,
+                    status(n), createdAt, createdAt});
+            if (batch.size() == BATCH_SIZE || n == rows) {
+                jdbcTemplate.batchUpdate("INSERT INTO players "
+                        + "(id, name, name_key, birthday, image_name, status, version, created_at, updated_at) "
+                        + "VALUES (?, ?, ?, ?, ?, ?, 0, ?, ?)", batch);
+                batch.clear();
+            }
+            if (n % 1_000_000 == 0) {
+                System.out.printf("  %,d players generated%n", n);
+            }
+        }
+        // Leave room for a full pooled-optimizer block above the generated ids
+        jdbcTemplate.execute("ALTER SEQUENCE player_seq RESTART WITH " + (rows + 101));
+        System.out.printf("Generated %,d players in %d s%n", rows, (System.nanoTime() - started) / 1_000_000_000);
+    }
+
+    private SplittableRandom random(long n, long attribute) {
+        return new SplittableRandom(seed + (n * 8 + attribute) * GOLDEN_GAMMA);
+    }
+
+    private static int pick(double[] cumulativeWeights, SplittableRandom random) {
+        double value = random.nextDouble() * cumulativeWeights[cumulativeWeights.length - 1];
+        for (int i = 0; i < cumulativeWeights.length; i++) {
+            if (value < cumulativeWeights[i]) {
+                return i;
+            }
+        }
+        return cumulativeWeights.length - 1;
+    }
+
+    /**
+     * Cumulative weights proportional to 1 / rank
+     */
+    private static double[] zipfCumulative(int size) {
+        double[] cumulative = new double[size];
+        double total = 0;
+        for (int i = 0; i < size; i++) {
+            total += 1.0 / (i + 1);
+            cumulative[i] = total;
+        }
+        return cumulative;
+    }
+}
@@ -0,0 +1,110 @@
+package com.sps.player.loadtest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Time-to-first-request of the packaged service
+ * Starts each command in a new JVM, polls the URL until it answers 200 and
+ * records the time from launch, then stops the process. Commands are run in
+ * turn, startup.runs times each, so both see the same machine state, and the
+ * minimum, median and maximum are printed per command.
+ * Reads startup.* system properties; a command is split on whitespace.
+ *
+ * @author SPS Cricket Club
+ * @version 1.0.0
+ */
+public final class StartupTimer {
+
+    private static final Duration POLL_INTERVAL = Duration.ofMillis(20);
+
+    private StartupTimer() {
+    }
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        Map<String, List<String>> commands = new LinkedHashMap<>();
+        for (String name : property("commands", "baseline,fast-startup").split(",")) {
+            String command = property("command." + name.trim(), "");
+            if (command.isEmpty()) {
+                throw new IllegalArgumentException("startup.command." + name.trim() + " is not set");
+            }
+            commands.put(name.trim(), Arrays.asList(command.split("\\s+")));
+        }
+        URI url = URI.create(property("url", "http://localhost:8081/api/players?size=1"));
+        int runs = Integer.parseInt(property("runs", "5"));
+        Duration timeout = Duration.ofSeconds(Long.parseLong(property("timeout-seconds", "120")));
+        Path workDir = Path.of(property("work-dir", "."));
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(1))
+                .build();
+
+        Map<String, List<Long>> results = new LinkedHashMap<>();
+        commands.keySet().forEach(name -> results.put(name, new ArrayList<>()));
+        for (int run = 1; run <= runs; run++) {
+            for (Map.Entry<String, List<String>> command : commands.entrySet()) {
+                long millis = timeToFirstRequest(command.getValue(), workDir, client, url, timeout);
+                results.get(command.getKey()).add(millis);
+                System.out.printf("%-14s run %d: %,d ms%n", command.getKey(), run, millis);
+            }
+        }
+
+        System.out.printf("%nTime to first request (%d runs)%n", runs);
+        System.out.printf("%-14s %10s %10s %10s%n", "command", "min", "median", "max");
+        results.forEach((name, millis) -> {
+            List<Long> sorted = millis.stream().sorted().toList();
+            System.out.printf("%-14s %,7d ms %,7d ms %,7d ms%n", name,
+                    sorted.get(0), sorted.get(sorted.size() / 2), sorted.get(sorted.size() - 1));
+        });
+    }
+
+    /**
+     * Launch the command and wait for the first 200 from the URL
+     * @return Milliseconds from launch to the response
+     */
+    private static long timeToFirstRequest(List<String> command, Path workDir, HttpClient client, URI url,
+                                           Duration timeout) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(url).timeout(Duration.ofSeconds(5)).GET().build();
+        long start = System.nanoTime();
+        Process process = new ProcessBuilder(command)
+                .directory(workDir.toFile())
+                .redirectErrorStream(true)
+                .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                .start();
+        try {
+            while (System.nanoTime() - start < timeout.toNanos()) {
+                if (!process.isAlive()) {
+                    throw new IllegalStateException("Service exited with status " + process.exitValue()
+                            + " before answering: " + String.join(" ", command));
+                }
+                try {
+                    if (client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+                        return Duration.ofNanos(System.nanoTime() - start).toMillis();
+                    }
+                } catch (IOException notListeningYet) {
+                    // Connection refused until the server is up
+                }
+                Thread.sleep(POLL_INTERVAL.toMillis());
+            }
+            throw new IllegalStateException("No answer from " + url + " within " + timeout.toSeconds() + " s");
+        } finally {
+            process.destroy();
+            process.waitFor();
+        }
+    }
+
+    private static String property(String name, String defaultValue) {
+        String value = System.getProperty("startup." + name);
+        return value == null || value.isBlank() ? defaultValue : value.trim();
+    }
+}
@@ -0,0 +1,19 @@
+package com.sps.player.reactive;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+
+/**
+ * Main entry point for the reactive (WebFlux + R2DBC) Player Management Service
+ * Serves the same API as the servlet service on a non-blocking stack
+ *
+ * @author SPS Cricket Club
+ * @version 1.0.0
+ */
+@SpringBootApplication
+public class ReactivePlayerApplication {
+
+    public static void main(String[] args) {
+        SpringApplication.run(ReactivePlayerApplication.class, args);
+    }
+}
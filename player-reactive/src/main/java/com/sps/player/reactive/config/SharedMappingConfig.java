@@ -0,0 +1,32 @@
+package com.sps.player.reactive.config;
+
+import com.sps.player.dto.PlayerField;
+import com.sps.player.mapper.PlayerMapper;
+import org.springframework.boot.autoconfigure.jackson.Jackson2ObjectMapperBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Beans shared with the servlet service
+ * Only the reactive packages are component-scanned, so shared components
+ * are declared here explicitly
+ *
+ * @author SPS Cricket Club
+ * @version 1.0.0
+ */
+@Configuration
+public class SharedMappingConfig {
+
+    @Bean
+    public PlayerMapper playerMapper() {
+        return new PlayerMapper();
+    }
+
+    /**
+     * PlayerResponseDTO is serialized through a Jackson filter; include every field
+     */
+    @Bean
+    public Jackson2ObjectMapperBuilderCustomizer playerFieldFilters() {
+        return builder -> builder.filters(PlayerField.filters(null));
+    }
+}
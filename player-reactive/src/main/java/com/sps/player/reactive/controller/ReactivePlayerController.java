@@ -0,0 +1,261 @@
+package com.sps.player.reactive.controller;
+
+import com.sps.player.dto.ApiResponse;
+import com.sps.player.dto.CursorPageDTO;
+import com.sps.player.dto.PlayerCountsDTO;
+import com.sps.player.dto.PlayerRequestDTO;
+import com.sps.player.dto.PlayerResponseDTO;
+import com.sps.player.reactive.service.ReactivePlayerService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Reactive REST Controller for Player Management
+ * Same routes and response envelopes as PlayerController. Every list
+ * endpoint also has a /stream variant that writes newline-delimited JSON
+ * as rows arrive, with backpressure from the client connection down to
+ * the database cursor.
+ *
+ * @author SPS Cricket Club
+ * @version 1.0.0
+ */
+@RestController
+@RequestMapping("/api/players")
+@CrossOrigin(origins = {"http://localhost:3000", "http://localhost:3001"})
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "Player Management (reactive)", description = "Non-blocking APIs for managing cricket players")
+public class ReactivePlayerController {
+
+    private final ReactivePlayerService playerService;
+
+    /**
+     * Get all players, one keyset page at a time
+     */
+    @GetMapping
+    @Operation(summary = "Get all players",
+            description = "Retrieve players page by page; pass nextCursor as cursor to continue")
+    public Mono<ApiResponse<CursorPageDTO<PlayerResponseDTO>>> getAllPlayers(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            @RequestParam(defaultValue = "id") String sort) {
+        log.info("GET /api/players?sort={}&size={} - Fetching players page", sort, size);
+        return playerService.getAllPlayers(cursor, size, sort)
+                .map(players -> ApiResponse.success("Players retrieved successfully", players));
+    }
+
+    /**
+     * Stream all players as newline-delimited JSON
+     */
+    @GetMapping(value = "/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "Stream all players", description = "Stream every player as newline-delimited JSON")
+    public Flux<PlayerResponseDTO> streamAllPlayers(@RequestParam(defaultValue = "id") String sort) {
+        log.info("GET /api/players/stream?sort={} - Streaming all players", sort);
+        return playerService.streamAllPlayers(sort);
+    }
+
+    /**
+     * Export all players as newline-delimited JSON, in id order
+     */
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "Export all players", description = "Stream every player as newline-delimited JSON")
+    public Flux<PlayerResponseDTO> exportPlayers() {
+        log.info("GET /api/players/export - Streaming all players");
+        return playerService.streamAllPlayers("id");
+    }
+
+    /**
+     * Get player by ID
+     */
+    @GetMapping("/{id}")
+    @Operation(summary = "Get player by ID", description = "Retrieve a specific player by their ID")
+    public Mono<ApiResponse<PlayerResponseDTO>> getPlayerById(@PathVariable Long id) {
+        log.info("GET /api/players/{} - Fetching player by id", id);
+        return playerService.getPlayerById(id)
+                .map(player -> ApiResponse.success("Player retrieved successfully", player));
+    }
+
+    /**
+     * Create new player
+     */
+    @PostMapping
+    @Operation(summary = "Create new player", description = "Add a new player to the database")
+    public Mono<ResponseEntity<ApiResponse<PlayerResponseDTO>>> createPlayer(
+            @Valid @RequestBody PlayerRequestDTO requestDTO) {
+        log.info("POST /api/players - Creating new player: {}", requestDTO.getName());
+        return playerService.createPlayer(requestDTO)
+                .map(player -> ResponseEntity.status(HttpStatus.CREATED)
+                        .body(ApiResponse.success("Player created successfully", player)));
+    }
+
+    /**
+     * Update existing player
+     */
+    @PutMapping("/{id}")
+    @Operation(summary = "Update player", description = "Update an existing player's information")
+    public Mono<ApiResponse<PlayerResponseDTO>> updatePlayer(
+            @PathVariable Long id,
+            @Valid @RequestBody PlayerRequestDTO requestDTO) {
+        log.info("PUT /api/players/{} - Updating player", id);
+        return playerService.updatePlayer(id, requestDTO)
+                .map(player -> ApiResponse.success("Player updated successfully", player));
+    }
+
+    /**
+     * Delete player
+     */
+    @DeleteMapping("/{id}")
+    @Operation(summary = "Delete player", description = "Remove a player from the database")
+    public Mono<ApiResponse<Void>> deletePlayer(@PathVariable Long id) {
+        log.info("DELETE /api/players/{} - Deleting player", id);
+        return playerService.deletePlayer(id)
+                .then(Mono.fromSupplier(() -> ApiResponse.<Void>success("Player deleted successfully", null)));
+    }
+
+    /**
+     * Get players by status
+     */
+    @GetMapping("/status/{status}")
+    @Operation(summary = "Get players by status", description = "Retrieve players by their status (ACTIVE/INACTIVE)")
+    public Mono<ApiResponse<CursorPageDTO<PlayerResponseDTO>>> getPlayersByStatus(
+            @PathVariable String status,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+        log.info("GET /api/players/status/{} - Fetching players by status", status);
+        return playerService.getPlayersByStatus(status, cursor, size)
+                .map(players -> ApiResponse.success("Players retrieved successfully", players));
+    }
+
+    /**
+     * Stream players by status as newline-delimited JSON
+     */
+    @GetMapping(value = "/status/{status}/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "Stream players by status", description = "Stream players with a status, in id order")
+    public Flux<PlayerResponseDTO> streamPlayersByStatus(@PathVariable String status) {
+        log.info("GET /api/players/status/{}/stream - Streaming players by status", status);
+        return playerService.streamPlayersByStatus(status);
+    }
+
+    /**
+     * Search players by name
+     */
+    @GetMapping("/search")
+    @Operation(summary = "Search players", description = "Search players by name (partial match)")
+    public Mono<ApiResponse<List<PlayerResponseDTO>>> searchPlayersByName(
+            @RequestParam String name,
+            @RequestParam(required = false) Integer limit) {
+        log.info("GET /api/players/search?name={}&limit={} - Searching players", name, limit);
+        return playerService.searchPlayersByName(name, limit)
+                .collectList()
+                .map(players -> ApiResponse.success("Search completed successfully", players));
+    }
+
+    /**
+     * Get players by age range
+     */
+    @GetMapping("/age-range")
+    @Operation(summary = "Get players by age range", description = "Retrieve players within a specific age range")
+    public Mono<ApiResponse<CursorPageDTO<PlayerResponseDTO>>> getPlayersByAgeRange(
+            @RequestParam int minAge,
+            @RequestParam int maxAge,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+        log.info("GET /api/players/age-range?minAge={}&maxAge={}", minAge, maxAge);
+        return playerService.getPlayersByAgeRange(minAge, maxAge, cursor, size)
+                .map(players -> ApiResponse.success("Players retrieved successfully", players));
+    }
+
+    /**
+     * Stream players by age range as newline-delimited JSON
+     */
+    @GetMapping(value = "/age-range/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "Stream players by age range", description = "Stream players within an age range")
+    public Flux<PlayerResponseDTO> streamPlayersByAgeRange(@RequestParam int minAge, @RequestParam int maxAge) {
+        log.info("GET /api/players/age-range/stream?minAge={}&maxAge={}", minAge, maxAge);
+        return playerService.streamPlayersByAgeRange(minAge, maxAge);
+    }
+
+    /**
+     * Get players by birthday range
+     */
+    @GetMapping("/birthday-range")
+    @Operation(summary = "Get players by birthday range", description = "Retrieve players born within a date range")
+    public Mono<ApiResponse<CursorPageDTO<PlayerResponseDTO>>> getPlayersByBirthdayRange(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+        log.info("GET /api/players/birthday-range?startDate={}&endDate={}", startDate, endDate);
+        return playerService.getPlayersByBirthdayRange(startDate, endDate, cursor, size)
+                .map(players -> ApiResponse.success("Players retrieved successfully", players));
+    }
+
+    /**
+     * Stream players by birthday range as newline-delimited JSON
+     */
+    @GetMapping(value = "/birthday-range/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "Stream players by birthday range", description = "Stream players born within a date range")
+    public Flux<PlayerResponseDTO> streamPlayersByBirthdayRange(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
+        log.info("GET /api/players/birthday-range/stream?startDate={}&endDate={}", startDate, endDate);
+        return playerService.streamPlayersByBirthdayRange(startDate, endDate);
+    }
+
+    /**
+     * Get active players count
+     */
+    @GetMapping("/count/active")
+    @Operation(summary = "Get active players count", description = "Get the total number of active players")
+    public Mono<ApiResponse<Long>> getActivePlayersCount() {
+        log.info("GET /api/players/count/active - Getting active players count");
+        return playerService.getActivePlayersCount()
+                .map(count -> ApiResponse.success("Active players count retrieved", count));
+    }
+
+    /**
+     * Get inactive players count
+     */
+    @GetMapping("/count/inactive")
+    @Operation(summary = "Get inactive players count", description = "Get the total number of inactive players")
+    public Mono<ApiResponse<Long>> getInactivePlayersCount() {
+        log.info("GET /api/players/count/inactive - Getting inactive players count");
+        return playerService.getInactivePlayersCount()
+                .map(count -> ApiResponse.success("Inactive players count retrieved", count));
+    }
+
+    /**
+     * Get total players count
+     */
+    @GetMapping("/count/total")
+    @Operation(summary = "Get total players count", description = "Get the total number of all players")
+    public Mono<ApiResponse<Long>> getTotalPlayersCount() {
+        log.info("GET /api/players/count/total - Getting total players count");
+        return playerService.getPlayerCounts()
+                .map(counts -> ApiResponse.success("Total players count retrieved", counts.getTotal()));
+    }
+
+    /**
+     * Get player counts for every status
+     */
+    @GetMapping("/counts")
+    @Operation(summary = "Get player counts", description = "Get the number of players per status and in total")
+    public Mono<ApiResponse<PlayerCountsDTO>> getPlayerCounts() {
+        log.info("GET /api/players/counts - Getting player counts");
+        return playerService.getPlayerCounts()
+                .map(counts -> ApiResponse.success("Player counts retrieved", counts));
+    }
+}
@@ -0,0 +1,136 @@
+package com.sps.player.reactive.exception;
+
+import com.sps.player.exception.DuplicatePlayerException;
+import com.sps.player.exception.ErrorResponse;
+import com.sps.player.exception.InvalidRequestException;
+import com.sps.player.exception.PlayerNotFoundException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.FieldError;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.bind.support.WebExchangeBindException;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.ServerWebInputException;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Exception handler for the reactive service
+ * Produces the same ErrorResponse bodies and status codes as GlobalExceptionHandler
+ *
+ * @author SPS Cricket Club
+ * @version 1.0.0
+ */
+@RestControllerAdvice
+@Slf4j
+public class ReactiveExceptionHandler {
+
+    /**
+     * Handle PlayerNotFoundException
+     */
+    @ExceptionHandler(PlayerNotFoundException.class)
+    public ResponseEntity<ErrorResponse> handlePlayerNotFoundException(
+            PlayerNotFoundException ex, ServerWebExchange exchange) {
+        log.error("Player not found: {}", ex.getMessage());
+        return error(HttpStatus.NOT_FOUND, "Not Found", ex.getMessage(), exchange);
+    }
+
+    /**
+     * Handle DuplicatePlayerException
+     */
+    @ExceptionHandler(DuplicatePlayerException.class)
+    public ResponseEntity<ErrorResponse> handleDuplicatePlayerException(
+            DuplicatePlayerException ex, ServerWebExchange exchange) {
+        log.error("Duplicate player: {}", ex.getMessage());
+        return error(HttpStatus.CONFLICT, "Conflict", ex.getMessage(), exchange);
+    }
+
+    /**
+     * Handle OptimisticLockingFailureException: another update committed first
+     */
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<ErrorResponse> handleOptimisticLockingFailureException(
+            OptimisticLockingFailureException ex, ServerWebExchange exchange) {
+        log.error("Concurrent update: {}", ex.getMessage());
+        return error(HttpStatus.CONFLICT, "Conflict", "The player was changed by another request; reload it and retry",
+                exchange);
+    }
+
+    /**
+     * Handle DataIntegrityViolationException
+     */
+    @ExceptionHandler(DataIntegrityViolationException.class)
+    public ResponseEntity<ErrorResponse> handleDataIntegrityViolationException(
+            DataIntegrityViolationException ex, ServerWebExchange exchange) {
+        if (DuplicatePlayerException.isDuplicateName(ex)) {
+            return handleDuplicatePlayerException(
+                    new DuplicatePlayerException("A player with this name already exists", ex), exchange);
+        }
+        log.error("Data integrity violation: {}", ex.getMostSpecificCause().getMessage());
+        return error(HttpStatus.CONFLICT, "Conflict", "The request conflicts with existing data", exchange);
+    }
+
+    /**
+     * Handle InvalidRequestException and malformed request parameters
+     */
+    @ExceptionHandler({InvalidRequestException.class, ServerWebInputException.class})
+    public ResponseEntity<ErrorResponse> handleInvalidRequestException(
+            RuntimeException ex, ServerWebExchange exchange) {
+        String message = ex instanceof ServerWebInputException input ? input.getReason() : ex.getMessage();
+        log.error("Invalid request: {}", message);
+        return error(HttpStatus.BAD_REQUEST, "Bad Request", message, exchange);
+    }
+
+    /**
+     * Handle Validation Exceptions
+     */
+    @ExceptionHandler(WebExchangeBindException.class)
+    public ResponseEntity<ErrorResponse> handleValidationException(
+            WebExchangeBindException ex, ServerWebExchange exchange) {
+        log.error("Validation error: {}", ex.getMessage());
+
+        List<String> errors = new ArrayList<>();
+        ex.getBindingResult().getAllErrors().forEach(error -> {
+            String fieldName = ((FieldError) error).getField();
+            errors.add(fieldName + ": " + error.getDefaultMessage());
+        });
+
+        ErrorResponse error = new ErrorResponse(
+                LocalDateTime.now(),
+                HttpStatus.BAD_REQUEST.value(),
+                "Validation Failed",
+                "Input validation failed",
+                exchange.getRequest().getPath().value(),
+                errors
+        );
+        return new ResponseEntity<>(error, HttpStatus.BAD_REQUEST);
+    }
+
+    /**
+     * Handle Generic Exceptions
+     */
+    @ExceptionHandler(Exception.class)
+    public ResponseEntity<ErrorResponse> handleGenericException(Exception ex, ServerWebExchange exchange) {
+        log.error("Unexpected error: ", ex);
+        return error(HttpStatus.INTERNAL_SERVER_ERROR, "Internal Server Error", "An unexpected error occurred",
+                exchange);
+    }
+
+    private static ResponseEntity<ErrorResponse> error(HttpStatus status, String error, String message,
+                                                       ServerWebExchange exchange) {
+        ErrorResponse body = new ErrorResponse(
+                LocalDateTime.now(),
+                status.value(),
+                error,
+                message,
+                exchange.getRequest().getPath().value()
+        );
+        return new ResponseEntity<>(body, status);
+    }
+}
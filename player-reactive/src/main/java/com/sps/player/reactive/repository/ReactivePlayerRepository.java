@@ -0,0 +1,313 @@
+package com.sps.player.reactive.repository;
+
+import com.sps.player.entity.Player;
+import io.r2dbc.spi.Connection;
+import io.r2dbc.spi.Parameters;
+import io.r2dbc.spi.Readable;
+import lombok.RequiredArgsConstructor;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * R2DBC repository for the players table written by the servlet service
+ * Queries mirror the keyset queries of PlayerRepository so both stacks use
+ * the same indexes. Every Flux is read from the driver as it is consumed,
+ * so downstream demand controls how many rows are fetched.
+ *
+ * @author SPS Cricket Club
+ * @version 1.0.0
+ */
+@Repository
+@RequiredArgsConstructor
+public class ReactivePlayerRepository {
+
+    /**
+     * Must match the allocationSize of the player_seq generator on Player
+     */
+    private static final int SEQUENCE_INCREMENT = 50;
+
+    private static final int STAMP_CHUNK = 1000;
+
+    private static final String COLUMNS = "id, name, name_key, birthday, image_name, status, version, created_at, updated_at";
+
+    private final DatabaseClient databaseClient;
+
+    /**
+     * Find a player by id
+     */
+    public Mono<Player> findById(long id) {
+        return databaseClient.sql("SELECT " + COLUMNS + " FROM players WHERE id = :id")
+                .bind("id", id)
+                .map(ReactivePlayerRepository::toPlayer)
+                .one();
+    }
+
+    /**
+     * Find players by id in any order; ids that do not exist are skipped
+     */
+    public Flux<Player> findAllById(Collection<Long> ids) {
+        return databaseClient.sql("SELECT " + COLUMNS + " FROM players WHERE id IN (:ids)")
+                .bind("ids", ids)
+                .map(ReactivePlayerRepository::toPlayer)
+                .all();
+    }
+
+    /**
+     * Players with id greater than afterId, ordered by id
+     * @param limit Maximum number of rows, or 0 for all of them
+     */
+    public Flux<Player> findOrderById(long afterId, int limit) {
+        return databaseClient.sql("SELECT " + COLUMNS + " FROM players WHERE id > :afterId "
+                        + "ORDER BY id ASC" + limit(limit))
+                .bind("afterId", afterId)
+                .map(ReactivePlayerRepository::toPlayer)
+                .all();
+    }
+
+    /**
+     * Players sorting after (afterName, afterId), ordered by name, then id (served by idx_name)
+     * @param limit Maximum number of rows, or 0 for all of them
+     */
+    public Flux<Player> findOrderByName(String afterName, long afterId, int limit) {
+        return databaseClient.sql("SELECT " + COLUMNS + " FROM players WHERE "
+                        + "name > :afterName OR (name = :afterName AND id > :afterId) "
+                        + "ORDER BY name ASC, id ASC" + limit(limit))
+                .bind("afterName", afterName)
+                .bind("afterId", afterId)
+                .map(ReactivePlayerRepository::toPlayer)
+                .all();
+    }
+
+    /**
+     * Players with a status and id greater than afterId, ordered by id (served by idx_status)
+     * @param limit Maximum number of rows, or 0 for all of them
+     */
+    public Flux<Player> findByStatusOrderById(String status, long afterId, int limit) {
+        return databaseClient.sql("SELECT " + COLUMNS + " FROM players WHERE status = :status AND id > :afterId "
+                        + "ORDER BY id ASC" + limit(limit))
+                .bind("status", status)
+                .bind("afterId", afterId)
+                .map(ReactivePlayerRepository::toPlayer)
+                .all();
+    }
+
+    /**
+     * Players whose name contains the term (case-insensitive), ordered by name, then id
+     */
+    public Flux<Player> searchByName(String term, int limit) {
+        return databaseClient.sql("SELECT " + COLUMNS + " FROM players WHERE "
+                        + "LOWER(name) LIKE LOWER(CONCAT('%', :term, '%')) "
+                        + "ORDER BY name ASC, id ASC" + limit(limit))
+                .bind("term", term)
+                .map(ReactivePlayerRepository::toPlayer)
+                .all();
+    }
+
+    /**
+     * Players born between two dates sorting after (afterBirthday, afterId),
+     * ordered by birthday, then id (served by idx_birthday)
+     * @param limit Maximum number of rows, or 0 for all of them
+     */
+    public Flux<Player> findByBirthdayBetween(LocalDate startDate, LocalDate endDate,
+                                              LocalDate afterBirthday, long afterId, int limit) {
+        return databaseClient.sql("SELECT " + COLUMNS + " FROM players WHERE "
+                        + "birthday BETWEEN :startDate AND :endDate "
+                        + "AND (birthday > :afterBirthday OR (birthday = :afterBirthday AND id > :afterId)) "
+                        + "ORDER BY birthday ASC, id ASC" + limit(limit))
+                .bind("startDate", startDate)
+                .bind("endDate", endDate)
+                .bind("afterBirthday", afterBirthday)
+                .bind("afterId", afterId)
+                .map(ReactivePlayerRepository::toPlayer)
+                .all();
+    }
+
+    /**
+     * Count players with a status
+     */
+    public Mono<Long> countByStatus(String status) {
+        return databaseClient.sql("SELECT COUNT(*) AS total FROM players WHERE status = :status")
+                .bind("status", status)
+                .map(row -> row.get("total", Long.class))
+                .one();
+    }
+
+    /**
+     * Count players per status in a single query
+     * @return Counts keyed by status, sorted by status; players without a status are counted under UNKNOWN
+     */
+    public Mono<Map<String, Long>> countGroupByStatus() {
+        return databaseClient.sql("SELECT status, COUNT(*) AS total FROM players GROUP BY status")
+                .map(row -> {
+                    String status = row.get("status", String.class);
+                    return Map.entry(status != null ? status : "UNKNOWN", row.get("total", Long.class));
+                })
+                .all()
+                .<Map<String, Long>>collect(TreeMap::new,
+                        (counts, entry) -> counts.merge(entry.getKey(), entry.getValue(), Long::sum));
+    }
+
+    /**
+     * Insert a new player, assigning its id from player_seq
+     * Timestamps must already be set; the JPA lifecycle callbacks do not run here.
+     */
+    public Mono<Player> insert(Player player) {
+        return nextId().flatMap(id -> databaseClient.sql("INSERT INTO players (" + COLUMNS + ") VALUES "
+                        + "(:id, :name, :nameKey, :birthday, :imageName, :status, 0, :createdAt, :updatedAt)")
+                .bind("id", id)
+                .bind("name", player.getName())
+                .bind("nameKey", player.getNameKey())
+                .bind("birthday", player.getBirthday())
+                .bind("imageName", nullable(player.getImageName(), String.class))
+                .bind("status", nullable(player.getStatus(), String.class))
+                .bind("createdAt", player.getCreatedAt())
+                .bind("updatedAt", player.getUpdatedAt())
+                .fetch()
+                .rowsUpdated()
+                .then(Mono.fromSupplier(() -> {
+                    player.setId(id);
+                    player.setVersion(0L);
+                    return player;
+                })));
+    }
+
+    /**
+     * Write every mutable column of an existing player, if it is still at the version it was read at
+     * The version is bumped so concurrent JPA updates of the player fail their version check.
+     * @return Number of rows updated (0 if the player no longer exists or has changed since it was read)
+     */
+    public Mono<Long> update(Player player) {
+        return databaseClient.sql("UPDATE players SET name = :name, name_key = :nameKey, birthday = :birthday, "
+                        + "image_name = :imageName, status = :status, version = version + 1, updated_at = :updatedAt, "
+                        + "change_seq = NULL WHERE id = :id AND version = :version")
+                .bind("name", player.getName())
+                .bind("nameKey", player.getNameKey())
+                .bind("birthday", player.getBirthday())
+                .bind("imageName", nullable(player.getImageName(), String.class))
+                .bind("status", nullable(player.getStatus(), String.class))
+                .bind("updatedAt", player.getUpdatedAt())
+                .bind("id", player.getId())
+                .bind("version", player.getVersion())
+                .fetch()
+                .rowsUpdated();
+    }
+
+    /**
+     * Delete a player by id
+     * @return Number of rows deleted
+     */
+    public Mono<Long> deleteById(long id) {
+        return databaseClient.sql("DELETE FROM players WHERE id = :id")
+                .bind("id", id)
+                .fetch()
+                .rowsUpdated();
+    }
+
+    /**
+     * Record a deletion in player_tombstones, so delta syncs of the servlet service report it
+     * Must run in the same transaction as the delete.
+     */
+    public Mono<Long> insertTombstone(long playerId, LocalDateTime deletedAt) {
+        return databaseClient.sql("INSERT INTO player_tombstones (player_id, deleted_at) "
+                        + "VALUES (:playerId, :deletedAt)")
+                .bind("playerId", playerId)
+                .bind("deletedAt", deletedAt)
+                .fetch()
+                .rowsUpdated();
+    }
+
+    /**
+     * Increment the shared roster revision after a write has committed, and
+     * stamp the players and tombstones written since the last bump with it
+     * as their change sequence, as RosterVersion does in the servlet service
+     * Must run in a transaction of its own, which the revision row lock
+     * serializes with every other bump. The servlet service instances poll
+     * the revision and reload their in-memory read models (cache, counters,
+     * indexes) when it includes changes made here.
+     * @return The new revision
+     */
+    public Mono<Long> incrementRosterRevision() {
+        return databaseClient.sql("UPDATE roster_revision SET revision = revision + 1 WHERE id = 1")
+                .fetch()
+                .rowsUpdated()
+                .then(databaseClient.sql("SELECT revision FROM roster_revision WHERE id = 1")
+                        .map(row -> row.get("revision", Long.class))
+                        .one())
+                .flatMap(revision -> stampChangeSeq("players", "id", revision)
+                        .then(stampChangeSeq("player_tombstones", "player_id", revision))
+                        .thenReturn(revision));
+    }
+
+    /**
+     * Stamp the committed rows of a table that have no change sequence yet
+     * Rows still locked by an uncommitted write are skipped; the bump after that write stamps them.
+     */
+    private Mono<Long> stampChangeSeq(String table, String idColumn, long revision) {
+        return databaseClient.sql("SELECT " + idColumn + " FROM " + table
+                        + " WHERE change_seq IS NULL FOR UPDATE SKIP LOCKED")
+                .map(row -> row.get(idColumn, Long.class))
+                .all()
+                .buffer(STAMP_CHUNK)
+                .concatMap(ids -> databaseClient.sql("UPDATE " + table + " SET change_seq = :revision "
+                                + "WHERE " + idColumn + " IN (:ids)")
+                        .bind("revision", revision)
+                        .bind("ids", ids)
+                        .fetch()
+                        .rowsUpdated())
+                .reduce(0L, Long::sum);
+    }
+
+    /**
+     * Take one value from player_seq
+     * Hibernate's pooled optimizer uses the block below each value it reads
+     * and never the value read by another client, so the value itself is a
+     * safe id. On MySQL player_seq is Hibernate's single-row table emulation.
+     */
+    private Mono<Long> nextId() {
+        if ("H2".equalsIgnoreCase(databaseClient.getConnectionFactory().getMetadata().getName())) {
+            return databaseClient.sql("SELECT NEXT VALUE FOR player_seq AS next_val")
+                    .map(row -> row.get("next_val", Long.class))
+                    .one();
+        }
+        // Both statements must run on the same connection for LAST_INSERT_ID()
+        return databaseClient.inConnection(connection -> nextIdFromTable(connection));
+    }
+
+    private static Mono<Long> nextIdFromTable(Connection connection) {
+        return Mono.from(connection.createStatement("UPDATE player_seq SET next_val = LAST_INSERT_ID(next_val + "
+                        + SEQUENCE_INCREMENT + ")").execute())
+                .flatMap(result -> Mono.from(result.getRowsUpdated()))
+                .then(Mono.from(connection.createStatement("SELECT CAST(LAST_INSERT_ID() AS SIGNED) - "
+                        + SEQUENCE_INCREMENT + " AS next_val").execute()))
+                .flatMap(result -> Mono.from(result.map(row -> row.get("next_val", Long.class))));
+    }
+
+    private static Player toPlayer(Readable row) {
+        Player player = new Player();
+        player.setId(row.get("id", Long.class));
+        player.setName(row.get("name", String.class));
+        player.setBirthday(row.get("birthday", LocalDate.class));
+        player.setImageName(row.get("image_name", String.class));
+        player.setStatus(row.get("status", String.class));
+        player.setVersion(row.get("version", Long.class));
+        player.setCreatedAt(row.get("created_at", LocalDateTime.class));
+        player.setUpdatedAt(row.get("updated_at", LocalDateTime.class));
+        return player;
+    }
+
+    private static Object nullable(Object value, Class<?> type) {
+        return value != null ? value : Parameters.in(type);
+    }
+
+    private static String limit(int limit) {
+        return limit > 0 ? " LIMIT " + limit : "";
+    }
+}
@@ -0,0 +1,112 @@
+package com.sps.player.reactive.service;
+
+import com.sps.player.dto.CursorPageDTO;
+import com.sps.player.dto.PlayerCountsDTO;
+import com.sps.player.dto.PlayerRequestDTO;
+import com.sps.player.dto.PlayerResponseDTO;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+
+/**
+ * Non-blocking counterpart of PlayerService
+ * Page methods keep the keyset contract of the servlet service; the stream
+ * methods emit every matching player as the database returns it, honouring
+ * the subscriber's demand.
+ *
+ * @author SPS Cricket Club
+ * @version 1.0.0
+ */
+public interface ReactivePlayerService {
+
+    /**
+     * Get a keyset page of all players
+     * @param cursor Continuation token from the previous page, or null for the first page
+     * @param size Requested page size, capped by the service
+     * @param sort Sort order (id or name)
+     */
+    Mono<CursorPageDTO<PlayerResponseDTO>> getAllPlayers(String cursor, Integer size, String sort);
+
+    /**
+     * Stream every player in the given sort order (id or name)
+     */
+    Flux<PlayerResponseDTO> streamAllPlayers(String sort);
+
+    /**
+     * Get player by ID
+     */
+    Mono<PlayerResponseDTO> getPlayerById(Long id);
+
+    /**
+     * Create new player
+     */
+    Mono<PlayerResponseDTO> createPlayer(PlayerRequestDTO requestDTO);
+
+    /**
+     * Update existing player
+     */
+    Mono<PlayerResponseDTO> updatePlayer(Long id, PlayerRequestDTO requestDTO);
+
+    /**
+     * Delete player
+     */
+    Mono<Void> deletePlayer(Long id);
+
+    /**
+     * Get a keyset page of players by status, ordered by id
+     */
+    Mono<CursorPageDTO<PlayerResponseDTO>> getPlayersByStatus(String status, String cursor, Integer size);
+
+    /**
+     * Stream every player with the status, ordered by id
+     */
+    Flux<PlayerResponseDTO> streamPlayersByStatus(String status);
+
+    /**
+     * Search players by name (substring of at least 3 characters), ordered by name
+     * @param limit Maximum number of results, capped by the service
+     */
+    Flux<PlayerResponseDTO> searchPlayersByName(String name, Integer limit);
+
+    /**
+     * Get a keyset page of players whose current age is within [minAge, maxAge], ordered by birthday
+     */
+    Mono<CursorPageDTO<PlayerResponseDTO>> getPlayersByAgeRange(int minAge, int maxAge, String cursor, Integer size);
+
+    /**
+     * Stream every player whose current age is within [minAge, maxAge], ordered by birthday
+     */
+    Flux<PlayerResponseDTO> streamPlayersByAgeRange(int minAge, int maxAge);
+
+    /**
+     * Get a keyset page of players born between dates, ordered by birthday
+     */
+    Mono<CursorPageDTO<PlayerResponseDTO>> getPlayersByBirthdayRange(LocalDate startDate, LocalDate endDate,
+                                                                    String cursor, Integer size);
+
+    /**
+     * Stream every player born between dates, ordered by birthday
+     */
+    Flux<PlayerResponseDTO> streamPlayersByBirthdayRange(LocalDate startDate, LocalDate endDate);
+
+    /**
+     * Count players by status
+     */
+    Mono<Long> countPlayersByStatus(String status);
+
+    /**
+     * Get active players count
+     */
+    Mono<Long> getActivePlayersCount();
+
+    /**
+     * Get inactive players count
+     */
+    Mono<Long> getInactivePlayersCount();
+
+    /**
+     * Get player counts for every status and in total
+     */
+    Mono<PlayerCountsDTO> getPlayerCounts();
+}
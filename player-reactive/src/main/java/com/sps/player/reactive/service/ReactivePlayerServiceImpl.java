@@ -0,0 +1,324 @@
+package com.sps.player.reactive.service;
+
+import com.sps.player.dto.CursorPageDTO;
+import com.sps.player.dto.PlayerCountsDTO;
+import com.sps.player.dto.PlayerRequestDTO;
+import com.sps.player.dto.PlayerResponseDTO;
+import com.sps.player.entity.Player;
+import com.sps.player.exception.DuplicatePlayerException;
+import com.sps.player.exception.InvalidRequestException;
+import com.sps.player.exception.PlayerNotFoundException;
+import com.sps.player.mapper.PlayerMapper;
+import com.sps.player.reactive.repository.ReactivePlayerRepository;
+import com.sps.player.service.BirthdayWindow;
+import com.sps.player.service.PlayerCursor;
+import com.sps.player.service.PlayerNameIndex;
+import com.sps.player.service.PlayerSort;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Implementation of ReactivePlayerService on R2DBC
+ * Business rules follow PlayerServiceImpl: the same page size limits,
+ * cursors, sort orders, age windows and duplicate-name handling.
+ * Writes run in a TransactionalOperator transaction and bump the shared
+ * roster revision once it has committed, so the roster_revision row is
+ * never locked for the length of a write.
+ *
+ * @author SPS Cricket Club
+ * @version 1.0.0
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ReactivePlayerServiceImpl implements ReactivePlayerService {
+
+    private static final int DEFAULT_PAGE_SIZE = 50;
+    private static final int MAX_PAGE_SIZE = 500;
+    private static final int DEFAULT_SEARCH_LIMIT = 20;
+    private static final int MAX_SEARCH_LIMIT = 100;
+
+    private final ReactivePlayerRepository playerRepository;
+    private final PlayerMapper playerMapper;
+    private final TransactionalOperator transactionalOperator;
+
+    @Override
+    @Transactional(readOnly = true)
+    public Mono<CursorPageDTO<PlayerResponseDTO>> getAllPlayers(String cursor, Integer size, String sort) {
+        return Mono.defer(() -> {
+            PlayerSort playerSort = listSort(sort);
+            PlayerCursor after = PlayerCursor.decode(cursor, playerSort);
+            int pageSize = pageSize(size);
+            log.info("Fetching page of {} players ordered by {}", pageSize, playerSort);
+            Flux<Player> players = playerSort == PlayerSort.NAME
+                    ? playerRepository.findOrderByName(
+                            after != null ? after.getLastName() : "",
+                            after != null ? after.getLastId() : 0L,
+                            pageSize + 1)
+                    : playerRepository.findOrderById(after != null ? after.getLastId() : 0L, pageSize + 1);
+            return toPage(players, pageSize, playerSort);
+        });
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Flux<PlayerResponseDTO> streamAllPlayers(String sort) {
+        return Flux.defer(() -> {
+            PlayerSort playerSort = listSort(sort);
+            log.info("Streaming all players ordered by {}", playerSort);
+            Flux<Player> players = playerSort == PlayerSort.NAME
+                    ? playerRepository.findOrderByName("", 0L, 0)
+                    : playerRepository.findOrderById(0L, 0);
+            return players.map(playerMapper::toResponseDTO);
+        });
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Mono<PlayerResponseDTO> getPlayerById(Long id) {
+        log.info("Fetching player with id: {}", id);
+        return findPlayer(id).map(playerMapper::toResponseDTO);
+    }
+
+    @Override
+    public Mono<PlayerResponseDTO> createPlayer(PlayerRequestDTO requestDTO) {
+        log.info("Creating new player: {}", requestDTO.getName());
+        Player player = playerMapper.toEntity(requestDTO);
+        LocalDateTime now = LocalDateTime.now();
+        player.setCreatedAt(now);
+        player.setUpdatedAt(now);
+        return committed(playerRepository.insert(player)
+                .onErrorMap(DataIntegrityViolationException.class, ex -> duplicateName(ex, player)))
+                .doOnNext(saved -> log.info("Player created successfully with id: {}", saved.getId()))
+                .map(playerMapper::toResponseDTO);
+    }
+
+    @Override
+    public Mono<PlayerResponseDTO> updatePlayer(Long id, PlayerRequestDTO requestDTO) {
+        log.info("Updating player with id: {}", id);
+        return committed(findPlayer(id)
+                .flatMap(player -> {
+                    playerMapper.updateEntityFromDTO(requestDTO, player);
+                    player.setUpdatedAt(LocalDateTime.now());
+                    return playerRepository.update(player)
+                            .onErrorMap(DataIntegrityViolationException.class, ex -> duplicateName(ex, player))
+                            .flatMap(updated -> updated == 0 ? updateLost(id) : Mono.just(updated))
+                            .then(Mono.fromSupplier(() -> {
+                                player.setVersion(player.getVersion() + 1);
+                                return player;
+                            }));
+                }))
+                .doOnNext(player -> log.info("Player updated successfully with id: {}", id))
+                .map(playerMapper::toResponseDTO);
+    }
+
+    @Override
+    public Mono<Void> deletePlayer(Long id) {
+        log.info("Deleting player with id: {}", id);
+        return committed(playerRepository.deleteById(id)
+                .flatMap(deleted -> deleted == 0
+                        ? Mono.<Long>error(new PlayerNotFoundException("Player not found with id: " + id))
+                        : playerRepository.insertTombstone(id, LocalDateTime.now()).thenReturn(deleted)))
+                .then()
+                .doOnSuccess(ignored -> log.info("Player deleted successfully with id: {}", id));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Mono<CursorPageDTO<PlayerResponseDTO>> getPlayersByStatus(String status, String cursor, Integer size) {
+        return Mono.defer(() -> {
+            log.info("Fetching players with status: {}", status);
+            PlayerCursor after = PlayerCursor.decode(cursor, PlayerSort.ID);
+            int pageSize = pageSize(size);
+            return toPage(playerRepository.findByStatusOrderById(
+                    Player.normalizeStatus(status), after != null ? after.getLastId() : 0L, pageSize + 1), pageSize, PlayerSort.ID);
+        });
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Flux<PlayerResponseDTO> streamPlayersByStatus(String status) {
+        log.info("Streaming players with status: {}", status);
+        return playerRepository.findByStatusOrderById(Player.normalizeStatus(status), 0L, 0).map(playerMapper::toResponseDTO);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Flux<PlayerResponseDTO> searchPlayersByName(String name, Integer limit) {
+        return Flux.defer(() -> {
+            log.info("Searching players with name containing: {}", name);
+            if (name == null || Player.normalizeName(name).length() < PlayerNameIndex.MIN_TERM_LENGTH) {
+                throw new InvalidRequestException(
+                        "Search term must have at least " + PlayerNameIndex.MIN_TERM_LENGTH + " characters");
+            }
+            return playerRepository.searchByName(name, searchLimit(limit)).map(playerMapper::toResponseDTO);
+        });
+    }
+
+    /**
+     * The age range is turned into an exact birthday window so the query is a
+     * plain range on idx_birthday
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Mono<CursorPageDTO<PlayerResponseDTO>> getPlayersByAgeRange(int minAge, int maxAge,
+                                                                      String cursor, Integer size) {
+        return Mono.defer(() -> {
+            log.info("Fetching players with age between {} and {}", minAge, maxAge);
+            BirthdayWindow window = BirthdayWindow.forAgeRange(minAge, maxAge, LocalDate.now());
+            return getPlayersByBirthdayRange(window.getFrom(), window.getTo(), cursor, size);
+        });
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Flux<PlayerResponseDTO> streamPlayersByAgeRange(int minAge, int maxAge) {
+        return Flux.defer(() -> {
+            log.info("Streaming players with age between {} and {}", minAge, maxAge);
+            BirthdayWindow window = BirthdayWindow.forAgeRange(minAge, maxAge, LocalDate.now());
+            return streamPlayersByBirthdayRange(window.getFrom(), window.getTo());
+        });
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Mono<CursorPageDTO<PlayerResponseDTO>> getPlayersByBirthdayRange(LocalDate startDate, LocalDate endDate,
+                                                                           String cursor, Integer size) {
+        return Mono.defer(() -> {
+            log.info("Fetching players born between {} and {}", startDate, endDate);
+            PlayerCursor after = PlayerCursor.decode(cursor, PlayerSort.BIRTHDAY);
+            int pageSize = pageSize(size);
+            return toPage(playerRepository.findByBirthdayBetween(startDate, endDate,
+                    after != null ? after.getLastBirthday() : startDate,
+                    after != null ? after.getLastId() : 0L,
+                    pageSize + 1), pageSize, PlayerSort.BIRTHDAY);
+        });
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Flux<PlayerResponseDTO> streamPlayersByBirthdayRange(LocalDate startDate, LocalDate endDate) {
+        log.info("Streaming players born between {} and {}", startDate, endDate);
+        return playerRepository.findByBirthdayBetween(startDate, endDate, startDate, 0L, 0)
+                .map(playerMapper::toResponseDTO);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Mono<Long> countPlayersByStatus(String status) {
+        log.info("Counting players with status: {}", status);
+        return playerRepository.countByStatus(Player.normalizeStatus(status));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Mono<Long> getActivePlayersCount() {
+        return countPlayersByStatus("ACTIVE");
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Mono<Long> getInactivePlayersCount() {
+        return countPlayersByStatus("INACTIVE");
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Mono<PlayerCountsDTO> getPlayerCounts() {
+        return playerRepository.countGroupByStatus()
+                .map(counts -> new PlayerCountsDTO(counts,
+                        counts.values().stream().mapToLong(Long::longValue).sum()));
+    }
+
+    /**
+     * Run a write in its own transaction, then bump the roster revision
+     * The bump, which also stamps the write's change sequence, runs in a
+     * short transaction of its own, so the row is locked only for that. A
+     * failed bump leaves the write in place: other instances keep their old
+     * list tags, and the change feed holds it back, until the next bump.
+     */
+    private <T> Mono<T> committed(Mono<T> write) {
+        return transactionalOperator.transactional(write)
+                .flatMap(result -> transactionalOperator.transactional(playerRepository.incrementRosterRevision())
+                        .onErrorResume(ex -> {
+                            log.error("Failed to bump the roster revision", ex);
+                            return Mono.empty();
+                        })
+                        .thenReturn(result));
+    }
+
+    private Mono<Player> findPlayer(Long id) {
+        return playerRepository.findById(id)
+                .switchIfEmpty(Mono.error(() -> new PlayerNotFoundException("Player not found with id: " + id)));
+    }
+
+    /**
+     * The update matched no row: the player was deleted, or another write
+     * committed since it was read (as a JPA version check would report it)
+     */
+    private Mono<Long> updateLost(Long id) {
+        return findPlayer(id).flatMap(current -> Mono.error(new OptimisticLockingFailureException(
+                "Player " + id + " changed from version " + current.getVersion() + " during the update")));
+    }
+
+    private static Throwable duplicateName(DataIntegrityViolationException ex, Player player) {
+        return DuplicatePlayerException.isDuplicateName(ex)
+                ? new DuplicatePlayerException("Player with name '" + player.getName() + "' already exists", ex)
+                : ex;
+    }
+
+    private static PlayerSort listSort(String sort) {
+        PlayerSort playerSort = PlayerSort.fromParameter(sort);
+        if (playerSort == PlayerSort.BIRTHDAY) {
+            throw new InvalidRequestException("Players can only be listed by id or name");
+        }
+        return playerSort;
+    }
+
+    private static int searchLimit(Integer requested) {
+        if (requested == null) {
+            return DEFAULT_SEARCH_LIMIT;
+        }
+        if (requested < 1) {
+            throw new InvalidRequestException("Search limit must be at least 1");
+        }
+        return Math.min(requested, MAX_SEARCH_LIMIT);
+    }
+
+    /**
+     * Clamp a requested page size to [1, MAX_PAGE_SIZE]
+     */
+    private static int pageSize(Integer requested) {
+        if (requested == null) {
+            return DEFAULT_PAGE_SIZE;
+        }
+        if (requested < 1) {
+            throw new InvalidRequestException("Page size must be at least 1");
+        }
+        return Math.min(requested, MAX_PAGE_SIZE);
+    }
+
+    /**
+     * Collect one row beyond the page size so hasMore is known without a COUNT query
+     */
+    private Mono<CursorPageDTO<PlayerResponseDTO>> toPage(Flux<Player> players, int pageSize, PlayerSort sort) {
+        return players.collectList().map(rows -> {
+            boolean hasMore = rows.size() > pageSize;
+            List<Player> page = hasMore ? rows.subList(0, pageSize) : rows;
+            List<PlayerResponseDTO> items = page.stream().map(playerMapper::toResponseDTO).toList();
+            String nextCursor = hasMore ? PlayerCursor.after(page.get(page.size() - 1), sort).encode() : null;
+            return new CursorPageDTO<>(items, items.size(), hasMore, nextCursor);
+        });
+    }
+}
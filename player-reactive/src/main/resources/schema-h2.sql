@@ -0,0 +1,39 @@
+-- Schema of the player-service entities (Player, PlayerTombstone, RosterRevision), as Hibernate creates it on H2
+CREATE SEQUENCE IF NOT EXISTS player_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE IF NOT EXISTS players (
+    id BIGINT NOT NULL PRIMARY KEY,
+    name VARCHAR(100) NOT NULL,
+    name_key VARCHAR(100),
+    birthday DATE NOT NULL,
+    image_name VARCHAR(255),
+    status VARCHAR(20),
+    version BIGINT NOT NULL DEFAULT 0,
+    created_at TIMESTAMP(6),
+    updated_at TIMESTAMP(6),
+    change_seq BIGINT,
+    CONSTRAINT uk_players_name_key UNIQUE (name_key)
+);
+
+CREATE INDEX IF NOT EXISTS idx_status ON players (status);
+CREATE INDEX IF NOT EXISTS idx_name ON players (name);
+CREATE INDEX IF NOT EXISTS idx_birthday ON players (birthday);
+CREATE INDEX IF NOT EXISTS idx_updated_at ON players (updated_at, id);
+CREATE INDEX IF NOT EXISTS idx_players_change_seq ON players (change_seq, id);
+CREATE INDEX IF NOT EXISTS idx_players_image_name ON players (image_name);
+
+CREATE TABLE IF NOT EXISTS player_tombstones (
+    player_id BIGINT NOT NULL PRIMARY KEY,
+    deleted_at TIMESTAMP(6) NOT NULL,
+    change_seq BIGINT
+);
+
+CREATE INDEX IF NOT EXISTS idx_deleted_at ON player_tombstones (deleted_at, player_id);
+CREATE INDEX IF NOT EXISTS idx_tombstones_change_seq ON player_tombstones (change_seq, player_id);
+
+CREATE TABLE IF NOT EXISTS roster_revision (
+    id INTEGER NOT NULL PRIMARY KEY,
+    revision BIGINT NOT NULL
+);
+
+MERGE INTO roster_revision (id, revision) KEY (id) VALUES (1, 0);
@@ -0,0 +1,147 @@
+package com.sps.player.reactive.service;
+
+import com.sps.player.dto.CursorPageDTO;
+import com.sps.player.dto.PlayerRequestDTO;
+import com.sps.player.dto.PlayerResponseDTO;
+import com.sps.player.entity.Player;
+import com.sps.player.exception.DuplicatePlayerException;
+import com.sps.player.exception.PlayerNotFoundException;
+import com.sps.player.reactive.repository.ReactivePlayerRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Smoke tests of ReactivePlayerServiceImpl against the h2 profile schema (schema-h2.sql)
+ *
+ * @author SPS Cricket Club
+ * @version 1.0.0
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+@ActiveProfiles("h2")
+class ReactivePlayerServiceImplTest {
+
+    private static final AtomicInteger NAMES = new AtomicInteger();
+
+    @Autowired
+    private ReactivePlayerService playerService;
+
+    @Autowired
+    private ReactivePlayerRepository playerRepository;
+
+    @Autowired
+    private DatabaseClient databaseClient;
+
+    @Test
+    void createsReadsUpdatesAndDeletesAPlayer() {
+        String name = uniqueName();
+        long revision = rosterRevision();
+
+        PlayerResponseDTO created = playerService.createPlayer(request(name, "active")).block();
+        assertThat(created.getId()).isNotNull();
+        assertThat(created.getVersion()).isZero();
+        assertThat(created.getStatus()).isEqualTo("ACTIVE");
+        assertThat(playerService.getPlayerById(created.getId()).block().getName()).isEqualTo(name);
+        assertThat(changeSeq("players", "id", created.getId())).isEqualTo(revision + 1);
+
+        PlayerResponseDTO updated = playerService.updatePlayer(created.getId(), request(name + " Jr", "INACTIVE"))
+                .block();
+        assertThat(updated.getVersion()).isEqualTo(1L);
+        assertThat(playerService.getPlayerById(created.getId()).block().getVersion()).isEqualTo(1L);
+
+        playerService.deletePlayer(created.getId()).block();
+        assertThatThrownBy(() -> playerService.getPlayerById(created.getId()).block())
+                .isInstanceOf(PlayerNotFoundException.class);
+        assertThat(databaseClient.sql("SELECT COUNT(*) AS total FROM player_tombstones WHERE player_id = :id")
+                .bind("id", created.getId())
+                .map(row -> row.get("total", Long.class))
+                .one()
+                .block()).isEqualTo(1L);
+        assertThat(rosterRevision()).isEqualTo(revision + 3);
+        assertThat(changeSeq("player_tombstones", "player_id", created.getId())).isEqualTo(revision + 3);
+    }
+
+    @Test
+    void updateAtAStaleVersionChangesNothing() {
+        PlayerResponseDTO created = playerService.createPlayer(request(uniqueName(), "ACTIVE")).block();
+        Player stale = playerRepository.findById(created.getId()).block();
+        playerService.updatePlayer(created.getId(), request(created.getName(), "INACTIVE")).block();
+
+        stale.setStatus("ACTIVE");
+        stale.setUpdatedAt(LocalDateTime.now());
+
+        assertThat(playerRepository.update(stale).block()).isZero();
+        PlayerResponseDTO current = playerService.getPlayerById(created.getId()).block();
+        assertThat(current.getVersion()).isEqualTo(1L);
+        assertThat(current.getStatus()).isEqualTo("INACTIVE");
+    }
+
+    @Test
+    void rejectsDuplicateNames() {
+        String name = uniqueName();
+        playerService.createPlayer(request(name, "ACTIVE")).block();
+
+        assertThatThrownBy(() -> playerService.createPlayer(request("  " + name.toUpperCase() + " ", "ACTIVE")).block())
+                .isInstanceOf(DuplicatePlayerException.class);
+    }
+
+    @Test
+    void missingPlayersAreNotFound() {
+        assertThatThrownBy(() -> playerService.updatePlayer(Long.MAX_VALUE, request(uniqueName(), "ACTIVE")).block())
+                .isInstanceOf(PlayerNotFoundException.class);
+        assertThatThrownBy(() -> playerService.deletePlayer(Long.MAX_VALUE).block())
+                .isInstanceOf(PlayerNotFoundException.class);
+    }
+
+    @Test
+    void pagesAndCountsPlayers() {
+        PlayerResponseDTO first = playerService.createPlayer(request(uniqueName(), "ACTIVE")).block();
+        PlayerResponseDTO second = playerService.createPlayer(request(uniqueName(), "ACTIVE")).block();
+        long active = playerService.getActivePlayersCount().block();
+
+        CursorPageDTO<PlayerResponseDTO> page = playerService.getAllPlayers(null, 1, "id").block();
+        assertThat(page.getItems()).hasSize(1);
+        assertThat(page.isHasMore()).isTrue();
+        assertThat(playerService.getAllPlayers(page.getNextCursor(), 500, "id").block().getItems())
+                .extracting(PlayerResponseDTO::getId)
+                .contains(second.getId())
+                .doesNotContain(page.getItems().get(0).getId());
+
+        assertThat(active).isGreaterThanOrEqualTo(2);
+        assertThat(playerService.getPlayerCounts().block().getByStatus()).containsEntry("ACTIVE", active);
+        assertThat(playerService.streamAllPlayers("id").map(PlayerResponseDTO::getId).collectList().block())
+                .contains(first.getId(), second.getId());
+    }
+
+    private long rosterRevision() {
+        return databaseClient.sql("SELECT revision FROM roster_revision WHERE id = 1")
+                .map(row -> row.get("revision", Long.class))
+                .one()
+                .block();
+    }
+
+    private Long changeSeq(String table, String idColumn, long id) {
+        return databaseClient.sql("SELECT change_seq FROM " + table + " WHERE " + idColumn + " = :id")
+                .bind("id", id)
+                .map(row -> row.get("change_seq", Long.class))
+                .one()
+                .block();
+    }
+
+    private static PlayerRequestDTO request(String name, String status) {
+        return new PlayerRequestDTO(name, LocalDate.of(1990, 4, 24), null, status);
+    }
+
+    private static String uniqueName() {
+        return "Player " + NAMES.incrementAndGet() + " " + System.nanoTime();
+    }
+}
@@ -1 +1,18 @@
+package com.sps.player;
 
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+
+/**
+ * Main entry point for the Player Management Microservice
+ *
+ * @author SPS Cricket Club
+ * @version 1.0.0
+ */
+@SpringBootApplication
+public class PlayerServiceApplication {
+
+    public static void main(String[] args) {
+        SpringApplication.run(PlayerServiceApplication.class, args);
+    }
+}
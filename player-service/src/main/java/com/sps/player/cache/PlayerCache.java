@@ -0,0 +1,277 @@
+package com.sps.player.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.sps.player.config.PlayerCacheProperties;
+import com.sps.player.datasource.DataSourceRouter;
+import com.sps.player.dto.PlayerResponseDTO;
+import com.sps.player.event.PlayerChangedEvent;
+import com.sps.player.event.PlayerStatusBulkChangedEvent;
+import com.sps.player.event.RosterStaleEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Two-tier read-through cache for single player lookups
+ * Tier one holds PlayerResponseDTO instances on the heap; the optional tier
+ * two holds their JSON form in slots of a few large direct buffers (see
+ * SlabAllocator) so a large working set does not add to GC pressure.
+ * Entries are evicted after every committed write.
+ * Cached DTOs are shared between callers and must not be modified.
+ *
+ * @author SPS Cricket Club
+ * @version 1.0.0
+ */
+@Component
+@Slf4j
+public class PlayerCache {
+
+    private static final String CACHE_NAME = "players";
+
+    private final ObjectMapper objectMapper;
+    private final Cache<Long, PlayerResponseDTO> heapCache;
+    private final Cache<Long, SlabAllocator.Slot> offHeapCache;
+    private final SlabAllocator slabs;
+
+    /**
+     * Incremented before every eviction, so a load that raced with a write can be discarded
+     * A loader that caches its player after an invalidation therefore always sees the count
+     * change, and evicts what it cached.
+     */
+    private final AtomicLong evictions = new AtomicLong();
+
+    public PlayerCache(PlayerCacheProperties properties, ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.objectMapper = objectMapper;
+        this.heapCache = Caffeine.newBuilder()
+                .maximumSize(properties.getHeapMaximumSize())
+                .expireAfterWrite(properties.getHeapExpireAfterWrite())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, heapCache, CACHE_NAME, "tier", "heap");
+
+        if (properties.isOffHeapEnabled()) {
+            SlabAllocator allocator = new SlabAllocator(properties.getOffHeapMaximumSize().toBytes());
+            this.slabs = allocator;
+            this.offHeapCache = Caffeine.newBuilder()
+                    .maximumWeight(properties.getOffHeapMaximumSize().toBytes())
+                    .weigher((Long id, SlabAllocator.Slot slot) -> slot.capacity())
+                    .expireAfterWrite(properties.getOffHeapExpireAfterWrite())
+                    // Runs after the mapping is gone, so no new reader can find the slot
+                    .removalListener((Long id, SlabAllocator.Slot slot, RemovalCause cause) -> {
+                        if (slot != null) {
+                            allocator.free(slot);
+                        }
+                    })
+                    .recordStats()
+                    .build();
+            CaffeineCacheMetrics.monitor(meterRegistry, offHeapCache, CACHE_NAME, "tier", "off-heap");
+        } else {
+            this.slabs = null;
+            this.offHeapCache = null;
+        }
+        log.info("Player cache initialized (heap size {}, off-heap {})", properties.getHeapMaximumSize(),
+                properties.isOffHeapEnabled() ? properties.getOffHeapMaximumSize() : "disabled");
+    }
+
+    /**
+     * Get a player, loading it on a miss in both tiers
+     * The loader runs outside the cache's internal locks: Caffeine computes
+     * entries inside ConcurrentHashMap.compute, whose monitor would pin a
+     * virtual thread to its carrier for the whole database round trip.
+     * Concurrent misses for the same id may therefore each load it.
+     * Loaders read from the primary, so a lagging replica cannot refill the
+     * cache with a row older than the write that evicted it; call this
+     * outside a read-only transaction, whose connection would be reused.
+     * @param loader Loads the player from the database, returning null if it does not exist
+     * @return Cached or loaded player, or null if the loader found nothing
+     */
+    public PlayerResponseDTO get(Long id, Function<Long, PlayerResponseDTO> loader) {
+        PlayerResponseDTO cached = heapCache.getIfPresent(id);
+        if (cached != null) {
+            return cached;
+        }
+        long stamp = evictions.get();
+        PlayerResponseDTO player = loadThroughOffHeap(id, loader);
+        if (player != null) {
+            heapCache.put(id, player);
+            if (evictions.get() != stamp) {
+                // A write committed while loading; the loaded state may predate it
+                evict(id);
+            }
+        }
+        return player;
+    }
+
+    /**
+     * Get the cached players among the given ids without loading misses
+     * @return Cached players keyed by id
+     */
+    public Map<Long, PlayerResponseDTO> getAllPresent(Collection<Long> ids) {
+        Map<Long, PlayerResponseDTO> found = new HashMap<>(heapCache.getAllPresent(ids));
+        if (offHeapCache != null && found.size() < ids.size()) {
+            for (Long id : ids) {
+                if (!found.containsKey(id)) {
+                    PlayerResponseDTO player = readOffHeap(id);
+                    if (player != null) {
+                        found.put(id, player);
+                    }
+                }
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Get players by id, loading all misses with one call to the loader
+     * Loaded players are cached in both tiers, unless a write committed while loading.
+     * As with get, the loader reads from the primary.
+     * @param loader Loads the missing players, skipping ids that do not exist
+     * @return Cached or loaded players keyed by id
+     */
+    public Map<Long, PlayerResponseDTO> getAll(Collection<Long> ids,
+                                               Function<List<Long>, List<PlayerResponseDTO>> loader) {
+        Map<Long, PlayerResponseDTO> found = getAllPresent(ids);
+        List<Long> misses = ids.stream().filter(id -> !found.containsKey(id)).toList();
+        if (misses.isEmpty()) {
+            return found;
+        }
+        long stamp = evictions.get();
+        List<PlayerResponseDTO> loaded = DataSourceRouter.onPrimary(() -> loader.apply(misses));
+        for (PlayerResponseDTO player : loaded) {
+            found.put(player.getId(), player);
+            heapCache.put(player.getId(), player);
+            if (offHeapCache != null) {
+                putOffHeap(player);
+            }
+        }
+        if (evictions.get() != stamp) {
+            // A write committed while loading; the loaded state may predate it
+            loaded.forEach(player -> evict(player.getId()));
+        }
+        return found;
+    }
+
+    /**
+     * Remove a player from both tiers
+     */
+    public void evict(Long id) {
+        evictions.incrementAndGet();
+        heapCache.invalidate(id);
+        if (offHeapCache != null) {
+            offHeapCache.invalidate(id);
+        }
+    }
+
+    /**
+     * Remove every player from both tiers
+     */
+    public void evictAll() {
+        evictions.incrementAndGet();
+        heapCache.invalidateAll();
+        if (offHeapCache != null) {
+            offHeapCache.invalidateAll();
+        }
+    }
+
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener
+    public void onPlayerChanged(PlayerChangedEvent event) {
+        evict(event.getPlayerId());
+    }
+
+    /**
+     * Evict the players a bulk status change was restricted to, or everything
+     * when they were selected by filter
+     */
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener
+    public void onPlayerStatusBulkChanged(PlayerStatusBulkChangedEvent event) {
+        if (event.getPlayerIds() == null) {
+            evictAll();
+        } else {
+            event.getPlayerIds().forEach(this::evict);
+        }
+    }
+
+    /**
+     * Drop everything when players were changed by another instance
+     */
+    @EventListener
+    public void onRosterStale(RosterStaleEvent event) {
+        evictAll();
+    }
+
+    private PlayerResponseDTO loadThroughOffHeap(Long id, Function<Long, PlayerResponseDTO> loader) {
+        if (offHeapCache == null) {
+            return DataSourceRouter.onPrimary(() -> loader.apply(id));
+        }
+        PlayerResponseDTO cached = readOffHeap(id);
+        if (cached != null) {
+            return cached;
+        }
+        PlayerResponseDTO player = DataSourceRouter.onPrimary(() -> loader.apply(id));
+        if (player != null) {
+            putOffHeap(player);
+        }
+        return player;
+    }
+
+    /**
+     * Copy a player out of its slot, or null if absent
+     * The slot may be freed and reused while it is copied; the copy is only
+     * used if the slot is still mapped to the id afterwards.
+     */
+    private PlayerResponseDTO readOffHeap(Long id) {
+        SlabAllocator.Slot slot = offHeapCache.getIfPresent(id);
+        if (slot == null) {
+            return null;
+        }
+        byte[] bytes = slabs.read(slot);
+        if (offHeapCache.asMap().get(id) != slot) {
+            return null;
+        }
+        return deserialize(bytes);
+    }
+
+    /**
+     * Store a player off-heap; skipped if it does not fit in a slot or the slabs are full
+     */
+    private void putOffHeap(PlayerResponseDTO player) {
+        byte[] bytes;
+        try {
+            bytes = objectMapper.writeValueAsBytes(player);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        SlabAllocator.Slot slot = slabs.allocate(bytes.length);
+        if (slot != null) {
+            slabs.write(slot, bytes);
+            offHeapCache.put(player.getId(), slot);
+        }
+    }
+
+    private PlayerResponseDTO deserialize(byte[] bytes) {
+        try {
+            return objectMapper.readValue(bytes, PlayerResponseDTO.class);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package com.sps.player.cache;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Fixed-size slots carved out of a few large direct buffers
+ * Slot sizes are powers of two from MIN_SLOT to MAX_SLOT. Each size takes
+ * whole slabs as it needs them, up to the configured total, so the off-heap
+ * tier allocates a handful of direct buffers in all instead of one (with
+ * its Cleaner) per entry. Freed slots are reused by their size; slabs are
+ * kept for the life of the cache.
+ *
+ * @author SPS Cricket Club
+ * @version 1.0.0
+ */
+final class SlabAllocator {
+
+    static final int MIN_SLOT = 128;
+    static final int MAX_SLOT = 8192;
+
+    private static final int SLAB_SIZE = 1 << 20;
+    private static final int SIZES = Integer.numberOfTrailingZeros(MAX_SLOT / MIN_SLOT) + 1;
+
+    /**
+     * Place of one entry: capacity bytes at offset in a slab, of which length are used
+     */
+    record Slot(int slab, int offset, int length, int capacity) {
+    }
+
+    private final int slabSize;
+    private final ByteBuffer[] slabs;
+    private final FreeList[] free = new FreeList[SIZES];
+    private final ReentrantLock lock = new ReentrantLock();
+    private int allocatedSlabs;
+
+    /**
+     * @param maximumBytes Total size of all slabs
+     */
+    SlabAllocator(long maximumBytes) {
+        this.slabSize = (int) Math.min(SLAB_SIZE, Math.max(MAX_SLOT, maximumBytes));
+        this.slabs = new ByteBuffer[(int) Math.max(1, maximumBytes / slabSize)];
+        for (int i = 0; i < SIZES; i++) {
+            free[i] = new FreeList();
+        }
+    }
+
+    /**
+     * Take a slot for length bytes
+     * @return The slot, or null if the entry is too large or every slab is in use
+     */
+    Slot allocate(int length) {
+        if (length > MAX_SLOT) {
+            return null;
+        }
+        int size = sizeIndex(length);
+        int capacity = MIN_SLOT << size;
+        lock.lock();
+        try {
+            FreeList list = free[size];
+            if (list.size == 0) {
+                if (allocatedSlabs == slabs.length) {
+                    return null;
+                }
+                int slab = allocatedSlabs++;
+                slabs[slab] = ByteBuffer.allocateDirect(slabSize);
+                for (int offset = slabSize - capacity; offset >= 0; offset -= capacity) {
+                    list.push(slab, offset);
+                }
+            }
+            long place = list.pop();
+            return new Slot((int) (place >>> 32), (int) place, length, capacity);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Return a slot for reuse; it must no longer be read
+     */
+    void free(Slot slot) {
+        lock.lock();
+        try {
+            free[sizeIndex(slot.capacity())].push(slot.slab(), slot.offset());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    void write(Slot slot, byte[] bytes) {
+        slabs[slot.slab()].put(slot.offset(), bytes, 0, slot.length());
+    }
+
+    byte[] read(Slot slot) {
+        byte[] bytes = new byte[slot.length()];
+        slabs[slot.slab()].get(slot.offset(), bytes);
+        return bytes;
+    }
+
+    private static int sizeIndex(int length) {
+        int capacity = Math.max(MIN_SLOT, Integer.highestOneBit(Math.max(1, length - 1)) << 1);
+        return Integer.numberOfTrailingZeros(capacity / MIN_SLOT);
+    }
+
+    /**
+     * Stack of free (slab, offset) places, packed into longs
+     */
+    private static final class FreeList {
+
+        private long[] places = new long[64];
+        private int size;
+
+        void push(int slab, int offset) {
+            if (size == places.length) {
+                places = Arrays.copyOf(places, size * 2);
+            }
+            places[size++] = ((long) slab << 32) | offset;
+        }
+
+        long pop() {
+            return places[--size];
+        }
+    }
+}
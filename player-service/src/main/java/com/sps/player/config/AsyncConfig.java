@@ -0,0 +1,15 @@
+package com.sps.player.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableAsync;
+
+/**
+ * Enables @Async background jobs, run on the application task executor
+ *
+ * @author SPS Cricket Club
+ * @version 1.0.0
+ */
+@Configuration
+@EnableAsync
+public class AsyncConfig {
+}
@@ -0,0 +1,48 @@
+package com.sps.player.config;
+
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.sps.player.dto.PlayerField;
+import org.springframework.boot.autoconfigure.jackson.Jackson2ObjectMapperBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+
+/**
+ * Jackson configuration shared by every ObjectMapper built by Spring Boot
+ * Besides JSON, responses can be negotiated as CBOR or Smile with the
+ * Accept header. Both binary formats are built from Spring Boot's builder,
+ * so they apply the same modules, date handling and field filters as JSON.
+ *
+ * @author SPS Cricket Club
+ * @version 1.0.0
+ */
+@Configuration
+public class JacksonConfig {
+
+    /**
+     * Serialize every PlayerResponseDTO field unless a response selects fewer
+     */
+    @Bean
+    public Jackson2ObjectMapperBuilderCustomizer playerFieldFilters() {
+        return builder -> builder.filters(PlayerField.filters(null));
+    }
+
+    /**
+     * application/cbor, replacing Spring MVC's default CBOR converter
+     */
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2CborHttpMessageConverter(builder.factory(new CBORFactory()).build());
+    }
+
+    /**
+     * application/x-jackson-smile, replacing Spring MVC's default Smile converter
+     */
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2SmileHttpMessageConverter(builder.factory(new SmileFactory()).build());
+    }
+}
@@ -0,0 +1,51 @@
+package com.sps.player.config;
+
+import com.sps.player.metrics.InstrumentedDataSource;
+import com.sps.player.metrics.QueryDiagnostics;
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+/**
+ * Latency and round-trip instrumentation
+ * Endpoints (http.server.requests), repository methods
+ * (spring.data.repository.invocations) and the connection pool (hikaricp.*)
+ * are timed by Spring Boot, as is Hibernate (hibernate.*); this adds @Timed
+ * service methods and the statement instrumentation behind
+ * player.db.round-trips, the slow-query log and the queries endpoint.
+ * Histograms and percentiles are configured in application.properties.
+ *
+ * @author SPS Cricket Club
+ * @version 1.0.0
+ */
+@Configuration
+public class MetricsConfig {
+
+    /**
+     * Times classes and methods annotated with @Timed
+     */
+    @Bean
+    public TimedAspect timedAspect(MeterRegistry meterRegistry) {
+        return new TimedAspect(meterRegistry);
+    }
+
+    /**
+     * Instrument the statements executed through the application DataSource
+     */
+    @Bean
+    public static BeanPostProcessor instrumentedDataSource(ObjectProvider<QueryDiagnostics> queryDiagnostics) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                return bean instanceof DataSource dataSource
+                        ? new InstrumentedDataSource(dataSource, queryDiagnostics.getObject())
+                        : bean;
+            }
+        };
+    }
+}
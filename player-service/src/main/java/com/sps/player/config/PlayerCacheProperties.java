@@ -0,0 +1,45 @@
+package com.sps.player.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+/**
+ * Configuration for the two-tier player cache (player.cache.*)
+ *
+ * @author SPS Cricket Club
+ * @version 1.0.0
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "player.cache")
+public class PlayerCacheProperties {
+
+    /**
+     * Maximum number of players held on the heap
+     */
+    private long heapMaximumSize = 10_000;
+
+    /**
+     * Time an entry stays on the heap after it was loaded
+     */
+    private Duration heapExpireAfterWrite = Duration.ofMinutes(10);
+
+    /**
+     * Whether serialized players are also kept in direct (off-heap) memory
+     */
+    private boolean offHeapEnabled = false;
+
+    /**
+     * Total size of the serialized players kept off-heap
+     */
+    private DataSize offHeapMaximumSize = DataSize.ofMegabytes(64);
+
+    /**
+     * Time an entry stays off-heap after it was loaded
+     */
+    private Duration offHeapExpireAfterWrite = Duration.ofHours(1);
+}
@@ -0,0 +1,41 @@
+package com.sps.player.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Configuration for stored player images (player.images.*)
+ *
+ * @author SPS Cricket Club
+ * @version 1.0.0
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "player.images")
+public class PlayerImageProperties {
+
+    /**
+     * Directory holding the original images and their thumbnails
+     */
+    private Path directory = Path.of("data", "player-images");
+
+    /**
+     * Thumbnail sizes in pixels; each thumbnail fits in a square of that size
+     */
+    private List<Integer> thumbnailSizes = List.of(64, 256);
+
+    /**
+     * Largest accepted image, in pixels, checked before the image is decoded
+     */
+    private long maxPixels = 40_000_000;
+
+    /**
+     * max-age of content-addressed image URLs, which never change
+     */
+    private Duration cacheMaxAge = Duration.ofDays(365);
+}
@@ -0,0 +1,54 @@
+package com.sps.player.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Configuration for delta sync (player.sync.*)
+ *
+ * @author SPS Cricket Club
+ * @version 1.0.0
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "player.sync")
+public class PlayerSyncProperties {
+
+    /**
+     * How long deletions are remembered; clients that last synced earlier must resync in full
+     */
+    private Duration tombstoneRetention = Duration.ofDays(30);
+
+    /**
+     * How often expired tombstones are purged
+     */
+    private Duration purgeInterval = Duration.ofHours(1);
+
+    /**
+     * Recent change stream events kept for clients resuming with Last-Event-ID
+     */
+    private int streamHistory = 1024;
+
+    /**
+     * Players with unsent changes a stream client may fall behind by before it is sent a resync event
+     */
+    private int streamQueueCapacity = 256;
+
+    /**
+     * How long a change stream stays open before the client has to reconnect
+     */
+    private Duration streamTimeout = Duration.ofMinutes(30);
+
+    /**
+     * Threads sending change stream events; each blocked client write holds one
+     */
+    private int streamSenderThreads = 4;
+
+    /**
+     * How long a single event may take to send before the stream client is dropped
+     */
+    private Duration streamSendTimeout = Duration.ofSeconds(10);
+}
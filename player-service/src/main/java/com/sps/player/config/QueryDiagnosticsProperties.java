@@ -0,0 +1,39 @@
+package com.sps.player.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Configuration for SQL diagnostics (player.diagnostics.*)
+ *
+ * @author SPS Cricket Club
+ * @version 1.0.0
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "player.diagnostics")
+public class QueryDiagnosticsProperties {
+
+    /**
+     * Statements slower than this are logged (with their bound parameters at DEBUG); zero turns the log off
+     */
+    private Duration slowQueryThreshold = Duration.ofMillis(200);
+
+    /**
+     * Statements a single request may issue before a warning is logged
+     */
+    private int statementBudget = 10;
+
+    /**
+     * Executions of the same statement within one request that are reported as a likely N+1 query
+     */
+    private int repeatedStatementThreshold = 5;
+
+    /**
+     * Distinct statements tracked for the queries endpoint; further ones are counted as "(other)"
+     */
+    private int maxTrackedStatements = 1000;
+}
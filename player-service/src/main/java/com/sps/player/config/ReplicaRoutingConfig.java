@@ -0,0 +1,115 @@
+package com.sps.player.config;
+
+import com.sps.player.datasource.DataSourceRouter;
+import com.sps.player.datasource.ReadWriteRoutingDataSource;
+import com.sps.player.datasource.ReadYourWritesFilter;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.flywaydb.core.Flyway;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.flyway.FlywayMigrationStrategy;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.util.StringUtils;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Read/write splitting across the primary and its replicas
+ * Replaces the auto-configured DataSource when player.replicas.enabled is
+ * set. The primary pool is built from spring.datasource and
+ * spring.datasource.hikari as before; one pool is added per replica node.
+ * The lazy proxy holds back the physical connection until the first
+ * statement, by which time the transaction's read-only flag is known.
+ *
+ * @author SPS Cricket Club
+ * @version 1.0.0
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "player.replicas", name = "enabled", havingValue = "true")
+public class ReplicaRoutingConfig {
+
+    private static final long MIN_CONNECTION_TIMEOUT_MILLIS = 250;
+
+    @Bean(destroyMethod = "close")
+    public DataSourceRouter dataSourceRouter(DataSourceProperties dataSourceProperties,
+                                             ReplicaRoutingProperties properties,
+                                             Environment environment,
+                                             MeterRegistry meterRegistry) {
+        MicrometerMetricsTrackerFactory metrics = new MicrometerMetricsTrackerFactory(meterRegistry);
+
+        HikariDataSource primary = dataSourceProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        Binder.get(environment).bind("spring.datasource.hikari", Bindable.ofInstance(primary));
+        primary.setPoolName("primary");
+        primary.setMetricsTrackerFactory(metrics);
+
+        List<HikariDataSource> replicas = new ArrayList<>();
+        List<ReplicaRoutingProperties.Node> nodes = properties.getNodes();
+        for (int i = 0; i < nodes.size(); i++) {
+            ReplicaRoutingProperties.Node node = nodes.get(i);
+            HikariDataSource replica = new HikariDataSource();
+            replica.setPoolName("replica-" + (i + 1));
+            replica.setJdbcUrl(node.getUrl());
+            replica.setUsername(StringUtils.hasText(node.getUsername())
+                    ? node.getUsername() : dataSourceProperties.determineUsername());
+            replica.setPassword(node.getPassword() != null
+                    ? node.getPassword() : dataSourceProperties.determinePassword());
+            replica.setMaximumPoolSize(node.getMaximumPoolSize());
+            replica.setReadOnly(true);
+            // Start without connecting, so a replica that is down at startup or first use is skipped, not fatal
+            replica.setInitializationFailTimeout(-1);
+            // An unreachable replica should fail over quickly, not hold the request for the primary's timeout
+            replica.setConnectionTimeout(Math.max(MIN_CONNECTION_TIMEOUT_MILLIS,
+                    properties.getHealthCheckTimeout().toMillis()));
+            replica.setMetricsTrackerFactory(metrics);
+            replicas.add(replica);
+        }
+        return new DataSourceRouter(primary, replicas, properties);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(DataSourceRouter router) {
+        return new LazyConnectionDataSourceProxy(new ReadWriteRoutingDataSource(router));
+    }
+
+    /**
+     * Migrate the primary, then any node marked migrate with the same migrations
+     */
+    @Bean
+    public FlywayMigrationStrategy replicaMigrationStrategy(DataSourceProperties dataSourceProperties,
+                                                            ReplicaRoutingProperties properties) {
+        return flyway -> {
+            flyway.migrate();
+            for (ReplicaRoutingProperties.Node node : properties.getNodes()) {
+                if (node.isMigrate()) {
+                    Flyway.configure()
+                            .configuration(flyway.getConfiguration())
+                            .dataSource(node.getUrl(),
+                                    StringUtils.hasText(node.getUsername())
+                                            ? node.getUsername() : dataSourceProperties.determineUsername(),
+                                    node.getPassword() != null
+                                            ? node.getPassword() : dataSourceProperties.determinePassword())
+                            .load()
+                            .migrate();
+                }
+            }
+        };
+    }
+
+    @Bean
+    public ReadYourWritesFilter readYourWritesFilter(ReplicaRoutingProperties properties) {
+        return new ReadYourWritesFilter(properties.getReadYourWritesWindow());
+    }
+}
@@ -0,0 +1,78 @@
+package com.sps.player.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Configuration for routing read-only transactions to replicas (player.replicas.*)
+ *
+ * @author SPS Cricket Club
+ * @version 1.0.0
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "player.replicas")
+public class ReplicaRoutingProperties {
+
+    /**
+     * Route @Transactional(readOnly = true) work to the replicas; everything else uses spring.datasource
+     */
+    private boolean enabled = false;
+
+    private Strategy strategy = Strategy.ROUND_ROBIN;
+
+    private List<Node> nodes = new ArrayList<>();
+
+    /**
+     * How often each replica is probed; a replica that fails is skipped until a probe succeeds
+     */
+    private Duration healthCheckInterval = Duration.ofSeconds(5);
+
+    /**
+     * Time allowed for one probe
+     */
+    private Duration healthCheckTimeout = Duration.ofSeconds(2);
+
+    /**
+     * After a client writes, its reads go to the primary for this long (0 to disable)
+     */
+    private Duration readYourWritesWindow = Duration.ZERO;
+
+    public enum Strategy {
+        ROUND_ROBIN,
+
+        /**
+         * The replica with the fewest active and waiting connections
+         */
+        LEAST_LOADED
+    }
+
+    @Data
+    public static class Node {
+
+        private String url;
+
+        /**
+         * Defaults to spring.datasource.username
+         */
+        private String username;
+
+        /**
+         * Defaults to spring.datasource.password
+         */
+        private String password;
+
+        private int maximumPoolSize = 10;
+
+        /**
+         * Apply the migrations to this node as well as the primary; only for a stand-in
+         * replica that is a separate database, since a real replica gets its schema from the primary
+         */
+        private boolean migrate = false;
+    }
+}
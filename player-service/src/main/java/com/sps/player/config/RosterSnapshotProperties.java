@@ -0,0 +1,29 @@
+package com.sps.player.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Configuration for the pre-serialized roster snapshot (player.snapshot.*)
+ *
+ * @author SPS Cricket Club
+ * @version 1.0.0
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "player.snapshot")
+public class RosterSnapshotProperties {
+
+    /**
+     * Quiet period after a committed write before the snapshot is rebuilt; further writes restart it
+     */
+    private Duration debounce = Duration.ofSeconds(2);
+
+    /**
+     * Longest a snapshot may lag behind the first write after it, however busy the writes
+     */
+    private Duration maxDelay = Duration.ofSeconds(30);
+}
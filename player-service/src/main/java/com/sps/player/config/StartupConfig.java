@@ -0,0 +1,31 @@
+package com.sps.player.config;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.flywaydb.core.Flyway;
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.boot.autoconfigure.flyway.FlywayMigrationInitializer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+/**
+ * Startup tuning for spring.main.lazy-initialization (prod profile)
+ * Controllers, services and read models are created on first use, but the
+ * connection pool, the migrations and the persistence unit stay eager: left
+ * lazy, a bad schema or an unreachable database would surface on the first
+ * request instead of failing the deployment, and that request would pay
+ * for bootstrapping Hibernate.
+ *
+ * @author SPS Cricket Club
+ * @version 1.0.0
+ */
+@Configuration
+public class StartupConfig {
+
+    @Bean
+    public static LazyInitializationExcludeFilter eagerInfrastructure() {
+        return LazyInitializationExcludeFilter.forBeanTypes(
+                DataSource.class, Flyway.class, FlywayMigrationInitializer.class, EntityManagerFactory.class);
+    }
+}
@@ -1,48 +1,253 @@
 package com.sps.player.controller;
 
 import com.sps.player.dto.ApiResponse;
+import com.sps.player.dto.BulkCreateResultDTO;
+import com.sps.player.dto.BulkStatusResultDTO;
+import com.sps.player.dto.BulkStatusUpdateDTO;
+import com.sps.player.dto.CursorPageDTO;
+import com.sps.player.dto.PlayerBatchDTO;
+import com.sps.player.dto.PlayerChangesDTO;
+import com.sps.player.dto.PlayerCountsDTO;
+import com.sps.player.dto.PlayerField;
+import com.sps.player.dto.PlayerPatchDTO;
 import com.sps.player.dto.PlayerRequestDTO;
 import com.sps.player.dto.PlayerResponseDTO;
+import com.sps.player.entity.Player;
+import com.sps.player.exception.PlayerVersionMismatchException;
+import com.sps.player.exception.PreconditionRequiredException;
+import com.sps.player.service.PlayerChangeBroadcaster;
 import com.sps.player.service.PlayerService;
+import com.sps.player.service.RosterSnapshot;
+import com.sps.player.service.RosterVersion;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.util.MimeTypeUtils;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * REST Controller for Player Management
  * Provides CRUD operations and additional player-related endpoints
+ * GET responses carry a strong ETag per body format and answer If-None-Match with 304,
+ * checked before any data is loaded or serialized. List endpoints accept
+ * fields=id,name,... to load and return only those player fields. Responses
+ * are JSON unless Accept asks for application/cbor or application/x-jackson-smile.
  *
  * @author SPS Cricket Club
  * @version 1.0.0
  */
 @RestController
 @RequestMapping("/api/players")
-@CrossOrigin(origins = {"http://localhost:3000", "http://localhost:3001"})
+@CrossOrigin(origins = {"http://localhost:3000", "http://localhost:3001"}, exposedHeaders = HttpHeaders.ETAG)
 @RequiredArgsConstructor
 @Slf4j
 @Tag(name = "Player Management", description = "APIs for managing cricket players")
 public class PlayerController {
 
+    private static final int EXPORT_FLUSH_INTERVAL = 1000;
+
+    /**
+     * Body formats in the order Spring MVC's converters offer them, with the ETag suffix of each
+     */
+    private static final Map<MediaType, String> BODY_FORMATS = new LinkedHashMap<>();
+
+    static {
+        BODY_FORMATS.put(MediaType.APPLICATION_JSON, "json");
+        BODY_FORMATS.put(MediaType.APPLICATION_CBOR, "cbor");
+        BODY_FORMATS.put(new MediaType("application", "x-jackson-smile"), "smile");
+    }
+
     private final PlayerService playerService;
+    private final RosterVersion rosterVersion;
+    private final RosterSnapshot rosterSnapshot;
+    private final PlayerChangeBroadcaster playerChangeBroadcaster;
+    private final ObjectMapper objectMapper;
 
     /**
-     * Get all players
+     * Get all players, one keyset page at a time
      */
     @GetMapping
-    @Operation(summary = "Get all players", description = "Retrieve all players from the database")
-    public ResponseEntity<ApiResponse<List<PlayerResponseDTO>>> getAllPlayers() {
-        log.info("GET /api/players - Fetching all players");
-        List<PlayerResponseDTO> players = playerService.getAllPlayers();
-        return ResponseEntity.ok(ApiResponse.success("Players retrieved successfully", players));
+    @Operation(summary = "Get all players",
+            description = "Retrieve players page by page; pass nextCursor as cursor to continue")
+    public ResponseEntity<ApiResponse<CursorPageDTO<PlayerResponseDTO>>> getAllPlayers(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            @RequestParam(defaultValue = "id") String sort,
+            @RequestParam(required = false) String fields,
+            WebRequest webRequest) {
+        log.info("GET /api/players?sort={}&size={} - Fetching players page", sort, size);
+        Set<PlayerField> playerFields = requestedFields(fields, webRequest);
+        String etag = negotiated(rosterETag("all", cursor, size, sort, playerFields), webRequest);
+        if (notModified(webRequest, etag)) {
+            return null;
+        }
+        CursorPageDTO<PlayerResponseDTO> players = playerService.getAllPlayers(cursor, size, sort, playerFields);
+        return okWithETag(etag).body(ApiResponse.success("Players retrieved successfully", players));
+    }
+
+    /**
+     * Get the whole roster from the pre-serialized, pre-compressed snapshot
+     */
+    @GetMapping(value = "/snapshot", produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "Get roster snapshot",
+            description = "Every player as one JSON response, served from memory in gzip or deflate "
+                    + "when accepted; refreshed a few seconds after changes")
+    public ResponseEntity<byte[]> getRosterSnapshot(
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            WebRequest webRequest) {
+        log.debug("GET /api/players/snapshot - Serving roster snapshot");
+        RosterSnapshot.Snapshot snapshot = rosterSnapshot.get();
+        String encoding = snapshotEncoding(acceptEncoding);
+        String etag = snapshot.etag(encoding);
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .eTag(etag)
+                .varyBy(HttpHeaders.ACCEPT_ENCODING)
+                .cacheControl(CacheControl.noCache())
+                .contentType(MediaType.APPLICATION_JSON);
+        byte[] body = switch (encoding) {
+            case "gzip" -> snapshot.gzip();
+            case "deflate" -> snapshot.deflate();
+            default -> snapshot.identity();
+        };
+        if (!encoding.equals("identity")) {
+            response.header(HttpHeaders.CONTENT_ENCODING, encoding);
+        }
+        return response.contentLength(body.length).body(body);
+    }
+
+    /**
+     * Export all players as newline-delimited JSON
+     * Rows are written to the response as they are read, so memory use is
+     * independent of the number of players
+     */
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "Export all players", description = "Stream every player as newline-delimited JSON")
+    public ResponseEntity<StreamingResponseBody> exportPlayers(WebRequest webRequest) {
+        log.info("GET /api/players/export - Streaming all players");
+        String etag = rosterETag("export");
+        if (notModified(webRequest, etag)) {
+            return null;
+        }
+        ObjectWriter writer = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        StreamingResponseBody body = outputStream -> {
+            try (JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)) {
+                generator.setRootValueSeparator(null);
+                long[] written = {0};
+                playerService.exportPlayers(player -> {
+                    try {
+                        writer.writeValue(generator, player);
+                        generator.writeRaw('\n');
+                        if (++written[0] % EXPORT_FLUSH_INTERVAL == 0) {
+                            generator.flush();
+                        }
+                    } catch (IOException ex) {
+                        throw new UncheckedIOException(ex);
+                    }
+                });
+            }
+        };
+        // checkNotModified has already written the ETag; streaming responses would repeat it
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+
+    /**
+     * Get many players by id in one call
+     */
+    @GetMapping("/batch")
+    @Operation(summary = "Get players by IDs",
+            description = "Retrieve many players at once, in request order; unknown ids are listed as missing")
+    public ResponseEntity<ApiResponse<PlayerBatchDTO>> getPlayersByIds(
+            @RequestParam List<Long> ids,
+            @RequestParam(required = false) String fields,
+            WebRequest webRequest) {
+        log.info("GET /api/players/batch - Fetching {} players by id", ids.size());
+        Set<PlayerField> playerFields = requestedFields(fields, webRequest);
+        String etag = negotiated(rosterETag("batch", ids, playerFields), webRequest);
+        if (notModified(webRequest, etag)) {
+            return null;
+        }
+        PlayerBatchDTO batch = playerService.getPlayersByIds(ids);
+        return okWithETag(etag).body(ApiResponse.success("Players retrieved successfully", batch));
+    }
+
+    /**
+     * Get many players by id, with the ids in the request body for sets too long for a URL
+     */
+    @PostMapping("/batch")
+    @Operation(summary = "Get players by IDs (body)",
+            description = "Same as GET /batch with the ids sent as a JSON array")
+    public ResponseEntity<ApiResponse<PlayerBatchDTO>> getPlayersByIdsInBody(
+            @RequestBody List<Long> ids,
+            @RequestParam(required = false) String fields,
+            WebRequest webRequest) {
+        log.info("POST /api/players/batch - Fetching {} players by id", ids.size());
+        requestedFields(fields, webRequest);
+        PlayerBatchDTO batch = playerService.getPlayersByIds(ids);
+        return ResponseEntity.ok(ApiResponse.success("Players retrieved successfully", batch));
+    }
+
+    /**
+     * Get players changed and deleted since a sync token
+     */
+    @GetMapping("/changes")
+    @Operation(summary = "Get player changes",
+            description = "Players created or updated and ids deleted since a sync token; "
+                    + "omit since for a full sync and pass nextToken as since on the next call")
+    public ApiResponse<PlayerChangesDTO> getChanges(
+            @RequestParam(required = false) String since,
+            @RequestParam(required = false) Integer size) {
+        log.info("GET /api/players/changes?size={} - Fetching player changes", size);
+        PlayerChangesDTO changes = playerService.getChanges(since, size);
+        return ApiResponse.success(changes.isResyncRequired()
+                ? "Sync token expired, a full resync is required"
+                : "Player changes retrieved successfully", changes);
+    }
+
+    /**
+     * Stream player changes as Server-Sent Events
+     */
+    @GetMapping(value = "/changes/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "Stream player changes",
+            description = "Server-Sent Events for players created, updated and deleted, sent after commit; "
+                    + "reconnect with Last-Event-ID to resume, and on a resync event fetch /changes")
+    public SseEmitter streamChanges(
+            @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+        log.info("GET /api/players/changes/stream - Opening change stream");
+        return playerChangeBroadcaster.subscribe(lastEventId);
     }
 
     /**
@@ -50,10 +255,15 @@ public class PlayerController {
      */
     @GetMapping("/{id}")
     @Operation(summary = "Get player by ID", description = "Retrieve a specific player by their ID")
-    public ResponseEntity<ApiResponse<PlayerResponseDTO>> getPlayerById(@PathVariable Long id) {
+    public ResponseEntity<ApiResponse<PlayerResponseDTO>> getPlayerById(@PathVariable Long id,
+                                                                        WebRequest webRequest) {
         log.info("GET /api/players/{} - Fetching player by id", id);
         PlayerResponseDTO player = playerService.getPlayerById(id);
-        return ResponseEntity.ok(ApiResponse.success("Player retrieved successfully", player));
+        String etag = playerETag(player, webRequest);
+        if (notModified(webRequest, etag)) {
+            return null;
+        }
+        return okWithETag(etag).body(ApiResponse.success("Player retrieved successfully", player));
     }
 
     /**
@@ -69,17 +279,70 @@ public class PlayerController {
                 .body(ApiResponse.success("Player created successfully", player));
     }
 
+    /**
+     * Create many players in one request
+     * Entries are validated individually so one bad entry does not reject the batch
+     */
+    @PostMapping("/bulk")
+    @Operation(summary = "Bulk create players",
+            description = "Add many players at once and receive a per-entry result report")
+    public ResponseEntity<ApiResponse<BulkCreateResultDTO>> createPlayers(
+            @RequestBody List<PlayerRequestDTO> requestDTOs) {
+        log.info("POST /api/players/bulk - Creating {} players", requestDTOs.size());
+        BulkCreateResultDTO result = playerService.createPlayers(requestDTOs);
+        return ResponseEntity.ok(ApiResponse.success("Bulk create completed", result));
+    }
+
+    /**
+     * Set the status of every player matching a filter
+     */
+    @PostMapping("/status:bulk")
+    @Operation(summary = "Bulk status change",
+            description = "Activate or deactivate every player matching ids, current status and/or "
+                    + "a birthday range in one set-based update, and receive the number changed")
+    public ResponseEntity<ApiResponse<BulkStatusResultDTO>> updatePlayersStatus(
+            @Valid @RequestBody BulkStatusUpdateDTO request) {
+        log.info("POST /api/players/status:bulk - Setting status {}", request.getStatus());
+        BulkStatusResultDTO result = playerService.updatePlayersStatus(request);
+        return ResponseEntity.ok(ApiResponse.success("Bulk status change completed", result));
+    }
+
     /**
      * Update existing player
      */
     @PutMapping("/{id}")
-    @Operation(summary = "Update player", description = "Update an existing player's information")
+    @Operation(summary = "Update player", description = "Update an existing player's information; "
+            + "send the player's ETag as If-Match to reject the update if someone else changed it first")
     public ResponseEntity<ApiResponse<PlayerResponseDTO>> updatePlayer(
             @PathVariable Long id,
-            @Valid @RequestBody PlayerRequestDTO requestDTO) {
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            @Valid @RequestBody PlayerRequestDTO requestDTO,
+            WebRequest webRequest) {
         log.info("PUT /api/players/{} - Updating player", id);
-        PlayerResponseDTO player = playerService.updatePlayer(id, requestDTO);
-        return ResponseEntity.ok(ApiResponse.success("Player updated successfully", player));
+        Long expectedVersion = ifMatch != null ? expectedVersion(ifMatch) : null;
+        PlayerResponseDTO player = playerService.updatePlayer(id, requestDTO, expectedVersion);
+        return okWithETag(playerETag(player, webRequest))
+                .body(ApiResponse.success("Player updated successfully", player));
+    }
+
+    /**
+     * Update only the supplied fields of a player
+     */
+    @PatchMapping("/{id}")
+    @Operation(summary = "Patch player", description = "Change only the fields present in the body; "
+            + "If-Match must carry the player's ETag and a stale one is rejected with 412")
+    public ResponseEntity<ApiResponse<PlayerResponseDTO>> patchPlayer(
+            @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            @Valid @RequestBody PlayerPatchDTO patch,
+            WebRequest webRequest) {
+        log.info("PATCH /api/players/{} - Patching player", id);
+        if (ifMatch == null) {
+            throw new PreconditionRequiredException("PATCH requires an If-Match header with the player's ETag");
+        }
+        PlayerResponseDTO player = playerService.patchPlayer(id, patch, expectedVersion(ifMatch));
+        return okWithETag(playerETag(player, webRequest))
+                .body(ApiResponse.success("Player updated successfully", player));
     }
 
     /**
@@ -98,23 +361,44 @@ public class PlayerController {
      */
     @GetMapping("/status/{status}")
     @Operation(summary = "Get players by status", description = "Retrieve players by their status (ACTIVE/INACTIVE)")
-    public ResponseEntity<ApiResponse<List<PlayerResponseDTO>>> getPlayersByStatus(
-            @PathVariable String status) {
+    public ResponseEntity<ApiResponse<CursorPageDTO<PlayerResponseDTO>>> getPlayersByStatus(
+            @PathVariable String status,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            @RequestParam(required = false) String fields,
+            WebRequest webRequest) {
         log.info("GET /api/players/status/{} - Fetching players by status", status);
-        List<PlayerResponseDTO> players = playerService.getPlayersByStatus(status.toUpperCase());
-        return ResponseEntity.ok(ApiResponse.success("Players retrieved successfully", players));
+        Set<PlayerField> playerFields = requestedFields(fields, webRequest);
+        String etag = negotiated(
+                rosterETag("status", Player.normalizeStatus(status), cursor, size, playerFields), webRequest);
+        if (notModified(webRequest, etag)) {
+            return null;
+        }
+        CursorPageDTO<PlayerResponseDTO> players =
+                playerService.getPlayersByStatus(status, cursor, size, playerFields);
+        return okWithETag(etag).body(ApiResponse.success("Players retrieved successfully", players));
     }
 
     /**
      * Search players by name
      */
     @GetMapping("/search")
-    @Operation(summary = "Search players", description = "Search players by name (partial match)")
+    @Operation(summary = "Search players",
+            description = "Search players by name (partial match of at least 3 characters), best matches first")
     public ResponseEntity<ApiResponse<List<PlayerResponseDTO>>> searchPlayersByName(
-            @RequestParam String name) {
-        log.info("GET /api/players/search?name={} - Searching players", name);
-        List<PlayerResponseDTO> players = playerService.searchPlayersByName(name);
-        return ResponseEntity.ok(ApiResponse.success("Search completed successfully", players));
+            @RequestParam String name,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) String fields,
+            WebRequest webRequest) {
+        log.info("GET /api/players/search?name={}&limit={} - Searching players", name, limit);
+        // Search results come from the player cache, so fields only narrows the JSON
+        Set<PlayerField> playerFields = requestedFields(fields, webRequest);
+        String etag = negotiated(rosterETag("search", name, limit, playerFields), webRequest);
+        if (notModified(webRequest, etag)) {
+            return null;
+        }
+        List<PlayerResponseDTO> players = playerService.searchPlayersByName(name, limit);
+        return okWithETag(etag).body(ApiResponse.success("Search completed successfully", players));
     }
 
     /**
@@ -122,12 +406,23 @@ public class PlayerController {
      */
     @GetMapping("/age-range")
     @Operation(summary = "Get players by age range", description = "Retrieve players within a specific age range")
-    public ResponseEntity<ApiResponse<List<PlayerResponseDTO>>> getPlayersByAgeRange(
+    public ResponseEntity<ApiResponse<CursorPageDTO<PlayerResponseDTO>>> getPlayersByAgeRange(
             @RequestParam int minAge,
-            @RequestParam int maxAge) {
+            @RequestParam int maxAge,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            @RequestParam(required = false) String fields,
+            WebRequest webRequest) {
         log.info("GET /api/players/age-range?minAge={}&maxAge={}", minAge, maxAge);
-        List<PlayerResponseDTO> players = playerService.getPlayersByAgeRange(minAge, maxAge);
-        return ResponseEntity.ok(ApiResponse.success("Players retrieved successfully", players));
+        Set<PlayerField> playerFields = requestedFields(fields, webRequest);
+        // Ages move with the calendar, so the date is part of the tag
+        String etag = negotiated(rosterETag("age-range", minAge, maxAge, cursor, size, playerFields), webRequest);
+        if (notModified(webRequest, etag)) {
+            return null;
+        }
+        CursorPageDTO<PlayerResponseDTO> players =
+                playerService.getPlayersByAgeRange(minAge, maxAge, cursor, size, playerFields);
+        return okWithETag(etag).body(ApiResponse.success("Players retrieved successfully", players));
     }
 
     /**
@@ -135,12 +430,23 @@ public class PlayerController {
      */
     @GetMapping("/birthday-range")
     @Operation(summary = "Get players by birthday range", description = "Retrieve players born within a date range")
-    public ResponseEntity<ApiResponse<List<PlayerResponseDTO>>> getPlayersByBirthdayRange(
+    public ResponseEntity<ApiResponse<CursorPageDTO<PlayerResponseDTO>>> getPlayersByBirthdayRange(
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
-            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            @RequestParam(required = false) String fields,
+            WebRequest webRequest) {
         log.info("GET /api/players/birthday-range?startDate={}&endDate={}", startDate, endDate);
-        List<PlayerResponseDTO> players = playerService.getPlayersByBirthdayRange(startDate, endDate);
-        return ResponseEntity.ok(ApiResponse.success("Players retrieved successfully", players));
+        Set<PlayerField> playerFields = requestedFields(fields, webRequest);
+        String etag = negotiated(rosterETag("birthday-range", startDate, endDate, cursor, size, playerFields),
+                webRequest);
+        if (notModified(webRequest, etag)) {
+            return null;
+        }
+        CursorPageDTO<PlayerResponseDTO> players =
+                playerService.getPlayersByBirthdayRange(startDate, endDate, cursor, size, playerFields);
+        return okWithETag(etag).body(ApiResponse.success("Players retrieved successfully", players));
     }
 
     /**
@@ -148,10 +454,14 @@ public class PlayerController {
      */
     @GetMapping("/count/active")
     @Operation(summary = "Get active players count", description = "Get the total number of active players")
-    public ResponseEntity<ApiResponse<Long>> getActivePlayersCount() {
+    public ResponseEntity<ApiResponse<Long>> getActivePlayersCount(WebRequest webRequest) {
         log.info("GET /api/players/count/active - Getting active players count");
+        String etag = negotiated(countETag("count-active"), webRequest);
+        if (notModified(webRequest, etag)) {
+            return null;
+        }
         long count = playerService.getActivePlayersCount();
-        return ResponseEntity.ok(ApiResponse.success("Active players count retrieved", count));
+        return okWithETag(etag).body(ApiResponse.success("Active players count retrieved", count));
     }
 
     /**
@@ -159,10 +469,14 @@ public class PlayerController {
      */
     @GetMapping("/count/inactive")
     @Operation(summary = "Get inactive players count", description = "Get the total number of inactive players")
-    public ResponseEntity<ApiResponse<Long>> getInactivePlayersCount() {
+    public ResponseEntity<ApiResponse<Long>> getInactivePlayersCount(WebRequest webRequest) {
         log.info("GET /api/players/count/inactive - Getting inactive players count");
+        String etag = negotiated(countETag("count-inactive"), webRequest);
+        if (notModified(webRequest, etag)) {
+            return null;
+        }
         long count = playerService.getInactivePlayersCount();
-        return ResponseEntity.ok(ApiResponse.success("Inactive players count retrieved", count));
+        return okWithETag(etag).body(ApiResponse.success("Inactive players count retrieved", count));
     }
 
     /**
@@ -170,11 +484,187 @@ public class PlayerController {
      */
     @GetMapping("/count/total")
     @Operation(summary = "Get total players count", description = "Get the total number of all players")
-    public ResponseEntity<ApiResponse<Long>> getTotalPlayersCount() {
+    public ResponseEntity<ApiResponse<Long>> getTotalPlayersCount(WebRequest webRequest) {
         log.info("GET /api/players/count/total - Getting total players count");
-        long activeCount = playerService.getActivePlayersCount();
-        long inactiveCount = playerService.getInactivePlayersCount();
-        long totalCount = activeCount + inactiveCount;
-        return ResponseEntity.ok(ApiResponse.success("Total players count retrieved", totalCount));
+        String etag = negotiated(countETag("count-total"), webRequest);
+        if (notModified(webRequest, etag)) {
+            return null;
+        }
+        long totalCount = playerService.getPlayerCounts().getTotal();
+        return okWithETag(etag).body(ApiResponse.success("Total players count retrieved", totalCount));
+    }
+
+    /**
+     * Get player counts for every status
+     */
+    @GetMapping("/counts")
+    @Operation(summary = "Get player counts", description = "Get the number of players per status and in total")
+    public ResponseEntity<ApiResponse<PlayerCountsDTO>> getPlayerCounts(WebRequest webRequest) {
+        log.info("GET /api/players/counts - Getting player counts");
+        String etag = negotiated(countETag("counts"), webRequest);
+        if (notModified(webRequest, etag)) {
+            return null;
+        }
+        PlayerCountsDTO counts = playerService.getPlayerCounts();
+        return okWithETag(etag).body(ApiResponse.success("Player counts retrieved", counts));
+    }
+
+    /**
+     * Parse the fields parameter and hand it to PlayerFieldsResponseBodyAdvice for serialization
+     * @return The requested fields, or null for all of them
+     */
+    private static Set<PlayerField> requestedFields(String fields, WebRequest webRequest) {
+        Set<PlayerField> playerFields = PlayerField.fromParameter(fields);
+        if (playerFields != null) {
+            webRequest.setAttribute(PlayerFieldsResponseBodyAdvice.FIELDS_ATTRIBUTE, playerFields,
+                    RequestAttributes.SCOPE_REQUEST);
+        }
+        return playerFields;
+    }
+
+    /**
+     * Strong ETag for a single player: its version, which every write increments,
+     * the date its age was computed on, and the body format
+     */
+    static String playerETag(PlayerResponseDTO player, WebRequest webRequest) {
+        return negotiated(player.getVersion() + "-" + LocalDate.now().format(DateTimeFormatter.BASIC_ISO_DATE),
+                webRequest);
+    }
+
+    /**
+     * Read the player version from an If-Match header holding one strong ETag
+     * The date and body format suffixes are ignored: every day and format of a version matches.
+     * @throws PlayerVersionMismatchException if the header cannot match any version
+     */
+    static long expectedVersion(String ifMatch) {
+        String tag = ifMatch.trim();
+        if (tag.length() > 1 && tag.startsWith("\"") && tag.endsWith("\"")) {
+            tag = tag.substring(1, tag.length() - 1);
+        }
+        int format = tag.indexOf('-');
+        if (format >= 0) {
+            tag = tag.substring(0, format);
+        }
+        try {
+            return Long.parseLong(tag);
+        } catch (NumberFormatException ex) {
+            throw new PlayerVersionMismatchException("If-Match " + ifMatch + " does not match the player's ETag");
+        }
+    }
+
+    /**
+     * Strong ETag for a list response: the roster version plus a hash of the query
+     * and of today's date, since every player's age in the body depends on it,
+     * or null while this instance is catching up with changes made elsewhere
+     * Read before the data so a concurrent change can only make the tag older
+     */
+    private String rosterETag(Object... query) {
+        return versionETag(Arrays.hashCode(query), LocalDate.now());
+    }
+
+    /**
+     * Strong ETag for a count response, which holds no ages and so stays valid across days
+     */
+    private String countETag(String count) {
+        return versionETag(count);
+    }
+
+    private String versionETag(Object... query) {
+        String version = rosterVersion.current();
+        return version != null ? version + "-" + Integer.toHexString(Arrays.hashCode(query)) : null;
+    }
+
+    /**
+     * The ETag of one body format: JSON, CBOR and Smile bodies of the same
+     * data differ byte for byte, so they must not share a strong tag
+     */
+    private static String negotiated(String etag, WebRequest webRequest) {
+        return etag != null ? etag + "-" + bodyFormat(webRequest) : null;
+    }
+
+    /**
+     * Body format the message converters will pick for the Accept header,
+     * trying the most specific and highest quality types first
+     */
+    static String bodyFormat(WebRequest webRequest) {
+        String[] accept = webRequest.getHeaderValues(HttpHeaders.ACCEPT);
+        if (accept == null) {
+            return BODY_FORMATS.get(MediaType.APPLICATION_JSON);
+        }
+        try {
+            List<MediaType> accepted = new ArrayList<>(MediaType.parseMediaTypes(String.join(",", accept)));
+            MimeTypeUtils.sortBySpecificity(accepted);
+            for (MediaType type : accepted) {
+                if (type.getQualityValue() == 0) {
+                    continue;
+                }
+                for (Map.Entry<MediaType, String> format : BODY_FORMATS.entrySet()) {
+                    if (type.isCompatibleWith(format.getKey())) {
+                        return format.getValue();
+                    }
+                }
+            }
+        } catch (IllegalArgumentException ex) {
+            // Not parseable: Spring MVC rejects the request before writing a body
+        }
+        return BODY_FORMATS.get(MediaType.APPLICATION_JSON);
+    }
+
+    /**
+     * Conditional GET check that never matches a missing ETag
+     */
+    private static boolean notModified(WebRequest webRequest, String etag) {
+        return etag != null && webRequest.checkNotModified(etag);
+    }
+
+    /**
+     * Pick the snapshot encoding from Accept-Encoding: gzip, then deflate, by q-value
+     */
+    static String snapshotEncoding(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return "identity";
+        }
+        double gzip = -1;
+        double deflate = -1;
+        double any = -1;
+        for (String element : acceptEncoding.split(",")) {
+            String[] parts = element.split(";");
+            String coding = parts[0].trim().toLowerCase(Locale.ROOT);
+            double quality = 1;
+            for (int i = 1; i < parts.length; i++) {
+                String parameter = parts[i].trim();
+                if (parameter.startsWith("q=")) {
+                    try {
+                        quality = Double.parseDouble(parameter.substring(2));
+                    } catch (NumberFormatException ex) {
+                        quality = 0;
+                    }
+                }
+            }
+            switch (coding) {
+                case "gzip", "x-gzip" -> gzip = quality;
+                case "deflate" -> deflate = quality;
+                case "*" -> any = quality;
+                default -> {
+                }
+            }
+        }
+        gzip = gzip >= 0 ? gzip : any;
+        deflate = deflate >= 0 ? deflate : any;
+        if (gzip > 0 && gzip >= deflate) {
+            return "gzip";
+        }
+        return deflate > 0 ? "deflate" : "identity";
+    }
+
+    /**
+     * 200 response carrying the ETag (if any), revalidated by clients on every use
+     * The body format is negotiated (JSON, CBOR or Smile), so caches must key on Accept.
+     */
+    private static ResponseEntity.BodyBuilder okWithETag(String etag) {
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .varyBy(HttpHeaders.ACCEPT)
+                .cacheControl(CacheControl.noCache());
+        return etag != null ? response.eTag(etag) : response;
     }
 }
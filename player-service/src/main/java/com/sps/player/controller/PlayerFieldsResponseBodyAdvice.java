@@ -0,0 +1,42 @@
+package com.sps.player.controller;
+
+import com.sps.player.dto.PlayerField;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.MappingJacksonValue;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.AbstractMappingJacksonResponseBodyAdvice;
+
+import java.util.Set;
+
+/**
+ * Applies the fields requested from a PlayerController list endpoint to the
+ * JSON body, so players are serialized with only those fields
+ *
+ * @author SPS Cricket Club
+ * @version 1.0.0
+ */
+@RestControllerAdvice(assignableTypes = PlayerController.class)
+public class PlayerFieldsResponseBodyAdvice extends AbstractMappingJacksonResponseBodyAdvice {
+
+    /**
+     * Request attribute holding the parsed Set of PlayerField for the response
+     */
+    public static final String FIELDS_ATTRIBUTE = PlayerFieldsResponseBodyAdvice.class.getName() + ".fields";
+
+    @Override
+    @SuppressWarnings("unchecked")
+    protected void beforeBodyWriteInternal(MappingJacksonValue bodyContainer, MediaType contentType,
+                                           MethodParameter returnType, ServerHttpRequest request,
+                                           ServerHttpResponse response) {
+        if (request instanceof ServletServerHttpRequest servletRequest) {
+            Object fields = servletRequest.getServletRequest().getAttribute(FIELDS_ATTRIBUTE);
+            if (fields != null) {
+                bodyContainer.setFilters(PlayerField.filters((Set<PlayerField>) fields));
+            }
+        }
+    }
+}
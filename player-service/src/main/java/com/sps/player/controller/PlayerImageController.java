@@ -0,0 +1,183 @@
+package com.sps.player.controller;
+
+import com.sps.player.config.PlayerImageProperties;
+import com.sps.player.dto.ApiResponse;
+import com.sps.player.dto.PlayerResponseDTO;
+import com.sps.player.exception.ImageNotFoundException;
+import com.sps.player.service.PlayerImageStore;
+import com.sps.player.service.PlayerService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpRange;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+/**
+ * REST Controller for player images
+ * Images are stored by content hash. /images/{imageName} never changes and
+ * is cached by clients for a year; /{id}/image follows the player's current
+ * image and is revalidated with its ETag. Roster views should request a
+ * thumbnail with size=64 or size=256 rather than the original.
+ * Files are written with Tomcat's sendfile when the connector supports it,
+ * otherwise with FileChannel.transferTo, and single byte ranges are honoured.
+ *
+ * @author SPS Cricket Club
+ * @version 1.0.0
+ */
+@RestController
+@RequestMapping("/api/players")
+@CrossOrigin(origins = {"http://localhost:3000", "http://localhost:3001"})
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "Player Images", description = "APIs for uploading and downloading player images")
+public class PlayerImageController {
+
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    private final PlayerService playerService;
+    private final PlayerImageStore playerImageStore;
+    private final PlayerImageProperties properties;
+
+    /**
+     * Upload a player image
+     * The player is looked up before the file is stored, so an unknown id leaves no file behind.
+     * Thumbnails are created in the background once the player is updated; the
+     * replaced image is deleted unless another player has it
+     */
+    @PostMapping(value = "/{id}/image", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @Operation(summary = "Upload player image", description = "Store a JPEG, PNG or GIF image for a player")
+    public ApiResponse<PlayerResponseDTO> uploadPlayerImage(@PathVariable Long id,
+                                                            @RequestParam("file") MultipartFile file) {
+        log.info("POST /api/players/{}/image - Uploading image ({} bytes)", id, file.getSize());
+        playerService.getPlayerById(id);
+        String imageName = playerImageStore.store(file);
+        PlayerResponseDTO player;
+        try {
+            player = playerService.updatePlayerImage(id, imageName);
+        } finally {
+            playerImageStore.release(imageName);
+        }
+        playerImageStore.createThumbnailsAsync(imageName);
+        return ApiResponse.success("Player image uploaded successfully", player);
+    }
+
+    /**
+     * Download a player's current image
+     */
+    @GetMapping("/{id}/image")
+    @Operation(summary = "Get player image",
+            description = "Download the player's current image, or a thumbnail with size")
+    public void getPlayerImage(@PathVariable Long id,
+                               @RequestParam(required = false) Integer size,
+                               HttpServletRequest request,
+                               HttpServletResponse response) throws IOException {
+        log.info("GET /api/players/{}/image?size={} - Fetching player image", id, size);
+        String imageName = playerService.getPlayerById(id).getImageName();
+        if (!playerImageStore.isStoredImageName(imageName)) {
+            throw new ImageNotFoundException("No image stored for player with id: " + id);
+        }
+        writeImage(imageName, size, CacheControl.noCache(), request, response);
+    }
+
+    /**
+     * Download a stored image by name
+     */
+    @GetMapping("/images/{imageName}")
+    @Operation(summary = "Get image by name",
+            description = "Download an image by its content-addressed name, or a thumbnail with size")
+    public void getImage(@PathVariable String imageName,
+                         @RequestParam(required = false) Integer size,
+                         HttpServletRequest request,
+                         HttpServletResponse response) throws IOException {
+        log.debug("GET /api/players/images/{}?size={} - Fetching image", imageName, size);
+        CacheControl cacheControl = CacheControl.maxAge(properties.getCacheMaxAge())
+                .cachePublic()
+                .immutable();
+        writeImage(imageName, size, cacheControl, request, response);
+    }
+
+    private void writeImage(String imageName, Integer size, CacheControl cacheControl,
+                            HttpServletRequest request, HttpServletResponse response) throws IOException {
+        Path file = playerImageStore.resolve(imageName, size);
+        // Stored files never change, so the name and size identify the bytes
+        String etag = size != null ? imageName + "-" + size : imageName;
+        response.setHeader(HttpHeaders.CACHE_CONTROL, cacheControl.getHeaderValue());
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        if (new ServletWebRequest(request, response).checkNotModified(etag)) {
+            return;
+        }
+
+        long length = Files.size(file);
+        long start = 0;
+        long end = length - 1;
+        String range = request.getHeader(HttpHeaders.RANGE);
+        if (range != null && ifRangeMatches(request.getHeader(HttpHeaders.IF_RANGE), etag)) {
+            try {
+                List<HttpRange> ranges = HttpRange.parseRanges(range);
+                // Multiple ranges are answered with the whole file, which RFC 9110 allows
+                if (ranges.size() == 1) {
+                    start = ranges.get(0).getRangeStart(length);
+                    end = ranges.get(0).getRangeEnd(length);
+                    response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+                    response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + length);
+                }
+            } catch (IllegalArgumentException ex) {
+                response.setStatus(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + length);
+                return;
+            }
+        }
+
+        response.setContentType(PlayerImageStore.mediaType(file).toString());
+        response.setContentLengthLong(end - start + 1);
+        if (HttpMethod.HEAD.matches(request.getMethod())) {
+            return;
+        }
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+            // Tomcat writes the file from the page cache straight to the socket after this method returns
+            request.setAttribute(SENDFILE_FILENAME, file.toRealPath().toString());
+            request.setAttribute(SENDFILE_START, start);
+            request.setAttribute(SENDFILE_END, end + 1);
+            return;
+        }
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            WritableByteChannel output = Channels.newChannel(response.getOutputStream());
+            long position = start;
+            while (position <= end) {
+                long transferred = channel.transferTo(position, end - position + 1, output);
+                if (transferred <= 0) {
+                    break;
+                }
+                position += transferred;
+            }
+        }
+    }
+
+    /**
+     * A Range request is only honoured if If-Range, when sent, still names this representation
+     */
+    private static boolean ifRangeMatches(String ifRange, String etag) {
+        return ifRange == null || ifRange.equals("\"" + etag + "\"");
+    }
+}
@@ -0,0 +1,209 @@
+package com.sps.player.datasource;
+
+import com.sps.player.config.ReplicaRoutingProperties;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Owns the primary and replica connection pools and picks one per connection
+ * Connections for read-only transactions come from a healthy replica,
+ * chosen round-robin or by load; everything else, and reads pinned by
+ * read-your-writes, use the primary. With no healthy replica, reads fall
+ * back to the primary. Within a request every replica read goes to the
+ * same replica, so a response never mixes replicas that have caught up to
+ * different points (e.g. a roster version from one and rows from another).
+ *
+ * @author SPS Cricket Club
+ * @version 1.0.0
+ */
+@Slf4j
+public class DataSourceRouter implements AutoCloseable {
+
+    private static final ThreadLocal<Boolean> PRIMARY_PINNED = new ThreadLocal<>();
+    private static final ThreadLocal<RequestReplica> REQUEST_REPLICA = new ThreadLocal<>();
+
+    private final HikariDataSource primary;
+    private final List<Replica> replicas;
+    private final ReplicaRoutingProperties.Strategy strategy;
+    private final int healthCheckTimeoutSeconds;
+    private final AtomicInteger next = new AtomicInteger();
+
+    public DataSourceRouter(HikariDataSource primary, List<HikariDataSource> replicas,
+                            ReplicaRoutingProperties properties) {
+        this.primary = primary;
+        this.replicas = replicas.stream().map(Replica::new).toList();
+        this.strategy = properties.getStrategy();
+        this.healthCheckTimeoutSeconds = (int) Math.max(1, properties.getHealthCheckTimeout().toSeconds());
+    }
+
+    /**
+     * Send every connection taken on this thread to the primary until unpinPrimary
+     */
+    public static void pinPrimary() {
+        PRIMARY_PINNED.set(Boolean.TRUE);
+    }
+
+    public static void unpinPrimary() {
+        PRIMARY_PINNED.remove();
+    }
+
+    /**
+     * Run work with every connection it takes on this thread coming from the primary
+     * For reads whose result is kept (cache loads, snapshot rebuilds, recounts),
+     * which a lagging replica would otherwise fill with rows older than the
+     * write that invalidated them. Connections already bound to an outer
+     * transaction are not switched. Safe to nest and to use inside a pin.
+     */
+    public static <T> T onPrimary(Supplier<T> work) {
+        if (PRIMARY_PINNED.get() != null) {
+            return work.get();
+        }
+        PRIMARY_PINNED.set(Boolean.TRUE);
+        try {
+            return work.get();
+        } finally {
+            PRIMARY_PINNED.remove();
+        }
+    }
+
+    /**
+     * Read from one replica for the rest of the request on this thread, until endRequest
+     */
+    public static void beginRequest() {
+        REQUEST_REPLICA.set(new RequestReplica());
+    }
+
+    public static void endRequest() {
+        REQUEST_REPLICA.remove();
+    }
+
+    public DataSource primary() {
+        return primary;
+    }
+
+    /**
+     * Connection from the pool the current transaction should use
+     */
+    public Connection getConnection() throws SQLException {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly() || PRIMARY_PINNED.get() != null) {
+            return primary.getConnection();
+        }
+        Replica replica = replicaForRequest();
+        if (replica != null) {
+            try {
+                return replica.dataSource.getConnection();
+            } catch (SQLException ex) {
+                markDown(replica, ex);
+            }
+        }
+        return primary.getConnection();
+    }
+
+    /**
+     * Probe every replica and update its health
+     */
+    @Scheduled(fixedDelayString = "${player.replicas.health-check-interval:PT5S}")
+    public void checkHealth() {
+        for (Replica replica : replicas) {
+            try (Connection connection = replica.dataSource.getConnection()) {
+                if (!connection.isValid(healthCheckTimeoutSeconds)) {
+                    throw new SQLException("Connection is not valid");
+                }
+                if (!replica.healthy) {
+                    replica.healthy = true;
+                    log.info("Replica {} is healthy again", replica.dataSource.getPoolName());
+                }
+            } catch (SQLException ex) {
+                markDown(replica, ex);
+            }
+        }
+    }
+
+    /**
+     * The replica already used by the current request while it stays healthy, otherwise a new choice
+     */
+    private Replica replicaForRequest() {
+        RequestReplica request = REQUEST_REPLICA.get();
+        if (request == null) {
+            return choose();
+        }
+        if (request.replica == null || !request.replica.healthy) {
+            request.replica = choose();
+        }
+        return request.replica;
+    }
+
+    private Replica choose() {
+        int size = replicas.size();
+        if (size == 0) {
+            return null;
+        }
+        if (strategy == ReplicaRoutingProperties.Strategy.LEAST_LOADED) {
+            Replica best = null;
+            int bestLoad = Integer.MAX_VALUE;
+            for (Replica replica : replicas) {
+                int load = replica.load();
+                if (replica.healthy && load < bestLoad) {
+                    best = replica;
+                    bestLoad = load;
+                }
+            }
+            return best;
+        }
+        int start = Math.floorMod(next.getAndIncrement(), size);
+        for (int i = 0; i < size; i++) {
+            Replica replica = replicas.get((start + i) % size);
+            if (replica.healthy) {
+                return replica;
+            }
+        }
+        return null;
+    }
+
+    private void markDown(Replica replica, SQLException ex) {
+        if (replica.healthy) {
+            replica.healthy = false;
+            log.warn("Replica {} is unavailable, reading from the primary until it recovers: {}",
+                    replica.dataSource.getPoolName(), ex.getMessage());
+        }
+    }
+
+    @Override
+    public void close() {
+        replicas.forEach(replica -> replica.dataSource.close());
+        primary.close();
+    }
+
+    private static final class RequestReplica {
+
+        private Replica replica;
+    }
+
+    private static final class Replica {
+
+        private final HikariDataSource dataSource;
+        private volatile boolean healthy = true;
+
+        private Replica(HikariDataSource dataSource) {
+            this.dataSource = dataSource;
+        }
+
+        /**
+         * Connections in use plus threads waiting for one
+         */
+        private int load() {
+            HikariPoolMXBean pool = dataSource.getHikariPoolMXBean();
+            return pool != null ? pool.getActiveConnections() + pool.getThreadsAwaitingConnection() : 0;
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.sps.player.datasource;
+
+import org.springframework.jdbc.datasource.AbstractDataSource;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * DataSource whose connections come from the pool DataSourceRouter picks
+ * Must sit behind a LazyConnectionDataSourceProxy: the transaction manager
+ * asks for a connection before it marks the transaction read-only, and the
+ * proxy defers that until the first statement.
+ *
+ * @author SPS Cricket Club
+ * @version 1.0.0
+ */
+public class ReadWriteRoutingDataSource extends AbstractDataSource {
+
+    private final DataSourceRouter router;
+
+    public ReadWriteRoutingDataSource(DataSourceRouter router) {
+        this.router = router;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return router.getConnection();
+    }
+
+    /**
+     * Pools are configured with their credentials; explicit credentials go to the primary
+     */
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return router.primary().getConnection(username, password);
+    }
+}
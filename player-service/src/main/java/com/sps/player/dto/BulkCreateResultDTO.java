@@ -0,0 +1,27 @@
+package com.sps.player.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Report returned by the bulk player create endpoint
+ * Results are listed in the same order as the request entries
+ *
+ * @author SPS Cricket Club
+ * @version 1.0.0
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkCreateResultDTO {
+
+    private int total;
+    private int created;
+    private int failed;
+    private long elapsedMillis;
+    private long rowsPerSecond;
+    private List<BulkItemResultDTO> results;
+}
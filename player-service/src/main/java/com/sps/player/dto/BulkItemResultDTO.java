@@ -0,0 +1,27 @@
+package com.sps.player.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Outcome of a single entry in a bulk player request
+ *
+ * @author SPS Cricket Club
+ * @version 1.0.0
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkItemResultDTO {
+
+    public static final String CREATED = "CREATED";
+    public static final String DUPLICATE = "DUPLICATE";
+    public static final String INVALID = "INVALID";
+
+    private int index;
+    private String name;
+    private String outcome;
+    private Long id;
+    private String message;
+}
@@ -0,0 +1,25 @@
+package com.sps.player.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Report returned by the bulk status endpoint
+ *
+ * @author SPS Cricket Club
+ * @version 1.0.0
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkStatusResultDTO {
+
+    private String status;
+
+    /**
+     * Players whose status changed; players already in the status are not counted
+     */
+    private int updated;
+    private long elapsedMillis;
+}
@@ -0,0 +1,48 @@
+package com.sps.player.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Request DTO for changing the status of every player matching a filter
+ * Filters combine with AND; at least one must be given.
+ *
+ * @author SPS Cricket Club
+ * @version 1.0.0
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkStatusUpdateDTO {
+
+    /**
+     * New status
+     */
+    @NotBlank(message = "Status is required")
+    private String status;
+
+    /**
+     * Only these players
+     */
+    private List<Long> ids;
+
+    /**
+     * Only players currently in this status
+     */
+    private String currentStatus;
+
+    /**
+     * Only players born on or after this date (requires birthdayTo)
+     */
+    private LocalDate birthdayFrom;
+
+    /**
+     * Only players born on or before this date (requires birthdayFrom)
+     */
+    private LocalDate birthdayTo;
+}
@@ -0,0 +1,24 @@
+package com.sps.player.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Players fetched by id in one call
+ * Players are listed in request order, each once; ids that do not exist
+ * are listed in missing instead of failing the request.
+ *
+ * @author SPS Cricket Club
+ * @version 1.0.0
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PlayerBatchDTO {
+
+    private List<PlayerResponseDTO> players;
+    private List<Long> missing;
+}
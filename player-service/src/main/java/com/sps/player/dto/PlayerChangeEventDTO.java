@@ -0,0 +1,24 @@
+package com.sps.player.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Data of one event on the player change stream
+ * type is created, updated or deleted, with the player as committed (null
+ * when deleted), or resync when changes were missed: fetch them through
+ * /api/players/changes before applying further events.
+ *
+ * @author SPS Cricket Club
+ * @version 1.0.0
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PlayerChangeEventDTO {
+
+    private String type;
+    private Long playerId;
+    private PlayerResponseDTO player;
+}
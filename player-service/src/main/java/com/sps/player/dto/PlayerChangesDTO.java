@@ -0,0 +1,32 @@
+package com.sps.player.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Players created, updated or deleted since a sync token
+ * Apply updated, then deleted, and pass nextToken as since on the next sync.
+ * If resyncRequired is set the token is too old: download the full roster
+ * by syncing without a token.
+ *
+ * @author SPS Cricket Club
+ * @version 1.0.0
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PlayerChangesDTO {
+
+    private List<PlayerResponseDTO> updated;
+    private List<Long> deleted;
+    private boolean hasMore;
+    private String nextToken;
+    private boolean resyncRequired;
+
+    public static PlayerChangesDTO resync() {
+        return new PlayerChangesDTO(List.of(), List.of(), false, null, true);
+    }
+}
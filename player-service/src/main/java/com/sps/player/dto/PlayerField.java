@@ -0,0 +1,96 @@
+package com.sps.player.dto;
+
+import com.fasterxml.jackson.databind.ser.FilterProvider;
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import com.sps.player.exception.InvalidRequestException;
+import lombok.Getter;
+
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Fields of PlayerResponseDTO that can be requested with the fields parameter
+ * Each field names the JSON property and the Player attribute it is read from.
+ *
+ * @author SPS Cricket Club
+ * @version 1.0.0
+ */
+@Getter
+public enum PlayerField {
+
+    ID("id", "id"),
+    NAME("name", "name"),
+    BIRTHDAY("birthday", "birthday"),
+    IMAGE_NAME("imageName", "imageName"),
+    STATUS("status", "status"),
+
+    /**
+     * Derived from the birthday column
+     */
+    AGE("age", "birthday"),
+    VERSION("version", "version"),
+    CREATED_AT("createdAt", "createdAt"),
+    UPDATED_AT("updatedAt", "updatedAt");
+
+    /**
+     * Id of the Jackson filter on PlayerResponseDTO
+     */
+    public static final String FILTER_ID = "playerFields";
+
+    private static final FilterProvider ALL_FIELDS = new SimpleFilterProvider()
+            .addFilter(FILTER_ID, SimpleBeanPropertyFilter.serializeAll());
+
+    private final String property;
+    private final String attribute;
+
+    PlayerField(String property, String attribute) {
+        this.property = property;
+        this.attribute = attribute;
+    }
+
+    /**
+     * Parse a comma-separated fields request parameter
+     * @return The requested fields, or null for all of them
+     * @throws InvalidRequestException if a field is unknown
+     */
+    public static Set<PlayerField> fromParameter(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        Set<PlayerField> fields = EnumSet.noneOf(PlayerField.class);
+        for (String name : value.split(",")) {
+            String trimmed = name.trim();
+            if (trimmed.isEmpty()) {
+                continue;
+            }
+            fields.add(fromProperty(trimmed));
+        }
+        if (fields.isEmpty()) {
+            throw new InvalidRequestException("At least one field must be requested");
+        }
+        return fields.size() == values().length ? null : fields;
+    }
+
+    /**
+     * Jackson filters that serialize only the given fields of PlayerResponseDTO (all of them for null)
+     */
+    public static FilterProvider filters(Set<PlayerField> fields) {
+        if (fields == null) {
+            return ALL_FIELDS;
+        }
+        Set<String> properties = fields.stream().map(PlayerField::getProperty).collect(Collectors.toSet());
+        return new SimpleFilterProvider()
+                .addFilter(FILTER_ID, SimpleBeanPropertyFilter.filterOutAllExcept(properties));
+    }
+
+    private static PlayerField fromProperty(String property) {
+        for (PlayerField field : values()) {
+            if (field.property.equalsIgnoreCase(property)) {
+                return field;
+            }
+        }
+        throw new InvalidRequestException("Unsupported field '" + property + "'");
+    }
+}
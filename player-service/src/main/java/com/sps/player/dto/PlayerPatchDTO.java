@@ -0,0 +1,33 @@
+package com.sps.player.dto;
+
+import jakarta.validation.constraints.Past;
+import jakarta.validation.constraints.Pattern;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * Request DTO for partially updating a Player
+ * Only the fields present (non-null) are changed
+ *
+ * @author SPS Cricket Club
+ * @version 1.0.0
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PlayerPatchDTO {
+
+    @Pattern(regexp = "(?s).*\\S.*", message = "Player name cannot be blank")
+    private String name;
+
+    @Past(message = "Birthday must be in the past")
+    private LocalDate birthday;
+
+    private String imageName;
+
+    @Pattern(regexp = "(?s).*\\S.*", message = "Status cannot be blank")
+    private String status;
+}
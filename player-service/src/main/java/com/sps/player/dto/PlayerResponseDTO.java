@@ -1,5 +1,7 @@
 package com.sps.player.dto;
 
+import com.fasterxml.jackson.annotation.JsonFilter;
+import com.sps.player.entity.Player;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -10,6 +12,8 @@ import java.time.LocalDateTime;
 /**
  * Response DTO for Player
  * Used for API responses
+ * Serialized through the PlayerField filter, so list endpoints can return
+ * only the fields a client asked for
  *
  * @author SPS Cricket Club
  * @version 1.0.0
@@ -17,6 +21,7 @@ import java.time.LocalDateTime;
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
+@JsonFilter(PlayerField.FILTER_ID)
 public class PlayerResponseDTO {
 
     private Long id;
@@ -25,6 +30,16 @@ public class PlayerResponseDTO {
     private String imageName;
     private String status;
     private Integer age;
+    private Long version;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
+
+    /**
+     * Constructor for JPQL constructor expressions, which select straight into
+     * the DTO without creating managed entities; the age is derived from the birthday
+     */
+    public PlayerResponseDTO(Long id, String name, LocalDate birthday, String imageName, String status,
+                             Long version, LocalDateTime createdAt, LocalDateTime updatedAt) {
+        this(id, name, birthday, imageName, status, Player.calculateAge(birthday), version, createdAt, updatedAt);
+    }
 }
@@ -0,0 +1,179 @@
+package com.sps.player.entity;
+
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Past;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.DynamicUpdate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.Period;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * Player Entity class representing a cricket player
+ * Updates write only the columns that changed and are guarded by the version
+ *
+ * @author SPS Cricket Club
+ * @version 1.0.0
+ */
+@Entity
+@Table(name = "players", indexes = {
+        @Index(name = "idx_status", columnList = "status"),
+        @Index(name = "idx_name", columnList = "name"),
+        @Index(name = "idx_birthday", columnList = "birthday"),
+        @Index(name = "idx_updated_at", columnList = "updated_at, id"),
+        @Index(name = "idx_players_change_seq", columnList = "change_seq, id"),
+        @Index(name = "idx_players_image_name", columnList = "image_name")
+}, uniqueConstraints = {
+        @UniqueConstraint(name = Player.NAME_KEY_CONSTRAINT, columnNames = "name_key")
+})
+@DynamicUpdate
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class Player {
+
+    /**
+     * Unique constraint on the normalized name, violated by duplicate names
+     */
+    public static final String NAME_KEY_CONSTRAINT = "uk_players_name_key";
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    /**
+     * Pooled sequence (a table-backed sequence on MySQL) so ids are assigned
+     * in memory and inserts can be grouped into JDBC batches
+     */
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "player_seq")
+    @SequenceGenerator(name = "player_seq", sequenceName = "player_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(nullable = false, length = 100)
+    @NotBlank(message = "Player name is required")
+    private String name;
+
+    /**
+     * Normalized name (lower-cased, whitespace collapsed) backing the unique constraint
+     */
+    @Column(name = "name_key", length = 100)
+    private String nameKey;
+
+    @Column(nullable = false)
+    @NotNull(message = "Birthday is required")
+    @Past(message = "Birthday must be in the past")
+    private LocalDate birthday;
+
+    @Column(name = "image_name")
+    private String imageName;
+
+    @Column(length = 20)
+    private String status = "ACTIVE";
+
+    /**
+     * Optimistic lock, incremented by every update and exposed as the player's ETag
+     */
+    @Version
+    @Column(nullable = false)
+    private Long version = 0L;
+
+    @Column(name = "created_at", updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    /**
+     * Position in the delta sync feed: null while a write is uncommitted or
+     * waiting for its roster revision bump, then the revision that stamped it
+     */
+    @Column(name = "change_seq")
+    private Long changeSeq;
+
+    /**
+     * Set the name and keep the normalized name key in step
+     */
+    public void setName(String name) {
+        this.name = name;
+        this.nameKey = normalizeName(name);
+    }
+
+    /**
+     * Set the status in its stored form
+     */
+    public void setStatus(String status) {
+        this.status = normalizeStatus(status);
+    }
+
+    /**
+     * Normalize a status for storage and lookups: trimmed and upper-cased
+     */
+    public static String normalizeStatus(String status) {
+        if (status == null) {
+            return null;
+        }
+        return status.trim().toUpperCase(Locale.ROOT);
+    }
+
+    /**
+     * Normalize a name for duplicate detection: trimmed, lower-cased, whitespace collapsed
+     */
+    public static String normalizeName(String name) {
+        if (name == null) {
+            return null;
+        }
+        return WHITESPACE.matcher(name.trim()).replaceAll(" ").toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Calculate player's age
+     */
+    @Transient
+    public int getAge() {
+        return calculateAge(birthday);
+    }
+
+    /**
+     * Age today of a player born on the given date (0 if unknown)
+     */
+    public static int calculateAge(LocalDate birthday) {
+        if (birthday == null) {
+            return 0;
+        }
+        return Period.between(birthday, LocalDate.now()).getYears();
+    }
+
+    /**
+     * Get formatted birthday
+     */
+    @Transient
+    public String getFormattedBirthday() {
+        if (birthday == null) {
+            return "N/A";
+        }
+        return birthday.toString();
+    }
+
+    @PrePersist
+    protected void onCreate() {
+        nameKey = normalizeName(name);
+        createdAt = LocalDateTime.now();
+        updatedAt = LocalDateTime.now();
+        status = status != null ? normalizeStatus(status) : "ACTIVE";
+        changeSeq = null;
+    }
+
+    @PreUpdate
+    protected void onUpdate() {
+        nameKey = normalizeName(name);
+        status = normalizeStatus(status);
+        updatedAt = LocalDateTime.now();
+        changeSeq = null;
+    }
+}
@@ -0,0 +1,49 @@
+package com.sps.player.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Record of a deleted player, kept so delta syncs can report the deletion
+ * Removed once older than player.sync.tombstone-retention
+ *
+ * @author SPS Cricket Club
+ * @version 1.0.0
+ */
+@Entity
+@Table(name = "player_tombstones", indexes = {
+        @Index(name = "idx_deleted_at", columnList = "deleted_at, player_id"),
+        @Index(name = "idx_tombstones_change_seq", columnList = "change_seq, player_id")
+})
+@Data
+@NoArgsConstructor
+public class PlayerTombstone {
+
+    /**
+     * Id of the deleted player; ids come from a sequence and are never reused
+     */
+    @Id
+    @Column(name = "player_id")
+    private Long playerId;
+
+    @Column(name = "deleted_at", nullable = false)
+    private LocalDateTime deletedAt;
+
+    /**
+     * Position in the delta sync feed, stamped like Player's once the delete has committed
+     */
+    @Column(name = "change_seq")
+    private Long changeSeq;
+
+    public PlayerTombstone(Long playerId, LocalDateTime deletedAt) {
+        this.playerId = playerId;
+        this.deletedAt = deletedAt;
+    }
+}
@@ -0,0 +1,35 @@
+package com.sps.player.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Single-row counter of committed roster changes, shared by all instances
+ * Incremented in the same transaction as every player write.
+ *
+ * @author SPS Cricket Club
+ * @version 1.0.0
+ */
+@Entity
+@Table(name = "roster_revision")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RosterRevision {
+
+    /**
+     * Id of the only row
+     */
+    public static final int ROW_ID = 1;
+
+    @Id
+    private Integer id;
+
+    @Column(nullable = false)
+    private Long revision;
+}
@@ -0,0 +1,51 @@
+package com.sps.player.event;
+
+import com.sps.player.dto.PlayerResponseDTO;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Application event published by the service whenever a player is written
+ * Listeners use @TransactionalEventListener so they only observe committed changes
+ *
+ * @author SPS Cricket Club
+ * @version 1.0.0
+ */
+@Getter
+@ToString
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class PlayerChangedEvent {
+
+    public enum Type {
+        CREATED,
+        UPDATED,
+        DELETED
+    }
+
+    private final Type type;
+    private final Long playerId;
+
+    /**
+     * State before the change (null for CREATED)
+     */
+    private final PlayerResponseDTO previous;
+
+    /**
+     * State after the change (null for DELETED)
+     */
+    private final PlayerResponseDTO current;
+
+    public static PlayerChangedEvent created(PlayerResponseDTO current) {
+        return new PlayerChangedEvent(Type.CREATED, current.getId(), null, current);
+    }
+
+    public static PlayerChangedEvent updated(PlayerResponseDTO previous, PlayerResponseDTO current) {
+        return new PlayerChangedEvent(Type.UPDATED, current.getId(), previous, current);
+    }
+
+    public static PlayerChangedEvent deleted(PlayerResponseDTO previous) {
+        return new PlayerChangedEvent(Type.DELETED, previous.getId(), previous, null);
+    }
+}
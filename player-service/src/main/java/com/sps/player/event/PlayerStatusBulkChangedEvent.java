@@ -0,0 +1,32 @@
+package com.sps.player.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.util.List;
+
+/**
+ * Application event published after a set-based status change of many players
+ * Individual rows are not loaded, so only the selection and the new status are known.
+ *
+ * @author SPS Cricket Club
+ * @version 1.0.0
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+public class PlayerStatusBulkChangedEvent {
+
+    /**
+     * Ids the change was restricted to, or null when players were selected by filter only
+     */
+    private final List<Long> playerIds;
+
+    private final String status;
+
+    /**
+     * Number of players whose status changed
+     */
+    private final int updated;
+}
@@ -0,0 +1,24 @@
+package com.sps.player.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Application event published when the shared roster revision includes changes
+ * this instance has not seen (made by another instance or the reactive service)
+ * Listeners discard or reload their in-memory copies of player data.
+ *
+ * @author SPS Cricket Club
+ * @version 1.0.0
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+public class RosterStaleEvent {
+
+    /**
+     * Shared revision the reloaded data will reflect at least
+     */
+    private final long revision;
+}
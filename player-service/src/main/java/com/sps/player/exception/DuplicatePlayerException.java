@@ -1,5 +1,10 @@
 package com.sps.player.exception;
 
+import com.sps.player.entity.Player;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.util.Locale;
+
 /**
  * Exception thrown when attempting to create a duplicate player
  *
@@ -15,4 +20,13 @@ public class DuplicatePlayerException extends RuntimeException {
     public DuplicatePlayerException(String message, Throwable cause) {
         super(message, cause);
     }
+
+    /**
+     * Whether a data integrity violation was caused by the unique player name constraint
+     */
+    public static boolean isDuplicateName(DataIntegrityViolationException ex) {
+        String message = ex.getMostSpecificCause().getMessage();
+        return message != null
+                && message.toLowerCase(Locale.ROOT).contains(Player.NAME_KEY_CONSTRAINT);
+    }
 }
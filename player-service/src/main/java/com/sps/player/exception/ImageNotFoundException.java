@@ -0,0 +1,14 @@
+package com.sps.player.exception;
+
+/**
+ * Exception thrown when a player image is not stored
+ *
+ * @author SPS Cricket Club
+ * @version 1.0.0
+ */
+public class ImageNotFoundException extends RuntimeException {
+
+    public ImageNotFoundException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,18 @@
+package com.sps.player.exception;
+
+/**
+ * Exception thrown when request parameters are malformed or out of range
+ *
+ * @author SPS Cricket Club
+ * @version 1.0.0
+ */
+public class InvalidRequestException extends RuntimeException {
+
+    public InvalidRequestException(String message) {
+        super(message);
+    }
+
+    public InvalidRequestException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,14 @@
+package com.sps.player.exception;
+
+/**
+ * Exception thrown when a conditional update names a version the player no longer has
+ *
+ * @author SPS Cricket Club
+ * @version 1.0.0
+ */
+public class PlayerVersionMismatchException extends RuntimeException {
+
+    public PlayerVersionMismatchException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,14 @@
+package com.sps.player.exception;
+
+/**
+ * Exception thrown when a conditional request arrives without its If-Match header
+ *
+ * @author SPS Cricket Club
+ * @version 1.0.0
+ */
+public class PreconditionRequiredException extends RuntimeException {
+
+    public PreconditionRequiredException(String message) {
+        super(message);
+    }
+}
@@ -51,6 +51,7 @@ public class PlayerMapper {
         dto.setImageName(player.getImageName());
         dto.setStatus(player.getStatus());
         dto.setAge(player.getAge());
+        dto.setVersion(player.getVersion());
         dto.setCreatedAt(player.getCreatedAt());
         dto.setUpdatedAt(player.getUpdatedAt());
 
@@ -76,6 +77,7 @@ public class PlayerMapper {
 
     /**
      * Update existing Player entity with PlayerRequestDTO data
+     * A missing status leaves the current status in place
      */
     public void updateEntityFromDTO(PlayerRequestDTO requestDTO, Player player) {
         if (requestDTO == null || player == null) {
@@ -85,6 +87,8 @@ public class PlayerMapper {
         player.setName(requestDTO.getName());
         player.setBirthday(requestDTO.getBirthday());
         player.setImageName(requestDTO.getImageName());
-        player.setStatus(requestDTO.getStatus());
+        if (requestDTO.getStatus() != null) {
+            player.setStatus(requestDTO.getStatus());
+        }
     }
 }
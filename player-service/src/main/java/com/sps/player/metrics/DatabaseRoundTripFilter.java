@@ -0,0 +1,73 @@
+package com.sps.player.metrics;
+
+import com.sps.player.config.QueryDiagnosticsProperties;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * Records the number of database round trips made while handling each request
+ * Published as player.db.round-trips, tagged like http.server.requests, so a
+ * slow endpoint can be told apart from a chatty one. A warning is logged
+ * when a request goes over the statement budget, or runs one statement
+ * often enough to suggest an N+1 query. Work done after the request
+ * thread returns (the streaming export) is not counted.
+ *
+ * @author SPS Cricket Club
+ * @version 1.0.0
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class DatabaseRoundTripFilter extends OncePerRequestFilter {
+
+    private static final String METRIC_NAME = "player.db.round-trips";
+
+    private final MeterRegistry meterRegistry;
+    private final QueryDiagnosticsProperties properties;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        DatabaseRoundTrips.start();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            DatabaseRoundTrips.Counts roundTrips = DatabaseRoundTrips.stop();
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            String uri = pattern != null ? pattern.toString() : "UNKNOWN";
+            DistributionSummary.builder(METRIC_NAME)
+                    .description("Database round trips per request")
+                    .baseUnit("statements")
+                    .tag("method", request.getMethod())
+                    .tag("uri", uri)
+                    .tag("status", Integer.toString(response.getStatus()))
+                    .register(meterRegistry)
+                    .record(roundTrips.getTotal());
+            checkBudget(request.getMethod() + " " + uri, roundTrips);
+        }
+    }
+
+    private void checkBudget(String endpoint, DatabaseRoundTrips.Counts roundTrips) {
+        if (roundTrips.getTotal() > properties.getStatementBudget()) {
+            log.warn("{} issued {} statements, over the budget of {}", endpoint, roundTrips.getTotal(),
+                    properties.getStatementBudget());
+        }
+        Map.Entry<String, Integer> mostRepeated = roundTrips.getMostRepeated();
+        if (mostRepeated != null && mostRepeated.getValue() >= properties.getRepeatedStatementThreshold()) {
+            log.warn("{} ran the same statement {} times, likely an N+1 query: {}", endpoint,
+                    mostRepeated.getValue(), mostRepeated.getKey());
+        }
+    }
+}
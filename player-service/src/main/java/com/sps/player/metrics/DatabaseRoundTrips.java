@@ -0,0 +1,76 @@
+package com.sps.player.metrics;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Counts database round trips (executed JDBC statements) made by the current thread
+ * A JDBC batch counts once, as it is sent in one round trip. Counting is
+ * only active between start() and stop(), so threads outside a request
+ * pay for a ThreadLocal lookup and nothing else. Statements are also
+ * counted by SQL text, so one statement repeated for every row of an
+ * earlier result (an N+1 pattern) can be spotted.
+ *
+ * @author SPS Cricket Club
+ * @version 1.0.0
+ */
+public final class DatabaseRoundTrips {
+
+    private static final ThreadLocal<Counts> COUNTS = new ThreadLocal<>();
+
+    private DatabaseRoundTrips() {
+    }
+
+    /**
+     * Start counting on the current thread
+     */
+    public static void start() {
+        COUNTS.set(new Counts());
+    }
+
+    /**
+     * Stop counting on the current thread
+     * @return Round trips since start(), or an empty count if counting was not started
+     */
+    public static Counts stop() {
+        Counts counts = COUNTS.get();
+        COUNTS.remove();
+        return counts != null ? counts : new Counts();
+    }
+
+    /**
+     * Count one round trip for the given statement, if counting was started
+     * Batches are written in chunks by design and are not counted as repeats.
+     */
+    static void record(String sql, boolean batch) {
+        Counts counts = COUNTS.get();
+        if (counts != null) {
+            counts.total++;
+            if (sql != null && !batch) {
+                counts.bySql.merge(sql, 1, Integer::sum);
+            }
+        }
+    }
+
+    /**
+     * Round trips made by one thread
+     */
+    public static final class Counts {
+
+        private long total;
+        private final Map<String, Integer> bySql = new HashMap<>();
+
+        public long getTotal() {
+            return total;
+        }
+
+        /**
+         * The statement executed most often, or null if none was executed
+         */
+        public Map.Entry<String, Integer> getMostRepeated() {
+            return bySql.entrySet().stream()
+                    .max(Map.Entry.comparingByValue())
+                    .orElse(null);
+        }
+    }
+}
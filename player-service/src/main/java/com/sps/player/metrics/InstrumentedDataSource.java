@@ -0,0 +1,127 @@
+package com.sps.player.metrics;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * DataSource wrapper that reports every executed statement to QueryDiagnostics
+ * with its SQL, bound parameters and execution time, and counts it as a
+ * round trip of the current request. It is a DelegatingDataSource, so the
+ * pool underneath can still be unwrapped for its metrics.
+ *
+ * @author SPS Cricket Club
+ * @version 1.0.0
+ */
+public class InstrumentedDataSource extends DelegatingDataSource {
+
+    private static final Set<String> EXECUTE_METHODS = Set.of(
+            "execute", "executeQuery", "executeUpdate", "executeLargeUpdate", "executeBatch", "executeLargeBatch");
+    private static final Set<String> PREPARE_METHODS = Set.of("prepareStatement", "prepareCall");
+
+    private final QueryDiagnostics diagnostics;
+
+    public InstrumentedDataSource(DataSource target, QueryDiagnostics diagnostics) {
+        super(target);
+        this.diagnostics = diagnostics;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return connection(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return connection(super.getConnection(username, password));
+    }
+
+    private Connection connection(Connection target) {
+        InvocationHandler handler = (proxy, method, args) -> {
+            Object result = invoke(method, target, args);
+            if (result instanceof Statement statement) {
+                String sql = PREPARE_METHODS.contains(method.getName()) ? (String) args[0] : null;
+                return statement(statementInterface(statement), statement, sql);
+            }
+            return result;
+        };
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+                new Class<?>[]{Connection.class}, handler);
+    }
+
+    /**
+     * Wrap a statement; parameters are only kept while the slow-query log includes them
+     * @param preparedSql SQL of a prepared statement, or null for a plain statement
+     */
+    private <S extends Statement> S statement(Class<S> type, S target, String preparedSql) {
+        List<Object> parameters = diagnostics.isParameterLogEnabled() && preparedSql != null
+                ? new ArrayList<>()
+                : null;
+        int[] batchSize = {0};
+        InvocationHandler handler = (proxy, method, args) -> {
+            String name = method.getName();
+            if (EXECUTE_METHODS.contains(name)) {
+                String sql = preparedSql != null ? preparedSql
+                        : args != null && args.length > 0 ? (String) args[0] : null;
+                boolean batch = name.endsWith("Batch");
+                long started = System.nanoTime();
+                try {
+                    return invoke(method, target, args);
+                } finally {
+                    long elapsedNanos = System.nanoTime() - started;
+                    DatabaseRoundTrips.record(sql, batch);
+                    diagnostics.executed(sql, batch ? batchSize[0] : 0,
+                            parameters != null ? Collections.unmodifiableList(parameters) : List.of(), elapsedNanos);
+                    if (batch) {
+                        batchSize[0] = 0;
+                    }
+                }
+            }
+            if (name.equals("addBatch")) {
+                batchSize[0]++;
+            } else if (parameters != null && name.startsWith("set") && args != null && args.length >= 2
+                    && args[0] instanceof Integer index) {
+                while (parameters.size() < index) {
+                    parameters.add(null);
+                }
+                parameters.set(index - 1, name.equals("setNull") ? null : args[1]);
+            } else if (parameters != null && name.equals("clearParameters")) {
+                parameters.clear();
+            }
+            return invoke(method, target, args);
+        };
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, handler));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <S extends Statement> Class<S> statementInterface(S statement) {
+        if (statement instanceof CallableStatement) {
+            return (Class<S>) CallableStatement.class;
+        }
+        if (statement instanceof PreparedStatement) {
+            return (Class<S>) PreparedStatement.class;
+        }
+        return (Class<S>) Statement.class;
+    }
+
+    private static Object invoke(Method method, Object target, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException ex) {
+            throw ex.getCause();
+        }
+    }
+}
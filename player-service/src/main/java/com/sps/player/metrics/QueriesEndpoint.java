@@ -0,0 +1,38 @@
+package com.sps.player.metrics;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Actuator endpoint (/actuator/queries) listing the statements with the highest total execution time
+ * GET ?limit=n returns the top n (default 20); DELETE clears the statistics.
+ *
+ * @author SPS Cricket Club
+ * @version 1.0.0
+ */
+@Component
+@Endpoint(id = "queries")
+@RequiredArgsConstructor
+public class QueriesEndpoint {
+
+    private static final int DEFAULT_LIMIT = 20;
+
+    private final QueryDiagnostics queryDiagnostics;
+
+    @ReadOperation
+    public List<Map<String, Object>> topQueries(@Nullable Integer limit) {
+        return queryDiagnostics.top(limit != null && limit > 0 ? limit : DEFAULT_LIMIT);
+    }
+
+    @DeleteOperation
+    public void reset() {
+        queryDiagnostics.reset();
+    }
+}
@@ -0,0 +1,137 @@
+package com.sps.player.metrics;
+
+import com.sps.player.config.QueryDiagnosticsProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Per-statement execution statistics and the slow-query log
+ * Fed by InstrumentedDataSource with every executed statement. Totals are
+ * kept per distinct SQL text and listed by the queries actuator endpoint.
+ * Slow statements are logged at WARN without their bound parameters, which
+ * hold player data; the parameters follow at DEBUG.
+ *
+ * @author SPS Cricket Club
+ * @version 1.0.0
+ */
+@Component
+@Slf4j
+public class QueryDiagnostics {
+
+    private static final String OTHER = "(other)";
+    private static final String UNKNOWN = "(unknown)";
+    private static final int MAX_PARAMETER_LENGTH = 100;
+
+    private final QueryDiagnosticsProperties properties;
+    private final long slowQueryNanos;
+    private final Map<String, StatementStats> statements = new ConcurrentHashMap<>();
+
+    public QueryDiagnostics(QueryDiagnosticsProperties properties) {
+        this.properties = properties;
+        this.slowQueryNanos = properties.getSlowQueryThreshold().toNanos();
+    }
+
+    public boolean isSlowQueryLogEnabled() {
+        return slowQueryNanos > 0;
+    }
+
+    /**
+     * Whether slow statements are logged with their bound parameters (DEBUG for this class)
+     */
+    public boolean isParameterLogEnabled() {
+        return isSlowQueryLogEnabled() && log.isDebugEnabled();
+    }
+
+    /**
+     * Record one executed statement
+     * @param batchSize Number of batched parameter sets, or 0 if not a batch
+     */
+    void executed(String sql, int batchSize, List<Object> parameters, long elapsedNanos) {
+        String key = sql != null ? sql : UNKNOWN;
+        StatementStats stats = statements.get(key);
+        if (stats == null) {
+            stats = statements.size() < properties.getMaxTrackedStatements()
+                    ? statements.computeIfAbsent(key, ignored -> new StatementStats())
+                    : statements.computeIfAbsent(OTHER, ignored -> new StatementStats());
+        }
+        stats.record(elapsedNanos);
+
+        if (isSlowQueryLogEnabled() && elapsedNanos >= slowQueryNanos) {
+            long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(elapsedNanos);
+            if (batchSize > 0) {
+                log.warn("Slow query ({} ms): {} [batch of {}]", elapsedMillis, key, batchSize);
+            } else {
+                log.warn("Slow query ({} ms): {}", elapsedMillis, key);
+                if (!parameters.isEmpty()) {
+                    log.debug("Slow query parameters: {}", format(parameters));
+                }
+            }
+        }
+    }
+
+    /**
+     * Statements with the highest total execution time
+     */
+    public List<Map<String, Object>> top(int limit) {
+        return statements.entrySet().stream()
+                .sorted(Comparator.comparingLong(
+                        (Map.Entry<String, StatementStats> entry) -> entry.getValue().totalNanos.sum()).reversed())
+                .limit(limit)
+                .map(entry -> entry.getValue().describe(entry.getKey()))
+                .toList();
+    }
+
+    /**
+     * Forget all statement statistics
+     */
+    public void reset() {
+        statements.clear();
+    }
+
+    private static String format(List<Object> parameters) {
+        StringBuilder text = new StringBuilder("[");
+        for (int i = 0; i < parameters.size(); i++) {
+            Object value = parameters.get(i);
+            String formatted = value instanceof CharSequence ? "'" + value + "'" : String.valueOf(value);
+            if (formatted.length() > MAX_PARAMETER_LENGTH) {
+                formatted = formatted.substring(0, MAX_PARAMETER_LENGTH) + "...";
+            }
+            text.append(i > 0 ? ", " : "").append(formatted);
+        }
+        return text.append(']').toString();
+    }
+
+    private static final class StatementStats {
+
+        private final LongAdder count = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final AtomicLong maxNanos = new AtomicLong();
+
+        private void record(long elapsedNanos) {
+            count.increment();
+            totalNanos.add(elapsedNanos);
+            maxNanos.accumulateAndGet(elapsedNanos, Math::max);
+        }
+
+        private Map<String, Object> describe(String sql) {
+            long executions = count.sum();
+            long total = totalNanos.sum();
+            Map<String, Object> description = new LinkedHashMap<>();
+            description.put("sql", sql);
+            description.put("count", executions);
+            description.put("totalMillis", total / 1e6);
+            description.put("meanMillis", executions > 0 ? total / 1e6 / executions : 0.0);
+            description.put("maxMillis", maxNanos.get() / 1e6);
+            return description;
+        }
+    }
+}
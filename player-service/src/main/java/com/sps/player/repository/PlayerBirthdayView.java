@@ -0,0 +1,16 @@
+package com.sps.player.repository;
+
+import java.time.LocalDate;
+
+/**
+ * Projection of a player's id and birthday, used to build the birthday index
+ *
+ * @author SPS Cricket Club
+ * @version 1.0.0
+ */
+public interface PlayerBirthdayView {
+
+    Long getId();
+
+    LocalDate getBirthday();
+}
@@ -0,0 +1,14 @@
+package com.sps.player.repository;
+
+/**
+ * Projection of a player's id and name, used to build in-memory indexes
+ *
+ * @author SPS Cricket Club
+ * @version 1.0.0
+ */
+public interface PlayerNameView {
+
+    Long getId();
+
+    String getName();
+}
@@ -0,0 +1,21 @@
+package com.sps.player.repository;
+
+import com.sps.player.dto.PlayerPatchDTO;
+
+import java.time.LocalDateTime;
+
+/**
+ * Conditional partial updates of players, mixed into PlayerRepository
+ *
+ * @author SPS Cricket Club
+ * @version 1.0.0
+ */
+public interface PlayerPatchRepository {
+
+    /**
+     * Write the non-null fields of the patch, in one UPDATE, if the player still has the given version
+     * The version is incremented and updated_at set to the given time.
+     * @return Number of rows updated: 0 if the player does not exist or has another version
+     */
+    int patch(long id, long version, PlayerPatchDTO patch, LocalDateTime updatedAt);
+}
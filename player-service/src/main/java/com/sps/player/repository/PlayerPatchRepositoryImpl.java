@@ -0,0 +1,54 @@
+package com.sps.player.repository;
+
+import com.sps.player.dto.PlayerPatchDTO;
+import com.sps.player.entity.Player;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaUpdate;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Root;
+import lombok.RequiredArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Builds the UPDATE from the fields present in the patch, so untouched
+ * columns are neither sent nor rewritten
+ *
+ * @author SPS Cricket Club
+ * @version 1.0.0
+ */
+@RequiredArgsConstructor
+public class PlayerPatchRepositoryImpl implements PlayerPatchRepository {
+
+    private final EntityManager entityManager;
+
+    @Override
+    public int patch(long id, long version, PlayerPatchDTO patch, LocalDateTime updatedAt) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaUpdate<Player> update = cb.createCriteriaUpdate(Player.class);
+        Root<Player> p = update.from(Player.class);
+
+        if (patch.getName() != null) {
+            update.set(p.<String>get("name"), patch.getName());
+            update.set(p.<String>get("nameKey"), Player.normalizeName(patch.getName()));
+        }
+        if (patch.getBirthday() != null) {
+            update.set(p.<LocalDate>get("birthday"), patch.getBirthday());
+        }
+        if (patch.getImageName() != null) {
+            update.set(p.<String>get("imageName"), patch.getImageName());
+        }
+        if (patch.getStatus() != null) {
+            update.set(p.<String>get("status"), patch.getStatus());
+        }
+        Path<Long> currentVersion = p.get("version");
+        update.set(currentVersion, cb.sum(currentVersion, 1L));
+        update.set(p.<LocalDateTime>get("updatedAt"), updatedAt);
+        update.set(p.<Long>get("changeSeq"), cb.nullLiteral(Long.class));
+        update.where(cb.equal(p.get("id"), id), cb.equal(currentVersion, version));
+
+        return entityManager.createQuery(update).executeUpdate();
+    }
+}
@@ -1,24 +1,68 @@
 package com.sps.player.repository;
 
+import com.sps.player.dto.PlayerResponseDTO;
 import com.sps.player.entity.Player;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Repository interface for Player entity
  * Provides database operations for Player management
+ * Read queries select straight into PlayerResponseDTO with a constructor
+ * expression, so no entities are instantiated or tracked for them
  *
  * @author SPS Cricket Club
  * @version 1.0.0
  */
 @Repository
-public interface PlayerRepository extends JpaRepository<Player, Long> {
+public interface PlayerRepository extends JpaRepository<Player, Long>, PlayerPatchRepository {
+
+    /**
+     * JPQL constructor expression selecting a PlayerResponseDTO from the player alias p
+     */
+    String RESPONSE_DTO = "new com.sps.player.dto.PlayerResponseDTO("
+            + "p.id, p.name, p.birthday, p.imageName, p.status, p.version, p.createdAt, p.updatedAt)";
+
+    /**
+     * Set-based status change; only rows whose status actually changes are
+     * written, and each gets a new version and update time and waits for a
+     * change sequence. The optional filters are bound as null when unused.
+     */
+    String STATUS_CHANGE = "UPDATE Player p SET p.status = :status, p.version = p.version + 1, "
+            + "p.updatedAt = :updatedAt, p.changeSeq = NULL "
+            + "WHERE (p.status IS NULL OR p.status <> :status) "
+            + "AND (:currentStatus IS NULL OR p.status = :currentStatus) "
+            + "AND (:birthdayFrom IS NULL OR p.birthday BETWEEN :birthdayFrom AND :birthdayTo)";
+
+    /**
+     * Find a player by id as a response DTO
+     * @param id Player id
+     * @return The player, if it exists
+     */
+    @Query("SELECT " + RESPONSE_DTO + " FROM Player p WHERE p.id = :id")
+    Optional<PlayerResponseDTO> findResponseById(@Param("id") Long id);
+
+    /**
+     * Find players by id as response DTOs, in any order
+     * @param ids Player ids
+     * @return The players that exist
+     */
+    @Query("SELECT " + RESPONSE_DTO + " FROM Player p WHERE p.id IN :ids")
+    List<PlayerResponseDTO> findResponsesByIdIn(@Param("ids") Collection<Long> ids);
 
     /**
      * Find players by status
@@ -34,13 +78,6 @@ public interface PlayerRepository extends JpaRepository<Player, Long> {
      */
     List<Player> findByNameContainingIgnoreCase(String name);
 
-    /**
-     * Find player by exact name (case-insensitive)
-     * @param name Player name
-     * @return Optional Player
-     */
-    Optional<Player> findByNameIgnoreCase(String name);
-
     /**
      * Find players born after a specific date
      * @param date Birth date threshold
@@ -63,6 +100,11 @@ public interface PlayerRepository extends JpaRepository<Player, Long> {
      */
     List<Player> findByBirthdayBetween(LocalDate startDate, LocalDate endDate);
 
+    /**
+     * Whether any player references the image (served by idx_players_image_name)
+     */
+    boolean existsByImageName(String imageName);
+
     /**
      * Count active players
      * @return Number of active players
@@ -70,27 +112,191 @@ public interface PlayerRepository extends JpaRepository<Player, Long> {
     long countByStatus(String status);
 
     /**
-     * Check if player exists by name
-     * @param name Player name
-     * @return true if exists, false otherwise
+     * Change the status of every player matching the filters in one UPDATE
+     * @param currentStatus Only players in this status, or null
+     * @param birthdayFrom Start of the birthday range, or null
+     * @param birthdayTo End of the birthday range, or null
+     * @return Number of players whose status changed
      */
-    boolean existsByNameIgnoreCase(String name);
+    @Modifying
+    @Query(STATUS_CHANGE)
+    int updateStatusWhere(@Param("status") String status,
+                          @Param("currentStatus") String currentStatus,
+                          @Param("birthdayFrom") LocalDate birthdayFrom,
+                          @Param("birthdayTo") LocalDate birthdayTo,
+                          @Param("updatedAt") LocalDateTime updatedAt);
 
     /**
-     * Custom query to find players by age range
-     * @param minAge Minimum age
-     * @param maxAge Maximum age
-     * @return List of players within age range
+     * Change the status of the given players that match the filters in one UPDATE
+     * @return Number of players whose status changed
      */
-    @Query("SELECT p FROM Player p WHERE " +
-            "FUNCTION('YEAR', CURRENT_DATE) - FUNCTION('YEAR', p.birthday) " +
-            "BETWEEN :minAge AND :maxAge")
-    List<Player> findPlayersByAgeRange(@Param("minAge") int minAge,
-                                       @Param("maxAge") int maxAge);
+    @Modifying
+    @Query(STATUS_CHANGE + " AND p.id IN :ids")
+    int updateStatusByIdIn(@Param("ids") Collection<Long> ids,
+                           @Param("status") String status,
+                           @Param("currentStatus") String currentStatus,
+                           @Param("birthdayFrom") LocalDate birthdayFrom,
+                           @Param("birthdayTo") LocalDate birthdayTo,
+                           @Param("updatedAt") LocalDateTime updatedAt);
+
+    /**
+     * Count players per status in a single query
+     * @return One row per distinct status
+     */
+    @Query("SELECT p.status AS status, COUNT(p) AS count FROM Player p GROUP BY p.status")
+    List<StatusCountView> countGroupByStatus();
+
+    /**
+     * Find which of the given normalized names already exist, in one query on uk_players_name_key
+     * @param nameKeys Normalized player names
+     * @return Normalized names that are already taken
+     */
+    @Query("SELECT p.nameKey FROM Player p WHERE p.nameKey IN :nameKeys")
+    List<String> findExistingNameKeys(@Param("nameKeys") Collection<String> nameKeys);
 
     /**
      * Find all active players ordered by name
      * @return List of active players sorted by name
      */
     List<Player> findByStatusOrderByNameAsc(String status);
+
+    /**
+     * Keyset page of players ordered by id
+     * @param afterId Id of the last player on the previous page (0 for the first page)
+     * @param pageable Page size (page number must be 0)
+     * @return Players with id greater than afterId
+     */
+    @Query("SELECT " + RESPONSE_DTO + " FROM Player p WHERE p.id > :afterId ORDER BY p.id ASC")
+    List<PlayerResponseDTO> findPageOrderById(@Param("afterId") long afterId, Pageable pageable);
+
+    /**
+     * Keyset page of players ordered by name, then id
+     * @param afterName Name of the last player on the previous page ("" for the first page)
+     * @param afterId Id of the last player on the previous page (0 for the first page)
+     * @param pageable Page size (page number must be 0)
+     * @return Players sorting after (afterName, afterId)
+     */
+    @Query("SELECT " + RESPONSE_DTO + " FROM Player p WHERE " +
+            "p.name > :afterName OR (p.name = :afterName AND p.id > :afterId) " +
+            "ORDER BY p.name ASC, p.id ASC")
+    List<PlayerResponseDTO> findPageOrderByName(@Param("afterName") String afterName,
+                                                @Param("afterId") long afterId,
+                                                Pageable pageable);
+
+    /**
+     * Keyset page of players with a status, ordered by id (served by idx_status)
+     * @param status Player status
+     * @param afterId Id of the last player on the previous page (0 for the first page)
+     * @param pageable Page size (page number must be 0)
+     * @return Players with the status and id greater than afterId
+     */
+    @Query("SELECT " + RESPONSE_DTO + " FROM Player p WHERE p.status = :status AND p.id > :afterId " +
+            "ORDER BY p.id ASC")
+    List<PlayerResponseDTO> findPageByStatusOrderById(@Param("status") String status,
+                                                      @Param("afterId") long afterId,
+                                                      Pageable pageable);
+
+    /**
+     * Keyset page of players whose name contains a term, ordered by name, then id (served by idx_name)
+     * @param term Search term
+     * @param afterName Name of the last player on the previous page ("" for the first page)
+     * @param afterId Id of the last player on the previous page (0 for the first page)
+     * @param pageable Page size (page number must be 0)
+     * @return Matching players sorting after (afterName, afterId)
+     */
+    @Query("SELECT " + RESPONSE_DTO + " FROM Player p WHERE " +
+            "LOWER(p.name) LIKE LOWER(CONCAT('%', :term, '%')) " +
+            "AND (p.name > :afterName OR (p.name = :afterName AND p.id > :afterId)) " +
+            "ORDER BY p.name ASC, p.id ASC")
+    List<PlayerResponseDTO> searchPageOrderByName(@Param("term") String term,
+                                                  @Param("afterName") String afterName,
+                                                  @Param("afterId") long afterId,
+                                                  Pageable pageable);
+
+    /**
+     * Keyset page of players born between two dates, ordered by birthday, then id (served by idx_birthday)
+     * @param startDate Start date
+     * @param endDate End date
+     * @param afterBirthday Birthday of the last player on the previous page (startDate for the first page)
+     * @param afterId Id of the last player on the previous page (0 for the first page)
+     * @param pageable Page size (page number must be 0)
+     * @return Players in the range sorting after (afterBirthday, afterId)
+     */
+    @Query("SELECT " + RESPONSE_DTO + " FROM Player p WHERE " +
+            "p.birthday BETWEEN :startDate AND :endDate " +
+            "AND (p.birthday > :afterBirthday OR (p.birthday = :afterBirthday AND p.id > :afterId)) " +
+            "ORDER BY p.birthday ASC, p.id ASC")
+    List<PlayerResponseDTO> findPageByBirthdayBetween(@Param("startDate") LocalDate startDate,
+                                                      @Param("endDate") LocalDate endDate,
+                                                      @Param("afterBirthday") LocalDate afterBirthday,
+                                                      @Param("afterId") long afterId,
+                                                      Pageable pageable);
+
+    /**
+     * Keyset page of players changed after a point, in change sequence order, then id
+     * (served by idx_players_change_seq); players not stamped yet are left for a later page
+     * @param afterSeq Change sequence of the last player on the previous page
+     * @param afterId Id of the last player on the previous page
+     * @param pageable Page size (page number must be 0)
+     * @return Players changed after (afterSeq, afterId)
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query("SELECT p FROM Player p WHERE " +
+            "p.changeSeq > :afterSeq OR (p.changeSeq = :afterSeq AND p.id > :afterId) " +
+            "ORDER BY p.changeSeq ASC, p.id ASC")
+    List<Player> findPageChangedAfter(@Param("afterSeq") long afterSeq,
+                                      @Param("afterId") long afterId,
+                                      Pageable pageable);
+
+    /**
+     * Lock the committed players that have no change sequence yet
+     * Rows still locked by an uncommitted write are skipped; the bump that
+     * follows that write's commit stamps them.
+     * @return Ids of the locked players
+     */
+    @Query(value = "SELECT id FROM players WHERE change_seq IS NULL FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<Long> lockUnsequencedIds();
+
+    /**
+     * Stamp players with a change sequence, leaving their version and update time alone
+     * @return Number of players stamped
+     */
+    @Modifying
+    @Query("UPDATE Player p SET p.changeSeq = :changeSeq WHERE p.id IN :ids")
+    int updateChangeSeq(@Param("ids") Collection<Long> ids, @Param("changeSeq") long changeSeq);
+
+    /**
+     * Stream every player in id order for bulk export
+     * Rows are fetched from the driver in batches of the fetch size, so the
+     * caller must consume the stream inside a transaction and close it
+     * @return Stream of all players
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "false")
+    })
+    @Query("SELECT " + RESPONSE_DTO + " FROM Player p ORDER BY p.id ASC")
+    Stream<PlayerResponseDTO> streamAllOrderById();
+
+    /**
+     * Stream the id and name of every player, used to build the name index
+     * @return Stream of id/name projections
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT p.id AS id, p.name AS name FROM Player p")
+    Stream<PlayerNameView> streamAllNames();
+
+    /**
+     * Stream the id and birthday of every player in (birthday, id) order, used to build the birthday index
+     * @return Stream of id/birthday projections
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT p.id AS id, p.birthday AS birthday FROM Player p ORDER BY p.birthday ASC, p.id ASC")
+    Stream<PlayerBirthdayView> streamAllBirthdays();
 }
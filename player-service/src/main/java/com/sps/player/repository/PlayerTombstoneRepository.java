@@ -0,0 +1,69 @@
+package com.sps.player.repository;
+
+import com.sps.player.entity.PlayerTombstone;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Repository interface for PlayerTombstone entity
+ *
+ * @author SPS Cricket Club
+ * @version 1.0.0
+ */
+@Repository
+public interface PlayerTombstoneRepository extends JpaRepository<PlayerTombstone, Long> {
+
+    /**
+     * Keyset page of tombstones in change sequence order, then player id (served by idx_tombstones_change_seq)
+     * @param afterSeq Change sequence of the last tombstone on the previous page
+     * @param afterPlayerId Player id of the last tombstone on the previous page
+     * @param pageable Page size (page number must be 0)
+     * @return Tombstones after (afterSeq, afterPlayerId)
+     */
+    @Query("SELECT t FROM PlayerTombstone t WHERE " +
+            "t.changeSeq > :afterSeq OR (t.changeSeq = :afterSeq AND t.playerId > :afterPlayerId) " +
+            "ORDER BY t.changeSeq ASC, t.playerId ASC")
+    List<PlayerTombstone> findPageDeletedAfter(@Param("afterSeq") long afterSeq,
+                                               @Param("afterPlayerId") long afterPlayerId,
+                                               Pageable pageable);
+
+    /**
+     * Highest change sequence of any tombstone, where a first sync starts reading deletions
+     * @return The sequence, or empty if no tombstone has been stamped
+     */
+    @Query("SELECT MAX(t.changeSeq) FROM PlayerTombstone t")
+    Optional<Long> findMaxChangeSeq();
+
+    /**
+     * Lock the committed tombstones that have no change sequence yet, skipping uncommitted ones
+     * @return Player ids of the locked tombstones
+     */
+    @Query(value = "SELECT player_id FROM player_tombstones WHERE change_seq IS NULL FOR UPDATE SKIP LOCKED",
+            nativeQuery = true)
+    List<Long> lockUnsequencedIds();
+
+    /**
+     * Stamp tombstones with a change sequence
+     * @return Number of tombstones stamped
+     */
+    @Modifying
+    @Query("UPDATE PlayerTombstone t SET t.changeSeq = :changeSeq WHERE t.playerId IN :playerIds")
+    int updateChangeSeq(@Param("playerIds") Collection<Long> playerIds, @Param("changeSeq") long changeSeq);
+
+    /**
+     * Delete tombstones older than the cutoff in one statement
+     * @return Number of tombstones deleted
+     */
+    @Modifying
+    @Query("DELETE FROM PlayerTombstone t WHERE t.deletedAt < :cutoff")
+    int deleteDeletedBefore(@Param("cutoff") LocalDateTime cutoff);
+}
@@ -0,0 +1,35 @@
+package com.sps.player.repository;
+
+import com.sps.player.entity.RosterRevision;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+/**
+ * Repository interface for RosterRevision entity
+ *
+ * @author SPS Cricket Club
+ * @version 1.0.0
+ */
+@Repository
+public interface RosterRevisionRepository extends JpaRepository<RosterRevision, Integer> {
+
+    /**
+     * Current shared revision
+     * @return The revision, or empty if the row has not been created yet
+     */
+    @Query("SELECT r.revision FROM RosterRevision r WHERE r.id = " + RosterRevision.ROW_ID)
+    Optional<Long> findRevision();
+
+    /**
+     * Increment the revision; the row stays locked until the caller's transaction ends,
+     * so call it in a short transaction of its own rather than in a write transaction
+     * @return Number of rows updated (0 if the row has not been created yet)
+     */
+    @Modifying
+    @Query("UPDATE RosterRevision r SET r.revision = r.revision + 1 WHERE r.id = " + RosterRevision.ROW_ID)
+    int increment();
+}
@@ -0,0 +1,14 @@
+package com.sps.player.repository;
+
+/**
+ * Projection of a player status and the number of players that have it
+ *
+ * @author SPS Cricket Club
+ * @version 1.0.0
+ */
+public interface StatusCountView {
+
+    String getStatus();
+
+    Long getCount();
+}
@@ -0,0 +1,36 @@
+package com.sps.player.service;
+
+import com.sps.player.exception.InvalidRequestException;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.time.LocalDate;
+
+/**
+ * Inclusive birthday range matching an inclusive age range on a given day
+ * A player is minAge or older when born on or before today minus minAge
+ * years, and at most maxAge when born after today minus (maxAge + 1)
+ * years. This agrees with Player.getAge() (Period.between), including
+ * 29 February birthdays, and lets the query use a plain range on birthday.
+ *
+ * @author SPS Cricket Club
+ * @version 1.0.0
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+public class BirthdayWindow {
+
+    private final LocalDate from;
+    private final LocalDate to;
+
+    public static BirthdayWindow forAgeRange(int minAge, int maxAge, LocalDate today) {
+        if (minAge < 0 || maxAge < minAge) {
+            throw new InvalidRequestException("Age range must satisfy 0 <= minAge <= maxAge");
+        }
+        LocalDate from = today.minusYears(maxAge + 1L).plusDays(1);
+        LocalDate to = today.minusYears(minAge);
+        return new BirthdayWindow(from, to);
+    }
+}
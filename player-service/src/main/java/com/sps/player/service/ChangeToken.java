@@ -0,0 +1,81 @@
+package com.sps.player.service;
+
+import com.sps.player.exception.InvalidRequestException;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * Opaque delta sync token
+ * Holds when it was issued and two keyset positions in change sequence
+ * order: the (changeSeq, id) of the last changed player and the
+ * (changeSeq, playerId) of the last tombstone the client has seen
+ *
+ * @author SPS Cricket Club
+ * @version 1.0.0
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public final class ChangeToken {
+
+    private static final String VERSION = "v2";
+    private static final String SEPARATOR = "|";
+
+    /**
+     * Tokens of the time-ordered feed, whose positions cannot be carried over
+     */
+    private static final String EXPIRED_VERSION = "v1";
+
+    private final LocalDateTime issuedAt;
+    private final long lastUpdatedSeq;
+    private final long lastUpdatedId;
+    private final long lastDeletedSeq;
+    private final long lastDeletedId;
+
+    public static ChangeToken of(LocalDateTime issuedAt, long lastUpdatedSeq, long lastUpdatedId,
+                                 long lastDeletedSeq, long lastDeletedId) {
+        return new ChangeToken(issuedAt, lastUpdatedSeq, lastUpdatedId, lastDeletedSeq, lastDeletedId);
+    }
+
+    /**
+     * Decode a sync token, or return null for a first (full) sync
+     * Tokens of the previous format decode as issued at LocalDateTime.MIN, so
+     * they are older than any tombstone retention and the client resyncs.
+     *
+     * @throws InvalidRequestException if the token is malformed
+     */
+    public static ChangeToken decode(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", 6);
+            if (parts.length == 5 && EXPIRED_VERSION.equals(parts[0])) {
+                return new ChangeToken(LocalDateTime.MIN, 0L, 0L, 0L, 0L);
+            }
+            if (parts.length != 6 || !VERSION.equals(parts[0])) {
+                throw new InvalidRequestException("Invalid sync token");
+            }
+            return new ChangeToken(LocalDateTime.parse(parts[1]), Long.parseLong(parts[2]),
+                    Long.parseLong(parts[3]), Long.parseLong(parts[4]), Long.parseLong(parts[5]));
+        } catch (InvalidRequestException ex) {
+            throw ex;
+        } catch (RuntimeException ex) {
+            throw new InvalidRequestException("Invalid sync token", ex);
+        }
+    }
+
+    /**
+     * Encode this token as an opaque URL-safe string
+     */
+    public String encode() {
+        String raw = VERSION + SEPARATOR + issuedAt + SEPARATOR + lastUpdatedSeq + SEPARATOR + lastUpdatedId
+                + SEPARATOR + lastDeletedSeq + SEPARATOR + lastDeletedId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,388 @@
+package com.sps.player.service;
+
+import com.sps.player.dto.PlayerResponseDTO;
+import com.sps.player.event.PlayerChangedEvent;
+import com.sps.player.event.RosterStaleEvent;
+import com.sps.player.repository.PlayerBirthdayView;
+import com.sps.player.repository.PlayerRepository;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+/**
+ * Optional in-memory index of player birthdays (player.birthday-index.enabled)
+ * Keeps parallel primitive arrays of epoch days and ids sorted by
+ * (birthday, id), so a birthday range page is two binary searches and a
+ * short array walk. Loaded once the application is ready and kept current
+ * from committed player changes. New entries are buffered and merged into
+ * the arrays in one pass before the next read, so a bulk create costs one
+ * merge rather than one array shift per player.
+ *
+ * @author SPS Cricket Club
+ * @version 1.0.0
+ */
+@Component
+@ConditionalOnProperty(prefix = "player.birthday-index", name = "enabled", havingValue = "true")
+@Slf4j
+public class PlayerBirthdayIndex {
+
+    /**
+     * Buffered entries up to this many are inserted one by one; more are merged in one pass
+     */
+    private static final int MERGE_MIN = 16;
+
+    /**
+     * Buffered entries are merged without waiting for a read once there are this many
+     */
+    private static final int MERGE_MAX = 4096;
+
+    private final PlayerRepository playerRepository;
+    private final PlatformTransactionManager transactionManager;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final ReentrantLock loadLock = new ReentrantLock();
+    private int[] days = new int[0];
+    private long[] ids = new long[0];
+    private int size;
+    private Entries inserts = new Entries();
+    private volatile int buffered;
+    private final List<PlayerChangedEvent> pending = new ArrayList<>();
+    private volatile boolean ready;
+
+    public PlayerBirthdayIndex(PlayerRepository playerRepository, PlatformTransactionManager transactionManager) {
+        this.playerRepository = playerRepository;
+        this.transactionManager = transactionManager;
+    }
+
+    /**
+     * Whether the initial load has finished and range results are complete
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * Number of indexed players
+     */
+    public int size() {
+        mergeInserts();
+        lock.readLock().lock();
+        try {
+            return size;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Ids of players born in [from, to] that sort after (afterBirthday, afterId), in (birthday, id) order
+     * @param limit Maximum number of ids to return
+     */
+    public Page page(LocalDate from, LocalDate to, LocalDate afterBirthday, long afterId, int limit) {
+        int toDay = (int) to.toEpochDay();
+        mergeInserts();
+        lock.readLock().lock();
+        try {
+            int position = Math.max(firstAfter((int) afterBirthday.toEpochDay(), afterId),
+                    firstAfter((int) from.toEpochDay() - 1, Long.MAX_VALUE));
+            List<Long> pageIds = new ArrayList<>(Math.min(limit, 64));
+            int last = -1;
+            while (position < size && days[position] <= toDay && pageIds.size() < limit) {
+                pageIds.add(ids[position]);
+                last = position++;
+            }
+            boolean hasMore = position < size && days[position] <= toDay;
+            return last < 0
+                    ? new Page(pageIds, false, null, 0L)
+                    : new Page(pageIds, hasMore, LocalDate.ofEpochDay(days[last]), ids[last]);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Load the index from the database; results fall back to the database until it finishes
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        loadLock.lock();
+        try {
+            lock.writeLock().lock();
+            try {
+                ready = false;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            long started = System.currentTimeMillis();
+            Entries loader = new Entries();
+            new TransactionTemplate(transactionManager).execute(status -> {
+                // Rows arrive in (birthday, id) order, so they are simply appended
+                try (Stream<PlayerBirthdayView> rows = playerRepository.streamAllBirthdays()) {
+                    rows.forEach(row -> loader.append((int) row.getBirthday().toEpochDay(), row.getId()));
+                }
+                return null;
+            });
+
+            lock.writeLock().lock();
+            try {
+                days = loader.days;
+                ids = loader.ids;
+                size = loader.size;
+                inserts = new Entries();
+                buffered = 0;
+                // Changes committed while loading are replayed; the merge drops entries loaded and replayed
+                pending.forEach(this::apply);
+                pending.clear();
+                merge();
+                ready = true;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            log.info("Player birthday index loaded {} birthdays in {} ms", loader.size,
+                    System.currentTimeMillis() - started);
+        } finally {
+            loadLock.unlock();
+        }
+    }
+
+    /**
+     * Reload when players were changed by another instance
+     */
+    @EventListener
+    public void onRosterStale(RosterStaleEvent event) {
+        load();
+    }
+
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener
+    public void onPlayerChanged(PlayerChangedEvent event) {
+        lock.writeLock().lock();
+        try {
+            if (ready) {
+                apply(event);
+            } else {
+                pending.add(event);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void apply(PlayerChangedEvent event) {
+        long id = event.getPlayerId();
+        PlayerResponseDTO previous = event.getPrevious();
+        PlayerResponseDTO current = event.getCurrent();
+        if (previous != null && current != null && previous.getBirthday() != null
+                && previous.getBirthday().equals(current.getBirthday()) && indexOf(previous, id) >= 0) {
+            return;
+        }
+        if (previous != null) {
+            remove(previous, id);
+        }
+        if (current != null && current.getBirthday() != null) {
+            inserts.append((int) current.getBirthday().toEpochDay(), id);
+            buffered = inserts.size;
+            if (inserts.size >= MERGE_MAX) {
+                merge();
+            }
+        }
+    }
+
+    private void remove(PlayerResponseDTO previous, long id) {
+        int index = indexOf(previous, id);
+        if (index < 0 && inserts.remove(id)) {
+            buffered = inserts.size;
+            return;
+        }
+        if (index < 0) {
+            // The previous birthday is unknown or stale, fall back to a scan
+            for (int i = 0; i < size; i++) {
+                if (ids[i] == id) {
+                    index = i;
+                    break;
+                }
+            }
+        }
+        if (index >= 0) {
+            System.arraycopy(days, index + 1, days, index, size - index - 1);
+            System.arraycopy(ids, index + 1, ids, index, size - index - 1);
+            size--;
+        }
+    }
+
+    private int indexOf(PlayerResponseDTO previous, long id) {
+        if (previous == null || previous.getBirthday() == null) {
+            return -1;
+        }
+        int day = (int) previous.getBirthday().toEpochDay();
+        int index = firstAfter(day, id - 1);
+        return index < size && days[index] == day && ids[index] == id ? index : -1;
+    }
+
+    private void mergeInserts() {
+        if (buffered == 0) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            merge();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Move the buffered entries into the sorted arrays, dropping entries already present
+     * A few are inserted in place; more are sorted and merged in one pass.
+     */
+    private void merge() {
+        int count = inserts.size;
+        if (count <= MERGE_MIN) {
+            for (int i = 0; i < count; i++) {
+                insert(inserts.days[i], inserts.ids[i]);
+            }
+        } else {
+            Entries sorted = inserts.sorted();
+            int[] mergedDays = new int[size + count];
+            long[] mergedIds = new long[size + count];
+            int merged = 0;
+            int i = 0;
+            int j = 0;
+            while (i < size || j < count) {
+                boolean fromArrays = j == count || (i < size && (days[i] < sorted.days[j]
+                        || (days[i] == sorted.days[j] && ids[i] <= sorted.ids[j])));
+                int day = fromArrays ? days[i] : sorted.days[j];
+                long id = fromArrays ? ids[i++] : sorted.ids[j++];
+                if (merged > 0 && mergedDays[merged - 1] == day && mergedIds[merged - 1] == id) {
+                    continue;
+                }
+                mergedDays[merged] = day;
+                mergedIds[merged] = id;
+                merged++;
+            }
+            days = mergedDays;
+            ids = mergedIds;
+            size = merged;
+        }
+        inserts = new Entries();
+        buffered = 0;
+    }
+
+    private void insert(int day, long id) {
+        int index = firstAfter(day, id);
+        if (index > 0 && days[index - 1] == day && ids[index - 1] == id) {
+            return;
+        }
+        if (size == days.length) {
+            int capacity = Math.max(16, size * 2);
+            days = Arrays.copyOf(days, capacity);
+            ids = Arrays.copyOf(ids, capacity);
+        }
+        System.arraycopy(days, index, days, index + 1, size - index);
+        System.arraycopy(ids, index, ids, index + 1, size - index);
+        days[index] = day;
+        ids[index] = id;
+        size++;
+    }
+
+    /**
+     * Position of the first entry sorting strictly after (day, id)
+     */
+    private int firstAfter(int day, long id) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (days[mid] < day || (days[mid] == day && ids[mid] <= id)) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Growable (day, id) pairs: rows being loaded, or entries waiting to be merged
+     */
+    private static final class Entries {
+
+        private int[] days = new int[64];
+        private long[] ids = new long[64];
+        private int size;
+
+        void append(int day, long id) {
+            if (size == days.length) {
+                days = Arrays.copyOf(days, size * 2);
+                ids = Arrays.copyOf(ids, size * 2);
+            }
+            days[size] = day;
+            ids[size] = id;
+            size++;
+        }
+
+        /**
+         * Remove the entry with the id, if any; order is not kept
+         */
+        boolean remove(long id) {
+            for (int i = 0; i < size; i++) {
+                if (ids[i] == id) {
+                    size--;
+                    days[i] = days[size];
+                    ids[i] = ids[size];
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        /**
+         * Copy sorted by (day, id)
+         */
+        Entries sorted() {
+            Integer[] order = new Integer[size];
+            for (int i = 0; i < size; i++) {
+                order[i] = i;
+            }
+            Arrays.sort(order, (a, b) -> days[a] != days[b]
+                    ? Integer.compare(days[a], days[b]) : Long.compare(ids[a], ids[b]));
+            Entries sorted = new Entries();
+            sorted.days = new int[size];
+            sorted.ids = new long[size];
+            for (int index : order) {
+                sorted.append(days[index], ids[index]);
+            }
+            return sorted;
+        }
+    }
+
+    /**
+     * One page of ids from the index, with the sort key of its last entry
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class Page {
+
+        private final List<Long> ids;
+        private final boolean hasMore;
+        private final LocalDate lastBirthday;
+        private final long lastId;
+    }
+}
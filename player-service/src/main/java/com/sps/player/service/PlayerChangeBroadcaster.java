@@ -0,0 +1,363 @@
+package com.sps.player.service;
+
+import com.sps.player.config.PlayerSyncProperties;
+import com.sps.player.dto.PlayerChangeEventDTO;
+import com.sps.player.event.PlayerChangedEvent;
+import com.sps.player.event.PlayerStatusBulkChangedEvent;
+import com.sps.player.event.RosterStaleEvent;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Fans committed player changes out to Server-Sent Events clients
+ * Every change gets an event id and is kept in a bounded history, so a
+ * reconnecting client resumes from its Last-Event-ID. Publishing only
+ * queues the change for each client; sending runs on the broadcaster's own
+ * bounded pool of sender threads, one drain at a time per client, so slow
+ * clients cannot take threads from the rest of the application. A client's
+ * queue holds the latest change per player, so a slow client receives
+ * coalesced changes, and one that falls further behind than the queue
+ * capacity is sent a resync event and disconnected. A client whose send
+ * blocks for longer than the send timeout is dropped at once and closed
+ * when the write gives up.
+ *
+ * @author SPS Cricket Club
+ * @version 1.0.0
+ */
+@Component
+@Slf4j
+public class PlayerChangeBroadcaster {
+
+    static final String RESYNC = "resync";
+
+    /**
+     * One published change; sequences increase by one per change
+     */
+    private record Change(long sequence, PlayerChangeEventDTO data) {
+    }
+
+    private final PlayerSyncProperties properties;
+    private final ThreadPoolTaskExecutor senders;
+
+    /**
+     * Prefix of this instance's event ids, so ids issued before a restart are not mistaken for current ones
+     */
+    private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final ArrayDeque<Change> history = new ArrayDeque<>();
+    private final Set<Client> clients = new HashSet<>();
+    private long sequence;
+
+    public PlayerChangeBroadcaster(PlayerSyncProperties properties) {
+        this.properties = properties;
+        // Not a bean: another Executor bean would replace Spring Boot's applicationTaskExecutor
+        this.senders = new ThreadPoolTaskExecutor();
+        senders.setCorePoolSize(properties.getStreamSenderThreads());
+        senders.setMaxPoolSize(properties.getStreamSenderThreads());
+        senders.setThreadNamePrefix("change-stream-");
+        senders.setWaitForTasksToCompleteOnShutdown(false);
+        senders.initialize();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        senders.shutdown();
+    }
+
+    /**
+     * Open a stream of changes
+     * @param lastEventId Id of the last event the client received, to resume after it, or null
+     */
+    public SseEmitter subscribe(String lastEventId) {
+        SseEmitter emitter = newEmitter(properties.getStreamTimeout().toMillis());
+        Client client = new Client(emitter);
+        emitter.onCompletion(() -> remove(client));
+        emitter.onError(ex -> remove(client));
+        boolean drain;
+        lock.lock();
+        try {
+            if (lastEventId != null) {
+                replay(client, sequence(lastEventId));
+            }
+            clients.add(client);
+            drain = client.startDrain();
+        } finally {
+            lock.unlock();
+        }
+        if (drain) {
+            senders.execute(client::drain);
+        }
+        log.debug("Change stream opened ({} clients)", clientCount());
+        return emitter;
+    }
+
+    SseEmitter newEmitter(long timeoutMillis) {
+        return new SseEmitter(timeoutMillis);
+    }
+
+    /**
+     * Drop clients whose current send has blocked for longer than the send timeout
+     * The blocked write still holds its sender thread until the container's
+     * write timeout fails it; the client gets no more changes meanwhile, and
+     * its stream is completed as soon as the write returns.
+     */
+    @Scheduled(fixedDelay = 1, timeUnit = TimeUnit.SECONDS)
+    public void dropStalledClients() {
+        long cutoff = System.nanoTime() - properties.getStreamSendTimeout().toNanos();
+        List<Client> stalled = new ArrayList<>();
+        lock.lock();
+        try {
+            for (Client client : clients) {
+                if (client.sendingSince != 0 && client.sendingSince - cutoff < 0) {
+                    stalled.add(client);
+                }
+            }
+            for (Client client : stalled) {
+                client.closed = true;
+                client.pending.clear();
+                clients.remove(client);
+            }
+        } finally {
+            lock.unlock();
+        }
+        if (!stalled.isEmpty()) {
+            log.info("Dropped {} change stream clients blocked for more than {}", stalled.size(),
+                    properties.getStreamSendTimeout());
+        }
+    }
+
+    public int clientCount() {
+        lock.lock();
+        try {
+            return clients.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @TransactionalEventListener
+    public void onPlayerChanged(PlayerChangedEvent event) {
+        publish(new PlayerChangeEventDTO(event.getType().name().toLowerCase(Locale.ROOT),
+                event.getPlayerId(), event.getCurrent()));
+    }
+
+    /**
+     * The changed rows are not known individually, so clients resync
+     */
+    @TransactionalEventListener
+    public void onPlayerStatusBulkChanged(PlayerStatusBulkChangedEvent event) {
+        publish(new PlayerChangeEventDTO(RESYNC, null, null));
+    }
+
+    /**
+     * Changes written by other instances are not known individually, so clients resync
+     */
+    @EventListener
+    public void onRosterStale(RosterStaleEvent event) {
+        publish(new PlayerChangeEventDTO(RESYNC, null, null));
+    }
+
+    private void publish(PlayerChangeEventDTO data) {
+        List<Client> toDrain = new ArrayList<>();
+        lock.lock();
+        try {
+            Change change = new Change(++sequence, data);
+            history.addLast(change);
+            while (history.size() > properties.getStreamHistory()) {
+                history.removeFirst();
+            }
+            for (Client client : clients) {
+                client.offer(change);
+                if (client.startDrain()) {
+                    toDrain.add(client);
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+        for (Client client : toDrain) {
+            senders.execute(client::drain);
+        }
+    }
+
+    /**
+     * Queue the history after a client's last event, or a resync if it is no longer held
+     */
+    private void replay(Client client, long after) {
+        Change oldest = history.peekFirst();
+        if (after < 0 || after > sequence || (after < sequence && (oldest == null || oldest.sequence() > after + 1))) {
+            client.offer(new Change(sequence, new PlayerChangeEventDTO(RESYNC, null, null)));
+            return;
+        }
+        for (Change change : history) {
+            if (change.sequence() > after) {
+                client.offer(change);
+            }
+        }
+    }
+
+    private void remove(Client client) {
+        lock.lock();
+        try {
+            client.closed = true;
+            client.pending.clear();
+            clients.remove(client);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private String eventId(long sequence) {
+        return epoch + "-" + sequence;
+    }
+
+    /**
+     * Sequence of one of this instance's event ids, or -1 for any other id
+     */
+    private long sequence(String eventId) {
+        int separator = eventId.indexOf('-');
+        if (separator < 0 || !eventId.substring(0, separator).equals(epoch)) {
+            return -1;
+        }
+        try {
+            return Long.parseLong(eventId.substring(separator + 1));
+        } catch (NumberFormatException ex) {
+            return -1;
+        }
+    }
+
+    /**
+     * One connected client; its state is guarded by the broadcaster's lock
+     */
+    private final class Client {
+
+        private final SseEmitter emitter;
+
+        /**
+         * Unsent changes by player id (null for resync), oldest first
+         */
+        private final Map<Long, Change> pending = new LinkedHashMap<>();
+        private boolean overflowed;
+        private boolean draining;
+        private boolean closed;
+
+        /**
+         * System.nanoTime() when the send in progress started, or 0
+         */
+        private long sendingSince;
+
+        private Client(SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+
+        private void offer(Change change) {
+            if (closed || overflowed) {
+                return;
+            }
+            Long key = change.data().getPlayerId();
+            // Re-inserted so the map stays in sequence order
+            pending.remove(key);
+            pending.put(key, change);
+            if (pending.size() > properties.getStreamQueueCapacity()) {
+                pending.clear();
+                overflowed = true;
+            }
+        }
+
+        private boolean startDrain() {
+            if (draining || closed || (pending.isEmpty() && !overflowed)) {
+                return false;
+            }
+            draining = true;
+            return true;
+        }
+
+        /**
+         * Send queued changes until none are left
+         */
+        private void drain() {
+            while (true) {
+                Change next;
+                boolean resync = false;
+                lock.lock();
+                try {
+                    if (closed) {
+                        draining = false;
+                        return;
+                    }
+                    // Never 0, which means not sending
+                    sendingSince = System.nanoTime() | 1;
+                    if (overflowed) {
+                        resync = true;
+                        next = new Change(sequence, new PlayerChangeEventDTO(RESYNC, null, null));
+                    } else {
+                        Iterator<Change> it = pending.values().iterator();
+                        if (!it.hasNext()) {
+                            sendingSince = 0;
+                            draining = false;
+                            return;
+                        }
+                        next = it.next();
+                        it.remove();
+                    }
+                } finally {
+                    lock.unlock();
+                }
+                boolean dropped;
+                try {
+                    emitter.send(SseEmitter.event()
+                            .id(eventId(next.sequence()))
+                            .name(next.data().getType())
+                            .data(next.data(), MediaType.APPLICATION_JSON));
+                    lock.lock();
+                    try {
+                        sendingSince = 0;
+                        dropped = closed;
+                        if (dropped) {
+                            draining = false;
+                        }
+                    } finally {
+                        lock.unlock();
+                    }
+                    if (dropped) {
+                        // Dropped as stalled while this send was blocked
+                        emitter.complete();
+                        return;
+                    }
+                    if (resync) {
+                        log.info("Change stream client fell more than {} players behind, sent resync",
+                                properties.getStreamQueueCapacity());
+                        remove(this);
+                        emitter.complete();
+                        return;
+                    }
+                } catch (IOException | IllegalStateException ex) {
+                    log.debug("Change stream client disconnected: {}", ex.getMessage());
+                    remove(this);
+                    return;
+                }
+            }
+        }
+    }
+}
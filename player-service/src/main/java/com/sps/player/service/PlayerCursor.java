@@ -0,0 +1,104 @@
+package com.sps.player.service;
+
+import com.sps.player.dto.PlayerResponseDTO;
+import com.sps.player.entity.Player;
+import com.sps.player.exception.InvalidRequestException;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Base64;
+
+/**
+ * Opaque keyset pagination cursor
+ * Holds the sort key of the last row on a page so the next page can seek
+ * past it with an index range scan instead of an OFFSET
+ *
+ * @author SPS Cricket Club
+ * @version 1.0.0
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public final class PlayerCursor {
+
+    private static final String VERSION = "v1";
+    private static final String SEPARATOR = "|";
+
+    private final PlayerSort sort;
+    private final long lastId;
+    private final String lastName;
+    private final LocalDate lastBirthday;
+
+    /**
+     * Build the cursor pointing just after the given player
+     */
+    public static PlayerCursor after(Player player, PlayerSort sort) {
+        return new PlayerCursor(sort, player.getId(),
+                sort == PlayerSort.NAME ? player.getName() : null,
+                sort == PlayerSort.BIRTHDAY ? player.getBirthday() : null);
+    }
+
+    /**
+     * Build the cursor pointing just after the given player
+     */
+    public static PlayerCursor after(PlayerResponseDTO player, PlayerSort sort) {
+        return new PlayerCursor(sort, player.getId(),
+                sort == PlayerSort.NAME ? player.getName() : null,
+                sort == PlayerSort.BIRTHDAY ? player.getBirthday() : null);
+    }
+
+    /**
+     * Build the BIRTHDAY cursor pointing just after the given sort key
+     */
+    public static PlayerCursor afterBirthday(LocalDate lastBirthday, long lastId) {
+        return new PlayerCursor(PlayerSort.BIRTHDAY, lastId, null, lastBirthday);
+    }
+
+    /**
+     * Decode a cursor token, or return null for the first page
+     *
+     * @throws InvalidRequestException if the token is malformed or was issued for another sort order
+     */
+    public static PlayerCursor decode(String token, PlayerSort expectedSort) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", 4);
+            if (parts.length != 4 || !VERSION.equals(parts[0])) {
+                throw new InvalidRequestException("Invalid cursor");
+            }
+            PlayerSort sort = PlayerSort.valueOf(parts[1]);
+            if (sort != expectedSort) {
+                throw new InvalidRequestException("Cursor was issued for sort " + sort + ", not " + expectedSort);
+            }
+            long lastId = Long.parseLong(parts[2]);
+            String key = parts[3];
+            return switch (sort) {
+                case ID -> new PlayerCursor(sort, lastId, null, null);
+                case NAME -> new PlayerCursor(sort, lastId, key, null);
+                case BIRTHDAY -> new PlayerCursor(sort, lastId, null, LocalDate.parse(key));
+            };
+        } catch (InvalidRequestException ex) {
+            throw ex;
+        } catch (RuntimeException ex) {
+            throw new InvalidRequestException("Invalid cursor", ex);
+        }
+    }
+
+    /**
+     * Encode this cursor as an opaque URL-safe token
+     */
+    public String encode() {
+        String key = switch (sort) {
+            case ID -> "";
+            case NAME -> lastName;
+            case BIRTHDAY -> lastBirthday.toString();
+        };
+        String raw = VERSION + SEPARATOR + sort.name() + SEPARATOR + lastId + SEPARATOR + key;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
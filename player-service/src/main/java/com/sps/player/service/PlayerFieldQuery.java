@@ -0,0 +1,183 @@
+package com.sps.player.service;
+
+import com.sps.player.dto.PlayerField;
+import com.sps.player.dto.PlayerResponseDTO;
+import com.sps.player.entity.Player;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Queries that select only the requested player columns
+ * Used for sparse fieldsets: the id and the sort key are always selected
+ * so the next cursor can be built, every other column only when asked for.
+ * Rows are read as tuples, so no entities are created.
+ *
+ * @author SPS Cricket Club
+ * @version 1.0.0
+ */
+@Component
+@RequiredArgsConstructor
+public class PlayerFieldQuery {
+
+    private final EntityManager entityManager;
+
+    /**
+     * One keyset page of players with only the given fields set
+     * @param fields Requested fields
+     * @param sort Page order
+     * @param status Status filter, or null
+     * @param startDate Start of the birthday filter, or null
+     * @param endDate End of the birthday filter, or null
+     * @param after Cursor of the previous page, or null for the first page
+     * @param limit Maximum number of rows
+     */
+    public List<PlayerResponseDTO> findPage(Set<PlayerField> fields, PlayerSort sort, String status,
+                                            LocalDate startDate, LocalDate endDate,
+                                            PlayerCursor after, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<Player> p = query.from(Player.class);
+
+        Set<String> attributes = attributes(fields, sortAttribute(sort));
+        select(query, p, attributes);
+
+        List<Predicate> predicates = new ArrayList<>();
+        if (status != null) {
+            predicates.add(cb.equal(p.get("status"), status));
+        }
+        if (startDate != null && endDate != null) {
+            predicates.add(cb.between(p.<LocalDate>get("birthday"), startDate, endDate));
+        }
+        if (after != null) {
+            predicates.add(afterCursor(cb, p, sort, after));
+        }
+        query.where(predicates.toArray(Predicate[]::new));
+
+        Path<Long> id = p.get("id");
+        query.orderBy(sort == PlayerSort.ID
+                ? List.of(cb.asc(id))
+                : List.of(cb.asc(p.get(sortAttribute(sort))), cb.asc(id)));
+
+        return entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .getResultList()
+                .stream()
+                .map(tuple -> toResponseDTO(tuple, attributes, fields))
+                .toList();
+    }
+
+    /**
+     * The given players with only the given fields set, in the order of the ids
+     * For pages whose ids were chosen elsewhere (the birthday index); ids
+     * without a player are left out.
+     * @param fields Requested fields
+     * @param ids Player ids
+     */
+    public List<PlayerResponseDTO> findByIds(Set<PlayerField> fields, List<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<Player> p = query.from(Player.class);
+
+        Set<String> attributes = attributes(fields, "id");
+        select(query, p, attributes);
+        query.where(p.get("id").in(ids));
+
+        Map<Long, PlayerResponseDTO> found = new HashMap<>();
+        for (Tuple tuple : entityManager.createQuery(query).getResultList()) {
+            PlayerResponseDTO player = toResponseDTO(tuple, attributes, fields);
+            found.put(player.getId(), player);
+        }
+        return ids.stream()
+                .map(found::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    /**
+     * Attributes to select: the id, the key attribute and those of the fields
+     */
+    private static Set<String> attributes(Set<PlayerField> fields, String keyAttribute) {
+        Set<String> attributes = new LinkedHashSet<>();
+        attributes.add("id");
+        attributes.add(keyAttribute);
+        fields.forEach(field -> attributes.add(field.getAttribute()));
+        return attributes;
+    }
+
+    private static void select(CriteriaQuery<Tuple> query, Root<Player> p, Set<String> attributes) {
+        List<Selection<?>> selections = new ArrayList<>();
+        attributes.forEach(attribute -> selections.add(p.get(attribute).alias(attribute)));
+        query.multiselect(selections);
+    }
+
+    private static Predicate afterCursor(CriteriaBuilder cb, Root<Player> p, PlayerSort sort, PlayerCursor after) {
+        Path<Long> id = p.get("id");
+        return switch (sort) {
+            case ID -> cb.greaterThan(id, after.getLastId());
+            case NAME -> {
+                Path<String> name = p.get("name");
+                yield cb.or(cb.greaterThan(name, after.getLastName()),
+                        cb.and(cb.equal(name, after.getLastName()), cb.greaterThan(id, after.getLastId())));
+            }
+            case BIRTHDAY -> {
+                Path<LocalDate> birthday = p.get("birthday");
+                yield cb.or(cb.greaterThan(birthday, after.getLastBirthday()),
+                        cb.and(cb.equal(birthday, after.getLastBirthday()), cb.greaterThan(id, after.getLastId())));
+            }
+        };
+    }
+
+    private static String sortAttribute(PlayerSort sort) {
+        return switch (sort) {
+            case ID -> "id";
+            case NAME -> "name";
+            case BIRTHDAY -> "birthday";
+        };
+    }
+
+    /**
+     * Copy the selected columns into a DTO; the age is set only when requested
+     */
+    private static PlayerResponseDTO toResponseDTO(Tuple tuple, Set<String> attributes, Set<PlayerField> fields) {
+        PlayerResponseDTO dto = new PlayerResponseDTO();
+        for (String attribute : attributes) {
+            Object value = tuple.get(attribute);
+            switch (attribute) {
+                case "id" -> dto.setId((Long) value);
+                case "name" -> dto.setName((String) value);
+                case "birthday" -> dto.setBirthday((LocalDate) value);
+                case "imageName" -> dto.setImageName((String) value);
+                case "status" -> dto.setStatus((String) value);
+                case "version" -> dto.setVersion((Long) value);
+                case "createdAt" -> dto.setCreatedAt((LocalDateTime) value);
+                case "updatedAt" -> dto.setUpdatedAt((LocalDateTime) value);
+                default -> throw new IllegalStateException("Unexpected attribute " + attribute);
+            }
+        }
+        if (fields.contains(PlayerField.AGE)) {
+            dto.setAge(Player.calculateAge(dto.getBirthday()));
+        }
+        return dto;
+    }
+}
@@ -0,0 +1,394 @@
+package com.sps.player.service;
+
+import com.sps.player.config.PlayerImageProperties;
+import com.sps.player.datasource.DataSourceRouter;
+import com.sps.player.dto.PlayerResponseDTO;
+import com.sps.player.event.PlayerChangedEvent;
+import com.sps.player.exception.ImageNotFoundException;
+import com.sps.player.exception.InvalidRequestException;
+import com.sps.player.repository.PlayerRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.multipart.MultipartFile;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * Content-addressed on-disk store for player images
+ * An image is named by the SHA-256 of its bytes plus its format, so the
+ * same upload is stored once and a stored file never changes; that is what
+ * lets image URLs be cached for a long time. Thumbnails are derived from
+ * the original and stored next to it, one directory per size:
+ * <pre>
+ * originals/ab/ab12...ef.jpg
+ * thumbnails/64/ab/ab12...ef.jpg
+ * </pre>
+ * Since players share identical images, an image is deleted only once no
+ * player references it: after a commit replaces or deletes a player's
+ * image, and after an upload that was never recorded on a player.
+ *
+ * @author SPS Cricket Club
+ * @version 1.0.0
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PlayerImageStore {
+
+    private static final Pattern IMAGE_NAME = Pattern.compile("[0-9a-f]{64}\\.(jpg|png|gif)");
+
+    private final PlayerImageProperties properties;
+    private final PlayerRepository playerRepository;
+
+    /**
+     * Guards storing against deleting, so an upload never reuses a file being deleted
+     */
+    private final ReentrantLock lock = new ReentrantLock();
+
+    /**
+     * Stored images with uploads not yet released, and how many; never deleted meanwhile
+     */
+    private final Map<String, Integer> inFlight = new HashMap<>();
+
+    /**
+     * Validate an uploaded image and store it under its content hash
+     * The image counts as in flight, and is not deleted, until release is
+     * called once the player has been updated or the update failed.
+     * @return The image name to record on the player
+     * @throws InvalidRequestException if the upload is empty, not a JPEG, PNG or GIF image, or too large
+     */
+    public String store(MultipartFile file) {
+        if (file == null || file.isEmpty()) {
+            throw new InvalidRequestException("An image file is required");
+        }
+        try {
+            Path tmp = Files.createDirectories(properties.getDirectory().resolve("tmp"));
+            Path upload = Files.createTempFile(tmp, "upload", ".part");
+            try {
+                MessageDigest digest = MessageDigest.getInstance("SHA-256");
+                try (InputStream input = new DigestInputStream(file.getInputStream(), digest)) {
+                    Files.copy(input, upload, StandardCopyOption.REPLACE_EXISTING);
+                }
+                String imageName = HexFormat.of().formatHex(digest.digest()) + "." + imageExtension(upload);
+                Path original = original(imageName);
+                lock.lock();
+                try {
+                    if (Files.exists(original)) {
+                        log.debug("Image {} is already stored", imageName);
+                    } else {
+                        Files.createDirectories(original.getParent());
+                        Files.move(upload, original, StandardCopyOption.ATOMIC_MOVE,
+                                StandardCopyOption.REPLACE_EXISTING);
+                        log.info("Stored image {} ({} bytes)", imageName, file.getSize());
+                    }
+                    inFlight.merge(imageName, 1, Integer::sum);
+                } finally {
+                    lock.unlock();
+                }
+                return imageName;
+            } finally {
+                Files.deleteIfExists(upload);
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    /**
+     * End an upload started by store, once its player update has committed or failed
+     * The image is deleted if no player references it, as after a failed update.
+     */
+    public void release(String imageName) {
+        lock.lock();
+        try {
+            inFlight.computeIfPresent(imageName, (name, uploads) -> uploads > 1 ? uploads - 1 : null);
+        } finally {
+            lock.unlock();
+        }
+        deleteIfUnreferenced(imageName);
+    }
+
+    /**
+     * Delete the image a player no longer has, unless another player still references it
+     * Runs after commit, so a rolled back change keeps its image.
+     */
+    @TransactionalEventListener
+    public void onPlayerChanged(PlayerChangedEvent event) {
+        PlayerResponseDTO previous = event.getPrevious();
+        if (previous == null) {
+            return;
+        }
+        String imageName = previous.getImageName();
+        String current = event.getCurrent() != null ? event.getCurrent().getImageName() : null;
+        if (!Objects.equals(imageName, current)) {
+            deleteIfUnreferenced(imageName);
+        }
+    }
+
+    /**
+     * Create every configured thumbnail of a stored image in the background
+     */
+    @Async
+    public void createThumbnailsAsync(String imageName) {
+        try {
+            createThumbnails(imageName);
+        } catch (RuntimeException ex) {
+            // A missing thumbnail is created again on first request
+            log.warn("Could not create thumbnails for image {}: {}", imageName, ex.getMessage());
+        }
+    }
+
+    /**
+     * File holding an image, or one of its thumbnails
+     * A thumbnail that has not been created yet is created now.
+     * @param size Thumbnail size, or null for the original
+     * @throws InvalidRequestException if the name or size is not valid
+     * @throws ImageNotFoundException if the image is not stored
+     */
+    public Path resolve(String imageName, Integer size) {
+        if (!isStoredImageName(imageName)) {
+            throw new InvalidRequestException("Invalid image name '" + imageName + "'");
+        }
+        if (size != null && !properties.getThumbnailSizes().contains(size)) {
+            throw new InvalidRequestException("Thumbnail size must be one of " + properties.getThumbnailSizes());
+        }
+        Path original = original(imageName);
+        if (!Files.isRegularFile(original)) {
+            throw new ImageNotFoundException("Image not found: " + imageName);
+        }
+        if (size == null) {
+            return original;
+        }
+        Path thumbnail = thumbnail(imageName, size);
+        if (!Files.isRegularFile(thumbnail)) {
+            createThumbnails(imageName);
+        }
+        return thumbnail;
+    }
+
+    /**
+     * Whether a name was produced by this store (as opposed to a free-form image name)
+     */
+    public boolean isStoredImageName(String imageName) {
+        return imageName != null && IMAGE_NAME.matcher(imageName).matches();
+    }
+
+    /**
+     * Media type of an image or thumbnail file
+     */
+    public static MediaType mediaType(Path file) {
+        String name = file.getFileName().toString();
+        if (name.endsWith(".jpg")) {
+            return MediaType.IMAGE_JPEG;
+        }
+        return name.endsWith(".gif") ? MediaType.IMAGE_GIF : MediaType.IMAGE_PNG;
+    }
+
+    /**
+     * Delete an image and its thumbnails if it is stored, not in flight and on no player
+     * Thumbnails are looked for under every size directory, including sizes
+     * no longer configured. Failures are logged; the file is merely left behind.
+     */
+    private void deleteIfUnreferenced(String imageName) {
+        if (!isStoredImageName(imageName)) {
+            return;
+        }
+        lock.lock();
+        try {
+            // From the primary: a lagging replica may not show the player that just took this image
+            if (inFlight.containsKey(imageName)
+                    || DataSourceRouter.onPrimary(() -> playerRepository.existsByImageName(imageName))) {
+                return;
+            }
+            boolean deleted = Files.deleteIfExists(original(imageName));
+            Path thumbnails = properties.getDirectory().resolve("thumbnails");
+            if (Files.isDirectory(thumbnails)) {
+                try (Stream<Path> sizes = Files.list(thumbnails)) {
+                    for (Path size : sizes.toList()) {
+                        deleted |= Files.deleteIfExists(size.resolve(thumbnailPath(imageName)));
+                    }
+                }
+            }
+            if (deleted) {
+                log.info("Deleted image {}, which no player references", imageName);
+            }
+        } catch (IOException | RuntimeException ex) {
+            log.warn("Could not delete image {}: {}", imageName, ex.getMessage());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Decode the original once, subsampled to roughly twice the largest
+     * thumbnail, and scale each thumbnail from it, largest first
+     */
+    private void createThumbnails(String imageName) {
+        long started = System.nanoTime();
+        List<Integer> sizes = properties.getThumbnailSizes().stream()
+                .sorted(Comparator.reverseOrder())
+                .toList();
+        if (sizes.isEmpty()) {
+            return;
+        }
+        boolean jpeg = imageName.endsWith(".jpg");
+        try (ImageInputStream input = ImageIO.createImageInputStream(original(imageName).toFile())) {
+            ImageReader reader = reader(input);
+            BufferedImage image;
+            try {
+                int longestSide = Math.max(reader.getWidth(0), reader.getHeight(0));
+                ImageReadParam param = reader.getDefaultReadParam();
+                int subsampling = Math.max(1, longestSide / (sizes.get(0) * 2));
+                param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+                image = reader.read(0, param);
+            } finally {
+                reader.dispose();
+            }
+            for (int size : sizes) {
+                image = scaleToFit(image, size, !jpeg);
+                write(image, jpeg ? "jpg" : "png", thumbnail(imageName, size));
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        log.info("Created {} thumbnails for image {} in {} ms", sizes.size(), imageName,
+                (System.nanoTime() - started) / 1_000_000);
+    }
+
+    /**
+     * Check the format and dimensions from the image header, without decoding the pixels
+     */
+    private String imageExtension(Path file) throws IOException {
+        try (ImageInputStream input = ImageIO.createImageInputStream(file.toFile())) {
+            ImageReader reader = reader(input);
+            try {
+                String extension = switch (reader.getFormatName().toLowerCase(Locale.ROOT)) {
+                    case "jpeg", "jpg" -> "jpg";
+                    case "png" -> "png";
+                    case "gif" -> "gif";
+                    default -> throw new InvalidRequestException("Images must be JPEG, PNG or GIF");
+                };
+                long pixels = (long) reader.getWidth(0) * reader.getHeight(0);
+                if (pixels > properties.getMaxPixels()) {
+                    throw new InvalidRequestException("Images must have at most " + properties.getMaxPixels()
+                            + " pixels");
+                }
+                return extension;
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    private static ImageReader reader(ImageInputStream input) {
+        Iterator<ImageReader> readers = input != null ? ImageIO.getImageReaders(input) : null;
+        if (readers == null || !readers.hasNext()) {
+            throw new InvalidRequestException("Images must be JPEG, PNG or GIF");
+        }
+        ImageReader reader = readers.next();
+        reader.setInput(input, true, true);
+        return reader;
+    }
+
+    /**
+     * Scale down to fit a size x size square, halving in steps so bilinear
+     * filtering does not skip source pixels. Images are never scaled up.
+     */
+    private static BufferedImage scaleToFit(BufferedImage source, int size, boolean alpha) {
+        double scale = Math.min(1.0, (double) size / Math.max(source.getWidth(), source.getHeight()));
+        int targetWidth = Math.max(1, (int) Math.round(source.getWidth() * scale));
+        int targetHeight = Math.max(1, (int) Math.round(source.getHeight() * scale));
+        BufferedImage current = source;
+        int width = source.getWidth();
+        int height = source.getHeight();
+        do {
+            width = Math.max(targetWidth, width / 2);
+            height = Math.max(targetHeight, height / 2);
+            BufferedImage next = new BufferedImage(width, height,
+                    alpha ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB);
+            Graphics2D graphics = next.createGraphics();
+            try {
+                graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION,
+                        RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+                graphics.drawImage(current, 0, 0, width, height, null);
+            } finally {
+                graphics.dispose();
+            }
+            current = next;
+        } while (width != targetWidth || height != targetHeight);
+        return current;
+    }
+
+    /**
+     * Write through a temporary file so readers never see a partial thumbnail
+     */
+    private static void write(BufferedImage image, String format, Path target) throws IOException {
+        Files.createDirectories(target.getParent());
+        Path part = Files.createTempFile(target.getParent(), "thumbnail", ".part");
+        try {
+            try (OutputStream output = Files.newOutputStream(part)) {
+                if (!ImageIO.write(image, format, output)) {
+                    throw new IllegalStateException("No image writer for " + format);
+                }
+            }
+            Files.move(part, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            Files.deleteIfExists(part);
+        }
+    }
+
+    private Path original(String imageName) {
+        return properties.getDirectory()
+                .resolve("originals")
+                .resolve(imageName.substring(0, 2))
+                .resolve(imageName);
+    }
+
+    private Path thumbnail(String imageName, int size) {
+        return properties.getDirectory()
+                .resolve("thumbnails")
+                .resolve(Integer.toString(size))
+                .resolve(thumbnailPath(imageName));
+    }
+
+    /**
+     * Path of a thumbnail within its size directory
+     */
+    private static Path thumbnailPath(String imageName) {
+        String hash = imageName.substring(0, imageName.indexOf('.'));
+        return Path.of(imageName.substring(0, 2), hash + (imageName.endsWith(".jpg") ? ".jpg" : ".png"));
+    }
+}
@@ -0,0 +1,315 @@
+package com.sps.player.service;
+
+import com.sps.player.entity.Player;
+import com.sps.player.event.PlayerChangedEvent;
+import com.sps.player.event.RosterStaleEvent;
+import com.sps.player.repository.PlayerNameView;
+import com.sps.player.repository.PlayerRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+/**
+ * In-memory trigram index over player names for substring search
+ * A term (at least MIN_TERM_LENGTH characters) is answered by intersecting the
+ * posting lists of its trigrams and verifying the few remaining candidates,
+ * instead of a LIKE '%term%' table scan. The index is loaded once the
+ * application is ready and kept current from committed player changes.
+ *
+ * @author SPS Cricket Club
+ * @version 1.0.0
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PlayerNameIndex {
+
+    private static final int GRAM = 3;
+
+    /**
+     * Shortest searchable term, after normalization; shorter terms have no trigram to look up
+     */
+    public static final int MIN_TERM_LENGTH = GRAM;
+
+    private final PlayerRepository playerRepository;
+    private final PlatformTransactionManager transactionManager;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final ReentrantLock loadLock = new ReentrantLock();
+    private Map<Long, String> names = new HashMap<>();
+    private Map<Long, PostingList> postings = new HashMap<>();
+    private final List<PlayerChangedEvent> pending = new ArrayList<>();
+    private volatile boolean ready;
+
+    /**
+     * Whether the initial load has finished and search results are complete
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * Find ids of players whose name contains the term, best matches first
+     * Exact matches rank before prefix matches, then word-prefix matches,
+     * then by match position, name length and id.
+     */
+    public List<Long> search(String term, int limit) {
+        String needle = normalize(term);
+        if (needle.length() < MIN_TERM_LENGTH || limit < 1) {
+            return List.of();
+        }
+        Comparator<Match> ranking = Comparator.comparingInt(Match::rank)
+                .thenComparingInt(Match::position)
+                .thenComparingInt(Match::length)
+                .thenComparingLong(Match::id);
+        PriorityQueue<Match> best = new PriorityQueue<>(limit + 1, ranking.reversed());
+
+        lock.readLock().lock();
+        try {
+            PostingList[] lists = postingListsFor(needle);
+            if (lists.length == 0) {
+                return List.of();
+            }
+            PostingList smallest = lists[0];
+            for (int i = 0; i < smallest.size; i++) {
+                long id = smallest.ids[i];
+                if (containsInAll(lists, id)) {
+                    offer(best, limit, ranking, id, names.get(id), needle);
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        List<Match> matches = new ArrayList<>(best);
+        matches.sort(ranking);
+        return matches.stream().map(Match::id).toList();
+    }
+
+    /**
+     * Load the index from the database; results fall back to the database until it finishes
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        loadLock.lock();
+        try {
+            lock.writeLock().lock();
+            try {
+                ready = false;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            long started = System.currentTimeMillis();
+            Map<Long, String> loadedNames = new HashMap<>();
+            Map<Long, PostingList> loadedPostings = new HashMap<>();
+            new TransactionTemplate(transactionManager).execute(status -> {
+                try (Stream<PlayerNameView> rows = playerRepository.streamAllNames()) {
+                    rows.forEach(row -> add(loadedNames, loadedPostings, row.getId(), normalize(row.getName())));
+                }
+                return null;
+            });
+
+            lock.writeLock().lock();
+            try {
+                names = loadedNames;
+                postings = loadedPostings;
+                // Changes committed while loading are replayed; applying a change twice is harmless
+                pending.forEach(this::apply);
+                pending.clear();
+                ready = true;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            log.info("Player name index loaded {} names in {} ms", loadedNames.size(),
+                    System.currentTimeMillis() - started);
+        } finally {
+            loadLock.unlock();
+        }
+    }
+
+    /**
+     * Reload when players were changed by another instance
+     */
+    @EventListener
+    public void onRosterStale(RosterStaleEvent event) {
+        load();
+    }
+
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener
+    public void onPlayerChanged(PlayerChangedEvent event) {
+        lock.writeLock().lock();
+        try {
+            if (ready) {
+                apply(event);
+            } else {
+                pending.add(event);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Normalize a name or search term the same way as Player.nameKey
+     */
+    static String normalize(String name) {
+        return name == null ? "" : Player.normalizeName(name);
+    }
+
+    private void apply(PlayerChangedEvent event) {
+        remove(names, postings, event.getPlayerId());
+        if (event.getCurrent() != null) {
+            add(names, postings, event.getPlayerId(), normalize(event.getCurrent().getName()));
+        }
+    }
+
+    private static void add(Map<Long, String> names, Map<Long, PostingList> postings, long id, String name) {
+        names.put(id, name);
+        for (long gram : trigrams(name)) {
+            postings.computeIfAbsent(gram, key -> new PostingList()).add(id);
+        }
+    }
+
+    private static void remove(Map<Long, String> names, Map<Long, PostingList> postings, long id) {
+        String name = names.remove(id);
+        if (name == null) {
+            return;
+        }
+        for (long gram : trigrams(name)) {
+            PostingList list = postings.get(gram);
+            if (list != null && list.remove(id) && list.size == 0) {
+                postings.remove(gram);
+            }
+        }
+    }
+
+    /**
+     * Posting lists for every trigram of the needle, smallest first, or none if any trigram is unknown
+     */
+    private PostingList[] postingListsFor(String needle) {
+        Set<Long> grams = trigrams(needle);
+        PostingList[] lists = new PostingList[grams.size()];
+        int i = 0;
+        for (long gram : grams) {
+            PostingList list = postings.get(gram);
+            if (list == null) {
+                return new PostingList[0];
+            }
+            lists[i++] = list;
+        }
+        Arrays.sort(lists, Comparator.comparingInt(list -> list.size));
+        return lists;
+    }
+
+    private static boolean containsInAll(PostingList[] lists, long id) {
+        for (int i = 1; i < lists.length; i++) {
+            if (!lists[i].contains(id)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static void offer(PriorityQueue<Match> best, int limit, Comparator<Match> ranking,
+                              long id, String name, String needle) {
+        int position = name.indexOf(needle);
+        if (position < 0) {
+            return;
+        }
+        int rank;
+        if (name.length() == needle.length()) {
+            rank = 0;
+        } else if (position == 0) {
+            rank = 1;
+        } else if (name.charAt(position - 1) == ' ') {
+            rank = 2;
+        } else {
+            rank = 3;
+        }
+        Match match = new Match(id, rank, position, name.length());
+        if (best.size() < limit) {
+            best.add(match);
+        } else if (ranking.compare(match, best.peek()) < 0) {
+            best.poll();
+            best.add(match);
+        }
+    }
+
+    private static Set<Long> trigrams(String text) {
+        Set<Long> grams = new LinkedHashSet<>();
+        for (int i = 0; i + GRAM <= text.length(); i++) {
+            grams.add(((long) text.charAt(i) << 32) | ((long) text.charAt(i + 1) << 16) | text.charAt(i + 2));
+        }
+        return grams;
+    }
+
+    private record Match(long id, int rank, int position, int length) {
+    }
+
+    /**
+     * Sorted, growable array of player ids
+     */
+    private static final class PostingList {
+
+        private long[] ids = new long[4];
+        private int size;
+
+        void add(long id) {
+            if (size > 0 && ids[size - 1] < id) {
+                ensureCapacity();
+                ids[size++] = id;
+                return;
+            }
+            int index = Arrays.binarySearch(ids, 0, size, id);
+            if (index >= 0) {
+                return;
+            }
+            int insertAt = -index - 1;
+            ensureCapacity();
+            System.arraycopy(ids, insertAt, ids, insertAt + 1, size - insertAt);
+            ids[insertAt] = id;
+            size++;
+        }
+
+        boolean remove(long id) {
+            int index = Arrays.binarySearch(ids, 0, size, id);
+            if (index < 0) {
+                return false;
+            }
+            System.arraycopy(ids, index + 1, ids, index, size - index - 1);
+            size--;
+            return true;
+        }
+
+        boolean contains(long id) {
+            return Arrays.binarySearch(ids, 0, size, id) >= 0;
+        }
+
+        private void ensureCapacity() {
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+            }
+        }
+    }
+}
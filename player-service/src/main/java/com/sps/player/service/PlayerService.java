@@ -1,10 +1,21 @@
 package com.sps.player.service;
 
+import com.sps.player.dto.BulkCreateResultDTO;
+import com.sps.player.dto.BulkStatusResultDTO;
+import com.sps.player.dto.BulkStatusUpdateDTO;
+import com.sps.player.dto.CursorPageDTO;
+import com.sps.player.dto.PlayerBatchDTO;
+import com.sps.player.dto.PlayerChangesDTO;
+import com.sps.player.dto.PlayerCountsDTO;
+import com.sps.player.dto.PlayerField;
+import com.sps.player.dto.PlayerPatchDTO;
 import com.sps.player.dto.PlayerRequestDTO;
 import com.sps.player.dto.PlayerResponseDTO;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
 
 /**
  * Service interface for Player management operations
@@ -15,24 +26,70 @@ import java.util.List;
 public interface PlayerService {
 
     /**
-     * Get all players
+     * Get a keyset page of all players
+     * @param cursor Continuation token from the previous page, or null for the first page
+     * @param size Requested page size, capped by the service
+     * @param sort Sort order (id or name)
+     * @param fields Fields to load, or null for all of them
      */
-    List<PlayerResponseDTO> getAllPlayers();
+    CursorPageDTO<PlayerResponseDTO> getAllPlayers(String cursor, Integer size, String sort, Set<PlayerField> fields);
+
+    /**
+     * Stream every player to the consumer in id order without building a list
+     * @return Number of players exported
+     */
+    long exportPlayers(Consumer<PlayerResponseDTO> consumer);
+
+    /**
+     * Get the players changed and deleted since a sync token
+     * @param since Token from the previous sync, or null for a full sync
+     * @param size Maximum number of changed players (and of deleted ids) per page, capped by the service
+     */
+    PlayerChangesDTO getChanges(String since, Integer size);
 
     /**
      * Get player by ID
      */
     PlayerResponseDTO getPlayerById(Long id);
 
+    /**
+     * Get many players by id in one call, from the cache where possible
+     * @param ids Requested ids; repeated ids are returned once
+     */
+    PlayerBatchDTO getPlayersByIds(List<Long> ids);
+
     /**
      * Create new player
      */
     PlayerResponseDTO createPlayer(PlayerRequestDTO requestDTO);
 
+    /**
+     * Create many players in batched inserts, reporting the outcome of each entry
+     */
+    BulkCreateResultDTO createPlayers(List<PlayerRequestDTO> requestDTOs);
+
+    /**
+     * Set the status of every player matching the request's filters with set-based UPDATEs
+     */
+    BulkStatusResultDTO updatePlayersStatus(BulkStatusUpdateDTO request);
+
     /**
      * Update existing player
+     * @param expectedVersion Version the client last saw (from If-Match), or null to skip the check
+     */
+    PlayerResponseDTO updatePlayer(Long id, PlayerRequestDTO requestDTO, Long expectedVersion);
+
+    /**
+     * Change only the given fields of a player, if it still has the expected version
+     * @param expectedVersion Version the client last saw (from If-Match)
      */
-    PlayerResponseDTO updatePlayer(Long id, PlayerRequestDTO requestDTO);
+    PlayerResponseDTO patchPlayer(Long id, PlayerPatchDTO patch, long expectedVersion);
+
+    /**
+     * Point a player at a stored image
+     * @param imageName Name returned by PlayerImageStore.store
+     */
+    PlayerResponseDTO updatePlayerImage(Long id, String imageName);
 
     /**
      * Delete player
@@ -40,24 +97,32 @@ public interface PlayerService {
     void deletePlayer(Long id);
 
     /**
-     * Get players by status
+     * Get a keyset page of players by status, ordered by id
+     * @param fields Fields to load, or null for all of them
      */
-    List<PlayerResponseDTO> getPlayersByStatus(String status);
+    CursorPageDTO<PlayerResponseDTO> getPlayersByStatus(String status, String cursor, Integer size,
+                                                        Set<PlayerField> fields);
 
     /**
-     * Search players by name
+     * Search players by name (substring of at least 3 characters), best matches first
+     * @param limit Maximum number of results, capped by the service
      */
-    List<PlayerResponseDTO> searchPlayersByName(String name);
+    List<PlayerResponseDTO> searchPlayersByName(String name, Integer limit);
 
     /**
-     * Get players by age range
+     * Get a keyset page of players whose current age is within [minAge, maxAge], ordered by birthday
+     * @param fields Fields to load, or null for all of them
      */
-    List<PlayerResponseDTO> getPlayersByAgeRange(int minAge, int maxAge);
+    CursorPageDTO<PlayerResponseDTO> getPlayersByAgeRange(int minAge, int maxAge, String cursor, Integer size,
+                                                          Set<PlayerField> fields);
 
     /**
-     * Get players born between dates
+     * Get a keyset page of players born between dates, ordered by birthday
+     * @param fields Fields to load, or null for all of them
      */
-    List<PlayerResponseDTO> getPlayersByBirthdayRange(LocalDate startDate, LocalDate endDate);
+    CursorPageDTO<PlayerResponseDTO> getPlayersByBirthdayRange(LocalDate startDate, LocalDate endDate,
+                                                              String cursor, Integer size,
+                                                              Set<PlayerField> fields);
 
     /**
      * Count players by status
@@ -73,4 +138,9 @@ public interface PlayerService {
      * Get inactive players count
      */
     long getInactivePlayersCount();
+
+    /**
+     * Get player counts for every status and in total
+     */
+    PlayerCountsDTO getPlayerCounts();
 }
@@ -1,24 +1,66 @@
 package com.sps.player.service;
 
+import com.sps.player.cache.PlayerCache;
+import com.sps.player.dto.BulkCreateResultDTO;
+import com.sps.player.dto.BulkItemResultDTO;
+import com.sps.player.dto.BulkStatusResultDTO;
+import com.sps.player.dto.BulkStatusUpdateDTO;
+import com.sps.player.dto.CursorPageDTO;
+import com.sps.player.config.PlayerSyncProperties;
+import com.sps.player.dto.PlayerBatchDTO;
+import com.sps.player.dto.PlayerChangesDTO;
+import com.sps.player.dto.PlayerCountsDTO;
+import com.sps.player.dto.PlayerField;
+import com.sps.player.dto.PlayerPatchDTO;
 import com.sps.player.dto.PlayerRequestDTO;
 import com.sps.player.dto.PlayerResponseDTO;
 import com.sps.player.entity.Player;
+import com.sps.player.entity.PlayerTombstone;
+import com.sps.player.event.PlayerChangedEvent;
+import com.sps.player.event.PlayerStatusBulkChangedEvent;
 import com.sps.player.exception.PlayerNotFoundException;
 import com.sps.player.exception.DuplicatePlayerException;
+import com.sps.player.exception.InvalidRequestException;
+import com.sps.player.exception.PlayerVersionMismatchException;
 import com.sps.player.mapper.PlayerMapper;
 import com.sps.player.repository.PlayerRepository;
+import com.sps.player.repository.PlayerTombstoneRepository;
+import io.micrometer.core.annotation.Timed;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Implementation of PlayerService
  * Handles all business logic for Player management
+ * Every method is timed as player.service, tagged with its name.
  *
  * @author SPS Cricket Club
  * @version 1.0.0
@@ -27,136 +69,634 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 @Slf4j
 @Transactional
+@Timed("player.service")
 public class PlayerServiceImpl implements PlayerService {
 
+    private static final int DEFAULT_PAGE_SIZE = 50;
+    private static final int MAX_PAGE_SIZE = 500;
+    private static final int DEFAULT_SEARCH_LIMIT = 20;
+    private static final int MAX_SEARCH_LIMIT = 100;
+    private static final int MAX_BULK_SIZE = 10_000;
+    private static final int BULK_LOOKUP_CHUNK = 1000;
+    private static final int BULK_FLUSH_SIZE = 50;
+    private static final int MAX_BATCH_GET_SIZE = 1000;
+
     private final PlayerRepository playerRepository;
+    private final PlayerTombstoneRepository tombstoneRepository;
+    private final PlayerSyncProperties syncProperties;
     private final PlayerMapper playerMapper;
+    private final EntityManager entityManager;
+    private final Validator validator;
+    private final PlayerCache playerCache;
+    private final PlayerFieldQuery playerFieldQuery;
+    private final PlayerNameIndex playerNameIndex;
+    private final PlayerStatusCounters playerStatusCounters;
+    private final Optional<PlayerBirthdayIndex> playerBirthdayIndex;
+    private final RosterVersion rosterVersion;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     @Transactional(readOnly = true)
-    public List<PlayerResponseDTO> getAllPlayers() {
-        log.info("Fetching all players");
-        List<Player> players = playerRepository.findAll();
-        return players.stream()
-                .map(playerMapper::toResponseDTO)
-                .collect(Collectors.toList());
+    public CursorPageDTO<PlayerResponseDTO> getAllPlayers(String cursor, Integer size, String sort,
+                                                          Set<PlayerField> fields) {
+        PlayerSort playerSort = PlayerSort.fromParameter(sort);
+        if (playerSort == PlayerSort.BIRTHDAY) {
+            throw new InvalidRequestException("Players can only be listed by id or name");
+        }
+        PlayerCursor after = PlayerCursor.decode(cursor, playerSort);
+        int pageSize = pageSize(size);
+        log.info("Fetching page of {} players ordered by {}", pageSize, playerSort);
+
+        if (fields != null) {
+            return toPage(playerFieldQuery.findPage(fields, playerSort, null, null, null, after, pageSize + 1),
+                    pageSize, playerSort);
+        }
+        List<PlayerResponseDTO> players = playerSort == PlayerSort.NAME
+                ? playerRepository.findPageOrderByName(
+                        after != null ? after.getLastName() : "",
+                        after != null ? after.getLastId() : 0L,
+                        pageRequest(pageSize))
+                : playerRepository.findPageOrderById(
+                        after != null ? after.getLastId() : 0L,
+                        pageRequest(pageSize));
+        return toPage(players, pageSize, playerSort);
     }
 
     @Override
     @Transactional(readOnly = true)
+    public long exportPlayers(Consumer<PlayerResponseDTO> consumer) {
+        log.info("Exporting all players");
+        long exported = 0;
+        // DTO rows are not managed, so the persistence context stays empty however large the table
+        try (Stream<PlayerResponseDTO> players = playerRepository.streamAllOrderById()) {
+            Iterator<PlayerResponseDTO> iterator = players.iterator();
+            while (iterator.hasNext()) {
+                consumer.accept(iterator.next());
+                exported++;
+            }
+        }
+        log.info("Exported {} players", exported);
+        return exported;
+    }
+
+    /**
+     * Changes are paged in change sequence order, which is the order their
+     * commits were stamped in, so a transaction that commits late is still
+     * returned after the position a client has reached. Writes not stamped
+     * yet appear on a later sync. A first sync returns every player and no
+     * tombstones.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public PlayerChangesDTO getChanges(String since, Integer size) {
+        ChangeToken token = ChangeToken.decode(since);
+        int pageSize = pageSize(size);
+        LocalDateTime now = LocalDateTime.now();
+        if (token != null && token.getIssuedAt().isBefore(now.minus(syncProperties.getTombstoneRetention()))) {
+            log.info("Sync token from {} is older than the tombstone retention", token.getIssuedAt());
+            return PlayerChangesDTO.resync();
+        }
+        long updatedSeq = token != null ? token.getLastUpdatedSeq() : -1L;
+        long updatedId = token != null ? token.getLastUpdatedId() : 0L;
+        long deletedSeq = token != null
+                ? token.getLastDeletedSeq()
+                : tombstoneRepository.findMaxChangeSeq().orElse(0L);
+        long deletedId = token != null ? token.getLastDeletedId() : Long.MAX_VALUE;
+        log.info("Fetching up to {} player changes after sequence {} and deletions after {}",
+                pageSize, updatedSeq, deletedSeq);
+
+        List<Player> changed = playerRepository.findPageChangedAfter(updatedSeq, updatedId, pageRequest(pageSize));
+        boolean moreUpdated = changed.size() > pageSize;
+        if (moreUpdated) {
+            changed = changed.subList(0, pageSize);
+        }
+        if (!changed.isEmpty()) {
+            Player last = changed.get(changed.size() - 1);
+            updatedSeq = last.getChangeSeq();
+            updatedId = last.getId();
+        }
+        List<PlayerResponseDTO> updated = changed.stream().map(playerMapper::toResponseDTO).toList();
+
+        List<PlayerTombstone> tombstones = tombstoneRepository.findPageDeletedAfter(
+                deletedSeq, deletedId, pageRequest(pageSize));
+        boolean moreDeleted = tombstones.size() > pageSize;
+        if (moreDeleted) {
+            tombstones = tombstones.subList(0, pageSize);
+        }
+        if (!tombstones.isEmpty()) {
+            PlayerTombstone last = tombstones.get(tombstones.size() - 1);
+            deletedSeq = last.getChangeSeq();
+            deletedId = last.getPlayerId();
+        }
+
+        List<Long> deleted = tombstones.stream().map(PlayerTombstone::getPlayerId).toList();
+        String nextToken = ChangeToken.of(now, updatedSeq, updatedId, deletedSeq, deletedId).encode();
+        return new PlayerChangesDTO(updated, deleted, moreUpdated || moreDeleted, nextToken, false);
+    }
+
+    /**
+     * Served from the player cache; only a miss opens a (repository) transaction
+     */
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public PlayerResponseDTO getPlayerById(Long id) {
         log.info("Fetching player with id: {}", id);
-        Player player = playerRepository.findById(id)
-                .orElseThrow(() -> new PlayerNotFoundException("Player not found with id: " + id));
-        return playerMapper.toResponseDTO(player);
+        PlayerResponseDTO player = playerCache.get(id, key -> playerRepository.findResponseById(key).orElse(null));
+        if (player == null) {
+            throw new PlayerNotFoundException("Player not found with id: " + id);
+        }
+        return player;
     }
 
     @Override
     public PlayerResponseDTO createPlayer(PlayerRequestDTO requestDTO) {
         log.info("Creating new player: {}", requestDTO.getName());
 
-        // Check for duplicate name
-        if (playerRepository.existsByNameIgnoreCase(requestDTO.getName())) {
-            throw new DuplicatePlayerException("Player with name '" + requestDTO.getName() + "' already exists");
-        }
-
         Player player = playerMapper.toEntity(requestDTO);
-        Player savedPlayer = playerRepository.save(player);
+        Player savedPlayer = saveAndFlushUniqueName(player);
+        rosterVersion.increment();
         log.info("Player created successfully with id: {}", savedPlayer.getId());
 
-        return playerMapper.toResponseDTO(savedPlayer);
+        PlayerResponseDTO created = playerMapper.toResponseDTO(savedPlayer);
+        eventPublisher.publishEvent(PlayerChangedEvent.created(created));
+        return created;
     }
 
     @Override
-    public PlayerResponseDTO updatePlayer(Long id, PlayerRequestDTO requestDTO) {
+    public BulkCreateResultDTO createPlayers(List<PlayerRequestDTO> requestDTOs) {
+        if (requestDTOs == null || requestDTOs.isEmpty()) {
+            throw new InvalidRequestException("At least one player is required");
+        }
+        if (requestDTOs.size() > MAX_BULK_SIZE) {
+            throw new InvalidRequestException("At most " + MAX_BULK_SIZE + " players can be created per request");
+        }
+        log.info("Bulk creating {} players", requestDTOs.size());
+        long started = System.nanoTime();
+        BulkItemResultDTO[] results = new BulkItemResultDTO[requestDTOs.size()];
+
+        // Validate each entry and drop names repeated within the request
+        Map<String, Integer> candidates = new LinkedHashMap<>();
+        for (int i = 0; i < requestDTOs.size(); i++) {
+            PlayerRequestDTO requestDTO = requestDTOs.get(i);
+            String name = requestDTO != null ? requestDTO.getName() : null;
+            if (requestDTO == null) {
+                results[i] = new BulkItemResultDTO(i, null, BulkItemResultDTO.INVALID, null, "Entry is empty");
+                continue;
+            }
+            Set<ConstraintViolation<PlayerRequestDTO>> violations = validator.validate(requestDTO);
+            if (!violations.isEmpty()) {
+                String message = violations.stream()
+                        .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                        .sorted()
+                        .collect(Collectors.joining("; "));
+                results[i] = new BulkItemResultDTO(i, name, BulkItemResultDTO.INVALID, null, message);
+                continue;
+            }
+            if (candidates.putIfAbsent(Player.normalizeName(name), i) != null) {
+                results[i] = new BulkItemResultDTO(i, name, BulkItemResultDTO.DUPLICATE, null,
+                        "Player with name '" + name + "' appears more than once in the request");
+            }
+        }
+
+        // One set-based duplicate check per chunk instead of one query per player
+        Set<String> existingNames = new HashSet<>();
+        List<String> nameKeys = new ArrayList<>(candidates.keySet());
+        for (int from = 0; from < nameKeys.size(); from += BULK_LOOKUP_CHUNK) {
+            List<String> chunk = nameKeys.subList(from, Math.min(from + BULK_LOOKUP_CHUNK, nameKeys.size()));
+            existingNames.addAll(playerRepository.findExistingNameKeys(chunk));
+        }
+
+        List<Player> newPlayers = new ArrayList<>();
+        List<Integer> newIndexes = new ArrayList<>();
+        candidates.forEach((nameKey, index) -> {
+            PlayerRequestDTO requestDTO = requestDTOs.get(index);
+            if (existingNames.contains(nameKey)) {
+                results[index] = new BulkItemResultDTO(index, requestDTO.getName(), BulkItemResultDTO.DUPLICATE,
+                        null, "Player with name '" + requestDTO.getName() + "' already exists");
+            } else {
+                newPlayers.add(playerMapper.toEntity(requestDTO));
+                newIndexes.add(index);
+            }
+        });
+
+        // Ids come from the pooled sequence, so each chunk is written as JDBC batches on flush
+        for (int from = 0; from < newPlayers.size(); from += BULK_FLUSH_SIZE) {
+            List<Player> chunk = newPlayers.subList(from, Math.min(from + BULK_FLUSH_SIZE, newPlayers.size()));
+            playerRepository.saveAll(chunk);
+            playerRepository.flush();
+            entityManager.clear();
+        }
+        if (!newPlayers.isEmpty()) {
+            rosterVersion.increment();
+        }
+        for (int i = 0; i < newPlayers.size(); i++) {
+            Player player = newPlayers.get(i);
+            int index = newIndexes.get(i);
+            results[index] = new BulkItemResultDTO(index, player.getName(), BulkItemResultDTO.CREATED,
+                    player.getId(), null);
+            eventPublisher.publishEvent(PlayerChangedEvent.created(playerMapper.toResponseDTO(player)));
+        }
+
+        long elapsedNanos = Math.max(System.nanoTime() - started, 1);
+        int created = newPlayers.size();
+        long rowsPerSecond = created * TimeUnit.SECONDS.toNanos(1) / elapsedNanos;
+        log.info("Bulk created {} of {} players in {} ms ({} rows/sec)", created, requestDTOs.size(),
+                TimeUnit.NANOSECONDS.toMillis(elapsedNanos), rowsPerSecond);
+
+        return new BulkCreateResultDTO(requestDTOs.size(), created, requestDTOs.size() - created,
+                TimeUnit.NANOSECONDS.toMillis(elapsedNanos), rowsPerSecond, Arrays.asList(results));
+    }
+
+    /**
+     * Cache hits cost nothing; all misses are read with one IN query, which
+     * is the only statement (and transaction) the batch may need
+     */
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public PlayerBatchDTO getPlayersByIds(List<Long> ids) {
+        if (ids == null || ids.isEmpty()) {
+            throw new InvalidRequestException("At least one id is required");
+        }
+        if (ids.stream().anyMatch(Objects::isNull)) {
+            throw new InvalidRequestException("Ids must not be null");
+        }
+        List<Long> distinctIds = ids.stream().distinct().toList();
+        if (distinctIds.size() > MAX_BATCH_GET_SIZE) {
+            throw new InvalidRequestException("At most " + MAX_BATCH_GET_SIZE + " ids can be fetched per request");
+        }
+        log.info("Fetching {} players by id", distinctIds.size());
+
+        Map<Long, PlayerResponseDTO> found = playerCache.getAll(distinctIds, playerRepository::findResponsesByIdIn);
+        List<PlayerResponseDTO> players = new ArrayList<>(found.size());
+        List<Long> missing = new ArrayList<>();
+        for (Long id : distinctIds) {
+            PlayerResponseDTO player = found.get(id);
+            if (player != null) {
+                players.add(player);
+            } else {
+                missing.add(id);
+            }
+        }
+        return new PlayerBatchDTO(players, missing);
+    }
+
+    /**
+     * Rows are changed in the database without being loaded, so the cache,
+     * counters and roster version are refreshed from a bulk event after commit
+     */
+    @Override
+    public BulkStatusResultDTO updatePlayersStatus(BulkStatusUpdateDTO request) {
+        String status = Player.normalizeStatus(request.getStatus());
+        String currentStatus = Player.normalizeStatus(request.getCurrentStatus());
+        List<Long> ids = request.getIds();
+        LocalDate from = request.getBirthdayFrom();
+        LocalDate to = request.getBirthdayTo();
+        if (ids == null && currentStatus == null && from == null && to == null) {
+            throw new InvalidRequestException("At least one of ids, currentStatus or a birthday range is required");
+        }
+        if ((from == null) != (to == null)) {
+            throw new InvalidRequestException("birthdayFrom and birthdayTo must be given together");
+        }
+        if (from != null && from.isAfter(to)) {
+            throw new InvalidRequestException("birthdayFrom must not be after birthdayTo");
+        }
+        if (ids != null && (ids.isEmpty() || ids.size() > MAX_BULK_SIZE)) {
+            throw new InvalidRequestException("Between 1 and " + MAX_BULK_SIZE + " ids can be given per request");
+        }
+        log.info("Bulk setting status {} (ids: {}, currentStatus: {}, born {} to {})",
+                status, ids != null ? ids.size() : "any", currentStatus, from, to);
+        long started = System.nanoTime();
+        LocalDateTime now = LocalDateTime.now();
+
+        int updated = 0;
+        if (ids == null) {
+            updated = playerRepository.updateStatusWhere(status, currentStatus, from, to, now);
+        } else {
+            List<Long> distinctIds = ids.stream().filter(Objects::nonNull).distinct().toList();
+            for (int start = 0; start < distinctIds.size(); start += BULK_LOOKUP_CHUNK) {
+                List<Long> chunk = distinctIds.subList(start, Math.min(start + BULK_LOOKUP_CHUNK, distinctIds.size()));
+                updated += playerRepository.updateStatusByIdIn(chunk, status, currentStatus, from, to, now);
+            }
+            ids = distinctIds;
+        }
+
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started);
+        log.info("Bulk set status {} on {} players in {} ms", status, updated, elapsedMillis);
+        if (updated > 0) {
+            rosterVersion.increment();
+            eventPublisher.publishEvent(new PlayerStatusBulkChangedEvent(ids, status, updated));
+        }
+        return new BulkStatusResultDTO(status, updated, elapsedMillis);
+    }
+
+    @Override
+    public PlayerResponseDTO updatePlayer(Long id, PlayerRequestDTO requestDTO, Long expectedVersion) {
         log.info("Updating player with id: {}", id);
 
         Player existingPlayer = playerRepository.findById(id)
                 .orElseThrow(() -> new PlayerNotFoundException("Player not found with id: " + id));
+        if (expectedVersion != null && !expectedVersion.equals(existingPlayer.getVersion())) {
+            throw versionMismatch(id, expectedVersion);
+        }
 
-        // Check for duplicate name (excluding current player)
-        playerRepository.findByNameIgnoreCase(requestDTO.getName())
-                .ifPresent(player -> {
-                    if (!player.getId().equals(id)) {
-                        throw new DuplicatePlayerException("Player with name '" + requestDTO.getName() + "' already exists");
-                    }
-                });
-
+        PlayerResponseDTO previous = playerMapper.toResponseDTO(existingPlayer);
         playerMapper.updateEntityFromDTO(requestDTO, existingPlayer);
-        Player updatedPlayer = playerRepository.save(existingPlayer);
+        Player updatedPlayer = saveAndFlushUniqueName(existingPlayer);
+        rosterVersion.increment();
         log.info("Player updated successfully with id: {}", id);
 
-        return playerMapper.toResponseDTO(updatedPlayer);
+        PlayerResponseDTO updated = playerMapper.toResponseDTO(updatedPlayer);
+        eventPublisher.publishEvent(PlayerChangedEvent.updated(previous, updated));
+        return updated;
     }
 
+    /**
+     * The previous state comes from the player cache when it holds the
+     * expected version, so a patch usually costs one conditional UPDATE.
+     * Only fields that differ from the previous state are written; the
+     * version condition in the UPDATE guarantees that state was current.
+     */
     @Override
-    public void deletePlayer(Long id) {
-        log.info("Deleting player with id: {}", id);
+    public PlayerResponseDTO patchPlayer(Long id, PlayerPatchDTO patch, long expectedVersion) {
+        log.info("Patching player with id: {} at version {}", id, expectedVersion);
 
-        if (!playerRepository.existsById(id)) {
+        PlayerResponseDTO previous = playerCache.get(id, key -> playerRepository.findResponseById(key).orElse(null));
+        if (previous != null && previous.getVersion() != expectedVersion) {
+            // The cached entry may be stale
+            previous = playerRepository.findResponseById(id).orElse(null);
+        }
+        if (previous == null) {
             throw new PlayerNotFoundException("Player not found with id: " + id);
         }
+        if (previous.getVersion() != expectedVersion) {
+            throw versionMismatch(id, expectedVersion);
+        }
+
+        PlayerPatchDTO changes = new PlayerPatchDTO(
+                changed(patch.getName(), previous.getName()),
+                changed(patch.getBirthday(), previous.getBirthday()),
+                changed(patch.getImageName(), previous.getImageName()),
+                changed(Player.normalizeStatus(patch.getStatus()), previous.getStatus()));
+        if (changes.equals(new PlayerPatchDTO())) {
+            return previous;
+        }
 
-        playerRepository.deleteById(id);
+        LocalDateTime now = LocalDateTime.now();
+        int updatedRows;
+        try {
+            updatedRows = playerRepository.patch(id, expectedVersion, changes, now);
+        } catch (DataIntegrityViolationException ex) {
+            if (DuplicatePlayerException.isDuplicateName(ex)) {
+                throw new DuplicatePlayerException("Player with name '" + changes.getName() + "' already exists", ex);
+            }
+            throw ex;
+        }
+        if (updatedRows == 0) {
+            throw versionMismatch(id, expectedVersion);
+        }
+        rosterVersion.increment();
+        log.info("Player patched successfully with id: {}", id);
+
+        PlayerResponseDTO updated = new PlayerResponseDTO(id,
+                changes.getName() != null ? changes.getName() : previous.getName(),
+                changes.getBirthday() != null ? changes.getBirthday() : previous.getBirthday(),
+                changes.getImageName() != null ? changes.getImageName() : previous.getImageName(),
+                changes.getStatus() != null ? changes.getStatus() : previous.getStatus(),
+                expectedVersion + 1, previous.getCreatedAt(), now);
+        eventPublisher.publishEvent(PlayerChangedEvent.updated(previous, updated));
+        return updated;
+    }
+
+    @Override
+    public PlayerResponseDTO updatePlayerImage(Long id, String imageName) {
+        log.info("Updating image of player with id: {}", id);
+
+        Player existingPlayer = playerRepository.findById(id)
+                .orElseThrow(() -> new PlayerNotFoundException("Player not found with id: " + id));
+
+        PlayerResponseDTO previous = playerMapper.toResponseDTO(existingPlayer);
+        existingPlayer.setImageName(imageName);
+        Player updatedPlayer = playerRepository.saveAndFlush(existingPlayer);
+        rosterVersion.increment();
+
+        PlayerResponseDTO updated = playerMapper.toResponseDTO(updatedPlayer);
+        eventPublisher.publishEvent(PlayerChangedEvent.updated(previous, updated));
+        return updated;
+    }
+
+    @Override
+    public void deletePlayer(Long id) {
+        log.info("Deleting player with id: {}", id);
+
+        Player player = playerRepository.findById(id)
+                .orElseThrow(() -> new PlayerNotFoundException("Player not found with id: " + id));
+
+        playerRepository.delete(player);
+        // Same transaction as the delete, so a synced client can never miss it
+        entityManager.persist(new PlayerTombstone(id, LocalDateTime.now()));
+        rosterVersion.increment();
+        eventPublisher.publishEvent(PlayerChangedEvent.deleted(playerMapper.toResponseDTO(player)));
         log.info("Player deleted successfully with id: {}", id);
     }
 
     @Override
     @Transactional(readOnly = true)
-    public List<PlayerResponseDTO> getPlayersByStatus(String status) {
+    public CursorPageDTO<PlayerResponseDTO> getPlayersByStatus(String status, String cursor, Integer size,
+                                                               Set<PlayerField> fields) {
+        status = Player.normalizeStatus(status);
         log.info("Fetching players with status: {}", status);
-        List<Player> players = playerRepository.findByStatus(status);
-        return players.stream()
-                .map(playerMapper::toResponseDTO)
-                .collect(Collectors.toList());
+        PlayerCursor after = PlayerCursor.decode(cursor, PlayerSort.ID);
+        int pageSize = pageSize(size);
+        List<PlayerResponseDTO> players = fields != null
+                ? playerFieldQuery.findPage(fields, PlayerSort.ID, status, null, null, after, pageSize + 1)
+                : playerRepository.findPageByStatusOrderById(
+                        status, after != null ? after.getLastId() : 0L, pageRequest(pageSize));
+        return toPage(players, pageSize, PlayerSort.ID);
     }
 
+    /**
+     * Answered from the trigram name index, then served from the player cache
+     * with one IN query for the misses. Until the index has loaded, falls back
+     * to a bounded LIKE query.
+     */
     @Override
-    @Transactional(readOnly = true)
-    public List<PlayerResponseDTO> searchPlayersByName(String name) {
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public List<PlayerResponseDTO> searchPlayersByName(String name, Integer limit) {
         log.info("Searching players with name containing: {}", name);
-        List<Player> players = playerRepository.findByNameContainingIgnoreCase(name);
-        return players.stream()
-                .map(playerMapper::toResponseDTO)
-                .collect(Collectors.toList());
+        if (PlayerNameIndex.normalize(name).length() < PlayerNameIndex.MIN_TERM_LENGTH) {
+            throw new InvalidRequestException(
+                    "Search term must have at least " + PlayerNameIndex.MIN_TERM_LENGTH + " characters");
+        }
+        int maxResults = searchLimit(limit);
+        if (!playerNameIndex.isReady()) {
+            return playerRepository.searchPageOrderByName(name, "", 0L, PageRequest.ofSize(maxResults));
+        }
+        return loadPlayersInOrder(playerNameIndex.search(name, maxResults));
     }
 
+    /**
+     * The age range is turned into an exact birthday window so the query is a
+     * plain range on idx_birthday
+     */
     @Override
-    @Transactional(readOnly = true)
-    public List<PlayerResponseDTO> getPlayersByAgeRange(int minAge, int maxAge) {
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public CursorPageDTO<PlayerResponseDTO> getPlayersByAgeRange(int minAge, int maxAge, String cursor, Integer size,
+                                                                 Set<PlayerField> fields) {
         log.info("Fetching players with age between {} and {}", minAge, maxAge);
-        List<Player> players = playerRepository.findPlayersByAgeRange(minAge, maxAge);
-        return players.stream()
-                .map(playerMapper::toResponseDTO)
-                .collect(Collectors.toList());
+        BirthdayWindow window = BirthdayWindow.forAgeRange(minAge, maxAge, LocalDate.now());
+        return getPlayersByBirthdayRange(window.getFrom(), window.getTo(), cursor, size, fields);
     }
 
+    /**
+     * Answered from the in-memory birthday index when it is enabled and
+     * loaded, otherwise with a keyset query on idx_birthday. Index pages come
+     * from the player cache, or with fields from a query for just those
+     * columns of the page's players.
+     */
     @Override
-    @Transactional(readOnly = true)
-    public List<PlayerResponseDTO> getPlayersByBirthdayRange(LocalDate startDate, LocalDate endDate) {
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public CursorPageDTO<PlayerResponseDTO> getPlayersByBirthdayRange(LocalDate startDate, LocalDate endDate,
+                                                                     String cursor, Integer size,
+                                                                     Set<PlayerField> fields) {
         log.info("Fetching players born between {} and {}", startDate, endDate);
-        List<Player> players = playerRepository.findByBirthdayBetween(startDate, endDate);
-        return players.stream()
-                .map(playerMapper::toResponseDTO)
-                .collect(Collectors.toList());
+        PlayerCursor after = PlayerCursor.decode(cursor, PlayerSort.BIRTHDAY);
+        int pageSize = pageSize(size);
+        LocalDate afterBirthday = after != null ? after.getLastBirthday() : startDate;
+        long afterId = after != null ? after.getLastId() : 0L;
+
+        PlayerBirthdayIndex index = playerBirthdayIndex.orElse(null);
+        if (index != null && index.isReady()) {
+            PlayerBirthdayIndex.Page page = index.page(startDate, endDate, afterBirthday, afterId, pageSize);
+            List<PlayerResponseDTO> items = fields != null
+                    ? playerFieldQuery.findByIds(fields, page.getIds())
+                    : loadPlayersInOrder(page.getIds());
+            String nextCursor = page.isHasMore()
+                    ? PlayerCursor.afterBirthday(page.getLastBirthday(), page.getLastId()).encode()
+                    : null;
+            return new CursorPageDTO<>(items, items.size(), page.isHasMore(), nextCursor);
+        }
+
+        List<PlayerResponseDTO> players = fields != null
+                ? playerFieldQuery.findPage(fields, PlayerSort.BIRTHDAY, null, startDate, endDate, after, pageSize + 1)
+                : playerRepository.findPageByBirthdayBetween(
+                        startDate, endDate, afterBirthday, afterId, pageRequest(pageSize));
+        return toPage(players, pageSize, PlayerSort.BIRTHDAY);
     }
 
+    /**
+     * Counts are served from the in-memory status counters
+     */
     @Override
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public long countPlayersByStatus(String status) {
         log.info("Counting players with status: {}", status);
-        return playerRepository.countByStatus(status);
+        return playerStatusCounters.getCount(Player.normalizeStatus(status));
     }
 
     @Override
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public long getActivePlayersCount() {
         return countPlayersByStatus("ACTIVE");
     }
 
     @Override
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public long getInactivePlayersCount() {
         return countPlayersByStatus("INACTIVE");
     }
+
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public PlayerCountsDTO getPlayerCounts() {
+        Map<String, Long> counts = playerStatusCounters.getCounts();
+        long total = counts.values().stream().mapToLong(Long::longValue).sum();
+        return new PlayerCountsDTO(counts, total);
+    }
+
+    /**
+     * Write the player immediately so a clash on uk_players_name_key is
+     * reported here, instead of checking for the name with a separate query
+     */
+    private Player saveAndFlushUniqueName(Player player) {
+        try {
+            return playerRepository.saveAndFlush(player);
+        } catch (DataIntegrityViolationException ex) {
+            if (DuplicatePlayerException.isDuplicateName(ex)) {
+                throw new DuplicatePlayerException("Player with name '" + player.getName() + "' already exists", ex);
+            }
+            throw ex;
+        }
+    }
+
+    /**
+     * Load players by id in the given order, from the cache where possible
+     * Ids that no longer exist are skipped.
+     */
+    private List<PlayerResponseDTO> loadPlayersInOrder(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, PlayerResponseDTO> found = new HashMap<>(playerCache.getAllPresent(ids));
+        List<Long> misses = ids.stream()
+                .filter(id -> !found.containsKey(id))
+                .collect(Collectors.toList());
+        if (!misses.isEmpty()) {
+            playerRepository.findResponsesByIdIn(misses)
+                    .forEach(player -> found.put(player.getId(), player));
+        }
+        return ids.stream()
+                .map(found::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+    }
+
+    private static PlayerVersionMismatchException versionMismatch(Long id, long expectedVersion) {
+        return new PlayerVersionMismatchException(
+                "Player " + id + " has changed since version " + expectedVersion + "; reload it and retry");
+    }
+
+    /**
+     * The patched value if it differs from the current one, otherwise null (left unchanged)
+     */
+    private static <T> T changed(T patched, T current) {
+        return patched != null && !patched.equals(current) ? patched : null;
+    }
+
+    private int searchLimit(Integer requested) {
+        if (requested == null) {
+            return DEFAULT_SEARCH_LIMIT;
+        }
+        if (requested < 1) {
+            throw new InvalidRequestException("Search limit must be at least 1");
+        }
+        return Math.min(requested, MAX_SEARCH_LIMIT);
+    }
+
+    /**
+     * Clamp a requested page size to [1, MAX_PAGE_SIZE]
+     */
+    private int pageSize(Integer requested) {
+        if (requested == null) {
+            return DEFAULT_PAGE_SIZE;
+        }
+        if (requested < 1) {
+            throw new InvalidRequestException("Page size must be at least 1");
+        }
+        return Math.min(requested, MAX_PAGE_SIZE);
+    }
+
+    /**
+     * Fetch one row beyond the page size so hasMore is known without a COUNT query
+     */
+    private Pageable pageRequest(int pageSize) {
+        return PageRequest.ofSize(pageSize + 1);
+    }
+
+    private static CursorPageDTO<PlayerResponseDTO> toPage(List<PlayerResponseDTO> players, int pageSize,
+                                                           PlayerSort sort) {
+        boolean hasMore = players.size() > pageSize;
+        List<PlayerResponseDTO> items = hasMore ? new ArrayList<>(players.subList(0, pageSize)) : players;
+        String nextCursor = hasMore ? PlayerCursor.after(items.get(items.size() - 1), sort).encode() : null;
+        return new CursorPageDTO<>(items, items.size(), hasMore, nextCursor);
+    }
 }
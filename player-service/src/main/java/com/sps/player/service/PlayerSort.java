@@ -0,0 +1,44 @@
+package com.sps.player.service;
+
+import com.sps.player.exception.InvalidRequestException;
+
+import java.util.Locale;
+
+/**
+ * Stable sort orders supported by the paginated player endpoints
+ * Every order is unique because the id is always the final tie-breaker
+ *
+ * @author SPS Cricket Club
+ * @version 1.0.0
+ */
+public enum PlayerSort {
+
+    /**
+     * Ordered by (id)
+     */
+    ID,
+
+    /**
+     * Ordered by (name, id)
+     */
+    NAME,
+
+    /**
+     * Ordered by (birthday, id)
+     */
+    BIRTHDAY;
+
+    /**
+     * Parse a sort request parameter, defaulting to ID
+     */
+    public static PlayerSort fromParameter(String value) {
+        if (value == null || value.isBlank()) {
+            return ID;
+        }
+        try {
+            return PlayerSort.valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException ex) {
+            throw new InvalidRequestException("Unsupported sort '" + value + "'");
+        }
+    }
+}
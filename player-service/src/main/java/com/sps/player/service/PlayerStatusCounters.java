@@ -0,0 +1,193 @@
+package com.sps.player.service;
+
+import com.sps.player.datasource.DataSourceRouter;
+import com.sps.player.dto.PlayerResponseDTO;
+import com.sps.player.event.PlayerChangedEvent;
+import com.sps.player.event.PlayerStatusBulkChangedEvent;
+import com.sps.player.event.RosterStaleEvent;
+import com.sps.player.repository.PlayerRepository;
+import com.sps.player.repository.StatusCountView;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * In-memory player counts per status
+ * Seeded from a single GROUP BY query, adjusted after every committed
+ * create, status change and delete, recounted after bulk status changes,
+ * and periodically reconciled against the database to correct any drift.
+ * Changes committed while a recount query runs are recorded and replayed
+ * onto its result, so a recount never loses them. Reads never touch the
+ * database.
+ *
+ * @author SPS Cricket Club
+ * @version 1.0.0
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PlayerStatusCounters {
+
+    /**
+     * Key used for players without a status
+     */
+    public static final String UNKNOWN_STATUS = "UNKNOWN";
+
+    private final PlayerRepository playerRepository;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private volatile Map<String, Long> counts;
+
+    /**
+     * Per-status changes recorded for each recount whose query is running
+     */
+    private final Set<Map<String, Long>> recountDeltas = Collections.newSetFromMap(new IdentityHashMap<>());
+
+    /**
+     * Current counts keyed by status, sorted by status
+     */
+    public Map<String, Long> getCounts() {
+        Map<String, Long> current = counts;
+        if (current == null) {
+            reconcile();
+            current = counts;
+        }
+        return current;
+    }
+
+    /**
+     * Current number of players with the status
+     */
+    public long getCount(String status) {
+        return getCounts().getOrDefault(key(status), 0L);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void seed() {
+        reconcile();
+    }
+
+    /**
+     * Replace the counters with fresh counts from the database
+     */
+    @Scheduled(fixedDelayString = "${player.counters.reconcile-interval:PT5M}",
+            initialDelayString = "${player.counters.reconcile-interval:PT5M}")
+    public void reconcile() {
+        recount(true);
+    }
+
+    /**
+     * Recount after a bulk status change, whose per-status effect is not known row by row
+     */
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener
+    public void onPlayerStatusBulkChanged(PlayerStatusBulkChangedEvent event) {
+        recount(false);
+    }
+
+    /**
+     * Recount when players were changed by another instance
+     */
+    @EventListener
+    public void onRosterStale(RosterStaleEvent event) {
+        recount(false);
+    }
+
+    private void recount(boolean reportDrift) {
+        Map<String, Long> deltas = new HashMap<>();
+        lock.lock();
+        try {
+            recountDeltas.add(deltas);
+        } finally {
+            lock.unlock();
+        }
+        Map<String, Long> fresh = new TreeMap<>();
+        try {
+            // From the primary: a lagging replica would undo deltas already applied
+            for (StatusCountView row : DataSourceRouter.onPrimary(playerRepository::countGroupByStatus)) {
+                fresh.merge(key(row.getStatus()), row.getCount(), Long::sum);
+            }
+        } finally {
+            lock.lock();
+            try {
+                recountDeltas.remove(deltas);
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        lock.lock();
+        try {
+            // A change committed just before the query started may be counted twice;
+            // the next reconcile corrects it, and drift is not reported for such recounts
+            deltas.forEach((status, delta) -> fresh.merge(status, delta, Long::sum));
+            fresh.values().removeIf(count -> count == 0);
+            Map<String, Long> previous = counts;
+            if (reportDrift && deltas.isEmpty() && previous != null && !previous.equals(fresh)) {
+                log.warn("Player status counters drifted from {} to {}", previous, fresh);
+            }
+            counts = Collections.unmodifiableMap(fresh);
+        } finally {
+            lock.unlock();
+        }
+        log.debug("Player status counters reconciled: {}", fresh);
+    }
+
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener
+    public void onPlayerChanged(PlayerChangedEvent event) {
+        String previousStatus = status(event.getPrevious());
+        String currentStatus = status(event.getCurrent());
+        if (previousStatus != null && previousStatus.equals(currentStatus)) {
+            return;
+        }
+        lock.lock();
+        try {
+            for (Map<String, Long> deltas : recountDeltas) {
+                if (previousStatus != null) {
+                    deltas.merge(previousStatus, -1L, Long::sum);
+                }
+                if (currentStatus != null) {
+                    deltas.merge(currentStatus, 1L, Long::sum);
+                }
+            }
+            if (counts == null) {
+                // Not seeded yet; the first reconcile counts from the database
+                return;
+            }
+            Map<String, Long> updated = new TreeMap<>(counts);
+            if (previousStatus != null) {
+                updated.merge(previousStatus, -1L, Long::sum);
+                updated.remove(previousStatus, 0L);
+            }
+            if (currentStatus != null) {
+                updated.merge(currentStatus, 1L, Long::sum);
+            }
+            counts = Collections.unmodifiableMap(updated);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private static String status(PlayerResponseDTO player) {
+        return player != null ? key(player.getStatus()) : null;
+    }
+
+    private static String key(String status) {
+        return status != null ? status : UNKNOWN_STATUS;
+    }
+}
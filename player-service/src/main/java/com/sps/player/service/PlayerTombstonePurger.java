@@ -0,0 +1,39 @@
+package com.sps.player.service;
+
+import com.sps.player.config.PlayerSyncProperties;
+import com.sps.player.repository.PlayerTombstoneRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+/**
+ * Removes player tombstones older than the sync retention
+ * Clients whose token predates the retention are told to resync in full,
+ * so nothing they need is lost.
+ *
+ * @author SPS Cricket Club
+ * @version 1.0.0
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PlayerTombstonePurger {
+
+    private final PlayerTombstoneRepository tombstoneRepository;
+    private final PlayerSyncProperties properties;
+
+    @Scheduled(fixedDelayString = "${player.sync.purge-interval:PT1H}",
+            initialDelayString = "${player.sync.purge-interval:PT1H}")
+    @Transactional
+    public void purge() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(properties.getTombstoneRetention());
+        int purged = tombstoneRepository.deleteDeletedBefore(cutoff);
+        if (purged > 0) {
+            log.info("Purged {} player tombstones deleted before {}", purged, cutoff);
+        }
+    }
+}
@@ -0,0 +1,261 @@
+package com.sps.player.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.sps.player.config.RosterSnapshotProperties;
+import com.sps.player.datasource.DataSourceRouter;
+import com.sps.player.event.PlayerChangedEvent;
+import com.sps.player.event.PlayerStatusBulkChangedEvent;
+import com.sps.player.event.RosterStaleEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * The whole roster as a ready-to-send JSON ApiResponse, in identity, gzip
+ * and deflate encodings
+ * Rebuilt in the background after committed writes, debounced so a burst
+ * of writes causes one rebuild, so serving it needs neither the database
+ * nor Jackson. Between a write and the rebuild the previous snapshot is
+ * served under its own, older ETag. Players' ages depend on the date, so
+ * the tag carries the date it was built on and the first request of a new
+ * day rebuilds it.
+ *
+ * @author SPS Cricket Club
+ * @version 1.0.0
+ */
+@Component
+@Slf4j
+public class RosterSnapshot {
+
+    /**
+     * One built snapshot; the byte arrays are shared and must not be modified
+     */
+    public record Snapshot(String etag, int players, LocalDateTime builtAt,
+                           byte[] identity, byte[] gzip, byte[] deflate) {
+
+        /**
+         * Strong ETag of the body in one content coding; each coding is a different byte sequence
+         */
+        public String etag(String encoding) {
+            return "identity".equals(encoding) ? etag : etag + "-" + encoding;
+        }
+
+        /**
+         * Whether the ages in the body are still the ones of today
+         */
+        boolean isFromToday() {
+            return builtAt.toLocalDate().equals(LocalDate.now());
+        }
+    }
+
+    private final PlayerService playerService;
+    private final RosterVersion rosterVersion;
+    private final ObjectMapper objectMapper;
+    private final TaskScheduler taskScheduler;
+    private final RosterSnapshotProperties properties;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final ReentrantLock buildLock = new ReentrantLock();
+    private volatile Snapshot current;
+    private ScheduledFuture<?> pendingRebuild;
+    private Instant dirtySince;
+
+    public RosterSnapshot(PlayerService playerService, RosterVersion rosterVersion, ObjectMapper objectMapper,
+                          TaskScheduler taskScheduler, RosterSnapshotProperties properties) {
+        this.playerService = playerService;
+        this.rosterVersion = rosterVersion;
+        this.objectMapper = objectMapper;
+        this.taskScheduler = taskScheduler;
+        this.properties = properties;
+    }
+
+    /**
+     * Current snapshot, built on the calling thread if none exists yet or it was built on an earlier day
+     */
+    public Snapshot get() {
+        Snapshot snapshot = current;
+        if (snapshot != null && snapshot.isFromToday()) {
+            return snapshot;
+        }
+        buildLock.lock();
+        try {
+            // Another request may have built it while this one waited
+            snapshot = current;
+            return snapshot != null && snapshot.isFromToday() ? snapshot : rebuild();
+        } finally {
+            buildLock.unlock();
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        taskScheduler.schedule(this::rebuildQuietly, Instant.now());
+    }
+
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    @TransactionalEventListener
+    public void onPlayerChanged(PlayerChangedEvent event) {
+        scheduleRebuild();
+    }
+
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    @TransactionalEventListener
+    public void onPlayerStatusBulkChanged(PlayerStatusBulkChangedEvent event) {
+        scheduleRebuild();
+    }
+
+    @EventListener
+    public void onRosterStale(RosterStaleEvent event) {
+        scheduleRebuild();
+    }
+
+    /**
+     * Push the rebuild back by the debounce period, but no later than
+     * max-delay after the first write it covers
+     */
+    private void scheduleRebuild() {
+        lock.lock();
+        try {
+            Instant now = Instant.now();
+            if (dirtySince == null) {
+                dirtySince = now;
+            }
+            Instant due = now.plus(properties.getDebounce());
+            Instant latest = dirtySince.plus(properties.getMaxDelay());
+            if (due.isAfter(latest)) {
+                due = latest;
+            }
+            if (pendingRebuild != null) {
+                pendingRebuild.cancel(false);
+            }
+            pendingRebuild = taskScheduler.schedule(this::rebuildQuietly, due);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void rebuildQuietly() {
+        try {
+            rebuild();
+        } catch (RuntimeException ex) {
+            // The previous snapshot stays in place; the next write schedules another attempt
+            log.error("Roster snapshot rebuild failed", ex);
+        }
+    }
+
+    /**
+     * Build a snapshot from the database and make it current
+     */
+    private Snapshot rebuild() {
+        buildLock.lock();
+        try {
+            lock.lock();
+            try {
+                // Writes committed from here on schedule another rebuild
+                dirtySince = null;
+                pendingRebuild = null;
+            } finally {
+                lock.unlock();
+            }
+            long started = System.currentTimeMillis();
+            LocalDateTime builtAt = LocalDateTime.now();
+            ByteArrayOutputStream json = new ByteArrayOutputStream(1 << 16);
+            // Both from the primary, so a lagging replica cannot serve old rows under the new revision;
+            // the revision is read before the data so a concurrent change can only make the tag older
+            long revision = DataSourceRouter.onPrimary(rosterVersion::revision);
+            int players = DataSourceRouter.onPrimary(() -> writeRoster(json, builtAt));
+            byte[] identity = json.toByteArray();
+            Snapshot snapshot = new Snapshot(
+                    "snapshot-" + revision + "-" + builtAt.toLocalDate().format(DateTimeFormatter.BASIC_ISO_DATE),
+                    players, builtAt,
+                    identity, gzip(identity), deflate(identity));
+            current = snapshot;
+            log.info("Roster snapshot of {} players built in {} ms ({} bytes, {} gzipped, {} deflated)",
+                    players, System.currentTimeMillis() - started, identity.length, snapshot.gzip().length,
+                    snapshot.deflate().length);
+            return snapshot;
+        } finally {
+            buildLock.unlock();
+        }
+    }
+
+    /**
+     * Write the same envelope ApiResponse.success would produce, streaming
+     * the players so no list of the whole roster is built
+     */
+    private int writeRoster(OutputStream out, LocalDateTime builtAt) {
+        ObjectWriter writer = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+            generator.writeStartObject();
+            generator.writeBooleanField("success", true);
+            generator.writeStringField("message", "Players retrieved successfully");
+            generator.writeArrayFieldStart("data");
+            long players = playerService.exportPlayers(player -> {
+                try {
+                    writer.writeValue(generator, player);
+                } catch (IOException ex) {
+                    throw new UncheckedIOException(ex);
+                }
+            });
+            generator.writeEndArray();
+            generator.writeFieldName("timestamp");
+            writer.writeValue(generator, builtAt);
+            generator.writeEndObject();
+            return (int) players;
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private static byte[] gzip(byte[] bytes) {
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream(bytes.length / 4 + 64);
+        try (OutputStream out = new GZIPOutputStream(compressed) {
+            {
+                def.setLevel(Deflater.BEST_COMPRESSION);
+            }
+        }) {
+            out.write(bytes);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        return compressed.toByteArray();
+    }
+
+    /**
+     * zlib-wrapped deflate, which is what Content-Encoding: deflate means
+     */
+    private static byte[] deflate(byte[] bytes) {
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream(bytes.length / 4 + 64);
+        Deflater deflater = new Deflater(Deflater.BEST_COMPRESSION);
+        try (OutputStream out = new DeflaterOutputStream(compressed, deflater)) {
+            out.write(bytes);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        } finally {
+            deflater.end();
+        }
+        return compressed.toByteArray();
+    }
+}
@@ -0,0 +1,319 @@
+package com.sps.player.service;
+
+import com.sps.player.datasource.DataSourceRouter;
+import com.sps.player.entity.RosterRevision;
+import com.sps.player.event.RosterStaleEvent;
+import com.sps.player.repository.PlayerRepository;
+import com.sps.player.repository.PlayerTombstoneRepository;
+import com.sps.player.repository.RosterRevisionRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Version of the player roster as a whole, used as the validator for list ETags
+ * The version is the shared roster_revision row, so every instance issues
+ * the same tag for the same data. Writes don't touch the row: after a write
+ * commits, this instance bumps it in a short transaction of its own, off the
+ * request thread, and commits that arrive while a bump runs share the next
+ * one. The tag itself is held in memory, so issuing it costs no query.
+ * Each bump also stamps the players and tombstones written since the last
+ * one with the new revision as their change sequence. Bumps are serialized
+ * by the row lock, so the delta sync feed sees writes in commit order.
+ * A tag is only issued for a revision this instance's read models (cache,
+ * counters, indexes) reflect. Its own bumps follow the after-commit
+ * listeners that apply its writes; a revision it did not bump (written by
+ * another instance or the reactive service) is found by polling, or as a
+ * gap before its own next bump, and reloads the read models through a
+ * RosterStaleEvent. Until then, for at most the poll interval, lists are
+ * served under the previous tag.
+ *
+ * @author SPS Cricket Club
+ * @version 1.0.0
+ */
+@Component
+@Slf4j
+public class RosterVersion {
+
+    private static final int STAMP_CHUNK = 1000;
+
+    private final RosterRevisionRepository revisionRepository;
+    private final PlayerRepository playerRepository;
+    private final PlayerTombstoneRepository tombstoneRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TaskExecutor taskExecutor;
+
+    private final ReentrantLock lock = new ReentrantLock();
+
+    /**
+     * Highest revision the read models reflect, or -1 until the application is ready
+     */
+    private long applied = -1;
+
+    private boolean bumpRequested;
+    private boolean bumping;
+    private long refreshTarget = -1;
+    private boolean refreshing;
+
+    public RosterVersion(RosterRevisionRepository revisionRepository,
+                         PlayerRepository playerRepository,
+                         PlayerTombstoneRepository tombstoneRepository,
+                         PlatformTransactionManager transactionManager,
+                         ApplicationEventPublisher eventPublisher,
+                         @Qualifier("applicationTaskExecutor") TaskExecutor taskExecutor) {
+        this.revisionRepository = revisionRepository;
+        this.playerRepository = playerRepository;
+        this.tombstoneRepository = tombstoneRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.eventPublisher = eventPublisher;
+        this.taskExecutor = taskExecutor;
+    }
+
+    /**
+     * Current roster version, or null while this instance's read models are
+     * reloading (responses are then sent without an ETag)
+     * Read it before reading the data it describes.
+     */
+    public String current() {
+        lock.lock();
+        try {
+            return applied >= 0 && !refreshing ? Long.toString(applied) : null;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Current shared revision, for callers that read their data from the database themselves
+     */
+    public long revision() {
+        return revisionRepository.findRevision().orElse(0L);
+    }
+
+    /**
+     * Bump the shared revision once the caller's write transaction commits
+     * Nothing is bumped if it rolls back. Outside a transaction the bump is
+     * requested straight away.
+     */
+    public void increment() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            requestBump();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public int getOrder() {
+                // After the read models' @TransactionalEventListener synchronizations
+                return Ordered.LOWEST_PRECEDENCE;
+            }
+
+            @Override
+            public void afterCommit() {
+                requestBump();
+            }
+        });
+    }
+
+    /**
+     * Start from the revision the read models are about to load
+     * Runs before their ApplicationReadyEvent loads, so they read at least this revision.
+     */
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @EventListener(ApplicationReadyEvent.class)
+    public void init() {
+        long revision = DataSourceRouter.onPrimary(revisionRepository::findRevision).orElseGet(this::createRow);
+        lock.lock();
+        try {
+            applied = Math.max(applied, revision);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Pick up revisions written elsewhere
+     * A poll that lands between one of this instance's bumps committing and
+     * being recorded causes one needless reload, which is harmless.
+     */
+    @Scheduled(fixedDelayString = "${player.roster.poll-interval:PT1S}",
+            initialDelayString = "${player.roster.poll-interval:PT1S}")
+    public void poll() {
+        DataSourceRouter.onPrimary(revisionRepository::findRevision).ifPresent(revision -> {
+            lock.lock();
+            try {
+                if (applied >= 0 && revision > applied && !bumping) {
+                    requestRefresh(revision);
+                }
+            } finally {
+                lock.unlock();
+            }
+        });
+    }
+
+    private void requestBump() {
+        lock.lock();
+        try {
+            bumpRequested = true;
+            if (bumping) {
+                return;
+            }
+            bumping = true;
+        } finally {
+            lock.unlock();
+        }
+        taskExecutor.execute(this::bump);
+    }
+
+    /**
+     * Increment the shared revision and stamp the writes it covers, until no commit is left without one
+     * The row is locked only for this short transaction.
+     */
+    private void bump() {
+        while (true) {
+            lock.lock();
+            try {
+                if (!bumpRequested) {
+                    bumping = false;
+                    return;
+                }
+                bumpRequested = false;
+            } finally {
+                lock.unlock();
+            }
+            Long revision;
+            try {
+                revision = transactionTemplate.execute(status -> {
+                    if (revisionRepository.increment() == 0) {
+                        return null;
+                    }
+                    Long bumped = revisionRepository.findRevision().orElse(null);
+                    if (bumped != null) {
+                        stamp(bumped);
+                    }
+                    return bumped;
+                });
+            } catch (RuntimeException ex) {
+                // Other instances keep serving the old tag until the next write bumps it
+                log.error("Failed to bump the roster revision", ex);
+                continue;
+            }
+            if (revision != null) {
+                bumped(revision);
+            }
+        }
+    }
+
+    /**
+     * Give every committed, unstamped player and tombstone the revision as its change sequence
+     * Writes by other instances or left over from a failed bump are stamped too.
+     */
+    private void stamp(long revision) {
+        List<Long> playerIds = playerRepository.lockUnsequencedIds();
+        for (int start = 0; start < playerIds.size(); start += STAMP_CHUNK) {
+            playerRepository.updateChangeSeq(
+                    playerIds.subList(start, Math.min(start + STAMP_CHUNK, playerIds.size())), revision);
+        }
+        List<Long> deletedIds = tombstoneRepository.lockUnsequencedIds();
+        for (int start = 0; start < deletedIds.size(); start += STAMP_CHUNK) {
+            tombstoneRepository.updateChangeSeq(
+                    deletedIds.subList(start, Math.min(start + STAMP_CHUNK, deletedIds.size())), revision);
+        }
+    }
+
+    private void bumped(long revision) {
+        lock.lock();
+        try {
+            if (applied < 0 || revision <= applied) {
+                return;
+            }
+            if (revision == applied + 1 && !refreshing) {
+                applied = revision;
+            } else {
+                // Revisions in between were written elsewhere
+                requestRefresh(revision);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void requestRefresh(long target) {
+        if (target <= refreshTarget) {
+            return;
+        }
+        refreshTarget = target;
+        if (!refreshing) {
+            refreshing = true;
+            taskExecutor.execute(this::refresh);
+        }
+    }
+
+    /**
+     * Reload the read models until they reflect the latest requested revision
+     * Runs on the task executor so reloads don't hold up scheduled jobs.
+     */
+    private void refresh() {
+        while (true) {
+            long target;
+            lock.lock();
+            try {
+                target = refreshTarget;
+            } finally {
+                lock.unlock();
+            }
+            log.info("Roster revision {} includes changes made elsewhere, reloading read models", target);
+            try {
+                eventPublisher.publishEvent(new RosterStaleEvent(target));
+            } catch (RuntimeException ex) {
+                log.error("Failed to reload read models for roster revision {}", target, ex);
+                lock.lock();
+                try {
+                    // The next poll retries
+                    refreshTarget = -1;
+                    refreshing = false;
+                } finally {
+                    lock.unlock();
+                }
+                return;
+            }
+            lock.lock();
+            try {
+                applied = Math.max(applied, target);
+                if (refreshTarget <= target) {
+                    refreshing = false;
+                    return;
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Create the revision row when the schema comes from ddl-auto rather than the migrations
+     */
+    private long createRow() {
+        try {
+            revisionRepository.saveAndFlush(new RosterRevision(RosterRevision.ROW_ID, 0L));
+        } catch (DataIntegrityViolationException ex) {
+            log.debug("Roster revision row was created by another instance");
+        }
+        return revisionRepository.findRevision().orElse(0L);
+    }
+}
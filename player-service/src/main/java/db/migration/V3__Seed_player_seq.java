@@ -0,0 +1,95 @@
+package db.migration;
+
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Create player_seq, or move it past the ids already in players
+ * Databases from before the sequence generator hold identity ids, and
+ * ddl-auto=update creates player_seq starting at 1, so the first inserts
+ * would collide with existing rows. Hibernate's pooled optimizer hands
+ * out the allocation-size ids up to each value it reads, so the next
+ * value must be at least MAX(id) + allocation size.
+ * On MySQL player_seq is Hibernate's single-row table emulation; other
+ * databases (H2 in development and tests) get a real sequence.
+ *
+ * @author SPS Cricket Club
+ * @version 1.0.0
+ */
+public class V3__Seed_player_seq extends BaseJavaMigration {
+
+    /**
+     * Must match the allocationSize of the player_seq generator on Player
+     */
+    static final int ALLOCATION_SIZE = 50;
+
+    @Override
+    public void migrate(Context context) throws SQLException {
+        Connection connection = context.getConnection();
+        long next = maxId(connection) + ALLOCATION_SIZE;
+        if ("MySQL".equalsIgnoreCase(connection.getMetaData().getDatabaseProductName())) {
+            seedTable(connection, next);
+        } else {
+            seedSequence(connection, next);
+        }
+    }
+
+    private static long maxId(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet result = statement.executeQuery("select coalesce(max(id), 0) from players")) {
+            result.next();
+            return result.getLong(1);
+        }
+    }
+
+    /**
+     * Never moves the value back, in case ids have already been handed out from it
+     */
+    private static void seedTable(Connection connection, long next) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("create table if not exists player_seq (next_val bigint) engine=InnoDB");
+        }
+        int updated;
+        try (PreparedStatement update = connection.prepareStatement(
+                "update player_seq set next_val = greatest(coalesce(next_val, 0), ?)")) {
+            update.setLong(1, next);
+            updated = update.executeUpdate();
+        }
+        if (updated == 0) {
+            try (PreparedStatement insert = connection.prepareStatement("insert into player_seq values (?)")) {
+                insert.setLong(1, next);
+                insert.executeUpdate();
+            }
+        }
+    }
+
+    private static void seedSequence(Connection connection, long next) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            if (!sequenceExists(statement)) {
+                statement.execute("create sequence player_seq start with " + next
+                        + " increment by " + ALLOCATION_SIZE);
+                return;
+            }
+            long current;
+            try (ResultSet result = statement.executeQuery("select next value for player_seq")) {
+                result.next();
+                current = result.getLong(1);
+            }
+            statement.execute("alter sequence player_seq restart with " + Math.max(current, next));
+        }
+    }
+
+    private static boolean sequenceExists(Statement statement) throws SQLException {
+        try (ResultSet result = statement.executeQuery("select count(*) from information_schema.sequences "
+                + "where lower(sequence_name) = 'player_seq'")) {
+            result.next();
+            return result.getLong(1) > 0;
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package db.migration;
+
+import com.sps.player.entity.Player;
+import lombok.extern.slf4j.Slf4j;
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Give every existing player its name_key, then enforce uk_players_name_key
+ * Keys are computed with Player.normalizeName, so they match the ones the
+ * application writes. Names that normalize to the same key were allowed
+ * before the constraint existed: the player with the lowest id keeps the
+ * key, and each other one gets the key suffixed with "#" and its id, so the
+ * constraint can be created. Every such collision is logged at WARN so the
+ * duplicates can be renamed or merged.
+ *
+ * @author SPS Cricket Club
+ * @version 1.0.0
+ */
+@Slf4j
+public class V4__Backfill_name_key extends BaseJavaMigration {
+
+    /**
+     * Length of the name_key column
+     */
+    static final int KEY_LENGTH = 100;
+
+    private static final int BATCH_SIZE = 500;
+
+    @Override
+    public void migrate(Context context) throws SQLException {
+        Connection connection = context.getConnection();
+        if (!SchemaMetadata.columnExists(connection, "players", "name_key")) {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("alter table players add column name_key varchar(" + KEY_LENGTH + ")");
+            }
+        }
+
+        Map<Long, String> keys = assignKeys(connection);
+        int updated = writeKeys(connection, keys);
+
+        if (!SchemaMetadata.indexExists(connection, "players", "name_key", true)) {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("alter table players add constraint " + Player.NAME_KEY_CONSTRAINT
+                        + " unique (name_key)");
+            }
+        }
+        log.info("Backfilled name_key of {} players", updated);
+    }
+
+    /**
+     * Key of every player whose stored key differs from the one it should have, by id
+     */
+    private static Map<Long, String> assignKeys(Connection connection) throws SQLException {
+        Map<String, Long> owners = new HashMap<>();
+        Map<Long, String> names = new LinkedHashMap<>();
+        Map<Long, String> stored = new HashMap<>();
+        try (Statement statement = connection.createStatement();
+             ResultSet rows = statement.executeQuery("select id, name, name_key from players order by id")) {
+            while (rows.next()) {
+                long id = rows.getLong(1);
+                names.put(id, rows.getString(2));
+                stored.put(id, rows.getString(3));
+            }
+        }
+
+        Map<Long, String> plainKeys = new LinkedHashMap<>();
+        List<Long> collided = new ArrayList<>();
+        names.forEach((id, name) -> {
+            String key = Player.normalizeName(name);
+            if (owners.putIfAbsent(key, id) != null) {
+                collided.add(id);
+            } else {
+                plainKeys.put(id, key);
+            }
+        });
+        // Suffixed keys are assigned once every plain key is known, so they cannot take one, and are
+        // written first, so a player already holding a key it has to give up releases it in time
+        Map<Long, String> keys = new LinkedHashMap<>();
+        for (Long id : collided) {
+            String key = Player.normalizeName(names.get(id));
+            String suffixed = suffixed(key, id);
+            for (int attempt = 2; owners.containsKey(suffixed); attempt++) {
+                suffixed = suffixed(key, id + "-" + attempt);
+            }
+            owners.put(suffixed, id);
+            keys.put(id, suffixed);
+            log.warn("Player {} '{}' has the same normalized name as player {}; its name_key is '{}' "
+                    + "until it is renamed", id, names.get(id), owners.get(key), suffixed);
+        }
+        keys.putAll(plainKeys);
+        keys.entrySet().removeIf(entry -> entry.getValue().equals(stored.get(entry.getKey())));
+        return keys;
+    }
+
+    private static String suffixed(String key, Object id) {
+        String suffix = "#" + id;
+        return key.substring(0, Math.min(key.length(), KEY_LENGTH - suffix.length())) + suffix;
+    }
+
+    private static int writeKeys(Connection connection, Map<Long, String> keys) throws SQLException {
+        int pending = 0;
+        try (PreparedStatement update = connection.prepareStatement("update players set name_key = ? where id = ?")) {
+            for (Map.Entry<Long, String> key : keys.entrySet()) {
+                update.setString(1, key.getValue());
+                update.setLong(2, key.getKey());
+                update.addBatch();
+                if (++pending % BATCH_SIZE == 0) {
+                    update.executeBatch();
+                }
+            }
+            if (pending % BATCH_SIZE != 0) {
+                update.executeBatch();
+            }
+        }
+        return keys.size();
+    }
+}
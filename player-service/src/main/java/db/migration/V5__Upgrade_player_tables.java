@@ -0,0 +1,48 @@
+package db.migration;
+
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Bring the baseline players table up to the current Player and
+ * PlayerTombstone mappings: the optimistic lock version, the birthday and
+ * update-time indexes, and the delete tombstones
+ * Each change is skipped when ddl-auto=update has already made it.
+ *
+ * @author SPS Cricket Club
+ * @version 1.0.0
+ */
+public class V5__Upgrade_player_tables extends BaseJavaMigration {
+
+    @Override
+    public void migrate(Context context) throws SQLException {
+        Connection connection = context.getConnection();
+        boolean mysql = "MySQL".equalsIgnoreCase(connection.getMetaData().getDatabaseProductName());
+        String timestamp = mysql ? "datetime(6)" : "timestamp(6)";
+        String tableOptions = mysql ? " engine=InnoDB" : "";
+
+        try (Statement statement = connection.createStatement()) {
+            if (!SchemaMetadata.columnExists(connection, "players", "version")) {
+                // Existing players start at version 0, like new ones
+                statement.execute("alter table players add column version bigint not null default 0");
+            }
+            if (!SchemaMetadata.indexExists(connection, "players", "birthday", false)) {
+                statement.execute("create index idx_birthday on players (birthday)");
+            }
+            if (!SchemaMetadata.indexExists(connection, "players", "updated_at", false)) {
+                statement.execute("create index idx_updated_at on players (updated_at, id)");
+            }
+            if (!SchemaMetadata.tableExists(connection, "player_tombstones")) {
+                statement.execute("create table player_tombstones ("
+                        + "player_id bigint not null, "
+                        + "deleted_at " + timestamp + " not null, "
+                        + "primary key (player_id))" + tableOptions);
+                statement.execute("create index idx_deleted_at on player_tombstones (deleted_at, player_id)");
+            }
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package db.migration;
+
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Add the change sequence that orders the delta sync feed by commit
+ * Writes leave change_seq null and the roster revision bump that follows
+ * their commit stamps it. Rows that exist before this migration have been
+ * seen by no sync token that survives it, so they start at 0.
+ *
+ * @author SPS Cricket Club
+ * @version 1.0.0
+ */
+public class V6__Add_change_seq extends BaseJavaMigration {
+
+    @Override
+    public void migrate(Context context) throws SQLException {
+        Connection connection = context.getConnection();
+        addChangeSeq(connection, "players", "id", "idx_players_change_seq");
+        addChangeSeq(connection, "player_tombstones", "player_id", "idx_tombstones_change_seq");
+    }
+
+    private static void addChangeSeq(Connection connection, String table, String idColumn, String index)
+            throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            if (!SchemaMetadata.columnExists(connection, table, "change_seq")) {
+                statement.execute("alter table " + table + " add column change_seq bigint");
+            }
+            statement.execute("update " + table + " set change_seq = 0 where change_seq is null");
+            if (!SchemaMetadata.indexExists(connection, table, "change_seq", false)) {
+                statement.execute("create index " + index + " on " + table + " (change_seq, " + idColumn + ")");
+            }
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package db.migration;
+
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Index players by image name
+ * Images are shared by content hash, so before a replaced or deleted
+ * player's image file is removed the store looks for any other player
+ * still referencing it.
+ *
+ * @author SPS Cricket Club
+ * @version 1.0.0
+ */
+public class V7__Add_image_name_index extends BaseJavaMigration {
+
+    @Override
+    public void migrate(Context context) throws SQLException {
+        Connection connection = context.getConnection();
+        if (!SchemaMetadata.indexExists(connection, "players", "image_name", false)) {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("create index idx_players_image_name on players (image_name)");
+            }
+        }
+    }
+}
@@ -0,0 +1,17 @@
+-- Player schema of the original service, as spring.jpa.hibernate.ddl-auto=update created it.
+-- Databases that already have it are baselined at version 1 (spring.flyway.baseline-on-migrate),
+-- so everything added since lives in V2 onwards, which upgrade existing and new databases alike.
+
+create table players (
+    id bigint not null auto_increment,
+    name varchar(100) not null,
+    birthday date not null,
+    image_name varchar(255),
+    status varchar(20),
+    created_at datetime(6),
+    updated_at datetime(6),
+    primary key (id)
+) engine=InnoDB;
+
+create index idx_status on players (status);
+create index idx_name on players (name);
@@ -0,0 +1,10 @@
+-- Shared roster revision: incremented in every write transaction, by every instance
+-- and by the reactive service, so list ETags are the same on all instances.
+
+create table roster_revision (
+    id integer not null,
+    revision bigint not null,
+    primary key (id)
+) engine=InnoDB;
+
+insert into roster_revision (id, revision) values (1, 0);
@@ -0,0 +1,179 @@
+package com.sps.player.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sps.player.config.PlayerCacheProperties;
+import com.sps.player.dto.PlayerField;
+import com.sps.player.dto.PlayerResponseDTO;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for PlayerCache read-through loading and the guard against caching
+ * a load that raced with a committed write
+ *
+ * @author SPS Cricket Club
+ * @version 1.0.0
+ */
+class PlayerCacheTest {
+
+    private static final int RACE_ROUNDS = 2_000;
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json()
+            .filters(PlayerField.filters(null))
+            .build();
+
+    @Test
+    void loadsOnceAndServesFromCache() {
+        PlayerCache cache = cache(false);
+        AtomicInteger loads = new AtomicInteger();
+
+        cache.get(1L, id -> player(id, "v" + loads.incrementAndGet()));
+        PlayerResponseDTO second = cache.get(1L, id -> player(id, "v" + loads.incrementAndGet()));
+
+        assertThat(loads).hasValue(1);
+        assertThat(second.getName()).isEqualTo("v1");
+    }
+
+    @Test
+    void doesNotCacheMissingPlayers() {
+        PlayerCache cache = cache(false);
+        AtomicInteger loads = new AtomicInteger();
+
+        assertThat(cache.get(1L, id -> {
+            loads.incrementAndGet();
+            return null;
+        })).isNull();
+        cache.get(1L, id -> player(id, "created"));
+
+        assertThat(loads).hasValue(1);
+        assertThat(cache.get(1L, id -> player(id, "reloaded")).getName()).isEqualTo("created");
+    }
+
+    @Test
+    void evictionDuringLoadDiscardsTheLoadedPlayer() {
+        for (boolean offHeap : new boolean[]{false, true}) {
+            PlayerCache cache = cache(offHeap);
+
+            // A write commits (and evicts) after the loader read the old row
+            PlayerResponseDTO loaded = cache.get(1L, id -> {
+                PlayerResponseDTO stale = player(id, "before write");
+                cache.evict(id);
+                return stale;
+            });
+
+            assertThat(loaded.getName()).isEqualTo("before write");
+            assertThat(cache.get(1L, id -> player(id, "after write")).getName()).isEqualTo("after write");
+        }
+    }
+
+    @Test
+    void evictionOfAnotherPlayerDuringLoadAlsoDiscards() {
+        PlayerCache cache = cache(false);
+
+        cache.get(1L, id -> {
+            cache.evict(2L);
+            return player(id, "before write");
+        });
+
+        assertThat(cache.get(1L, id -> player(id, "reloaded")).getName()).isEqualTo("reloaded");
+    }
+
+    @Test
+    void evictionDuringBatchLoadDiscardsTheLoadedPlayers() {
+        PlayerCache cache = cache(false);
+
+        Map<Long, PlayerResponseDTO> loaded = cache.getAll(List.of(1L, 2L), ids -> {
+            cache.evictAll();
+            return ids.stream().map(id -> player(id, "before write")).toList();
+        });
+
+        assertThat(loaded).hasSize(2);
+        assertThat(cache.getAllPresent(List.of(1L, 2L))).isEmpty();
+    }
+
+    @Test
+    void batchLoadCachesPlayersAndSkipsMissingIds() {
+        PlayerCache cache = cache(false);
+        cache.get(1L, id -> player(id, "cached"));
+
+        Map<Long, PlayerResponseDTO> found = cache.getAll(List.of(1L, 2L, 3L), ids -> {
+            assertThat(ids).containsExactly(2L, 3L);
+            return List.of(player(2L, "loaded"));
+        });
+
+        assertThat(found).containsOnlyKeys(1L, 2L);
+        assertThat(cache.getAllPresent(List.of(1L, 2L, 3L))).containsOnlyKeys(1L, 2L);
+    }
+
+    @Test
+    void evictDropsBothTiers() {
+        PlayerCache cache = cache(true);
+        cache.get(1L, id -> player(id, "old"));
+
+        cache.evict(1L);
+
+        assertThat(cache.get(1L, id -> player(id, "new")).getName()).isEqualTo("new");
+    }
+
+    @Test
+    void concurrentEvictionNeverLeavesAStalePlayerCached() throws Exception {
+        for (boolean offHeap : new boolean[]{false, true}) {
+            PlayerCache cache = cache(offHeap);
+            ExecutorService executor = Executors.newFixedThreadPool(2);
+            try {
+                for (long id = 1; id <= RACE_ROUNDS; id++) {
+                    long playerId = id;
+                    AtomicReference<String> row = new AtomicReference<>("before write");
+                    CyclicBarrier start = new CyclicBarrier(2);
+                    Future<?> reader = executor.submit(() -> {
+                        start.await();
+                        return cache.get(playerId, key -> player(key, row.get()));
+                    });
+                    Future<?> writer = executor.submit(() -> {
+                        start.await();
+                        // The write commits, then its listener evicts
+                        row.set("after write");
+                        if (playerId % 2 == 0) {
+                            cache.evict(playerId);
+                        } else {
+                            cache.evictAll();
+                        }
+                        return null;
+                    });
+                    reader.get(5, TimeUnit.SECONDS);
+                    writer.get(5, TimeUnit.SECONDS);
+
+                    assertThat(cache.get(playerId, key -> player(key, row.get())).getName())
+                            .as("player %d, off-heap %s", playerId, offHeap)
+                            .isEqualTo("after write");
+                }
+            } finally {
+                executor.shutdownNow();
+            }
+        }
+    }
+
+    private PlayerCache cache(boolean offHeap) {
+        PlayerCacheProperties properties = new PlayerCacheProperties();
+        properties.setOffHeapEnabled(offHeap);
+        return new PlayerCache(properties, objectMapper, new SimpleMeterRegistry());
+    }
+
+    private static PlayerResponseDTO player(long id, String name) {
+        return new PlayerResponseDTO(id, name, LocalDate.of(1990, 4, 24), null, "ACTIVE", 0L, null, null);
+    }
+}
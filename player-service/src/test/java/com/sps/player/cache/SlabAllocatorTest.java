@@ -0,0 +1,72 @@
+package com.sps.player.cache;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for SlabAllocator slot sizing, reuse and exhaustion
+ *
+ * @author SPS Cricket Club
+ * @version 1.0.0
+ */
+class SlabAllocatorTest {
+
+    @Test
+    void roundsLengthsUpToPowerOfTwoSlots() {
+        SlabAllocator allocator = new SlabAllocator(1 << 20);
+
+        assertThat(allocator.allocate(1).capacity()).isEqualTo(SlabAllocator.MIN_SLOT);
+        assertThat(allocator.allocate(SlabAllocator.MIN_SLOT).capacity()).isEqualTo(SlabAllocator.MIN_SLOT);
+        assertThat(allocator.allocate(SlabAllocator.MIN_SLOT + 1).capacity()).isEqualTo(2 * SlabAllocator.MIN_SLOT);
+        assertThat(allocator.allocate(SlabAllocator.MAX_SLOT).capacity()).isEqualTo(SlabAllocator.MAX_SLOT);
+        assertThat(allocator.allocate(SlabAllocator.MAX_SLOT + 1)).isNull();
+    }
+
+    @Test
+    void slotsKeepTheirOwnBytes() {
+        SlabAllocator allocator = new SlabAllocator(1 << 20);
+        List<SlabAllocator.Slot> slots = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            byte[] bytes = ("player-" + i).getBytes(StandardCharsets.UTF_8);
+            SlabAllocator.Slot slot = allocator.allocate(bytes.length);
+            allocator.write(slot, bytes);
+            slots.add(slot);
+        }
+
+        for (int i = 0; i < slots.size(); i++) {
+            assertThat(new String(allocator.read(slots.get(i)), StandardCharsets.UTF_8)).isEqualTo("player-" + i);
+        }
+    }
+
+    @Test
+    void freedSlotIsReusedForTheSameSize() {
+        SlabAllocator allocator = new SlabAllocator(1 << 20);
+        SlabAllocator.Slot first = allocator.allocate(200);
+
+        allocator.free(first);
+        SlabAllocator.Slot second = allocator.allocate(250);
+
+        assertThat(second.slab()).isEqualTo(first.slab());
+        assertThat(second.offset()).isEqualTo(first.offset());
+        assertThat(second.length()).isEqualTo(250);
+    }
+
+    @Test
+    void returnsNullOnceEverySlabIsInUse() {
+        SlabAllocator allocator = new SlabAllocator(SlabAllocator.MAX_SLOT);
+        SlabAllocator.Slot only = allocator.allocate(SlabAllocator.MAX_SLOT);
+
+        assertThat(only).isNotNull();
+        assertThat(allocator.allocate(SlabAllocator.MAX_SLOT)).isNull();
+        // The single slab belongs to the largest size, so smaller sizes cannot take a new one
+        assertThat(allocator.allocate(1)).isNull();
+
+        allocator.free(only);
+        assertThat(allocator.allocate(SlabAllocator.MAX_SLOT)).isNotNull();
+    }
+}
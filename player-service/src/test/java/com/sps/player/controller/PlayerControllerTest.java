@@ -0,0 +1,199 @@
+package com.sps.player.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sps.player.dto.PlayerResponseDTO;
+import com.sps.player.exception.PlayerVersionMismatchException;
+import com.sps.player.service.PlayerChangeBroadcaster;
+import com.sps.player.service.PlayerService;
+import com.sps.player.service.RosterSnapshot;
+import com.sps.player.service.RosterVersion;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests for PlayerController's header handling helpers and snapshot responses
+ *
+ * @author SPS Cricket Club
+ * @version 1.0.0
+ */
+class PlayerControllerTest {
+
+    private static final RosterSnapshot.Snapshot SNAPSHOT = new RosterSnapshot.Snapshot("snapshot-42-20250601", 1,
+            LocalDateTime.of(2025, 6, 1, 10, 0), "identity".getBytes(StandardCharsets.UTF_8),
+            "gzip".getBytes(StandardCharsets.UTF_8), "deflate".getBytes(StandardCharsets.UTF_8));
+
+    @Test
+    void ifMatchCarriesThePlayerVersion() {
+        assertThat(PlayerController.expectedVersion("\"7\"")).isEqualTo(7L);
+        assertThat(PlayerController.expectedVersion(" \"7\" ")).isEqualTo(7L);
+        assertThat(PlayerController.expectedVersion("7")).isEqualTo(7L);
+    }
+
+    @Test
+    void ifMatchIgnoresTheBodyFormatSuffix() {
+        assertThat(PlayerController.expectedVersion("\"12-json\"")).isEqualTo(12L);
+        assertThat(PlayerController.expectedVersion("\"12-cbor\"")).isEqualTo(12L);
+        assertThat(PlayerController.expectedVersion("\"12-smile\"")).isEqualTo(12L);
+    }
+
+    @Test
+    void playerTagChangesWithTheDateItsAgeWasComputedOn() {
+        PlayerResponseDTO player = new PlayerResponseDTO();
+        player.setVersion(12L);
+
+        String etag = PlayerController.playerETag(player, request("application/cbor"));
+
+        assertThat(etag).isEqualTo("12-" + LocalDate.now().format(DateTimeFormatter.BASIC_ISO_DATE) + "-cbor");
+        assertThat(PlayerController.expectedVersion("\"" + etag + "\"")).isEqualTo(12L);
+        assertThat(PlayerController.expectedVersion("\"12-20250601-json\"")).isEqualTo(12L);
+    }
+
+    @Test
+    void ifMatchThatCannotMatchAnyVersionIsAMismatch() {
+        for (String ifMatch : new String[]{"\"abc\"", "W/\"7-json\"", "\"\"", "\"-json\""}) {
+            assertThatThrownBy(() -> PlayerController.expectedVersion(ifMatch))
+                    .as(ifMatch)
+                    .isInstanceOf(PlayerVersionMismatchException.class);
+        }
+    }
+
+    @Test
+    void bodyFormatDefaultsToJson() {
+        assertThat(PlayerController.bodyFormat(request())).isEqualTo("json");
+        assertThat(PlayerController.bodyFormat(request("*/*"))).isEqualTo("json");
+        assertThat(PlayerController.bodyFormat(request("application/*"))).isEqualTo("json");
+        assertThat(PlayerController.bodyFormat(request("text/html"))).isEqualTo("json");
+        assertThat(PlayerController.bodyFormat(request("not a media type"))).isEqualTo("json");
+    }
+
+    @Test
+    void bodyFormatFollowsTheAcceptedBinaryFormat() {
+        assertThat(PlayerController.bodyFormat(request("application/cbor"))).isEqualTo("cbor");
+        assertThat(PlayerController.bodyFormat(request("application/x-jackson-smile"))).isEqualTo("smile");
+        assertThat(PlayerController.bodyFormat(request("text/html, application/cbor"))).isEqualTo("cbor");
+    }
+
+    @Test
+    void bodyFormatPrefersHigherQualityAndSkipsRefusedTypes() {
+        assertThat(PlayerController.bodyFormat(request("application/json;q=0.5, application/cbor")))
+                .isEqualTo("cbor");
+        assertThat(PlayerController.bodyFormat(request("application/cbor;q=0.2, application/x-jackson-smile;q=0.8")))
+                .isEqualTo("smile");
+        assertThat(PlayerController.bodyFormat(request("application/json;q=0, application/cbor;q=0.1")))
+                .isEqualTo("cbor");
+        assertThat(PlayerController.bodyFormat(request("*/*", "application/x-jackson-smile")))
+                .isEqualTo("smile");
+    }
+
+    @Test
+    void snapshotEncodingPrefersGzipThenDeflate() {
+        assertThat(PlayerController.snapshotEncoding(null)).isEqualTo("identity");
+        assertThat(PlayerController.snapshotEncoding("gzip")).isEqualTo("gzip");
+        assertThat(PlayerController.snapshotEncoding("x-gzip")).isEqualTo("gzip");
+        assertThat(PlayerController.snapshotEncoding("GZIP")).isEqualTo("gzip");
+        assertThat(PlayerController.snapshotEncoding("deflate")).isEqualTo("deflate");
+        assertThat(PlayerController.snapshotEncoding("deflate, gzip")).isEqualTo("gzip");
+        assertThat(PlayerController.snapshotEncoding("*")).isEqualTo("gzip");
+    }
+
+    @Test
+    void snapshotEncodingFollowsQValues() {
+        assertThat(PlayerController.snapshotEncoding("gzip;q=0.5, deflate")).isEqualTo("deflate");
+        assertThat(PlayerController.snapshotEncoding("gzip; q=0.8, deflate;q=0.8")).isEqualTo("gzip");
+        assertThat(PlayerController.snapshotEncoding("gzip;q=0, *")).isEqualTo("deflate");
+        assertThat(PlayerController.snapshotEncoding("gzip;q=0, deflate;q=0")).isEqualTo("identity");
+        assertThat(PlayerController.snapshotEncoding("*;q=0")).isEqualTo("identity");
+    }
+
+    @Test
+    void snapshotEncodingFallsBackToIdentity() {
+        assertThat(PlayerController.snapshotEncoding("")).isEqualTo("identity");
+        assertThat(PlayerController.snapshotEncoding("br, identity")).isEqualTo("identity");
+        assertThat(PlayerController.snapshotEncoding("gzip;q=high")).isEqualTo("identity");
+    }
+
+    @Test
+    void snapshotIsSentInTheAcceptedEncoding() {
+        for (String encoding : new String[]{"gzip", "deflate"}) {
+            MockHttpServletResponse servletResponse = new MockHttpServletResponse();
+
+            ResponseEntity<byte[]> response = snapshotController().getRosterSnapshot(encoding,
+                    new ServletWebRequest(new MockHttpServletRequest(), servletResponse));
+
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+            assertThat(response.getBody()).isEqualTo(encoding.equals("gzip") ? SNAPSHOT.gzip() : SNAPSHOT.deflate());
+            assertThat(response.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING)).isEqualTo(encoding);
+            assertThat(response.getHeaders().getVary()).containsExactly(HttpHeaders.ACCEPT_ENCODING);
+            assertThat(response.getHeaders().getETag()).isEqualTo("\"snapshot-42-20250601-" + encoding + "\"");
+            assertThat(response.getHeaders().getContentLength()).isEqualTo(response.getBody().length);
+        }
+    }
+
+    @Test
+    void snapshotWithoutAnAcceptedEncodingIsSentAsIs() {
+        ResponseEntity<byte[]> response = snapshotController().getRosterSnapshot("br",
+                new ServletWebRequest(new MockHttpServletRequest(), new MockHttpServletResponse()));
+
+        assertThat(response.getBody()).isEqualTo(SNAPSHOT.identity());
+        assertThat(response.getHeaders().containsKey(HttpHeaders.CONTENT_ENCODING)).isFalse();
+        assertThat(response.getHeaders().getVary()).containsExactly(HttpHeaders.ACCEPT_ENCODING);
+        assertThat(response.getHeaders().getETag()).isEqualTo("\"snapshot-42-20250601\"");
+    }
+
+    @Test
+    void snapshotMatchingIfNoneMatchIsNotModified() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/players/snapshot");
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, "\"snapshot-42-20250601-gzip\"");
+        MockHttpServletResponse servletResponse = new MockHttpServletResponse();
+
+        ResponseEntity<byte[]> response = snapshotController().getRosterSnapshot("gzip",
+                new ServletWebRequest(request, servletResponse));
+
+        assertThat(response).isNull();
+        assertThat(servletResponse.getStatus()).isEqualTo(HttpStatus.NOT_MODIFIED.value());
+        assertThat(servletResponse.getHeader(HttpHeaders.ETAG)).isEqualTo("\"snapshot-42-20250601-gzip\"");
+    }
+
+    @Test
+    void snapshotTagOfAnotherEncodingDoesNotMatch() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/players/snapshot");
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, "\"snapshot-42-20250601\"");
+        MockHttpServletResponse servletResponse = new MockHttpServletResponse();
+
+        ResponseEntity<byte[]> response = snapshotController().getRosterSnapshot("gzip",
+                new ServletWebRequest(request, servletResponse));
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).isEqualTo(SNAPSHOT.gzip());
+    }
+
+    private static PlayerController snapshotController() {
+        RosterSnapshot rosterSnapshot = mock(RosterSnapshot.class);
+        when(rosterSnapshot.get()).thenReturn(SNAPSHOT);
+        return new PlayerController(mock(PlayerService.class), mock(RosterVersion.class), rosterSnapshot,
+                mock(PlayerChangeBroadcaster.class), new ObjectMapper());
+    }
+
+    private static ServletWebRequest request(String... accept) {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        for (String value : accept) {
+            request.addHeader(HttpHeaders.ACCEPT, value);
+        }
+        return new ServletWebRequest(request);
+    }
+}
@@ -0,0 +1,145 @@
+package com.sps.player.controller;
+
+import com.sps.player.config.PlayerImageProperties;
+import com.sps.player.exception.PlayerNotFoundException;
+import com.sps.player.service.PlayerImageStore;
+import com.sps.player.service.PlayerService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.mock.web.MockMultipartFile;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests for PlayerImageController uploads and byte range handling
+ *
+ * @author SPS Cricket Club
+ * @version 1.0.0
+ */
+class PlayerImageControllerTest {
+
+    private static final String IMAGE_NAME = "ab".repeat(32) + ".png";
+    private static final String CONTENT = "0123456789";
+
+    private final PlayerService playerService = mock(PlayerService.class);
+    private final PlayerImageStore playerImageStore = mock(PlayerImageStore.class);
+    private final PlayerImageController controller =
+            new PlayerImageController(playerService, playerImageStore, new PlayerImageProperties());
+
+    @TempDir
+    Path directory;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        Path file = Files.writeString(directory.resolve(IMAGE_NAME), CONTENT, StandardCharsets.US_ASCII);
+        when(playerImageStore.resolve(IMAGE_NAME, null)).thenReturn(file);
+    }
+
+    @Test
+    void uploadForUnknownPlayerStoresNothing() {
+        when(playerService.getPlayerById(99L)).thenThrow(new PlayerNotFoundException("Player not found with id: 99"));
+        MockMultipartFile file = new MockMultipartFile("file", "photo.png", "image/png", new byte[]{1, 2, 3});
+
+        assertThatThrownBy(() -> controller.uploadPlayerImage(99L, file))
+                .isInstanceOf(PlayerNotFoundException.class);
+        verify(playerImageStore, never()).store(any());
+    }
+
+    @Test
+    void withoutRangeSendsTheWholeFile() throws IOException {
+        MockHttpServletResponse response = get(request(null));
+
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getContentAsString()).isEqualTo(CONTENT);
+        assertThat(response.getHeader(HttpHeaders.ACCEPT_RANGES)).isEqualTo("bytes");
+        assertThat(response.getContentType()).isEqualTo("image/png");
+    }
+
+    @Test
+    void singleRangeIsSentAsPartialContent() throws IOException {
+        assertPartial("bytes=2-5", "2345", "bytes 2-5/10");
+        assertPartial("bytes=7-", "789", "bytes 7-9/10");
+        assertPartial("bytes=-3", "789", "bytes 7-9/10");
+        assertPartial("bytes=8-100", "89", "bytes 8-9/10");
+    }
+
+    @Test
+    void unsatisfiableRangeIsRejected() throws IOException {
+        for (String range : new String[]{"bytes=10-", "bytes=5-2"}) {
+            MockHttpServletResponse response = get(request(range));
+
+            assertThat(response.getStatus()).as(range).isEqualTo(416);
+            assertThat(response.getHeader(HttpHeaders.CONTENT_RANGE)).as(range).isEqualTo("bytes */10");
+            assertThat(response.getContentAsByteArray()).as(range).isEmpty();
+        }
+    }
+
+    @Test
+    void multipleRangesAreAnsweredWithTheWholeFile() throws IOException {
+        MockHttpServletResponse response = get(request("bytes=0-1,4-5"));
+
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getContentAsString()).isEqualTo(CONTENT);
+    }
+
+    @Test
+    void ifRangeMustNameThisImage() throws IOException {
+        MockHttpServletRequest stale = request("bytes=2-5");
+        stale.addHeader(HttpHeaders.IF_RANGE, "\"another-image.png\"");
+        MockHttpServletRequest current = request("bytes=2-5");
+        current.addHeader(HttpHeaders.IF_RANGE, "\"" + IMAGE_NAME + "\"");
+
+        assertThat(get(stale).getContentAsString()).isEqualTo(CONTENT);
+        assertThat(get(current).getContentAsString()).isEqualTo("2345");
+    }
+
+    @Test
+    void headSendsRangeHeadersWithoutBody() throws IOException {
+        MockHttpServletRequest request = request("bytes=2-5");
+        request.setMethod("HEAD");
+
+        MockHttpServletResponse response = get(request);
+
+        assertThat(response.getStatus()).isEqualTo(206);
+        assertThat(response.getContentLengthLong()).isEqualTo(4);
+        assertThat(response.getContentAsByteArray()).isEmpty();
+    }
+
+    private void assertPartial(String range, String body, String contentRange) throws IOException {
+        MockHttpServletResponse response = get(request(range));
+
+        assertThat(response.getStatus()).as(range).isEqualTo(206);
+        assertThat(response.getHeader(HttpHeaders.CONTENT_RANGE)).as(range).isEqualTo(contentRange);
+        assertThat(response.getContentLengthLong()).as(range).isEqualTo(body.length());
+        assertThat(response.getContentAsString()).as(range).isEqualTo(body);
+    }
+
+    private MockHttpServletResponse get(MockHttpServletRequest request) throws IOException {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        controller.getImage(IMAGE_NAME, null, request, response);
+        return response;
+    }
+
+    private static MockHttpServletRequest request(String range) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/players/images/" + IMAGE_NAME);
+        if (range != null) {
+            request.addHeader(HttpHeaders.RANGE, range);
+        }
+        return request;
+    }
+}
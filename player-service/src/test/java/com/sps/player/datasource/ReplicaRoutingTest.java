@@ -0,0 +1,160 @@
+package com.sps.player.datasource;
+
+import com.sps.player.config.ReplicaRoutingConfig;
+import com.sps.player.config.ReplicaRoutingProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.core.env.StandardEnvironment;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for which database DataSourceRouter and ReadYourWritesFilter send
+ * connections to, with a primary and a replica in separate H2 databases
+ *
+ * @author SPS Cricket Club
+ * @version 1.0.0
+ */
+class ReplicaRoutingTest {
+
+    private static final String PRIMARY = "routing_primary";
+    private static final String REPLICA = "routing_replica";
+
+    private DataSourceRouter router;
+
+    @AfterEach
+    void tearDown() {
+        DataSourceRouter.unpinPrimary();
+        DataSourceRouter.endRequest();
+        if (router != null) {
+            router.close();
+        }
+    }
+
+    @Test
+    void readOnlyTransactionsReadFromTheReplica() throws Exception {
+        router = router("jdbc:h2:mem:" + REPLICA + ";DB_CLOSE_DELAY=-1");
+
+        assertThat(readOnly(this::database)).isEqualTo(REPLICA);
+    }
+
+    @Test
+    void writesUseThePrimary() throws Exception {
+        router = router("jdbc:h2:mem:" + REPLICA + ";DB_CLOSE_DELAY=-1");
+
+        assertThat(database()).isEqualTo(PRIMARY);
+    }
+
+    @Test
+    void pinnedReadsUseThePrimary() throws Exception {
+        router = router("jdbc:h2:mem:" + REPLICA + ";DB_CLOSE_DELAY=-1");
+
+        assertThat(DataSourceRouter.onPrimary(() -> readOnly(this::database))).isEqualTo(PRIMARY);
+        DataSourceRouter.pinPrimary();
+        assertThat(readOnly(this::database)).isEqualTo(PRIMARY);
+        DataSourceRouter.unpinPrimary();
+        assertThat(readOnly(this::database)).isEqualTo(REPLICA);
+    }
+
+    @Test
+    void aClientThatWroteReadsFromThePrimaryUntilItsWindowEnds() throws Exception {
+        router = router("jdbc:h2:mem:" + REPLICA + ";DB_CLOSE_DELAY=-1");
+        ReadYourWritesFilter filter = new ReadYourWritesFilter(Duration.ofMinutes(1));
+
+        assertThat(readThrough(filter, new MockHttpServletRequest("GET", "/api/players"))).isEqualTo(REPLICA);
+
+        MockHttpServletResponse written = new MockHttpServletResponse();
+        assertThat(readThrough(filter, new MockHttpServletRequest("POST", "/api/players"), written))
+                .isEqualTo(PRIMARY);
+        Cookie cookie = written.getCookie(ReadYourWritesFilter.COOKIE_NAME);
+        assertThat(cookie).isNotNull();
+
+        MockHttpServletRequest afterWrite = new MockHttpServletRequest("GET", "/api/players");
+        afterWrite.setCookies(cookie);
+        assertThat(readThrough(filter, afterWrite)).isEqualTo(PRIMARY);
+
+        MockHttpServletRequest expired = new MockHttpServletRequest("GET", "/api/players");
+        expired.setCookies(new Cookie(ReadYourWritesFilter.COOKIE_NAME,
+                Long.toString(System.currentTimeMillis() - 1)));
+        assertThat(readThrough(filter, expired)).isEqualTo(REPLICA);
+    }
+
+    @Test
+    void readsFallBackToThePrimaryWhileTheReplicaIsDown() throws Exception {
+        router = router("jdbc:h2:file:./target/routing-missing-replica;IFEXISTS=TRUE");
+
+        assertThat(readOnly(this::database)).isEqualTo(PRIMARY);
+
+        router.checkHealth();
+        assertThat(readOnly(this::database)).isEqualTo(PRIMARY);
+    }
+
+    /**
+     * Router over a primary and one replica, built as the replica routing configuration builds it
+     */
+    private static DataSourceRouter router(String replicaUrl) throws Exception {
+        DataSourceProperties dataSourceProperties = new DataSourceProperties();
+        dataSourceProperties.setUrl("jdbc:h2:mem:" + PRIMARY + ";DB_CLOSE_DELAY=-1");
+        dataSourceProperties.setUsername("sa");
+        dataSourceProperties.setPassword("");
+        dataSourceProperties.setDriverClassName("org.h2.Driver");
+        dataSourceProperties.afterPropertiesSet();
+
+        ReplicaRoutingProperties properties = new ReplicaRoutingProperties();
+        properties.setEnabled(true);
+        properties.setHealthCheckTimeout(Duration.ofMillis(250));
+        ReplicaRoutingProperties.Node node = new ReplicaRoutingProperties.Node();
+        node.setUrl(replicaUrl);
+        properties.getNodes().add(node);
+
+        return new ReplicaRoutingConfig().dataSourceRouter(dataSourceProperties, properties,
+                new StandardEnvironment(), new SimpleMeterRegistry());
+    }
+
+    /**
+     * Name of the database the router hands out a connection to
+     */
+    private String database() {
+        try (Connection connection = router.getConnection()) {
+            String url = connection.getMetaData().getURL();
+            return url.contains(REPLICA) ? REPLICA : url.contains(PRIMARY) ? PRIMARY : url;
+        } catch (SQLException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    private String readThrough(ReadYourWritesFilter filter, MockHttpServletRequest request) throws Exception {
+        return readThrough(filter, request, new MockHttpServletResponse());
+    }
+
+    /**
+     * Database a read-only transaction in the request would read from
+     */
+    private String readThrough(ReadYourWritesFilter filter, MockHttpServletRequest request,
+                               MockHttpServletResponse response) throws Exception {
+        AtomicReference<String> database = new AtomicReference<>();
+        filter.doFilter(request, response, (req, res) -> database.set(readOnly(this::database)));
+        return database.get();
+    }
+
+    private static <T> T readOnly(Supplier<T> work) {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        try {
+            return work.get();
+        } finally {
+            TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.sps.player.entity;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Locale;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for the normalized forms Player stores for names and statuses
+ *
+ * @author SPS Cricket Club
+ * @version 1.0.0
+ */
+class PlayerTest {
+
+    private final Locale defaultLocale = Locale.getDefault();
+
+    @AfterEach
+    void restoreLocale() {
+        Locale.setDefault(defaultLocale);
+    }
+
+    @Test
+    void statusIsStoredTrimmedAndUpperCased() {
+        Player player = new Player();
+
+        player.setStatus("  inactive ");
+
+        assertThat(player.getStatus()).isEqualTo("INACTIVE");
+        assertThat(Player.normalizeStatus(null)).isNull();
+    }
+
+    @Test
+    void statusNormalizationIgnoresTheDefaultLocale() {
+        // Turkish upper-cases "i" to a dotted capital I
+        Locale.setDefault(Locale.forLanguageTag("tr-TR"));
+
+        assertThat(Player.normalizeStatus("active")).isEqualTo("ACTIVE");
+        assertThat(Player.normalizeName("IVAN  Lendl")).isEqualTo("ivan lendl");
+    }
+
+    @Test
+    void nameKeyFollowsTheName() {
+        Player player = new Player();
+
+        player.setName("  Sunil   Gavaskar ");
+
+        assertThat(player.getNameKey()).isEqualTo("sunil gavaskar");
+    }
+}
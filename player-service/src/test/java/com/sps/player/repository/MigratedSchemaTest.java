@@ -0,0 +1,50 @@
+package com.sps.player.repository;
+
+import com.sps.player.entity.Player;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * The schema built by the db/migration scripts must satisfy the entity
+ * mappings: Hibernate validates it on startup, and players are saved with
+ * ids from the migrated player_seq
+ *
+ * @author SPS Cricket Club
+ * @version 1.0.0
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:migrated;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.hibernate.ddl-auto=validate",
+        "spring.flyway.enabled=true"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class MigratedSchemaTest {
+
+    @Autowired
+    private PlayerRepository playerRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Test
+    void savesPlayersIntoTheMigratedSchema() {
+        Player player = new Player();
+        player.setName("  Anil   KUMBLE ");
+        player.setBirthday(LocalDate.of(1970, 10, 17));
+
+        Player saved = entityManager.persistFlushFind(player);
+
+        assertThat(saved.getId()).isPositive();
+        assertThat(saved.getVersion()).isZero();
+        assertThat(playerRepository.findExistingNameKeys(List.of("anil kumble"))).containsExactly("anil kumble");
+    }
+}
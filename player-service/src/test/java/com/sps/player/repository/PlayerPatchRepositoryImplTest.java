@@ -0,0 +1,101 @@
+package com.sps.player.repository;
+
+import com.sps.player.dto.PlayerPatchDTO;
+import com.sps.player.entity.Player;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for the conditional Criteria UPDATE behind PATCH, against an in-memory H2 database
+ *
+ * @author SPS Cricket Club
+ * @version 1.0.0
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.flyway.enabled=false"
+})
+class PlayerPatchRepositoryImplTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 6, 1, 10, 0);
+
+    @Autowired
+    private PlayerRepository playerRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Test
+    void writesPresentFieldsAndIncrementsTheVersion() {
+        Player player = persist("Virat Kohli");
+
+        int updated = playerRepository.patch(player.getId(), player.getVersion(),
+                new PlayerPatchDTO("Virat  KOHLI", null, null, "INACTIVE"), NOW);
+
+        Player patched = reload(player);
+        assertThat(updated).isEqualTo(1);
+        assertThat(patched.getName()).isEqualTo("Virat  KOHLI");
+        assertThat(patched.getNameKey()).isEqualTo("virat kohli");
+        assertThat(patched.getStatus()).isEqualTo("INACTIVE");
+        assertThat(patched.getBirthday()).isEqualTo(player.getBirthday());
+        assertThat(patched.getImageName()).isEqualTo(player.getImageName());
+        assertThat(patched.getVersion()).isEqualTo(player.getVersion() + 1);
+        assertThat(patched.getUpdatedAt()).isEqualTo(NOW);
+    }
+
+    @Test
+    void staleVersionUpdatesNothing() {
+        Player player = persist("Rohit Sharma");
+
+        int updated = playerRepository.patch(player.getId(), player.getVersion() + 1,
+                new PlayerPatchDTO(null, LocalDate.of(1987, 4, 30), null, null), NOW);
+
+        Player unchanged = reload(player);
+        assertThat(updated).isZero();
+        assertThat(unchanged.getBirthday()).isEqualTo(player.getBirthday());
+        assertThat(unchanged.getVersion()).isEqualTo(player.getVersion());
+    }
+
+    @Test
+    void unknownPlayerUpdatesNothing() {
+        Player player = persist("Jasprit Bumrah");
+
+        assertThat(playerRepository.patch(player.getId() + 1_000, player.getVersion(),
+                new PlayerPatchDTO(null, null, "image.png", null), NOW)).isZero();
+    }
+
+    @Test
+    void emptyPatchStillClaimsTheVersion() {
+        Player player = persist("Ravindra Jadeja");
+
+        int updated = playerRepository.patch(player.getId(), player.getVersion(), new PlayerPatchDTO(), NOW);
+
+        Player touched = reload(player);
+        assertThat(updated).isEqualTo(1);
+        assertThat(touched.getName()).isEqualTo("Ravindra Jadeja");
+        assertThat(touched.getVersion()).isEqualTo(player.getVersion() + 1);
+    }
+
+    private Player persist(String name) {
+        Player player = new Player();
+        player.setName(name);
+        player.setBirthday(LocalDate.of(1988, 11, 5));
+        player.setImageName("original.png");
+        player.setStatus("ACTIVE");
+        Player persisted = entityManager.persistFlushFind(player);
+        entityManager.detach(persisted);
+        return persisted;
+    }
+
+    private Player reload(Player player) {
+        entityManager.clear();
+        return entityManager.find(Player.class, player.getId());
+    }
+}
@@ -0,0 +1,88 @@
+package com.sps.player.service;
+
+import com.sps.player.exception.InvalidRequestException;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.Period;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests that BirthdayWindow selects exactly the birthdays whose age is in range
+ *
+ * @author SPS Cricket Club
+ * @version 1.0.0
+ */
+class BirthdayWindowTest {
+
+    private static final List<LocalDate> DAYS = List.of(
+            LocalDate.of(2024, 2, 28),
+            LocalDate.of(2024, 2, 29),
+            LocalDate.of(2024, 3, 1),
+            LocalDate.of(2025, 2, 28),
+            LocalDate.of(2025, 3, 1),
+            LocalDate.of(2025, 12, 31),
+            LocalDate.of(2026, 1, 1));
+
+    @Test
+    void boundariesAgreeWithAgeCalculation() {
+        for (LocalDate today : DAYS) {
+            for (int minAge = 0; minAge <= 5; minAge++) {
+                for (int maxAge = minAge; maxAge <= 5; maxAge++) {
+                    BirthdayWindow window = BirthdayWindow.forAgeRange(minAge, maxAge, today);
+
+                    assertThat(age(window.getFrom(), today)).isEqualTo(maxAge);
+                    assertThat(age(window.getFrom().minusDays(1), today)).isEqualTo(maxAge + 1);
+                    assertThat(age(window.getTo(), today)).isEqualTo(minAge);
+                    if (minAge > 0) {
+                        assertThat(age(window.getTo().plusDays(1), today)).isEqualTo(minAge - 1);
+                    } else {
+                        assertThat(window.getTo()).isEqualTo(today);
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    void everyDayInsideTheWindowIsInRange() {
+        for (LocalDate today : DAYS) {
+            BirthdayWindow window = BirthdayWindow.forAgeRange(18, 21, today);
+            for (LocalDate day = window.getFrom().minusDays(3); !day.isAfter(window.getTo().plusDays(3));
+                 day = day.plusDays(1)) {
+                int age = age(day, today);
+                boolean inWindow = !day.isBefore(window.getFrom()) && !day.isAfter(window.getTo());
+                assertThat(inWindow).as("born %s, today %s", day, today).isEqualTo(age >= 18 && age <= 21);
+            }
+        }
+    }
+
+    @Test
+    void leapDayBirthdayTurnsOverOnFirstOfMarch() {
+        LocalDate born = LocalDate.of(2004, 2, 29);
+
+        assertThat(contains(BirthdayWindow.forAgeRange(21, 21, LocalDate.of(2025, 2, 28)), born)).isFalse();
+        assertThat(contains(BirthdayWindow.forAgeRange(21, 21, LocalDate.of(2025, 3, 1)), born)).isTrue();
+    }
+
+    @Test
+    void rejectsInvalidRanges() {
+        LocalDate today = LocalDate.of(2025, 6, 1);
+
+        assertThatThrownBy(() -> BirthdayWindow.forAgeRange(-1, 5, today))
+                .isInstanceOf(InvalidRequestException.class);
+        assertThatThrownBy(() -> BirthdayWindow.forAgeRange(6, 5, today))
+                .isInstanceOf(InvalidRequestException.class);
+    }
+
+    private static int age(LocalDate birthday, LocalDate today) {
+        return Period.between(birthday, today).getYears();
+    }
+
+    private static boolean contains(BirthdayWindow window, LocalDate day) {
+        return !day.isBefore(window.getFrom()) && !day.isAfter(window.getTo());
+    }
+}
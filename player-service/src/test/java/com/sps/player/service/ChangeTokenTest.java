@@ -0,0 +1,66 @@
+package com.sps.player.service;
+
+import com.sps.player.exception.InvalidRequestException;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests for ChangeToken sync token encoding
+ *
+ * @author SPS Cricket Club
+ * @version 1.0.0
+ */
+class ChangeTokenTest {
+
+    @Test
+    void roundTripsBothPositions() {
+        LocalDateTime issuedAt = LocalDateTime.of(2025, 3, 1, 12, 30, 15, 123_456_000);
+
+        String token = ChangeToken.of(issuedAt, 41L, 17L, 38L, 4L).encode();
+        ChangeToken decoded = ChangeToken.decode(token);
+
+        assertThat(token).matches("[A-Za-z0-9_-]+");
+        assertThat(decoded.getIssuedAt()).isEqualTo(issuedAt);
+        assertThat(decoded.getLastUpdatedSeq()).isEqualTo(41L);
+        assertThat(decoded.getLastUpdatedId()).isEqualTo(17L);
+        assertThat(decoded.getLastDeletedSeq()).isEqualTo(38L);
+        assertThat(decoded.getLastDeletedId()).isEqualTo(4L);
+    }
+
+    @Test
+    void timeOrderedTokensDecodeAsExpired() {
+        ChangeToken decoded = ChangeToken.decode(encode("v1|2025-03-01T12:00|1|2025-03-01T12:00|2"));
+
+        assertThat(decoded.getIssuedAt()).isEqualTo(LocalDateTime.MIN);
+    }
+
+    @Test
+    void missingTokenMeansFullSync() {
+        assertThat(ChangeToken.decode(null)).isNull();
+        assertThat(ChangeToken.decode("")).isNull();
+    }
+
+    @Test
+    void rejectsMalformedTokens() {
+        assertThatThrownBy(() -> ChangeToken.decode("%%%"))
+                .isInstanceOf(InvalidRequestException.class);
+        assertThatThrownBy(() -> ChangeToken.decode(encode("v2|2025-03-01T12:00|1|2|3")))
+                .isInstanceOf(InvalidRequestException.class);
+        assertThatThrownBy(() -> ChangeToken.decode(encode("v0|2025-03-01T12:00|1|2|3|4")))
+                .isInstanceOf(InvalidRequestException.class);
+        assertThatThrownBy(() -> ChangeToken.decode(encode("v2|yesterday|1|2|3|4")))
+                .isInstanceOf(InvalidRequestException.class);
+        assertThatThrownBy(() -> ChangeToken.decode(encode("v2|2025-03-01T12:00|1|x|3|4")))
+                .isInstanceOf(InvalidRequestException.class);
+    }
+
+    private static String encode(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
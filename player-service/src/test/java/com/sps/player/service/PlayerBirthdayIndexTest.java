@@ -0,0 +1,190 @@
+package com.sps.player.service;
+
+import com.sps.player.dto.PlayerResponseDTO;
+import com.sps.player.event.PlayerChangedEvent;
+import com.sps.player.repository.PlayerBirthdayView;
+import com.sps.player.repository.PlayerRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests for PlayerBirthdayIndex range pages and the merge of buffered inserts
+ *
+ * @author SPS Cricket Club
+ * @version 1.0.0
+ */
+class PlayerBirthdayIndexTest {
+
+    private static final LocalDate FROM = LocalDate.of(1990, 1, 1);
+    private static final LocalDate TO = LocalDate.of(1999, 12, 31);
+
+    private final PlayerRepository playerRepository = mock(PlayerRepository.class);
+    private PlayerBirthdayIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new PlayerBirthdayIndex(playerRepository, mock(PlatformTransactionManager.class));
+    }
+
+    @Test
+    void pageIsInclusiveAndOrderedByBirthdayThenId() {
+        load(row(1L, FROM.minusDays(1)), row(3L, FROM), row(2L, FROM), row(4L, TO), row(5L, TO.plusDays(1)));
+
+        PlayerBirthdayIndex.Page page = index.page(FROM, TO, FROM, 0L, 10);
+
+        assertThat(page.getIds()).containsExactly(2L, 3L, 4L);
+        assertThat(page.isHasMore()).isFalse();
+    }
+
+    @Test
+    void pagesContinueAfterTheLastKey() {
+        load(row(1L, FROM), row(2L, FROM), row(3L, FROM), row(4L, FROM.plusDays(1)), row(5L, TO));
+
+        PlayerBirthdayIndex.Page first = index.page(FROM, TO, FROM, 0L, 2);
+        PlayerBirthdayIndex.Page second = index.page(FROM, TO, first.getLastBirthday(), first.getLastId(), 2);
+        PlayerBirthdayIndex.Page third = index.page(FROM, TO, second.getLastBirthday(), second.getLastId(), 2);
+
+        assertThat(first.getIds()).containsExactly(1L, 2L);
+        assertThat(first.isHasMore()).isTrue();
+        assertThat(second.getIds()).containsExactly(3L, 4L);
+        assertThat(second.isHasMore()).isTrue();
+        assertThat(third.getIds()).containsExactly(5L);
+        assertThat(third.isHasMore()).isFalse();
+    }
+
+    @Test
+    void emptyPageHasNoCursor() {
+        load(row(1L, FROM.minusYears(1)));
+
+        PlayerBirthdayIndex.Page page = index.page(FROM, TO, FROM, 0L, 10);
+
+        assertThat(page.getIds()).isEmpty();
+        assertThat(page.isHasMore()).isFalse();
+        assertThat(page.getLastBirthday()).isNull();
+    }
+
+    @Test
+    void mergesFewAndManyCreatedPlayers() {
+        for (int created : new int[]{5, 16, 17, 300}) {
+            setUp();
+            Map<Long, LocalDate> birthdays = new HashMap<>();
+            birthdays.put(1_000L, FROM.plusDays(50));
+            birthdays.put(1_001L, FROM.plusDays(150));
+            load(row(1_000L, birthdays.get(1_000L)), row(1_001L, birthdays.get(1_001L)));
+            for (long id = 1; id <= created; id++) {
+                // Spread over the range, not in insertion order
+                birthdays.put(id, FROM.plusDays((id * 37) % 200));
+                index.onPlayerChanged(PlayerChangedEvent.created(player(id, birthdays.get(id))));
+            }
+
+            List<Long> ids = index.page(FROM, TO, FROM, 0L, 1_000).getIds();
+
+            Comparator<Long> byBirthdayThenId = Comparator.<Long, LocalDate>comparing(birthdays::get)
+                    .thenComparing(Comparator.naturalOrder());
+            assertThat(index.size()).as("%d created", created).isEqualTo(created + 2);
+            assertThat(ids).as("%d created", created)
+                    .containsExactlyElementsOf(birthdays.keySet().stream().sorted(byBirthdayThenId).toList());
+        }
+    }
+
+    @Test
+    void changedBirthdayMovesThePlayer() {
+        load(row(1L, FROM), row(2L, FROM.plusDays(1)));
+
+        index.onPlayerChanged(PlayerChangedEvent.updated(player(1L, FROM), player(1L, FROM.plusDays(2))));
+
+        assertThat(index.page(FROM, TO, FROM, 0L, 10).getIds()).containsExactly(2L, 1L);
+        assertThat(index.size()).isEqualTo(2);
+    }
+
+    @Test
+    void unchangedBirthdayKeepsOneEntry() {
+        load(row(1L, FROM));
+
+        index.onPlayerChanged(PlayerChangedEvent.updated(player(1L, FROM), player(1L, FROM)));
+
+        assertThat(index.page(FROM, TO, FROM, 0L, 10).getIds()).containsExactly(1L);
+    }
+
+    @Test
+    void stalePreviousBirthdayStillRemovesTheEntry() {
+        load(row(1L, FROM));
+
+        index.onPlayerChanged(PlayerChangedEvent.updated(player(1L, FROM.plusDays(9)), player(1L, FROM.plusDays(2))));
+
+        assertThat(index.page(FROM, TO, FROM, 0L, 10).getIds()).containsExactly(1L);
+        assertThat(index.size()).isEqualTo(1);
+    }
+
+    @Test
+    void deleteRemovesLoadedAndBufferedEntries() {
+        load(row(1L, FROM));
+        index.onPlayerChanged(PlayerChangedEvent.created(player(2L, FROM.plusDays(1))));
+
+        index.onPlayerChanged(PlayerChangedEvent.deleted(player(1L, FROM)));
+        index.onPlayerChanged(PlayerChangedEvent.deleted(player(2L, FROM.plusDays(1))));
+
+        assertThat(index.page(FROM, TO, FROM, 0L, 10).getIds()).isEmpty();
+        assertThat(index.size()).isZero();
+    }
+
+    @Test
+    void changesReplayedAfterLoadAreNotDuplicated() {
+        for (int created : new int[]{3, 40}) {
+            setUp();
+            List<PlayerBirthdayView> rows = new ArrayList<>();
+            for (long id = 1; id <= created; id++) {
+                // Committed while the index was loading, and also seen by the load
+                index.onPlayerChanged(PlayerChangedEvent.created(player(id, FROM.plusDays(id))));
+                rows.add(row(id, FROM.plusDays(id)));
+            }
+
+            load(rows.toArray(PlayerBirthdayView[]::new));
+
+            assertThat(index.size()).as("%d created", created).isEqualTo(created);
+            assertThat(index.page(FROM, TO, FROM, 0L, 1_000).getIds()).hasSize(created);
+        }
+    }
+
+    private void load(PlayerBirthdayView... rows) {
+        // The repository returns rows in (birthday, id) order
+        Arrays.sort(rows, (a, b) -> a.getBirthday().equals(b.getBirthday())
+                ? a.getId().compareTo(b.getId()) : a.getBirthday().compareTo(b.getBirthday()));
+        when(playerRepository.streamAllBirthdays()).thenReturn(Arrays.stream(rows));
+        index.load();
+    }
+
+    private static PlayerBirthdayView row(long id, LocalDate birthday) {
+        return new PlayerBirthdayView() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public LocalDate getBirthday() {
+                return birthday;
+            }
+        };
+    }
+
+    private static PlayerResponseDTO player(long id, LocalDate birthday) {
+        PlayerResponseDTO player = new PlayerResponseDTO();
+        player.setId(id);
+        player.setBirthday(birthday);
+        return player;
+    }
+}
@@ -0,0 +1,191 @@
+package com.sps.player.service;
+
+import com.sps.player.dto.BulkStatusResultDTO;
+import com.sps.player.dto.BulkStatusUpdateDTO;
+import com.sps.player.dto.PlayerChangesDTO;
+import com.sps.player.dto.PlayerRequestDTO;
+import com.sps.player.dto.PlayerResponseDTO;
+import com.sps.player.exception.InvalidRequestException;
+import com.sps.player.repository.PlayerTombstoneRepository;
+import com.sps.player.repository.RosterRevisionRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests for PlayerService.updatePlayersStatus against the migrated H2 schema:
+ * the set-based UPDATE, its optional filters and what follows its commit
+ * Each test uses its own statuses and birth years, so filters only match its players.
+ *
+ * @author SPS Cricket Club
+ * @version 1.0.0
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE, properties = {
+        "spring.datasource.url=jdbc:h2:mem:bulk-status;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.hibernate.ddl-auto=validate",
+        "player.images.directory=target/test-player-images"
+})
+class PlayerBulkStatusTest {
+
+    private static final long TIMEOUT_MILLIS = 5_000;
+    private static final AtomicInteger NAMES = new AtomicInteger();
+
+    @Autowired
+    private PlayerService playerService;
+
+    @Autowired
+    private RosterRevisionRepository revisionRepository;
+
+    @Autowired
+    private PlayerTombstoneRepository tombstoneRepository;
+
+    @Test
+    void changesOnlyTheListedPlayersNotAlreadyInTheStatus() {
+        PlayerResponseDTO first = create("ACTIVE", LocalDate.of(1990, 1, 1));
+        PlayerResponseDTO second = create("ACTIVE", LocalDate.of(1990, 1, 1));
+        PlayerResponseDTO already = create("BENCHED", LocalDate.of(1990, 1, 1));
+
+        BulkStatusResultDTO result = playerService.updatePlayersStatus(new BulkStatusUpdateDTO(" benched ",
+                List.of(first.getId(), second.getId(), already.getId(), first.getId(), Long.MAX_VALUE),
+                null, null, null));
+
+        assertThat(result.getStatus()).isEqualTo("BENCHED");
+        assertThat(result.getUpdated()).isEqualTo(2);
+        assertThat(playerService.getPlayerById(first.getId()).getVersion()).isEqualTo(1L);
+        assertThat(playerService.getPlayerById(second.getId()).getStatus()).isEqualTo("BENCHED");
+        assertThat(playerService.getPlayerById(already.getId()).getVersion()).isZero();
+    }
+
+    @Test
+    void filtersLeftOutAreNotApplied() {
+        PlayerResponseDTO activeIn1901 = create("ACTIVE", LocalDate.of(1901, 3, 1));
+        PlayerResponseDTO inactiveIn1901 = create("INACTIVE", LocalDate.of(1901, 6, 1));
+        PlayerResponseDTO activeIn1902 = create("ACTIVE", LocalDate.of(1902, 1, 1));
+        // Cached, so the reads below show the cache was invalidated
+        playerService.getPlayerById(activeIn1901.getId());
+        playerService.getPlayerById(inactiveIn1901.getId());
+
+        BulkStatusResultDTO activeOnly = playerService.updatePlayersStatus(new BulkStatusUpdateDTO("RESTING",
+                null, "active", LocalDate.of(1901, 1, 1), LocalDate.of(1901, 12, 31)));
+        assertThat(activeOnly.getUpdated()).isEqualTo(1);
+        assertThat(playerService.getPlayerById(activeIn1901.getId()).getStatus()).isEqualTo("RESTING");
+        assertThat(playerService.getPlayerById(inactiveIn1901.getId()).getStatus()).isEqualTo("INACTIVE");
+
+        BulkStatusResultDTO anyStatus = playerService.updatePlayersStatus(new BulkStatusUpdateDTO("RESTING",
+                null, null, LocalDate.of(1901, 1, 1), LocalDate.of(1901, 12, 31)));
+        assertThat(anyStatus.getUpdated()).isEqualTo(1);
+        assertThat(playerService.getPlayerById(inactiveIn1901.getId()).getStatus()).isEqualTo("RESTING");
+        assertThat(playerService.getPlayerById(activeIn1901.getId()).getVersion()).isEqualTo(1L);
+        assertThat(playerService.getPlayerById(activeIn1902.getId()).getStatus()).isEqualTo("ACTIVE");
+    }
+
+    @Test
+    void countersRevisionAndSyncFollowTheCommittedChange() {
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            ids.add(create("ACTIVE", LocalDate.of(1990, 1, 1)).getId());
+        }
+        ids.forEach(playerService::getPlayerById);
+        Sync sync = syncUntil(null, ids);
+        long tombstones = tombstoneRepository.count();
+        long revision = revisionRepository.findRevision().orElseThrow();
+        Map<String, Long> counts = playerService.getPlayerCounts().getByStatus();
+
+        playerService.updatePlayersStatus(new BulkStatusUpdateDTO("INJURED", ids, null, null, null));
+
+        assertThat(ids).allSatisfy(id -> assertThat(playerService.getPlayerById(id).getStatus()).isEqualTo("INJURED"));
+        Map<String, Long> after = playerService.getPlayerCounts().getByStatus();
+        assertThat(after).containsEntry("INJURED", 3L);
+        assertThat(after.get("ACTIVE")).isEqualTo(counts.get("ACTIVE") - 3);
+
+        Sync changed = syncUntil(sync.token(), ids);
+        assertThat(changed.updated()).filteredOn(player -> ids.contains(player.getId())).allSatisfy(player -> {
+            assertThat(player.getStatus()).isEqualTo("INJURED");
+            assertThat(player.getVersion()).isEqualTo(1L);
+        });
+        assertThat(changed.deleted()).isEmpty();
+        assertThat(tombstoneRepository.count()).isEqualTo(tombstones);
+        assertThat(revisionRepository.findRevision().orElseThrow()).isGreaterThan(revision);
+    }
+
+    @Test
+    void aChangeMatchingNoPlayerLeavesTheRosterAlone() {
+        PlayerResponseDTO player = create("SUSPENDED", LocalDate.of(1990, 1, 1));
+        Sync sync = syncUntil(null, List.of(player.getId()));
+        long revision = revisionRepository.findRevision().orElseThrow();
+        Map<String, Long> counts = playerService.getPlayerCounts().getByStatus();
+
+        BulkStatusResultDTO result = playerService.updatePlayersStatus(
+                new BulkStatusUpdateDTO("SUSPENDED", List.of(player.getId()), null, null, null));
+
+        assertThat(result.getUpdated()).isZero();
+        assertThat(revisionRepository.findRevision().orElseThrow()).isEqualTo(revision);
+        assertThat(playerService.getPlayerCounts().getByStatus()).isEqualTo(counts);
+        assertThat(playerService.getChanges(sync.token(), 100).getUpdated())
+                .extracting(PlayerResponseDTO::getId)
+                .doesNotContain(player.getId());
+    }
+
+    @Test
+    void rejectsRequestsWithoutAFilterOrWithAnOpenRange() {
+        assertThatThrownBy(() -> playerService.updatePlayersStatus(
+                new BulkStatusUpdateDTO("ACTIVE", null, null, null, null)))
+                .isInstanceOf(InvalidRequestException.class);
+        assertThatThrownBy(() -> playerService.updatePlayersStatus(
+                new BulkStatusUpdateDTO("ACTIVE", null, null, LocalDate.of(1990, 1, 1), null)))
+                .isInstanceOf(InvalidRequestException.class);
+        assertThatThrownBy(() -> playerService.updatePlayersStatus(
+                new BulkStatusUpdateDTO("ACTIVE", List.of(), null, null, null)))
+                .isInstanceOf(InvalidRequestException.class);
+    }
+
+    /**
+     * Sync from a token until every one of the ids has been returned as updated
+     * Writes reach the feed once their roster revision bump has run, shortly after commit.
+     */
+    private Sync syncUntil(String token, List<Long> ids) {
+        long deadline = System.currentTimeMillis() + TIMEOUT_MILLIS;
+        Sync sync = new Sync(token, new ArrayList<>(), new ArrayList<>());
+        while (true) {
+            PlayerChangesDTO changes;
+            do {
+                changes = playerService.getChanges(sync.token(), 100);
+                assertThat(changes.isResyncRequired()).isFalse();
+                sync.updated().addAll(changes.getUpdated());
+                sync.deleted().addAll(changes.getDeleted());
+                sync = new Sync(changes.getNextToken(), sync.updated(), sync.deleted());
+            } while (changes.isHasMore());
+            if (sync.updated().stream().map(PlayerResponseDTO::getId).toList().containsAll(ids)) {
+                return sync;
+            }
+            assertThat(System.currentTimeMillis()).as("changes synced in time").isLessThan(deadline);
+            try {
+                Thread.sleep(20);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(ex);
+            }
+        }
+    }
+
+    private PlayerResponseDTO create(String status, LocalDate birthday) {
+        return playerService.createPlayer(new PlayerRequestDTO("Bulk Player " + NAMES.incrementAndGet(),
+                birthday, null, status));
+    }
+
+    private record Sync(String token, List<PlayerResponseDTO> updated, List<Long> deleted) {
+    }
+}
@@ -0,0 +1,214 @@
+package com.sps.player.service;
+
+import com.sps.player.config.PlayerSyncProperties;
+import com.sps.player.dto.PlayerResponseDTO;
+import com.sps.player.event.PlayerChangedEvent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for PlayerChangeBroadcaster's delivery to fast, slow and stalled stream clients
+ *
+ * @author SPS Cricket Club
+ * @version 1.0.0
+ */
+class PlayerChangeBroadcasterTest {
+
+    private static final long TIMEOUT_MILLIS = 5_000;
+
+    private PlayerSyncProperties properties;
+    private TestBroadcaster broadcaster;
+
+    @BeforeEach
+    void setUp() {
+        properties = new PlayerSyncProperties();
+        properties.setStreamSenderThreads(2);
+        properties.setStreamQueueCapacity(2);
+        properties.setStreamSendTimeout(Duration.ofMillis(50));
+        broadcaster = new TestBroadcaster(properties);
+    }
+
+    @AfterEach
+    void tearDown() {
+        broadcaster.shutdown();
+    }
+
+    @Test
+    void deliversCommittedChanges() {
+        RecordingEmitter client = broadcaster.connect(new RecordingEmitter());
+
+        broadcaster.onPlayerChanged(PlayerChangedEvent.created(player(1L)));
+        broadcaster.onPlayerChanged(PlayerChangedEvent.deleted(player(1L)));
+
+        awaitUntil(() -> client.events.size() == 2);
+        assertThat(client.events).containsExactly("created", "deleted");
+        assertThat(client.completed).isFalse();
+    }
+
+    @Test
+    void aBlockedClientDoesNotHoldUpOthers() {
+        BlockingEmitter slow = broadcaster.connect(new BlockingEmitter());
+        RecordingEmitter fast = broadcaster.connect(new RecordingEmitter());
+
+        try {
+            broadcaster.onPlayerChanged(PlayerChangedEvent.created(player(1L)));
+            broadcaster.onPlayerChanged(PlayerChangedEvent.created(player(2L)));
+
+            awaitUntil(() -> fast.events.size() == 2);
+            assertThat(slow.events).isEmpty();
+        } finally {
+            slow.release.countDown();
+        }
+    }
+
+    @Test
+    void aClientFallingTooFarBehindIsSentAResyncAndClosed() throws Exception {
+        BlockingEmitter client = broadcaster.connect(new BlockingEmitter());
+
+        broadcaster.onPlayerChanged(PlayerChangedEvent.created(player(1L)));
+        assertThat(client.sending.await(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)).isTrue();
+        for (long id = 2; id <= 5; id++) {
+            broadcaster.onPlayerChanged(PlayerChangedEvent.created(player(id)));
+        }
+        client.release.countDown();
+
+        awaitUntil(() -> client.completed);
+        assertThat(client.events).containsExactly("created", PlayerChangeBroadcaster.RESYNC);
+        assertThat(broadcaster.clientCount()).isZero();
+    }
+
+    @Test
+    void aStalledClientIsDroppedAndClosedWhenItsSendReturns() throws Exception {
+        BlockingEmitter stalled = broadcaster.connect(new BlockingEmitter());
+        RecordingEmitter other = broadcaster.connect(new RecordingEmitter());
+
+        broadcaster.onPlayerChanged(PlayerChangedEvent.created(player(1L)));
+        assertThat(stalled.sending.await(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)).isTrue();
+        Thread.sleep(properties.getStreamSendTimeout().toMillis() * 2);
+
+        broadcaster.dropStalledClients();
+
+        assertThat(broadcaster.clientCount()).isEqualTo(1);
+        broadcaster.onPlayerChanged(PlayerChangedEvent.created(player(2L)));
+        awaitUntil(() -> other.events.size() == 2);
+        assertThat(stalled.completed).isFalse();
+
+        stalled.release.countDown();
+        awaitUntil(() -> stalled.completed);
+        assertThat(stalled.events).containsExactly("created");
+        assertThat(other.completed).isFalse();
+    }
+
+    @Test
+    void clientsSendingWithinTheTimeoutAreKept() {
+        RecordingEmitter client = broadcaster.connect(new RecordingEmitter());
+        broadcaster.onPlayerChanged(PlayerChangedEvent.created(player(1L)));
+        awaitUntil(() -> client.events.size() == 1);
+
+        broadcaster.dropStalledClients();
+
+        assertThat(broadcaster.clientCount()).isEqualTo(1);
+    }
+
+    private static PlayerResponseDTO player(long id) {
+        PlayerResponseDTO player = new PlayerResponseDTO();
+        player.setId(id);
+        player.setName("Player " + id);
+        return player;
+    }
+
+    private static void awaitUntil(BooleanSupplier condition) {
+        long deadline = System.currentTimeMillis() + TIMEOUT_MILLIS;
+        while (!condition.getAsBoolean()) {
+            assertThat(System.currentTimeMillis()).as("condition met in time").isLessThan(deadline);
+            try {
+                Thread.sleep(5);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(ex);
+            }
+        }
+    }
+
+    /**
+     * Broadcaster handing out the test's emitters instead of connecting to a response
+     */
+    private static final class TestBroadcaster extends PlayerChangeBroadcaster {
+
+        private SseEmitter next;
+
+        private TestBroadcaster(PlayerSyncProperties properties) {
+            super(properties);
+        }
+
+        private <T extends SseEmitter> T connect(T emitter) {
+            next = emitter;
+            subscribe(null);
+            return emitter;
+        }
+
+        @Override
+        SseEmitter newEmitter(long timeoutMillis) {
+            return next;
+        }
+    }
+
+    /**
+     * Emitter recording the names of the events sent to it
+     */
+    private static class RecordingEmitter extends SseEmitter {
+
+        final List<String> events = new CopyOnWriteArrayList<>();
+        volatile boolean completed;
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            for (DataWithMediaType part : builder.build()) {
+                String text = String.valueOf(part.getData());
+                int start = text.indexOf("event:");
+                if (start >= 0) {
+                    events.add(text.substring(start + "event:".length(), text.indexOf('\n', start)));
+                }
+            }
+        }
+
+        @Override
+        public void complete() {
+            completed = true;
+            super.complete();
+        }
+    }
+
+    /**
+     * Emitter whose sends block, like a client that stopped reading, until released
+     */
+    private static final class BlockingEmitter extends RecordingEmitter {
+
+        final CountDownLatch sending = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            sending.countDown();
+            try {
+                release.await(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                throw new IOException(ex);
+            }
+            super.send(builder);
+        }
+    }
+}
@@ -0,0 +1,174 @@
+package com.sps.player.service;
+
+import com.sps.player.dto.PlayerChangesDTO;
+import com.sps.player.dto.PlayerRequestDTO;
+import com.sps.player.dto.PlayerResponseDTO;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for delta sync through PlayerService.getChanges against the migrated
+ * H2 schema, where writes reach the feed in the order they commit
+ *
+ * @author SPS Cricket Club
+ * @version 1.0.0
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE, properties = {
+        "spring.datasource.url=jdbc:h2:mem:changes;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.hibernate.ddl-auto=validate",
+        "player.images.directory=target/test-player-images"
+})
+class PlayerChangesTest {
+
+    private static final long TIMEOUT_MILLIS = 5_000;
+    private static final AtomicInteger NAMES = new AtomicInteger();
+
+    @Autowired
+    private PlayerService playerService;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void aLateCommitIsReturnedAfterThePositionAlreadyReached() throws Exception {
+        PlayerResponseDTO early = playerService.createPlayer(request(uniqueName(), "ACTIVE"));
+        PlayerResponseDTO other = playerService.createPlayer(request(uniqueName(), "ACTIVE"));
+        Sync sync = syncUntil(null, changes -> changes.updatedIds().containsAll(List.of(early.getId(), other.getId())));
+
+        CountDownLatch written = new CountDownLatch(1);
+        CountDownLatch commit = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            // Writes first, commits last
+            Future<?> late = executor.submit(() -> new TransactionTemplate(transactionManager)
+                    .executeWithoutResult(status -> {
+                        playerService.updatePlayer(early.getId(), request(early.getName(), "INACTIVE"), null);
+                        written.countDown();
+                        awaitQuietly(commit);
+                    }));
+            assertThat(written.await(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)).isTrue();
+            playerService.updatePlayer(other.getId(), request(other.getName(), "INACTIVE"), null);
+
+            Sync afterOther = syncUntil(sync.token(), changes -> changes.updatedIds().contains(other.getId()));
+            assertThat(afterOther.updatedIds()).doesNotContain(early.getId());
+
+            commit.countDown();
+            late.get(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+            Sync afterLate = syncUntil(afterOther.token(), changes -> changes.updatedIds().contains(early.getId()));
+            assertThat(afterLate.updated())
+                    .filteredOn(player -> player.getId().equals(early.getId()))
+                    .singleElement()
+                    .satisfies(player -> assertThat(player.getStatus()).isEqualTo("INACTIVE"));
+        } finally {
+            commit.countDown();
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void deletionsAreReportedOnceAndLeftOutOfAFirstSync() {
+        PlayerResponseDTO player = playerService.createPlayer(request(uniqueName(), "ACTIVE"));
+        Sync sync = syncUntil(null, changes -> changes.updatedIds().contains(player.getId()));
+
+        playerService.deletePlayer(player.getId());
+
+        Sync afterDelete = syncUntil(sync.token(), changes -> changes.deleted().contains(player.getId()));
+        assertThat(afterDelete.updatedIds()).doesNotContain(player.getId());
+        Sync again = syncUntil(afterDelete.token(), changes -> true);
+        assertThat(again.deleted()).doesNotContain(player.getId());
+        Sync first = syncUntil(null, changes -> true);
+        assertThat(first.updatedIds()).doesNotContain(player.getId());
+        assertThat(first.deleted()).isEmpty();
+    }
+
+    @Test
+    void pagesFollowTheChangeSequence() {
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            ids.add(playerService.createPlayer(request(uniqueName(), "ACTIVE")).getId());
+        }
+        Sync sync = syncUntil(null, changes -> changes.updatedIds().containsAll(ids));
+
+        PlayerResponseDTO updated = playerService.updatePlayer(ids.get(0), request(uniqueName(), "INACTIVE"), null);
+        Sync afterUpdate = syncUntil(sync.token(), changes -> changes.updatedIds().contains(ids.get(0)));
+
+        assertThat(afterUpdate.updatedIds()).containsExactly(ids.get(0));
+        assertThat(afterUpdate.updated().get(0).getVersion()).isEqualTo(updated.getVersion());
+    }
+
+    /**
+     * Sync in pages of two from a token until the changes collected satisfy the condition
+     * Writes reach the feed once their roster revision bump has run, shortly after commit.
+     */
+    private Sync syncUntil(String token, Predicate<Sync> condition) {
+        long deadline = System.currentTimeMillis() + TIMEOUT_MILLIS;
+        Sync sync = new Sync(token, new ArrayList<>(), new ArrayList<>());
+        while (true) {
+            PlayerChangesDTO changes;
+            do {
+                changes = playerService.getChanges(sync.token(), 2);
+                assertThat(changes.isResyncRequired()).isFalse();
+                sync.updated().addAll(changes.getUpdated());
+                sync.deleted().addAll(changes.getDeleted());
+                sync = new Sync(changes.getNextToken(), sync.updated(), sync.deleted());
+            } while (changes.isHasMore());
+            if (condition.test(sync)) {
+                return sync;
+            }
+            assertThat(System.currentTimeMillis()).as("changes synced in time").isLessThan(deadline);
+            sleep();
+        }
+    }
+
+    private static void sleep() {
+        try {
+            Thread.sleep(20);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static String uniqueName() {
+        return "Change Player " + NAMES.incrementAndGet();
+    }
+
+    private static PlayerRequestDTO request(String name, String status) {
+        return new PlayerRequestDTO(name, LocalDate.of(1990, 4, 24), null, status);
+    }
+
+    private record Sync(String token, List<PlayerResponseDTO> updated, List<Long> deleted) {
+
+        List<Long> updatedIds() {
+            return updated.stream().map(PlayerResponseDTO::getId).toList();
+        }
+    }
+}
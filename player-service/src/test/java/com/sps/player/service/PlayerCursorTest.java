@@ -0,0 +1,98 @@
+package com.sps.player.service;
+
+import com.sps.player.dto.PlayerResponseDTO;
+import com.sps.player.exception.InvalidRequestException;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests for PlayerCursor token encoding
+ *
+ * @author SPS Cricket Club
+ * @version 1.0.0
+ */
+class PlayerCursorTest {
+
+    @Test
+    void idCursorRoundTrips() {
+        PlayerCursor cursor = PlayerCursor.decode(PlayerCursor.after(player(42L, "Sachin", null), PlayerSort.ID)
+                .encode(), PlayerSort.ID);
+
+        assertThat(cursor.getSort()).isEqualTo(PlayerSort.ID);
+        assertThat(cursor.getLastId()).isEqualTo(42L);
+        assertThat(cursor.getLastName()).isNull();
+        assertThat(cursor.getLastBirthday()).isNull();
+    }
+
+    @Test
+    void nameCursorKeepsSeparatorsInTheName() {
+        String token = PlayerCursor.after(player(7L, "Rahul | Dravid", null), PlayerSort.NAME).encode();
+
+        PlayerCursor cursor = PlayerCursor.decode(token, PlayerSort.NAME);
+
+        assertThat(cursor.getLastId()).isEqualTo(7L);
+        assertThat(cursor.getLastName()).isEqualTo("Rahul | Dravid");
+    }
+
+    @Test
+    void birthdayCursorRoundTrips() {
+        String token = PlayerCursor.afterBirthday(LocalDate.of(2000, 2, 29), 9L).encode();
+
+        PlayerCursor cursor = PlayerCursor.decode(token, PlayerSort.BIRTHDAY);
+
+        assertThat(cursor.getLastBirthday()).isEqualTo(LocalDate.of(2000, 2, 29));
+        assertThat(cursor.getLastId()).isEqualTo(9L);
+    }
+
+    @Test
+    void tokenIsUrlSafe() {
+        String token = PlayerCursor.after(player(1L, "Ünïcødé ?&/+", null), PlayerSort.NAME).encode();
+
+        assertThat(token).matches("[A-Za-z0-9_-]+");
+    }
+
+    @Test
+    void missingTokenMeansFirstPage() {
+        assertThat(PlayerCursor.decode(null, PlayerSort.ID)).isNull();
+        assertThat(PlayerCursor.decode("  ", PlayerSort.ID)).isNull();
+    }
+
+    @Test
+    void rejectsCursorForAnotherSort() {
+        String token = PlayerCursor.after(player(1L, "Anil", null), PlayerSort.NAME).encode();
+
+        assertThatThrownBy(() -> PlayerCursor.decode(token, PlayerSort.ID))
+                .isInstanceOf(InvalidRequestException.class)
+                .hasMessageContaining("NAME");
+    }
+
+    @Test
+    void rejectsMalformedTokens() {
+        assertThatThrownBy(() -> PlayerCursor.decode("not base64!", PlayerSort.ID))
+                .isInstanceOf(InvalidRequestException.class);
+        assertThatThrownBy(() -> PlayerCursor.decode(encode("v2|ID|1|"), PlayerSort.ID))
+                .isInstanceOf(InvalidRequestException.class);
+        assertThatThrownBy(() -> PlayerCursor.decode(encode("v1|ID|abc|"), PlayerSort.ID))
+                .isInstanceOf(InvalidRequestException.class);
+        assertThatThrownBy(() -> PlayerCursor.decode(encode("v1|BIRTHDAY|1|yesterday"), PlayerSort.BIRTHDAY))
+                .isInstanceOf(InvalidRequestException.class);
+    }
+
+    private static PlayerResponseDTO player(long id, String name, LocalDate birthday) {
+        PlayerResponseDTO player = new PlayerResponseDTO();
+        player.setId(id);
+        player.setName(name);
+        player.setBirthday(birthday);
+        return player;
+    }
+
+    private static String encode(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,151 @@
+package com.sps.player.service;
+
+import com.sps.player.dto.CursorPageDTO;
+import com.sps.player.dto.PlayerField;
+import com.sps.player.dto.PlayerRequestDTO;
+import com.sps.player.dto.PlayerResponseDTO;
+import com.sps.player.entity.Player;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDate;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for the column selection of PlayerFieldQuery against the migrated
+ * H2 schema, directly and through birthday range pages served by the index
+ * Each test uses its own birth year, so ranges only match its players.
+ *
+ * @author SPS Cricket Club
+ * @version 1.0.0
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE, properties = {
+        "spring.datasource.url=jdbc:h2:mem:field-query;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.hibernate.ddl-auto=validate",
+        "player.images.directory=target/test-player-images",
+        "player.birthday-index.enabled=true"
+})
+class PlayerFieldQueryTest {
+
+    private static final long TIMEOUT_MILLIS = 5_000;
+    private static final AtomicInteger NAMES = new AtomicInteger();
+
+    @Autowired
+    private PlayerFieldQuery playerFieldQuery;
+
+    @Autowired
+    private PlayerService playerService;
+
+    @Autowired
+    private PlayerBirthdayIndex playerBirthdayIndex;
+
+    @Test
+    void selectsTheIdTheSortKeyAndTheRequestedFieldsOnly() {
+        PlayerResponseDTO player = create(LocalDate.of(1911, 5, 1), "ACTIVE");
+
+        List<PlayerResponseDTO> page = playerFieldQuery.findPage(EnumSet.of(PlayerField.STATUS), PlayerSort.BIRTHDAY,
+                null, LocalDate.of(1911, 1, 1), LocalDate.of(1911, 12, 31), null, 10);
+
+        assertThat(page).singleElement().satisfies(selected -> {
+            assertThat(selected.getId()).isEqualTo(player.getId());
+            assertThat(selected.getBirthday()).isEqualTo(player.getBirthday());
+            assertThat(selected.getStatus()).isEqualTo("ACTIVE");
+            assertThat(selected.getName()).isNull();
+            assertThat(selected.getAge()).isNull();
+            assertThat(selected.getVersion()).isNull();
+            assertThat(selected.getCreatedAt()).isNull();
+        });
+    }
+
+    @Test
+    void theAgeIsDerivedFromTheBirthdayColumn() {
+        PlayerResponseDTO player = create(LocalDate.of(1912, 5, 1), "ACTIVE");
+
+        List<PlayerResponseDTO> page = playerFieldQuery.findPage(EnumSet.of(PlayerField.AGE), PlayerSort.NAME,
+                null, LocalDate.of(1912, 1, 1), LocalDate.of(1912, 12, 31), null, 10);
+
+        assertThat(page).singleElement().satisfies(selected -> {
+            assertThat(selected.getName()).isEqualTo(player.getName());
+            assertThat(selected.getBirthday()).isEqualTo(player.getBirthday());
+            assertThat(selected.getAge()).isEqualTo(Player.calculateAge(player.getBirthday()));
+            assertThat(selected.getStatus()).isNull();
+        });
+    }
+
+    @Test
+    void pagesFollowTheCursorAndFilters() {
+        PlayerResponseDTO first = create(LocalDate.of(1913, 1, 1), "ACTIVE");
+        create(LocalDate.of(1913, 2, 1), "INACTIVE");
+        PlayerResponseDTO third = create(LocalDate.of(1913, 3, 1), "ACTIVE");
+
+        List<PlayerResponseDTO> page = playerFieldQuery.findPage(EnumSet.of(PlayerField.NAME), PlayerSort.BIRTHDAY,
+                "ACTIVE", LocalDate.of(1913, 1, 1), LocalDate.of(1913, 12, 31),
+                PlayerCursor.after(first, PlayerSort.BIRTHDAY), 10);
+
+        assertThat(page).extracting(PlayerResponseDTO::getId).containsExactly(third.getId());
+    }
+
+    @Test
+    void playersByIdKeepTheOrderOfTheIds() {
+        PlayerResponseDTO first = create(LocalDate.of(1914, 1, 1), "ACTIVE");
+        PlayerResponseDTO second = create(LocalDate.of(1914, 2, 1), "ACTIVE");
+
+        List<PlayerResponseDTO> players = playerFieldQuery.findByIds(EnumSet.of(PlayerField.NAME),
+                List.of(second.getId(), Long.MAX_VALUE, first.getId()));
+
+        assertThat(players).extracting(PlayerResponseDTO::getName).containsExactly(second.getName(), first.getName());
+        assertThat(players).allSatisfy(player -> {
+            assertThat(player.getBirthday()).isNull();
+            assertThat(player.getStatus()).isNull();
+        });
+    }
+
+    @Test
+    void birthdayIndexPagesHoldOnlyTheRequestedFields() {
+        PlayerResponseDTO first = create(LocalDate.of(1915, 1, 1), "ACTIVE");
+        PlayerResponseDTO second = create(LocalDate.of(1915, 2, 1), "ACTIVE");
+        awaitIndexed(LocalDate.of(1915, 1, 1), LocalDate.of(1915, 12, 31), 2);
+
+        CursorPageDTO<PlayerResponseDTO> page = playerService.getPlayersByBirthdayRange(
+                LocalDate.of(1915, 1, 1), LocalDate.of(1915, 12, 31), null, 1, EnumSet.of(PlayerField.NAME));
+        assertThat(page.getItems()).extracting(PlayerResponseDTO::getName).containsExactly(first.getName());
+        assertThat(page.getItems().get(0).getStatus()).isNull();
+
+        CursorPageDTO<PlayerResponseDTO> next = playerService.getPlayersByBirthdayRange(
+                LocalDate.of(1915, 1, 1), LocalDate.of(1915, 12, 31), page.getNextCursor(), 1,
+                EnumSet.of(PlayerField.NAME));
+        assertThat(next.getItems()).extracting(PlayerResponseDTO::getName).containsExactly(second.getName());
+
+        CursorPageDTO<PlayerResponseDTO> full = playerService.getPlayersByBirthdayRange(
+                LocalDate.of(1915, 1, 1), LocalDate.of(1915, 12, 31), null, 10, null);
+        assertThat(full.getItems()).allSatisfy(player -> assertThat(player.getStatus()).isEqualTo("ACTIVE"));
+    }
+
+    private void awaitIndexed(LocalDate from, LocalDate to, int players) {
+        long deadline = System.currentTimeMillis() + TIMEOUT_MILLIS;
+        while (!playerBirthdayIndex.isReady()
+                || playerBirthdayIndex.page(from, to, from, 0L, players + 1).getIds().size() < players) {
+            assertThat(System.currentTimeMillis()).as("players indexed in time").isLessThan(deadline);
+            try {
+                Thread.sleep(20);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(ex);
+            }
+        }
+    }
+
+    private PlayerResponseDTO create(LocalDate birthday, String status) {
+        return playerService.createPlayer(new PlayerRequestDTO("Field Player " + NAMES.incrementAndGet(),
+                birthday, null, status));
+    }
+}
@@ -0,0 +1,138 @@
+package com.sps.player.service;
+
+import com.sps.player.config.PlayerImageProperties;
+import com.sps.player.dto.PlayerResponseDTO;
+import com.sps.player.event.PlayerChangedEvent;
+import com.sps.player.repository.PlayerRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.mock.web.MockMultipartFile;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests for when PlayerImageStore deletes images no player references any more
+ *
+ * @author SPS Cricket Club
+ * @version 1.0.0
+ */
+class PlayerImageStoreTest {
+
+    private final PlayerRepository playerRepository = mock(PlayerRepository.class);
+
+    @TempDir
+    Path directory;
+
+    private PlayerImageStore store;
+
+    @BeforeEach
+    void setUp() {
+        PlayerImageProperties properties = new PlayerImageProperties();
+        properties.setDirectory(directory);
+        store = new PlayerImageStore(properties, playerRepository);
+    }
+
+    @Test
+    void aReplacedImageIsDeletedWithItsThumbnails() throws IOException {
+        String old = storeRecorded(0xff0000);
+        Path original = store.resolve(old, null);
+        Path thumbnail = store.resolve(old, 64);
+        String replacement = storeRecorded(0x00ff00);
+
+        store.onPlayerChanged(PlayerChangedEvent.updated(player(old), player(replacement)));
+
+        assertThat(original).doesNotExist();
+        assertThat(thumbnail).doesNotExist();
+        assertThat(store.resolve(replacement, null)).exists();
+    }
+
+    @Test
+    void aDeletedPlayersImageIsDeleted() throws IOException {
+        String image = storeRecorded(0xff0000);
+        Path original = store.resolve(image, null);
+
+        store.onPlayerChanged(PlayerChangedEvent.deleted(player(image)));
+
+        assertThat(original).doesNotExist();
+    }
+
+    @Test
+    void anImageAnotherPlayerHasIsKept() throws IOException {
+        String image = storeRecorded(0xff0000);
+        when(playerRepository.existsByImageName(image)).thenReturn(true);
+
+        store.onPlayerChanged(PlayerChangedEvent.deleted(player(image)));
+
+        assertThat(store.resolve(image, null)).exists();
+    }
+
+    @Test
+    void anImageBeingUploadedIsKeptUntilReleased() throws IOException {
+        String image = storeRecorded(0xff0000);
+        // A second upload of the same bytes, for a player not updated yet
+        assertThat(store.store(upload(0xff0000))).isEqualTo(image);
+
+        store.onPlayerChanged(PlayerChangedEvent.deleted(player(image)));
+        assertThat(store.resolve(image, null)).exists();
+
+        // Its player update failed, so no player has the image
+        store.release(image);
+        assertThat(directory.resolve("originals").resolve(image.substring(0, 2)).resolve(image)).doesNotExist();
+    }
+
+    @Test
+    void unchangedAndFreeFormImagesAreLeftAlone() throws IOException {
+        String image = storeRecorded(0xff0000);
+        PlayerResponseDTO renamed = player(image);
+        renamed.setName("Renamed");
+
+        store.onPlayerChanged(PlayerChangedEvent.updated(player(image), renamed));
+        store.onPlayerChanged(PlayerChangedEvent.deleted(player("photo.png")));
+        store.onPlayerChanged(PlayerChangedEvent.created(player(image)));
+
+        assertThat(store.resolve(image, null)).exists();
+        verify(playerRepository, never()).existsByImageName("photo.png");
+    }
+
+    /**
+     * Store an image whose player update committed
+     */
+    private String storeRecorded(int rgb) throws IOException {
+        String image = store.store(upload(rgb));
+        when(playerRepository.existsByImageName(image)).thenReturn(true);
+        store.release(image);
+        when(playerRepository.existsByImageName(image)).thenReturn(false);
+        return image;
+    }
+
+    private static MockMultipartFile upload(int rgb) throws IOException {
+        BufferedImage image = new BufferedImage(128, 96, BufferedImage.TYPE_INT_RGB);
+        for (int x = 0; x < image.getWidth(); x++) {
+            for (int y = 0; y < image.getHeight(); y++) {
+                image.setRGB(x, y, rgb);
+            }
+        }
+        ByteArrayOutputStream png = new ByteArrayOutputStream();
+        ImageIO.write(image, "png", png);
+        return new MockMultipartFile("file", "photo.png", "image/png", png.toByteArray());
+    }
+
+    private static PlayerResponseDTO player(String imageName) {
+        PlayerResponseDTO player = new PlayerResponseDTO();
+        player.setId(1L);
+        player.setName("Player");
+        player.setImageName(imageName);
+        return player;
+    }
+}
@@ -0,0 +1,121 @@
+package com.sps.player.service;
+
+import com.sps.player.dto.PlayerResponseDTO;
+import com.sps.player.event.PlayerChangedEvent;
+import com.sps.player.repository.PlayerNameView;
+import com.sps.player.repository.PlayerRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests for PlayerNameIndex trigram search, ranking and incremental updates
+ *
+ * @author SPS Cricket Club
+ * @version 1.0.0
+ */
+class PlayerNameIndexTest {
+
+    private final PlayerRepository playerRepository = mock(PlayerRepository.class);
+    private PlayerNameIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new PlayerNameIndex(playerRepository, mock(PlatformTransactionManager.class));
+    }
+
+    @Test
+    void ranksExactThenPrefixThenWordPrefixThenInfix() {
+        load(name(4L, "Suraj Yadav"), name(3L, "Mohan Raj"), name(5L, "Anil Kumble"),
+                name(2L, "Rajesh Kumar"), name(1L, "Raj"));
+
+        assertThat(index.search("raj", 10)).containsExactly(1L, 2L, 3L, 4L);
+        assertThat(index.search("raj", 2)).containsExactly(1L, 2L);
+    }
+
+    @Test
+    void searchIgnoresCaseAndExtraWhitespace() {
+        load(name(1L, "Mohan  Raj"));
+
+        assertThat(index.search("  MOHAN   RAJ ", 10)).containsExactly(1L);
+    }
+
+    @Test
+    void matchesOnlyNamesContainingTheWholeTerm() {
+        load(name(1L, "Sanjay Bangar"), name(2L, "Ajay Jadeja"));
+
+        assertThat(index.search("jay", 10)).containsExactlyInAnyOrder(1L, 2L);
+        assertThat(index.search("anjay", 10)).containsExactly(1L);
+        assertThat(index.search("jay jad", 10)).containsExactly(2L);
+        assertThat(index.search("xyz", 10)).isEmpty();
+    }
+
+    @Test
+    void termsShorterThanATrigramFindNothing() {
+        load(name(1L, "Raj"));
+
+        assertThat(index.search("ra", 10)).isEmpty();
+        assertThat(index.search(null, 10)).isEmpty();
+        assertThat(index.search("raj", 0)).isEmpty();
+    }
+
+    @Test
+    void followsCommittedChanges() {
+        load(name(1L, "Raj"));
+
+        index.onPlayerChanged(PlayerChangedEvent.created(player(2L, "Kapil Dev")));
+        index.onPlayerChanged(PlayerChangedEvent.updated(player(1L, "Raj"), player(1L, "Ravi")));
+
+        assertThat(index.search("raj", 10)).isEmpty();
+        assertThat(index.search("ravi", 10)).containsExactly(1L);
+        assertThat(index.search("kapil", 10)).containsExactly(2L);
+
+        index.onPlayerChanged(PlayerChangedEvent.deleted(player(2L, "Kapil Dev")));
+
+        assertThat(index.search("kapil", 10)).isEmpty();
+    }
+
+    @Test
+    void replaysChangesCommittedBeforeTheLoadFinished() {
+        index.onPlayerChanged(PlayerChangedEvent.created(player(2L, "Kapil Dev")));
+        assertThat(index.isReady()).isFalse();
+
+        // The load may or may not have seen the change; replaying it is harmless either way
+        load(name(1L, "Raj"), name(2L, "Kapil Dev"));
+
+        assertThat(index.isReady()).isTrue();
+        assertThat(index.search("kapil", 10)).containsExactly(2L);
+    }
+
+    private void load(PlayerNameView... names) {
+        when(playerRepository.streamAllNames()).thenReturn(Arrays.stream(names));
+        index.load();
+    }
+
+    private static PlayerNameView name(long id, String name) {
+        return new PlayerNameView() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public String getName() {
+                return name;
+            }
+        };
+    }
+
+    private static PlayerResponseDTO player(long id, String name) {
+        PlayerResponseDTO player = new PlayerResponseDTO();
+        player.setId(id);
+        player.setName(name);
+        return player;
+    }
+}
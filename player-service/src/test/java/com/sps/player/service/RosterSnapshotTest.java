@@ -0,0 +1,121 @@
+package com.sps.player.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sps.player.config.RosterSnapshotProperties;
+import com.sps.player.dto.PlayerField;
+import com.sps.player.dto.PlayerResponseDTO;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.scheduling.TaskScheduler;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.InflaterInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests for the bodies and per-encoding ETags of a roster snapshot
+ *
+ * @author SPS Cricket Club
+ * @version 1.0.0
+ */
+class RosterSnapshotTest {
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json()
+            .filters(PlayerField.filters(null))
+            .build();
+
+    @Test
+    void compressedBodiesDecodeToTheIdentityBody() throws IOException {
+        RosterSnapshot.Snapshot snapshot = build(List.of(player(1L, "Ann"), player(2L, "Bob")));
+
+        assertThat(snapshot.players()).isEqualTo(2);
+        assertThat(decode(new GZIPInputStream(new ByteArrayInputStream(snapshot.gzip()))))
+                .isEqualTo(snapshot.identity());
+        assertThat(decode(new InflaterInputStream(new ByteArrayInputStream(snapshot.deflate()))))
+                .isEqualTo(snapshot.identity());
+        assertThat(snapshot.gzip()).isNotEqualTo(snapshot.deflate());
+    }
+
+    @Test
+    void identityBodyIsTheApiResponseEnvelope() throws IOException {
+        RosterSnapshot.Snapshot snapshot = build(List.of(player(1L, "Ann"), player(2L, "Bob")));
+
+        JsonNode body = objectMapper.readTree(snapshot.identity());
+        assertThat(body.get("success").asBoolean()).isTrue();
+        assertThat(body.get("data").findValuesAsText("name")).containsExactly("Ann", "Bob");
+        assertThat(body.has("timestamp")).isTrue();
+        assertThat(snapshot.etag("identity"))
+                .isEqualTo("snapshot-42-" + LocalDate.now().format(DateTimeFormatter.BASIC_ISO_DATE));
+    }
+
+    @Test
+    void anEmptyRosterStillHasEveryEncoding() throws IOException {
+        RosterSnapshot.Snapshot snapshot = build(List.of());
+
+        assertThat(objectMapper.readTree(snapshot.identity()).get("data")).isEmpty();
+        assertThat(decode(new GZIPInputStream(new ByteArrayInputStream(snapshot.gzip()))))
+                .isEqualTo(snapshot.identity());
+        assertThat(decode(new InflaterInputStream(new ByteArrayInputStream(snapshot.deflate()))))
+                .isEqualTo(snapshot.identity());
+    }
+
+    @Test
+    void eachContentCodingHasItsOwnTag() {
+        RosterSnapshot.Snapshot snapshot = new RosterSnapshot.Snapshot("snapshot-42", 0,
+                LocalDateTime.of(2025, 6, 1, 10, 0), new byte[0], new byte[0], new byte[0]);
+
+        assertThat(snapshot.etag("identity")).isEqualTo("snapshot-42");
+        assertThat(snapshot.etag("gzip")).isEqualTo("snapshot-42-gzip");
+        assertThat(snapshot.etag("deflate")).isEqualTo("snapshot-42-deflate");
+    }
+
+    @Test
+    void snapshotsFromAnEarlierDayAreStale() {
+        assertThat(snapshotBuiltAt(LocalDateTime.now()).isFromToday()).isTrue();
+        assertThat(snapshotBuiltAt(LocalDate.now().minusDays(1).atTime(23, 59)).isFromToday()).isFalse();
+    }
+
+    /**
+     * Snapshot built by RosterSnapshot from the given players at roster revision 42
+     */
+    private RosterSnapshot.Snapshot build(List<PlayerResponseDTO> players) {
+        PlayerService playerService = mock(PlayerService.class);
+        when(playerService.exportPlayers(any())).thenAnswer(invocation -> {
+            Consumer<PlayerResponseDTO> consumer = invocation.getArgument(0);
+            players.forEach(consumer);
+            return (long) players.size();
+        });
+        RosterVersion rosterVersion = mock(RosterVersion.class);
+        when(rosterVersion.revision()).thenReturn(42L);
+        return new RosterSnapshot(playerService, rosterVersion, objectMapper, mock(TaskScheduler.class),
+                new RosterSnapshotProperties()).get();
+    }
+
+    private static PlayerResponseDTO player(long id, String name) {
+        return new PlayerResponseDTO(id, name, LocalDate.of(1990, 4, 24), null, "ACTIVE",
+                0L, LocalDateTime.of(2025, 6, 1, 10, 0), LocalDateTime.of(2025, 6, 1, 10, 0));
+    }
+
+    private static byte[] decode(InputStream in) throws IOException {
+        try (in) {
+            return in.readAllBytes();
+        }
+    }
+
+    private static RosterSnapshot.Snapshot snapshotBuiltAt(LocalDateTime builtAt) {
+        return new RosterSnapshot.Snapshot("snapshot-42", 0, builtAt, new byte[0], new byte[0], new byte[0]);
+    }
+}
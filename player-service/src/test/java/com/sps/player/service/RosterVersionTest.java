@@ -0,0 +1,140 @@
+package com.sps.player.service;
+
+import com.sps.player.event.RosterStaleEvent;
+import com.sps.player.repository.PlayerRepository;
+import com.sps.player.repository.PlayerTombstoneRepository;
+import com.sps.player.repository.RosterRevisionRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests for RosterVersion: bumps after commit, and revisions written elsewhere
+ *
+ * @author SPS Cricket Club
+ * @version 1.0.0
+ */
+class RosterVersionTest {
+
+    private final RosterRevisionRepository revisionRepository = mock(RosterRevisionRepository.class);
+    private final PlayerRepository playerRepository = mock(PlayerRepository.class);
+    private final PlayerTombstoneRepository tombstoneRepository = mock(PlayerTombstoneRepository.class);
+    private final ApplicationEventPublisher eventPublisher = mock(ApplicationEventPublisher.class);
+    private RosterVersion rosterVersion;
+
+    @BeforeEach
+    void setUp() {
+        rosterVersion = new RosterVersion(revisionRepository, playerRepository, tombstoneRepository,
+                mock(PlatformTransactionManager.class), eventPublisher, new SyncTaskExecutor());
+        when(revisionRepository.findRevision()).thenReturn(Optional.of(5L));
+        rosterVersion.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void servesTheTagWithoutQuerying() {
+        assertThat(rosterVersion.current()).isEqualTo("5");
+        assertThat(rosterVersion.current()).isEqualTo("5");
+
+        verify(revisionRepository).findRevision();
+    }
+
+    @Test
+    void bumpsOnlyAfterTheWriteCommits() {
+        List<TransactionSynchronization> synchronizations = increment();
+        verify(revisionRepository, never()).increment();
+
+        when(revisionRepository.increment()).thenReturn(1);
+        when(revisionRepository.findRevision()).thenReturn(Optional.of(6L));
+        synchronizations.forEach(TransactionSynchronization::afterCommit);
+
+        assertThat(rosterVersion.current()).isEqualTo("6");
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+    }
+
+    @Test
+    void bumpStampsTheUnsequencedWritesWithTheNewRevision() {
+        when(revisionRepository.increment()).thenReturn(1);
+        when(revisionRepository.findRevision()).thenReturn(Optional.of(6L));
+        when(playerRepository.lockUnsequencedIds()).thenReturn(List.of(3L, 4L));
+        when(tombstoneRepository.lockUnsequencedIds()).thenReturn(List.of(9L));
+
+        rosterVersion.increment();
+
+        verify(playerRepository).updateChangeSeq(List.of(3L, 4L), 6L);
+        verify(tombstoneRepository).updateChangeSeq(List.of(9L), 6L);
+    }
+
+    @Test
+    void rolledBackWritesAreNotBumped() {
+        increment().forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+        verify(revisionRepository, never()).increment();
+        assertThat(rosterVersion.current()).isEqualTo("5");
+    }
+
+    @Test
+    void aGapBeforeOwnBumpReloadsTheReadModels() {
+        when(revisionRepository.increment()).thenReturn(1);
+        when(revisionRepository.findRevision()).thenReturn(Optional.of(8L));
+
+        rosterVersion.increment();
+
+        assertThat(publishedRevision()).isEqualTo(8L);
+        assertThat(rosterVersion.current()).isEqualTo("8");
+    }
+
+    @Test
+    void pollingFindsRevisionsWrittenElsewhere() {
+        when(revisionRepository.findRevision()).thenReturn(Optional.of(7L));
+
+        rosterVersion.poll();
+
+        assertThat(publishedRevision()).isEqualTo(7L);
+        assertThat(rosterVersion.current()).isEqualTo("7");
+    }
+
+    @Test
+    void pollingAnUnchangedRevisionReloadsNothing() {
+        rosterVersion.poll();
+
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+        assertThat(rosterVersion.current()).isEqualTo("5");
+    }
+
+    private List<TransactionSynchronization> increment() {
+        TransactionSynchronizationManager.initSynchronization();
+        rosterVersion.increment();
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        return synchronizations;
+    }
+
+    private long publishedRevision() {
+        ArgumentCaptor<Object> event = ArgumentCaptor.forClass(Object.class);
+        verify(eventPublisher).publishEvent(event.capture());
+        return ((RosterStaleEvent) event.getValue()).getRevision();
+    }
+}
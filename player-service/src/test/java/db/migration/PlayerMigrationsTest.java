@@ -0,0 +1,191 @@
+package db.migration;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests for the db/migration scripts against H2 in MySQL mode, starting
+ * from a database with the players table of the original entity
+ * (identity ids, no version or name_key), as ddl-auto=update created it
+ * and V1 creates it
+ *
+ * @author SPS Cricket Club
+ * @version 1.0.0
+ */
+class PlayerMigrationsTest {
+
+    private static final String BASELINE_SCHEMA = "create table players ("
+            + "id bigint not null auto_increment, "
+            + "name varchar(100) not null, "
+            + "birthday date not null, "
+            + "image_name varchar(255), "
+            + "status varchar(20), "
+            + "created_at datetime(6), "
+            + "updated_at datetime(6), "
+            + "primary key (id))";
+
+    private DriverManagerDataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void createDatabase() {
+        dataSource = new DriverManagerDataSource("jdbc:h2:mem:" + UUID.randomUUID()
+                + ";MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1", "sa", "");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    @Test
+    void seedsPlayerSeqPastTheExistingIds() {
+        createBaseline();
+        insertPlayer(7, "Anil Kumble");
+        insertPlayer(1234, "Sachin Tendulkar");
+
+        migrate();
+
+        // The pooled optimizer uses the 50 ids up to the value it reads
+        long next = nextSequenceValue();
+        assertThat(next).isEqualTo(1234 + V3__Seed_player_seq.ALLOCATION_SIZE);
+        assertThat(next - V3__Seed_player_seq.ALLOCATION_SIZE + 1).isEqualTo(1235);
+    }
+
+    @Test
+    void movesASequenceCreatedByDdlAutoPastTheExistingIds() {
+        createBaseline();
+        insertPlayer(500, "Rahul Dravid");
+        jdbcTemplate.execute("create sequence player_seq start with 1 increment by 50");
+
+        migrate();
+
+        assertThat(nextSequenceValue()).isEqualTo(550);
+    }
+
+    @Test
+    void seedsAnEmptyTableAtTheFirstBlock() {
+        createBaseline();
+
+        migrate();
+
+        assertThat(nextSequenceValue()).isEqualTo(V3__Seed_player_seq.ALLOCATION_SIZE);
+    }
+
+    @Test
+    void backfillsNameKeysAndResolvesCollisionsBeforeTheConstraint() {
+        createBaseline();
+        insertPlayer(1, "Sachin Tendulkar");
+        insertPlayer(2, "Rahul Dravid");
+        insertPlayer(3, "  sachin   TENDULKAR ");
+        insertPlayer(4, "SACHIN TENDULKAR");
+
+        migrate();
+
+        assertThat(nameKey(1)).isEqualTo("sachin tendulkar");
+        assertThat(nameKey(2)).isEqualTo("rahul dravid");
+        assertThat(nameKey(3)).isEqualTo("sachin tendulkar#3");
+        assertThat(nameKey(4)).isEqualTo("sachin tendulkar#4");
+        assertThatThrownBy(() -> jdbcTemplate.update("insert into players (id, name, name_key, birthday) "
+                + "values (5, 'Rahul  Dravid', 'rahul dravid', '1973-01-11')"))
+                .isInstanceOf(DataIntegrityViolationException.class);
+    }
+
+    @Test
+    void suffixedKeysFitTheColumn() {
+        createBaseline();
+        String longName = "x".repeat(V4__Backfill_name_key.KEY_LENGTH);
+        insertPlayer(1, longName);
+        insertPlayer(123, longName.toUpperCase());
+
+        migrate();
+
+        assertThat(nameKey(123)).hasSize(V4__Backfill_name_key.KEY_LENGTH).endsWith("#123");
+    }
+
+    @Test
+    void upgradesABaselineDatabase() throws SQLException {
+        createBaseline();
+        insertPlayer(1, "Sachin Tendulkar");
+
+        migrate();
+
+        assertThat(jdbcTemplate.queryForList("select version from flyway_schema_history "
+                + "where success order by installed_rank", String.class))
+                .containsExactly("1", "2", "3", "4", "5", "6", "7");
+        assertThat(jdbcTemplate.queryForObject("select version from players where id = 1", Long.class)).isZero();
+        assertThat(jdbcTemplate.queryForObject("select revision from roster_revision where id = 1", Long.class))
+                .isZero();
+        try (Connection connection = dataSource.getConnection()) {
+            assertThat(SchemaMetadata.indexExists(connection, "players", "name_key", true)).isTrue();
+            assertThat(SchemaMetadata.indexExists(connection, "players", "birthday", false)).isTrue();
+            assertThat(SchemaMetadata.indexExists(connection, "players", "updated_at", false)).isTrue();
+            assertThat(SchemaMetadata.tableExists(connection, "player_tombstones")).isTrue();
+            assertThat(SchemaMetadata.indexExists(connection, "player_tombstones", "deleted_at", false)).isTrue();
+            assertThat(SchemaMetadata.indexExists(connection, "players", "change_seq", false)).isTrue();
+            assertThat(SchemaMetadata.indexExists(connection, "player_tombstones", "change_seq", false)).isTrue();
+            assertThat(SchemaMetadata.indexExists(connection, "players", "image_name", false)).isTrue();
+        }
+        assertThat(jdbcTemplate.queryForObject("select change_seq from players where id = 1", Long.class)).isZero();
+    }
+
+    @Test
+    void newDatabasesGetTheSameSchemaAsUpgradedOnes() {
+        createBaseline();
+        migrate();
+        List<Map<String, Object>> upgraded = columns();
+
+        createDatabase();
+        migrate();
+
+        assertThat(jdbcTemplate.queryForObject("select count(*) from flyway_schema_history "
+                + "where version = '1' and type = 'SQL'", Long.class)).isEqualTo(1);
+        assertThat(columns()).isEqualTo(upgraded);
+    }
+
+    private void createBaseline() {
+        jdbcTemplate.execute(BASELINE_SCHEMA);
+        jdbcTemplate.execute("create index idx_status on players (status)");
+        jdbcTemplate.execute("create index idx_name on players (name)");
+    }
+
+    private void insertPlayer(long id, String name) {
+        jdbcTemplate.update("insert into players (id, name, birthday, status, created_at, updated_at) "
+                + "values (?, ?, '1990-04-24', 'ACTIVE', current_timestamp, current_timestamp)", id, name);
+    }
+
+    /**
+     * Migrate as the application does: a database that already has tables is baselined at version 1
+     */
+    private void migrate() {
+        Flyway.configure()
+                .dataSource(dataSource)
+                .baselineOnMigrate(true)
+                .baselineVersion("1")
+                .load()
+                .migrate();
+    }
+
+    private List<Map<String, Object>> columns() {
+        return jdbcTemplate.queryForList("select table_name, column_name, data_type, is_nullable, column_default "
+                + "from information_schema.columns where table_schema = 'public' "
+                + "and table_name <> 'flyway_schema_history' order by table_name, ordinal_position");
+    }
+
+    private String nameKey(long id) {
+        return jdbcTemplate.queryForObject("select name_key from players where id = ?", String.class, id);
+    }
+
+    private long nextSequenceValue() {
+        return jdbcTemplate.queryForObject("select next value for player_seq", Long.class);
+    }
+}